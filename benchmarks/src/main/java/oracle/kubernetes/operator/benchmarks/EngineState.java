@@ -0,0 +1,129 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * An engine shared by all threads of a benchmark, configured the same way as the one the operator runs.
+ */
+@State(Scope.Benchmark)
+public class EngineState {
+  private static final long COMPLETION_TIMEOUT_SECONDS = 60;
+
+  /**
+   * The executor on which fibers run: the default scheduled thread pool, or a work-stealing pool
+   * sized to the available processors.
+   */
+  @Param({"threadPool", "workStealing"})
+  public String executor;
+
+  Engine engine;
+
+  /**
+   * Creates the engine with the selected executor.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    if (executor.equals("workStealing")) {
+      engine = new Engine(Engine.wrappedWorkStealingExecutorService(
+            "benchmark", null, Runtime.getRuntime().availableProcessors()));
+    } else {
+      engine = new Engine(Engine.wrappedExecutorService("benchmark", null));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    engine.getExecutor().shutdownNow();
+  }
+
+  /**
+   * Starts a new fiber on the engine and waits for it to complete.
+   * @param step the first step to run
+   * @param packet the packet to run with
+   * @return the packet with which the fiber completed
+   */
+  Packet runToCompletion(Step step, Packet packet) throws InterruptedException {
+    Completion completion = new Completion();
+    engine.createFiber().start(step, packet, completion);
+    return completion.await();
+  }
+
+  /**
+   * A completion callback which allows the benchmark thread to wait for a fiber to finish.
+   */
+  static class Completion implements Fiber.CompletionCallback {
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private volatile Packet result;
+    private volatile Throwable throwable;
+
+    @Override
+    public void onCompletion(Packet packet) {
+      result = packet;
+      latch.countDown();
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      this.throwable = throwable;
+      latch.countDown();
+    }
+
+    Packet await() throws InterruptedException {
+      if (!latch.await(COMPLETION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("Fiber did not complete within " + COMPLETION_TIMEOUT_SECONDS + " seconds");
+      } else if (throwable != null) {
+        throw new IllegalStateException("Fiber failed", throwable);
+      }
+      return result;
+    }
+  }
+
+  /** A step which does nothing but proceed to the next step. */
+  static class PassThroughStep extends Step {
+    PassThroughStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  /** A step which suspends its fiber and immediately resumes it from the suspend callback. */
+  static class SuspendAndResumeStep extends Step {
+    SuspendAndResumeStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> fiber.resume(packet));
+    }
+  }
+
+  /** Creates a chain of the specified number of pass-through steps. */
+  static Step createChain(int length) {
+    Step step = null;
+    for (int i = 0; i < length; i++) {
+      step = new PassThroughStep(step);
+    }
+    return step;
+  }
+}
@@ -0,0 +1,62 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.benchmarks.EngineState.SuspendAndResumeStep;
+import oracle.kubernetes.operator.work.FiberMetrics;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of running a fiber through the engine: starting it, stepping through a chain,
+ * and suspending and resuming it, with and without the recording of fiber metrics.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FiberBenchmark {
+
+  @Param({"1", "10"})
+  public int chainLength;
+
+  /** Whether step and fiber latencies are recorded. */
+  @Param({"false", "true"})
+  public boolean metrics;
+
+  private Step chain;
+  private Step suspendingChain;
+
+  @Setup
+  public void setUp() {
+    FiberMetrics.getInstance().setEnabled(metrics);
+    chain = EngineState.createChain(chainLength);
+    suspendingChain = new SuspendAndResumeStep(EngineState.createChain(chainLength));
+  }
+
+  @Benchmark
+  public Packet start(EngineState state) throws InterruptedException {
+    return state.runToCompletion(chain, new Packet());
+  }
+
+  @Benchmark
+  public Packet suspendAndResume(EngineState state) throws InterruptedException {
+    return state.runToCompletion(suspendingChain, new Packet());
+  }
+}
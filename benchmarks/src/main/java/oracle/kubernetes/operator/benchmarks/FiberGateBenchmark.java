@@ -0,0 +1,80 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import oracle.kubernetes.operator.benchmarks.EngineState.Completion;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link FiberGate#startFiberIfNoCurrentFiber}, which the operator uses to start status and
+ * make-right fibers, both when the gate is free and when a fiber is already running for the key.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class FiberGateBenchmark {
+  private static final String BUSY_KEY = "busy";
+
+  private final AtomicInteger keyGenerator = new AtomicInteger();
+  private FiberGate gate;
+
+  /**
+   * Creates the gate and occupies one key with a fiber that stays suspended.
+   */
+  @Setup(Level.Trial)
+  public void setUp(EngineState state) {
+    gate = new FiberGate(state.engine);
+    gate.startFiberIfNoCurrentFiber(BUSY_KEY, new NeverResumedStep(), new Packet(), new Completion());
+  }
+
+  /**
+   * Starts a fiber with a key that has no current fiber, and waits for it to complete.
+   */
+  @Benchmark
+  public Packet startWhenIdle() throws InterruptedException {
+    Completion completion = new Completion();
+    gate.startFiberIfNoCurrentFiber(
+          "key" + keyGenerator.incrementAndGet(), EngineState.createChain(1), new Packet(), completion);
+    return completion.await();
+  }
+
+  /**
+   * Attempts to start a fiber with a key whose fiber is still running. No fiber will be started.
+   */
+  @Benchmark
+  public Fiber startWhenBusy() {
+    return gate.startFiberIfNoCurrentFiber(BUSY_KEY, EngineState.createChain(1), new Packet(), new Completion());
+  }
+
+  /** A step which suspends its fiber and never resumes it. */
+  static class NeverResumedStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> { });
+    }
+  }
+}
@@ -0,0 +1,63 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.benchmarks.EngineState.PassThroughStep;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.Step.StepAndPacket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Step#doForkJoin(Step, Packet, Collection)} as used by the status reader and the server
+ * up/down iterators: one child fiber per server, each with its own copy of the packet.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ForkJoinBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int children;
+
+  @Benchmark
+  public Packet forkJoin(EngineState state) throws InterruptedException {
+    return state.runToCompletion(new ForkingStep(children, null), new Packet());
+  }
+
+  static class ForkingStep extends Step {
+    private final int numChildren;
+
+    ForkingStep(int numChildren, Step next) {
+      super(next);
+      this.numChildren = numChildren;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Collection<StepAndPacket> startDetails = new ArrayList<>(numChildren);
+      for (int i = 0; i < numChildren; i++) {
+        startDetails.add(new StepAndPacket(new PassThroughStep(null), packet.copy()));
+      }
+      return doForkJoin(getNext(), packet, startDetails);
+    }
+  }
+}
@@ -0,0 +1,109 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Packet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the packet operations performed by nearly every step: copying a packet before forking,
+ * and looking up values and components, either by name and class or with a typed packet key.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PacketBenchmark {
+
+  /** The number of values in the packet, in addition to the server name and topology. */
+  @Param({"10", "50"})
+  public int packetSize;
+
+  private Packet packet;
+
+  /**
+   * Populates a packet resembling the one carried by a make-right fiber.
+   */
+  @Setup
+  public void setUp() {
+    packet = new Packet();
+    for (int i = 0; i < packetSize; i++) {
+      packet.put("key" + i, "value" + i);
+    }
+    packet.putValue(ProcessingConstants.SERVER_NAME_KEY, "managed-server1");
+    packet.putValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY, new WlsDomainConfig("domain1"));
+    packet.getComponents().put(ProcessingConstants.FIBER_COMPONENT_NAME, Component.createFor(new Object()));
+    packet.getComponents().put(ProcessingConstants.DOMAIN_COMPONENT_NAME,
+          Component.createFor(new DomainPresenceInfo("namespace", "domain1")));
+  }
+
+  @Benchmark
+  public Packet copy() {
+    return packet.copy();
+  }
+
+  /**
+   * Copies the packet and overrides one value, as the status reader does for each server.
+   */
+  @Benchmark
+  public Packet copyAndModify() {
+    Packet copy = packet.copy();
+    copy.put(ProcessingConstants.SERVER_NAME, "managed-server2");
+    return copy;
+  }
+
+  @Benchmark
+  public DomainPresenceInfo getSpi() {
+    return packet.getSpi(DomainPresenceInfo.class);
+  }
+
+  @Benchmark
+  public ServerStartupInfo getSpiMissing() {
+    return packet.getSpi(ServerStartupInfo.class);
+  }
+
+  @Benchmark
+  public String getValue() {
+    return packet.getValue(ProcessingConstants.SERVER_NAME);
+  }
+
+  @Benchmark
+  public WlsDomainConfig getTopology() {
+    return packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY);
+  }
+
+  @Benchmark
+  public DomainPresenceInfo getSpiWithKey() {
+    return packet.getValue(DomainPresenceInfo.PACKET_KEY);
+  }
+
+  @Benchmark
+  public String getValueWithKey() {
+    return packet.getValue(ProcessingConstants.SERVER_NAME_KEY);
+  }
+
+  @Benchmark
+  public WlsDomainConfig getTopologyWithKey() {
+    return packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
+  }
+}
@@ -147,6 +147,7 @@ public abstract class BaseMain {
     }
 
     stopAllWatchers();
+    delegate.stopTimers();
   }
 
   static Packet createPacketWithLoggingContext(String ns) {
@@ -0,0 +1,239 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.math.BigInteger;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import oracle.kubernetes.operator.Namespaces.SelectionStrategy;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.watcher.WatchListener;
+
+/**
+ * Serves the watchers of many namespaces with a single watch per resource type across all namespaces. When the
+ * operator selects its domain namespaces by label or by regular expression, it may manage a large share of the
+ * cluster, and one watch per namespace and type multiplies the load on the API server. In cluster-scoped mode,
+ * the per-namespace watchers do not open watches of their own, but register here; the first registrant of each type
+ * starts a watch of that type in all namespaces, filtered by the same labels, and its events are delivered to the
+ * watcher registered for the namespace of each resource. Events in namespaces with no registered watcher, which
+ * the operator does not manage, are dropped.
+ */
+class ClusterScopedWatches {
+
+  // The watchers whose resources the operator labels, so that a cluster-wide watch returns only its own.
+  private static final Set<Class<?>> CLUSTER_WATCHABLE = Set.of(
+        PodWatcher.class, ServiceWatcher.class, JobWatcher.class, PodDisruptionBudgetWatcher.class,
+        ConfigMapWatcher.class);
+  private static final Set<SelectionStrategy> CLUSTER_SCOPED_STRATEGIES
+        = EnumSet.of(SelectionStrategy.LabelSelector, SelectionStrategy.RegExp);
+
+  @SuppressWarnings("FieldMayBeFinal") // non-final to allow unit tests to replace it
+  private static ClusterScopedWatches instance = new ClusterScopedWatches();
+
+  private final Map<Class<?>, ClusterScopedWatcher<?>> watchers = new ConcurrentHashMap<>();
+  private volatile boolean enabled;
+
+  static ClusterScopedWatches getInstance() {
+    return instance;
+  }
+
+  /**
+   * Enables or disables cluster-scoped watches. Intended to be called once, at startup.
+   * @param enabled true if watchers should be served by cluster-scoped watches where possible
+   */
+  void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  // The operator may not watch outside the namespaces it was given explicitly.
+  private boolean isEnabled() {
+    return enabled && CLUSTER_SCOPED_STRATEGIES.contains(Namespaces.getSelectionStrategy());
+  }
+
+  /**
+   * Registers a watcher to be served by the cluster-scoped watch of its resource type, starting that watch if needed.
+   * @param watcher a per-namespace watcher
+   * @param factory the thread factory with which to start the cluster-scoped watch
+   * @return true if the watcher is now served by a cluster-scoped watch, false if it must run its own watch
+   */
+  <T> boolean register(Watcher<T> watcher, ThreadFactory factory) {
+    if (!isEnabled() || watcher.getNamespace() == null || !CLUSTER_WATCHABLE.contains(watcher.getClass())) {
+      return false;
+    }
+
+    addTarget(watcher, factory);
+    return true;
+  }
+
+  // Synchronized with the removal of namespaces, so that a watch is not stopped just as a watcher joins it.
+  private synchronized <T> void addTarget(Watcher<T> watcher, ThreadFactory factory) {
+    getClusterWatcher(watcher, factory).addTarget(watcher);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> ClusterScopedWatcher<T> getClusterWatcher(Watcher<T> prototype, ThreadFactory factory) {
+    ClusterScopedWatcher<T> clusterWatcher = (ClusterScopedWatcher<T>) watchers.get(prototype.getClass());
+    if (clusterWatcher == null || clusterWatcher.isStopping()) {
+      clusterWatcher = new ClusterScopedWatcher<>(prototype);
+      watchers.put(prototype.getClass(), clusterWatcher);
+      clusterWatcher.start(factory);
+    }
+    return clusterWatcher;
+  }
+
+  /**
+   * Stops delivering events for a namespace which is no longer managed. A watch which no longer serves any namespace
+   * is stopped; it will be started again if a watcher of its type registers.
+   * @param namespace a namespace name
+   */
+  synchronized void removeNamespace(String namespace) {
+    watchers.values().forEach(w -> w.removeTarget(namespace));
+    watchers.values().removeIf(ClusterScopedWatcher::stopIfUnused);
+  }
+
+  /** Stops all cluster-scoped watches. */
+  synchronized void stopAll() {
+    watchers.values().forEach(ClusterScopedWatcher::stop);
+    watchers.clear();
+  }
+
+  // for test
+  ClusterScopedWatcher<?> getWatcher(Class<?> watcherClass) {
+    return watchers.get(watcherClass);
+  }
+
+  /** Returns the number of cluster-scoped watches running. */
+  int getNumWatches() {
+    return watchers.size();
+  }
+
+  /**
+   * A watch of one resource type in all namespaces, which delivers each event to the watcher of its namespace.
+   * The watch is set up by the first watcher to register, with its namespace replaced by all namespaces.
+   *
+   * @param <T> the type of resource watched
+   */
+  static class ClusterScopedWatcher<T> extends Watcher<T> implements WatchListener<T> {
+    private final Watcher<T> prototype;
+    private final AtomicBoolean stopping;
+    private final Map<String, Watcher<T>> targets = new ConcurrentHashMap<>();
+
+    ClusterScopedWatcher(Watcher<T> prototype) {
+      this(prototype, new AtomicBoolean());
+    }
+
+    private ClusterScopedWatcher(Watcher<T> prototype, AtomicBoolean stopping) {
+      super(prototype.getResourceVersion(), prototype.getTuning(), stopping);
+      this.prototype = prototype;
+      this.stopping = stopping;
+      setListener(this);
+    }
+
+    // A registrant whose list predates this watch's position has missed the events between the two,
+    // so its store must be refilled by its next list.
+    private void addTarget(Watcher<T> target) {
+      targets.put(target.getNamespace(), target);
+      target.setWatching(isWatching());
+      if (isBehind(target)) {
+        target.onEventsMissed();
+      }
+    }
+
+    private boolean isBehind(Watcher<T> target) {
+      return toBigInteger(target.getResourceVersion()).compareTo(toBigInteger(getResourceVersion())) < 0;
+    }
+
+    private BigInteger toBigInteger(String resourceVersion) {
+      return KubernetesUtils.getResourceVersion(resourceVersion);
+    }
+
+    private void removeTarget(String namespace) {
+      targets.remove(namespace);
+    }
+
+    private void stop() {
+      stopping.set(true);
+    }
+
+    private boolean stopIfUnused() {
+      if (targets.isEmpty()) {
+        stop();
+      }
+      return isStopping();
+    }
+
+    @Override
+    public void receivedResponse(Watch.Response<T> item) {
+      Optional.ofNullable(getItemNamespace(item)).ifPresent(ns -> deliver(ns, item));
+    }
+
+    private void deliver(String namespace, Watch.Response<T> item) {
+      Watcher<T> target = targets.get(namespace);
+      if (target == null) {
+        return;
+      } else if (target.isStopping()) {
+        targets.remove(namespace, target);
+      } else {
+        target.receiveEvent(item);
+      }
+    }
+
+    private String getItemNamespace(Watch.Response<T> item) {
+      return Optional.ofNullable(item.object)
+            .filter(KubernetesObject.class::isInstance)
+            .map(o -> ((KubernetesObject) o).getMetadata())
+            .map(V1ObjectMeta::getNamespace)
+            .orElse(null);
+    }
+
+    @Override
+    WatchBuilder createWatchBuilder() {
+      return super.createWatchBuilder().forAllNamespaces();
+    }
+
+    @Override
+    void setWatching(boolean watching) {
+      super.setWatching(watching);
+      targets.values().forEach(t -> t.setWatching(watching));
+    }
+
+    @Override
+    void onEventsMissed() {
+      super.onEventsMissed();
+      targets.values().forEach(Watcher::onEventsMissed);
+    }
+
+    @Override
+    String getResourceName() {
+      return prototype.getResourceName();
+    }
+
+    @Override
+    public Watchable<T> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+      return prototype.initiateWatch(watchBuilder);
+    }
+
+    @Override
+    public String getNamespace() {
+      return null;
+    }
+
+    @Override
+    public String getDomainUid(Watch.Response<T> item) {
+      return prototype.getDomainUid(item);
+    }
+  }
+}
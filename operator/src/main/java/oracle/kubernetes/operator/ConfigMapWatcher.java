@@ -41,6 +41,7 @@ public class ConfigMapWatcher extends Watcher<V1ConfigMap> {
    * @param tuning tuning parameters
    * @param listener listener
    * @param isStopping stopping flag
+   * @param store the local store to be kept current by watch events, or null
    * @return watcher
    */
   public static ConfigMapWatcher create(
@@ -49,9 +50,11 @@ public class ConfigMapWatcher extends Watcher<V1ConfigMap> {
       String initialResourceVersion,
       WatchTuning tuning,
       WatchListener<V1ConfigMap> listener,
-      AtomicBoolean isStopping) {
+      AtomicBoolean isStopping,
+      ResourceStore<V1ConfigMap> store) {
     ConfigMapWatcher watcher =
         new ConfigMapWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
+    watcher.setStore(store);
     watcher.start(factory);
     return watcher;
   }
@@ -42,4 +42,11 @@ public interface CoreDelegate extends PacketComponent {
 
   ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit);
 
+  /**
+   * Stops the timer threads started on behalf of the delegate's fibers. Called as the operator shuts down.
+   */
+  default void stopTimers() {
+    // no-op
+  }
+
 }
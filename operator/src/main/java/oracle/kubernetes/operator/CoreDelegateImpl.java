@@ -11,14 +11,23 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 
+import oracle.kubernetes.operator.calls.AdaptiveConcurrencyLimiter;
+import oracle.kubernetes.operator.helpers.AuthenticationProxy;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy;
 import oracle.kubernetes.operator.helpers.HealthCheckHelper;
 import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.ReviewCache;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
+import oracle.kubernetes.operator.http.WebLogicHttpClient;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.rest.RestBackendImpl;
 import oracle.kubernetes.operator.work.Engine;
 import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.FiberMetrics;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TimingWheel;
 
 import static oracle.kubernetes.operator.BaseMain.GIT_BRANCH_KEY;
 import static oracle.kubernetes.operator.BaseMain.GIT_BUILD_TIME_KEY;
@@ -29,6 +38,69 @@ import static oracle.kubernetes.operator.BaseMain.probesHome;
 
 public class CoreDelegateImpl implements CoreDelegate {
 
+  /** Tuning parameter which selects the executor on which fibers run. */
+  static final String ENGINE_MODE = "engineMode";
+  /** The engine mode which runs fibers on a work-stealing pool. */
+  static final String WORK_STEALING_ENGINE_MODE = "workStealing";
+  /** Tuning parameter which sets the number of threads in the work-stealing pool. */
+  static final String ENGINE_PARALLELISM = "engineParallelism";
+  /** Tuning parameter which sets the tick of the timing wheel used for fiber timeouts; zero disables the wheel. */
+  static final String FIBER_TIMER_TICK_MILLIS = "fiberTimerTickMillis";
+
+  /** Tuning parameter which sets how many high-priority fibers may run in succession while a low-priority one waits. */
+  static final String FIBER_STARVATION_LIMIT = "fiberStarvationLimit";
+
+  /** Tuning parameter which, if "true", enables the recording of step and fiber latencies. */
+  static final String FIBER_METRICS_ENABLED = "fiberMetricsEnabled";
+
+  /** Tuning parameter which sets how many Kubernetes API calls of each class may be in flight at startup. */
+  static final String API_INITIAL_CONCURRENCY = "kubernetesApiInitialConcurrency";
+
+  /** Tuning parameter which caps the Kubernetes API calls of each class in flight; zero disables the limit. */
+  static final String API_MAX_CONCURRENCY = "kubernetesApiMaxConcurrency";
+
+  /** Tuning parameter which sets the number of threads shared by all watches; zero gives each watcher a thread. */
+  static final String WATCH_TRANSPORT_THREADS = "watchTransportThreads";
+
+  /** Tuning parameter which sets the interval between saves of watch checkpoints, in seconds; zero disables them. */
+  static final String WATCH_CHECKPOINT_SECONDS = "watchCheckpointSeconds";
+
+  /** Tuning parameter which sets the time for which watch events are held to collapse bursts; zero disables. */
+  static final String WATCH_EVENT_COALESCING_MILLIS = "watchEventCoalescingMillis";
+
+  /**
+   * Tuning parameter which, if "true", serves the watchers of namespaces selected by label or regular expression
+   * with one watch per resource type across all namespaces.
+   */
+  static final String CLUSTER_SCOPED_WATCHES = "clusterScopedWatches";
+
+  /** Tuning parameter which sets the number of threads which read the state of servers in pods not yet ready. */
+  static final String SERVER_STATE_PROBE_THREADS = "serverStateProbeThreads";
+
+  /** Tuning parameter which caps the REST requests in flight to each WebLogic Server; zero disables the limit. */
+  static final String WEBLOGIC_MAX_REQUESTS_PER_HOST = "webLogicMaxRequestsPerHost";
+
+  /** Tuning parameter which sets the minimum time between writes of a domain's status; zero writes each change. */
+  static final String DOMAIN_STATUS_WRITE_INTERVAL_MILLIS = "domainStatusWriteIntervalMillis";
+
+  /** Tuning parameter which sets the time between writes of the counts of repeated events; zero writes each. */
+  static final String EVENT_COUNT_FLUSH_SECONDS = "eventCountFlushSeconds";
+
+  /** Tuning parameter which caps the event repeats counted for a domain per flush; zero disables the limit. */
+  static final String EVENT_REPEAT_BUDGET = "eventRepeatBudget";
+
+  /** Tuning parameter which sets the time for which REST token and access reviews are cached; zero disables. */
+  static final String REST_REVIEW_CACHE_SECONDS = "restReviewCacheSeconds";
+
+  /** Tuning parameter which caps the number of token reviews, and of access reviews, cached for the REST API. */
+  static final String REST_REVIEW_CACHE_SIZE = "restReviewCacheSize";
+
+  /** Tuning parameter which sets how long a REST domain patch waits to be seen in the domain cache; zero won't. */
+  static final String REST_READ_YOUR_WRITES_SECONDS = "restReadYourWritesSeconds";
+
+  private static final int DEFAULT_FIBER_TIMER_TICK_MILLIS = 100;
+  private static final int FIBER_TIMER_WHEEL_SIZE = 512;
+
   protected String buildVersion;
   protected SemanticVersion productVersion;
   protected KubernetesVersion kubernetesVersion;
@@ -44,11 +116,79 @@ public class CoreDelegateImpl implements CoreDelegate {
     productVersion = new SemanticVersion(buildVersion);
     kubernetesVersion = HealthCheckHelper.performK8sVersionCheck();
 
-    engine = new Engine(scheduledExecutorService);
+    ScheduledExecutorService engineExecutor = createEngineExecutor(scheduledExecutorService);
+    engine = new Engine(engineExecutor, createTimingWheel(engineExecutor));
+    Optional.of(getNonNegativeTuningParameter(FIBER_STARVATION_LIMIT, 0))
+          .filter(limit -> limit > 0)
+          .ifPresent(engine::setStarvationLimit);
+    OperatorMetrics.getInstance().setEngine(engine);
+    AdaptiveConcurrencyLimiter.getInstance().configure(
+          getNonNegativeTuningParameter(API_INITIAL_CONCURRENCY, AdaptiveConcurrencyLimiter.DEFAULT_INITIAL_LIMIT),
+          getNonNegativeTuningParameter(API_MAX_CONCURRENCY, AdaptiveConcurrencyLimiter.DEFAULT_MAX_LIMIT));
+    WebLogicHttpClient.getInstance().setMaxRequestsPerHost(getNonNegativeTuningParameter(
+          WEBLOGIC_MAX_REQUESTS_PER_HOST, WebLogicHttpClient.DEFAULT_MAX_REQUESTS_PER_HOST));
+    configureReviewCache(AuthenticationProxy.getTokenReviewCache());
+    configureReviewCache(AuthorizationProxy.getAccessReviewCache());
+    RestBackendImpl.setReadYourWritesSeconds(getNonNegativeTuningParameter(
+          REST_READ_YOUR_WRITES_SECONDS, RestBackendImpl.DEFAULT_READ_YOUR_WRITES_SECONDS));
+    FiberMetrics.getInstance().setEnabled("true".equalsIgnoreCase(getTuningParameter(FIBER_METRICS_ENABLED)));
+    ClusterScopedWatches.getInstance().setEnabled(
+          "true".equalsIgnoreCase(getTuningParameter(CLUSTER_SCOPED_WATCHES)));
 
     PodHelper.setProductVersion(productVersion.toString());
   }
 
+  private void configureReviewCache(ReviewCache<?, ?> cache) {
+    cache.configure(getNonNegativeTuningParameter(REST_REVIEW_CACHE_SECONDS, ReviewCache.DEFAULT_TTL_SECONDS),
+          getNonNegativeTuningParameter(REST_REVIEW_CACHE_SIZE, ReviewCache.DEFAULT_MAX_SIZE));
+  }
+
+  /**
+   * Returns the executor to be used by the fiber engine. By default, that is the specified executor;
+   * if the "engineMode" tuning parameter is set to "workStealing", fibers will instead run on a work-stealing pool
+   * sized by the "engineParallelism" tuning parameter, defaulting to the number of available processors.
+   * @param defaultExecutor the executor to use if work-stealing mode is not selected
+   */
+  static ScheduledExecutorService createEngineExecutor(ScheduledExecutorService defaultExecutor) {
+    if (!WORK_STEALING_ENGINE_MODE.equals(getTuningParameter(ENGINE_MODE))) {
+      return defaultExecutor;
+    }
+
+    return Engine.wrappedWorkStealingExecutorService("operator", BaseMain.container, getEngineParallelism());
+  }
+
+  /**
+   * Returns the timing wheel to be used for fiber timeouts and delays, with a tick set by the "fiberTimerTickMillis"
+   * tuning parameter. Returns null if that parameter is zero, in which case they are scheduled on the executor.
+   * @param executor the executor to which expired timeouts are handed
+   */
+  static TimingWheel createTimingWheel(ScheduledExecutorService executor) {
+    int tickMillis = getNonNegativeTuningParameter(FIBER_TIMER_TICK_MILLIS, DEFAULT_FIBER_TIMER_TICK_MILLIS);
+    if (tickMillis == 0) {
+      return null;
+    }
+
+    return new TimingWheel("operator", executor, tickMillis, TimeUnit.MILLISECONDS, FIBER_TIMER_WHEEL_SIZE);
+  }
+
+  private static String getTuningParameter(String name) {
+    return Optional.ofNullable(TuningParameters.getInstance()).map(t -> t.get(name)).orElse(null);
+  }
+
+  private static int getEngineParallelism() {
+    return Optional.of(getNonNegativeTuningParameter(ENGINE_PARALLELISM, 0))
+          .filter(i -> i > 0)
+          .orElse(Runtime.getRuntime().availableProcessors());
+  }
+
+  static int getNonNegativeTuningParameter(String name, int defaultValue) {
+    return Optional.ofNullable(getTuningParameter(name))
+          .map(String::trim)
+          .filter(s -> s.matches("\\d+"))
+          .map(Integer::parseInt)
+          .orElse(defaultValue);
+  }
+
   protected static String getBuildVersion(Properties buildProps) {
     return Optional.ofNullable(buildProps.getProperty(GIT_BUILD_VERSION_KEY)).orElse("1.0");
   }
@@ -104,4 +244,9 @@ public class CoreDelegateImpl implements CoreDelegate {
   public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
     return engine.getExecutor().scheduleWithFixedDelay(command, initialDelay, delay, unit);
   }
+
+  @Override
+  public void stopTimers() {
+    Optional.ofNullable(engine.getTimingWheel()).ifPresent(TimingWheel::stop);
+  }
 }
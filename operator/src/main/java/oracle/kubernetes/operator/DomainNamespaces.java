@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -27,8 +27,12 @@ import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudget;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudgetList;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.calls.RequestCoalescer;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
+import oracle.kubernetes.operator.helpers.ForkJoinLimits;
+import oracle.kubernetes.operator.helpers.PodFingerprints;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.ThreadFactorySingleton;
@@ -49,21 +53,29 @@ public class DomainNamespaces {
   private final Map<String, AtomicBoolean> namespaceStoppingMap = new ConcurrentHashMap<>();
 
   private final WatcherControl<V1ConfigMap, ConfigMapWatcher> configMapWatchers
-        = new WatcherControl<>(ConfigMapWatcher::create, d -> d::dispatchConfigMapWatch);
+        = new WatcherControl<>(ConfigMapWatcher::create, d -> d::dispatchConfigMapWatch,
+              NamespaceResourceStores::getConfigMaps);
   private final WatcherControl<Domain, DomainWatcher> domainWatchers
-        = new WatcherControl<>(DomainWatcher::create, d -> d::dispatchDomainWatch);
+        = new WatcherControl<>(DomainWatcher::create, d -> d::dispatchDomainWatch,
+              NamespaceResourceStores::getDomains);
   private final WatcherControl<CoreV1Event, EventWatcher> eventWatchers
-        = new WatcherControl<>(EventWatcher::create, d -> d::dispatchEventWatch);
+        = new WatcherControl<>(EventWatcher::create, d -> d::dispatchEventWatch,
+              NamespaceResourceStores::getPodEvents);
   private final WatcherControl<CoreV1Event, OperatorEventWatcher> operatorEventWatchers
-      = new WatcherControl<>(OperatorEventWatcher::create, d -> d::dispatchEventWatch);
+      = new WatcherControl<>(OperatorEventWatcher::create, d -> d::dispatchEventWatch,
+              NamespaceResourceStores::getOperatorEvents);
   private final WatcherControl<V1Job, JobWatcher> jobWatchers
-        = new WatcherControl<>(JobWatcher::create, d -> NULL_LISTENER);
+        = new WatcherControl<>(JobWatcher::create, d -> NULL_LISTENER,
+              NamespaceResourceStores::getJobs);
   private final WatcherControl<V1Pod, PodWatcher> podWatchers
-        = new WatcherControl<>(PodWatcher::create, d -> d::dispatchPodWatch);
+        = new WatcherControl<>(PodWatcher::create, d -> d::dispatchPodWatch,
+              NamespaceResourceStores::getPods);
   private final WatcherControl<V1Service, ServiceWatcher> serviceWatchers
-        = new WatcherControl<>(ServiceWatcher::create, d -> d::dispatchServiceWatch);
+        = new WatcherControl<>(ServiceWatcher::create, d -> d::dispatchServiceWatch,
+              NamespaceResourceStores::getServices);
   private final WatcherControl<V1beta1PodDisruptionBudget, PodDisruptionBudgetWatcher> podDisruptionBudgetWatchers
-          = new WatcherControl<>(PodDisruptionBudgetWatcher::create, d -> d::dispatchPodDisruptionBudgetWatch);
+          = new WatcherControl<>(PodDisruptionBudgetWatcher::create, d -> d::dispatchPodDisruptionBudgetWatch,
+              NamespaceResourceStores::getPodDisruptionBudgets);
 
   private final SemanticVersion productVersion;
 
@@ -100,6 +112,7 @@ public class DomainNamespaces {
    */
   void stopAllWatchers() {
     namespaceStoppingMap.forEach((key, value) -> value.set(true));
+    ClusterScopedWatches.getInstance().stopAll();
   }
 
   /**
@@ -109,6 +122,7 @@ public class DomainNamespaces {
   void stopNamespace(String ns) {
     namespaceStoppingMap.remove(ns).set(true);
     namespaceStatuses.remove(ns);
+    OperatorMetrics.getInstance().removeNamespace(ns);
 
     domainWatchers.removeWatcher(ns);
     eventWatchers.removeWatcher(ns);
@@ -118,6 +132,14 @@ public class DomainNamespaces {
     podDisruptionBudgetWatchers.removeWatcher(ns);
     configMapWatchers.removeWatcher(ns);
     jobWatchers.removeWatcher(ns);
+    ClusterScopedWatches.getInstance().removeNamespace(ns);
+    WatchCheckpoints.getInstance().removeNamespace(ns);
+    PodFingerprints.getInstance().removeNamespace(ns);
+    ServerStateProbe.getInstance().removeNamespace(ns);
+    DomainStatusWriter.getInstance().removeNamespace(ns);
+    ForkJoinLimits.removeNamespace(ns);
+    RequestCoalescer.getInstance().removeNamespace(ns);
+    NamespaceResourceStores.remove(ns);
 
     DomainProcessorImpl.cleanupNamespace(ns);
   }
@@ -200,27 +222,38 @@ public class DomainNamespaces {
           String initialResourceVersion,
           WatchTuning watchTuning,
           WatchListener<T> dispatchMethod,
-          AtomicBoolean stopping);
+          AtomicBoolean stopping,
+          ResourceStore<T> store);
   }
 
   interface ListenerSelector<T> extends Function<DomainProcessor, WatchListener<T>> { }
 
+  interface StoreSelector<T> extends Function<NamespaceResourceStores, ResourceStore<T>> { }
+
   class WatcherControl<T, W extends Watcher<T>> {
     private final Map<String, W> watchers = new ConcurrentHashMap<>();
     private final WatcherFactory<T,W> factory;
     private final ListenerSelector<T> selector;
+    private final StoreSelector<T> storeSelector;
 
-    private WatcherControl(WatcherFactory<T, W> factory, ListenerSelector<T> selector) {
+    private WatcherControl(WatcherFactory<T, W> factory, ListenerSelector<T> selector, StoreSelector<T> storeSelector) {
       this.factory = factory;
       this.selector = selector;
+      this.storeSelector = storeSelector;
     }
 
     void startWatcher(String namespace, String resourceVersion, DomainProcessor domainProcessor) {
-      watchers.computeIfAbsent(namespace, n -> createWatcher(n, resourceVersion, selector.apply(domainProcessor)));
+      watchers.computeIfAbsent(namespace, n -> createWatcher(n, resourceVersion, getListener(domainProcessor)));
+    }
+
+    private WatchListener<T> getListener(DomainProcessor domainProcessor) {
+      return WatchEventCoalescer.getInstance().coalescing(selector.apply(domainProcessor));
     }
 
     W createWatcher(String ns, String resourceVersion, WatchListener<T> listener) {
-      return factory.create(getThreadFactory(), ns, resourceVersion, getWatchTuning(), listener, isStopping(ns));
+      // The store must be set before the watch starts, lest events which arrive in between be missing from it.
+      return factory.create(getThreadFactory(), ns, resourceVersion, getWatchTuning(), listener, isStopping(ns),
+            storeSelector.apply(NamespaceResourceStores.forNamespace(ns)));
     }
 
     W getWatcher(String ns) {
@@ -5,6 +5,8 @@ package oracle.kubernetes.operator;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -12,11 +14,11 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -43,6 +45,7 @@ import oracle.kubernetes.operator.helpers.JobHelper;
 import oracle.kubernetes.operator.helpers.KubernetesEventObjects;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.NamespaceHelper;
+import oracle.kubernetes.operator.helpers.OwnDomainWrites;
 import oracle.kubernetes.operator.helpers.PodDisruptionBudgetHelper;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
@@ -53,6 +56,7 @@ import oracle.kubernetes.operator.logging.LoggingFilter;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.logging.OncePerMessageLoggingFilter;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.steps.BeforeAdminServiceStep;
 import oracle.kubernetes.operator.steps.DeleteDomainStep;
 import oracle.kubernetes.operator.steps.DomainPresenceStep;
@@ -63,6 +67,8 @@ import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.FiberMetrics;
+import oracle.kubernetes.operator.work.FiberPriority;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -109,9 +115,12 @@ public class DomainProcessorImpl implements DomainProcessor {
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static Map<String, Map<String, DomainPresenceInfo>> domains = new ConcurrentHashMap<>();
 
-  // map namespace to map of uid to processing.
-  private static final Map<String, Map<String, ScheduledFuture<?>>> statusUpdaters = new ConcurrentHashMap<>();
+  // Map namespace to map of domainUID to an object notified whenever the watches replace that cached domain,
+  // so that a caller may wait for the cache to reflect a write.
+  private static final Map<String, Map<String, Object>> domainCacheMonitors = new ConcurrentHashMap<>();
+
   private final DomainProcessorDelegate delegate;
+  private final StatusPollingScheduler statusPollingScheduler;
   private final SemanticVersion productVersion;
 
   // Map namespace to map of domainUID to KubernetesEventObjects; tests may replace this value.
@@ -126,9 +135,79 @@ public class DomainProcessorImpl implements DomainProcessor {
     this(delegate, null);
   }
 
+  /**
+   * Create a domain processor.
+   * @param delegate the delegate which supplies its dependencies
+   * @param productVersion the version of the operator
+   */
   public DomainProcessorImpl(DomainProcessorDelegate delegate, SemanticVersion productVersion) {
     this.delegate = delegate;
     this.productVersion = productVersion;
+    this.statusPollingScheduler = new StatusPollingScheduler(delegate, DomainProcessorImpl::isDomainPresent);
+  }
+
+  private static boolean isDomainPresent(String ns, String domainUid) {
+    return Optional.ofNullable(domains.get(ns)).map(m -> m.get(domainUid)).isPresent();
+  }
+
+  /**
+   * Returns the domains in a namespace, as last reported by the domain watches, omitting any being deleted.
+   * @param ns a namespace name
+   * @return a stream of cached domains
+   */
+  public static Stream<Domain> getCachedDomains(String ns) {
+    return Optional.ofNullable(domains.get(ns)).map(Map::values).stream().flatMap(Collection::stream)
+          .filter(DomainPresenceInfo::isNotDeleting)
+          .map(DomainPresenceInfo::getDomain)
+          .filter(Objects::nonNull);
+  }
+
+  /**
+   * Returns the specified domain, as last reported by the domain watches, unless it is being deleted.
+   * @param ns a namespace name
+   * @param domainUid a domain UID
+   * @return the cached domain, if any
+   */
+  public static Optional<Domain> getCachedDomain(String ns, String domainUid) {
+    return Optional.ofNullable(domains.get(ns))
+          .map(m -> m.get(domainUid))
+          .filter(DomainPresenceInfo::isNotDeleting)
+          .map(DomainPresenceInfo::getDomain);
+  }
+
+  /**
+   * Waits, for at most the specified time, until the cached domain satisfies a condition.
+   * @param ns a namespace name
+   * @param domainUid a domain UID
+   * @param condition the condition for which to wait
+   * @param timeoutMillis the longest time to wait
+   * @return true if the cached domain satisfies the condition; false if the time ran out first
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   */
+  public static boolean awaitCachedDomain(String ns, String domainUid, Predicate<Domain> condition, long timeoutMillis)
+        throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    Object monitor = domainCacheMonitors.computeIfAbsent(ns, k -> new ConcurrentHashMap<>())
+          .computeIfAbsent(domainUid, k -> new Object());
+    synchronized (monitor) {
+      while (getCachedDomain(ns, domainUid).filter(condition).isEmpty()) {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMillis <= 0) {
+          return false;
+        }
+        monitor.wait(remainingMillis);
+      }
+      return true;
+    }
+  }
+
+  // Wakes any callers waiting for the specified cached domain to change.
+  private static void notifyCachedDomainChanged(String ns, String domainUid) {
+    Optional.ofNullable(domainCacheMonitors.get(ns)).map(m -> m.get(domainUid)).ifPresent(monitor -> {
+      synchronized (monitor) {
+        monitor.notifyAll();
+      }
+    });
   }
 
   private static DomainPresenceInfo getExistingDomainPresenceInfo(String ns, String domainUid) {
@@ -137,24 +216,16 @@ public class DomainProcessorImpl implements DomainProcessor {
 
   static void cleanupNamespace(String namespace) {
     domains.remove(namespace);
+    domainCacheMonitors.remove(namespace);
     domainEventK8SObjects.remove(namespace);
     namespaceEventK8SObjects.remove(namespace);
-    statusUpdaters.remove((namespace));
   }
 
   static void registerDomainPresenceInfo(DomainPresenceInfo info) {
     domains
           .computeIfAbsent(info.getNamespace(), k -> new ConcurrentHashMap<>())
           .put(info.getDomainUid(), info);
-  }
-
-  private static void registerStatusUpdater(
-        String ns, String domainUid, ScheduledFuture<?> future) {
-    ScheduledFuture<?> existing =
-          statusUpdaters.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).put(domainUid, future);
-    if (existing != null) {
-      existing.cancel(false);
-    }
+    notifyCachedDomainChanged(info.getNamespace(), info.getDomainUid());
   }
 
   public static void updateEventK8SObjects(CoreV1Event event) {
@@ -336,7 +407,8 @@ public class DomainProcessorImpl implements DomainProcessor {
   }
 
   private static FiberGate getMakeRightFiberGate(DomainProcessorDelegate delegate, String ns) {
-    return makeRightFiberGates.computeIfAbsent(ns, k -> delegate.createFiberGate());
+    return makeRightFiberGates.computeIfAbsent(ns,
+          k -> FiberMetrics.getInstance().registerGate("makeRight:" + ns, delegate.createFiberGate()));
   }
 
   /**
@@ -395,6 +467,7 @@ public class DomainProcessorImpl implements DomainProcessor {
       return;
     }
 
+    statusPollingScheduler.recordActivity(info.getNamespace(), domainUid);
     String serverName = getPodLabel(pod, LabelConstants.SERVERNAME_LABEL);
     switch (watchType) {
       case ADDED:
@@ -578,9 +651,12 @@ public class DomainProcessorImpl implements DomainProcessor {
         handleAddedDomain(item.object);
         break;
       case MODIFIED:
-        handleModifiedDomain(item.object);
+        if (!OwnDomainWrites.getInstance().isEcho(item.object)) {
+          handleModifiedDomain(item.object);
+        }
         break;
       case DELETED:
+        OwnDomainWrites.getInstance().remove(item.object);
         handleDeletedDomain(item.object);
         break;
 
@@ -841,6 +917,7 @@ public class DomainProcessorImpl implements DomainProcessor {
         return true;
       }
       cachedInfo.setDomain(getDomain());
+      notifyCachedDomainChanged(getNamespace(), getDomainUid());
       return false;
     }
 
@@ -936,6 +1013,7 @@ public class DomainProcessorImpl implements DomainProcessor {
         result.add(createDomainValidationStep(getDomain()));
         result.add(new StartPlanStep(liveInfo, createDomainUpPlan(liveInfo)));
       }
+      result.add(DomainStatusUpdater.createStatusFlushStep(null));
 
       return Step.chain(result);
     }
@@ -1064,13 +1142,29 @@ public class DomainProcessorImpl implements DomainProcessor {
       return new DomainPlanCompletionCallback();
     }
 
-    class DomainPlanCompletionCallback extends ThrowableCallback {
+    class DomainPlanCompletionCallback implements CompletionCallback {
+      private final long startNanos = System.nanoTime();
+
+      @Override
+      public void onCompletion(Packet packet) {
+        recordMakeRight(false);
+      }
+
       @Override
       public void onThrowable(Packet packet, Throwable throwable) {
+        recordMakeRight(true);
         reportFailure(throwable);
         scheduleRetry(throwable);
       }
 
+      private void recordMakeRight(boolean failed) {
+        if (isDeleting) {
+          OperatorMetrics.getInstance().removeDomain(ns, domainUid);
+        } else {
+          OperatorMetrics.getInstance().recordMakeRight(ns, domainUid, System.nanoTime() - startNanos, failed);
+        }
+      }
+
       private void reportFailure(Throwable throwable) {
         logThrowable(throwable);
         runFailureSteps(throwable);
@@ -1316,19 +1410,15 @@ public class DomainProcessorImpl implements DomainProcessor {
       final OncePerMessageLoggingFilter loggingFilter = new OncePerMessageLoggingFilter();
       final TuningParameters.MainTuning mainTuning = TuningParameters.getInstance().getMainTuning();
 
-      registerStatusUpdater(
+      statusPollingScheduler.register(
           info.getNamespace(),
           info.getDomainUid(),
-          delegate.scheduleWithFixedDelay(
-              () -> new ScheduledStatusUpdater(info.getNamespace(), info.getDomainUid(), loggingFilter)
-                  .withTimeoutSeconds(mainTuning.statusUpdateTimeoutSeconds).updateStatus(),
-              mainTuning.initialShortDelay,
-              mainTuning.initialShortDelay,
-              TimeUnit.SECONDS));
+          () -> new ScheduledStatusUpdater(info.getNamespace(), info.getDomainUid(), loggingFilter)
+              .withTimeoutSeconds(mainTuning.statusUpdateTimeoutSeconds).updateStatus());
     }
   }
 
-  private static class DownHeadStep extends Step {
+  private class DownHeadStep extends Step {
     private final DomainPresenceInfo info;
     private final String ns;
 
@@ -1345,19 +1435,9 @@ public class DomainProcessorImpl implements DomainProcessor {
     @Override
     public NextAction apply(Packet packet) {
       info.setDeleting(true);
-      unregisterStatusUpdater(ns, info.getDomainUid());
+      statusPollingScheduler.unregister(ns, info.getDomainUid());
       return doNext(packet);
     }
-
-    private static void unregisterStatusUpdater(String ns, String domainUid) {
-      Map<String, ScheduledFuture<?>> map = statusUpdaters.get(ns);
-      if (map != null) {
-        ScheduledFuture<?> existing = map.remove(domainUid);
-        if (existing != null) {
-          existing.cancel(true);
-        }
-      }
-    }
   }
 
 
@@ -1380,7 +1460,8 @@ public class DomainProcessorImpl implements DomainProcessor {
 
     private void updateStatus() {
       try {
-        Step strategy = Step.chain(new DomainPresenceInfoStep(), ServerStatusReader.createStatusStep(timeoutSeconds));
+        Step strategy = Step.chain(new DomainPresenceInfoStep(), ServerStatusReader.createStatusStep(timeoutSeconds),
+              DomainStatusUpdater.createStatusFlushStep(null));
 
         getStatusFiberGate(getNamespace())
               .startFiberIfNoCurrentFiber(getDomainUid(), strategy, createPacket(), new CompletionCallbackImpl());
@@ -1393,7 +1474,8 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
 
     private FiberGate getStatusFiberGate(String ns) {
-      return statusFiberGates.computeIfAbsent(ns, k -> delegate.createFiberGate());
+      return statusFiberGates.computeIfAbsent(ns,
+          k -> FiberMetrics.getInstance().registerGate("status:" + ns, delegate.createFiberGate()));
     }
 
     private String getNamespace() {
@@ -1406,7 +1488,7 @@ public class DomainProcessorImpl implements DomainProcessor {
 
     @NotNull
     private Packet createPacket() {
-      Packet packet = new Packet();
+      Packet packet = new Packet().with(FiberPriority.LOW);
       packet
           .getComponents()
           .put(
@@ -1431,6 +1513,7 @@ public class DomainProcessorImpl implements DomainProcessor {
 
       @Override
       public void onCompletion(Packet packet) {
+        statusPollingScheduler.recordResult(getNamespace(), getDomainUid(), getStatusFingerprint(packet));
         AtomicInteger serverHealthRead = packet.getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
         if (serverHealthRead == null || serverHealthRead.get() == 0) {
           loggingFilter.setFiltering(false).resetLogHistory();
@@ -1439,6 +1522,11 @@ public class DomainProcessorImpl implements DomainProcessor {
         }
       }
 
+      // The servers' states and health, which differ from those of the previous update if the status changed
+      private List<Object> getStatusFingerprint(Packet packet) {
+        return Arrays.asList(packet.get(SERVER_STATE_MAP), packet.get(SERVER_HEALTH_MAP));
+      }
+
       @Override
       public void onThrowable(Packet packet, Throwable throwable) {
         logThrowable(throwable);
@@ -26,15 +26,15 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodStatus;
-import jakarta.json.Json;
-import jakarta.json.JsonPatchBuilder;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.calls.FailureStatusSource;
 import oracle.kubernetes.operator.calls.UnrecoverableErrorBuilder;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.DomainStatusPatch;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
+import oracle.kubernetes.operator.helpers.OwnDomainWrites;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -75,13 +75,13 @@ import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.TO_BE_ROLLED_LABEL;
 import static oracle.kubernetes.operator.MIINonDynamicChangesMethod.CommitUpdateOnly;
-import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY_KEY;
 import static oracle.kubernetes.operator.ProcessingConstants.FATAL_INTROSPECTOR_ERROR;
 import static oracle.kubernetes.operator.ProcessingConstants.FATAL_INTROSPECTOR_ERROR_MSG;
 import static oracle.kubernetes.operator.ProcessingConstants.MII_DYNAMIC_UPDATE;
 import static oracle.kubernetes.operator.ProcessingConstants.MII_DYNAMIC_UPDATE_RESTART_REQUIRED;
-import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
-import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP_KEY;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP_KEY;
 import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.SHUTTING_DOWN_STATE;
@@ -128,6 +128,17 @@ public class DomainStatusUpdater {
   }
 
 
+  /**
+   * Creates an asynchronous step to write any status changes for the domain in the packet which are being held
+   * back by the minimum interval between writes.
+   *
+   * @param next the next step
+   * @return the new step
+   */
+  public static Step createStatusFlushStep(Step next) {
+    return DomainStatusWriter.getInstance().createFlushStep(next);
+  }
+
   /**
    * Creates an asynchronous step to update the domain status to indicate that a roll is starting.
    */
@@ -338,6 +349,7 @@ public class DomainStatusUpdater {
     public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
       if (callResponse.getResult() != null) {
         packet.getSpi(DomainPresenceInfo.class).setDomain(callResponse.getResult());
+        OwnDomainWrites.getInstance().record(callResponse.getResult());
       }
       return doNext(packet);
     }
@@ -396,13 +408,16 @@ public class DomainStatusUpdater {
 
     @NotNull
     private DomainStatus createNewStatus() {
-      DomainStatus cloneStatus = cloneStatus();
-      modifyStatus(cloneStatus);
+      return applyTo(cloneStatus());
+    }
+
+    DomainStatus applyTo(DomainStatus status) {
+      modifyStatus(status);
 
-      if (cloneStatus.getMessage() == null) {
-        cloneStatus.setMessage(info.getValidationWarningsAsString());
+      if (status.getMessage() == null) {
+        status.setMessage(info.getValidationWarningsAsString());
       }
-      return cloneStatus;
+      return status;
     }
 
     String getDomainUid() {
@@ -446,6 +461,14 @@ public class DomainStatusUpdater {
       return Optional.ofNullable(getStatus()).map(DomainStatus::new).orElse(new DomainStatus());
     }
 
+    private Step createDomainStatusWriteStep() {
+      if (DomainStatusWriter.getInstance().isEnabled()) {
+        DomainStatusWriter.getInstance().recordChange(this);
+        return null;
+      }
+      return createDomainStatusReplaceStep();
+    }
+
     private Step createDomainStatusReplaceStep() {
       LOGGER.fine(MessageKeys.DOMAIN_STATUS, getDomainUid(), getNewStatus());
       if (LOGGER.isFinerEnabled()) {
@@ -467,15 +490,13 @@ public class DomainStatusUpdater {
     }
 
     private String createPatchString() {
-      JsonPatchBuilder builder = Json.createPatchBuilder();
-      getNewStatus().createPatchFrom(builder, getStatus());
-      return builder.build().toString();
+      return DomainStatusPatch.createPatch(getStatus(), getNewStatus()).toString();
     }
 
     private Step createUpdateSteps(Step next) {
       final List<Step> result = new ArrayList<>();
       if (!isStatusUnchanged()) {
-        result.add(createDomainStatusReplaceStep());
+        Optional.ofNullable(createDomainStatusWriteStep()).ifPresent(result::add);
       }
       createDomainEvents().stream().map(EventHelper::createEventStep).forEach(result::add);
       Optional.ofNullable(next).ifPresent(result::add);
@@ -537,9 +558,9 @@ public class DomainStatusUpdater {
       StatusUpdateContext(Packet packet, StatusUpdateStep statusUpdateStep) {
         super(packet, statusUpdateStep);
         this.packet = packet;
-        config = packet.getValue(DOMAIN_TOPOLOGY);
-        serverState = packet.getValue(SERVER_STATE_MAP);
-        serverHealth = packet.getValue(SERVER_HEALTH_MAP);
+        config = packet.getValue(DOMAIN_TOPOLOGY_KEY);
+        serverState = packet.getValue(SERVER_STATE_MAP_KEY);
+        serverHealth = packet.getValue(SERVER_HEALTH_MAP_KEY);
         expectedRunningServers = getInfo().getExpectedRunningServers();
       }
 
@@ -0,0 +1,384 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.DomainStatusUpdater.DomainStatusUpdaterContext;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.calls.UnrecoverableErrorBuilder;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.DomainStatusPatch;
+import oracle.kubernetes.operator.helpers.OwnDomainWrites;
+import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_CONFLICT;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
+
+/**
+ * Writes domain status changes behind the fibers which make them. Each change is applied at once to the cached
+ * domain, so that later steps build on it, and the changes made to a domain since its last write are sent
+ * together, at most once per write interval. A fiber may also flush the pending changes when it completes.
+ * If a write fails because the cached domain is out of date, the domain is read again and the pending changes
+ * are merged into its status before the write is retried.
+ *
+ * <p>Each write runs in a fiber of its own, rather than in the fiber which made the change, so that cancelling that
+ * fiber cannot abandon a write and leave its domain marked as being written, with no further writes scheduled.
+ */
+class DomainStatusWriter {
+
+  /** The default minimum time, in milliseconds, between writes of the status of a domain. */
+  static final int DEFAULT_WRITE_INTERVAL_MILLIS = 500;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  @SuppressWarnings("FieldMayBeFinal") // non-final to allow unit tests to replace it
+  private static DomainStatusWriter instance = new DomainStatusWriter();
+
+  private final Map<String, PendingStatus> pendingStatuses = new HashMap<>();
+  private CoreDelegate delegate;
+  private ScheduledExecutorService executor;
+  private long writeIntervalMillis;
+
+  static DomainStatusWriter getInstance() {
+    return instance;
+  }
+
+  /**
+   * Enables writing behind. Until this is called, or if the interval is zero, each change is written at once.
+   * @param delegate the delegate which runs the fibers which write changes whose interval has elapsed
+   * @param executor the executor which schedules those fibers
+   * @param writeIntervalMillis the minimum time between writes of the status of a domain
+   */
+  synchronized void configure(CoreDelegate delegate, ScheduledExecutorService executor, long writeIntervalMillis) {
+    this.delegate = delegate;
+    this.executor = executor;
+    this.writeIntervalMillis = writeIntervalMillis;
+  }
+
+  synchronized boolean isEnabled() {
+    return executor != null && writeIntervalMillis > 0;
+  }
+
+  /**
+   * Applies a status change to the cached domain and records it for writing. The pending changes are written at once
+   * if the write interval has elapsed; otherwise, a write is scheduled for when it does.
+   * @param context the context of the change
+   */
+  void recordChange(DomainStatusUpdaterContext context) {
+    DomainPresenceInfo info = context.getInfo();
+    DomainStatus newStatus = context.getNewStatus();
+    PendingStatus pending;
+    synchronized (this) {
+      pending = pendingStatuses.computeIfAbsent(getKey(info), k -> new PendingStatus());
+      pending.recordChange(info, context, newStatus);
+      if (pending.writing || !pending.isIntervalElapsed()) {
+        scheduleWrite(pending);
+        return;
+      }
+      pending.writing = true;
+    }
+    startWrite(pending);
+  }
+
+  /**
+   * Creates a step which starts a write of any pending changes to the status of the domain in the packet, without
+   * waiting for the write interval to elapse.
+   * @param next the next step
+   * @return the new step
+   */
+  Step createFlushStep(Step next) {
+    return new FlushStep(next);
+  }
+
+  /**
+   * Discards the pending changes to domains in a namespace which is no longer managed.
+   * @param namespace a namespace name
+   */
+  synchronized void removeNamespace(String namespace) {
+    String prefix = namespace + "/";
+    pendingStatuses.keySet().removeIf(k -> k.startsWith(prefix));
+  }
+
+  /** Returns the number of domains whose status has changes not yet written. */
+  synchronized int getNumPending() {
+    return (int) pendingStatuses.values().stream().filter(PendingStatus::hasChanges).count();
+  }
+
+  private String getKey(DomainPresenceInfo info) {
+    return info.getNamespace() + "/" + info.getDomainUid();
+  }
+
+  private synchronized PendingStatus getPendingStatus(DomainPresenceInfo info) {
+    return pendingStatuses.get(getKey(info));
+  }
+
+  // Must be called while synchronized on this object.
+  private void scheduleWrite(PendingStatus pending) {
+    if (pending.writing || pending.writeScheduled) {
+      return;
+    }
+
+    pending.writeScheduled = true;
+    executor.schedule(() -> startScheduledWrite(pending), pending.getRemainingMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private void startScheduledWrite(PendingStatus pending) {
+    synchronized (this) {
+      pending.writeScheduled = false;
+      if (pending.writing || !pending.hasChanges()) {
+        return;
+      }
+      pending.writing = true;
+    }
+    startWrite(pending);
+  }
+
+  private void startWrite(PendingStatus pending) {
+    delegate.runSteps(new Packet().with(pending.info), new WriteStatusStep(pending), null);
+  }
+
+  private synchronized void completeWrite(PendingStatus pending) {
+    pending.writing = false;
+    if (pending.hasChanges()) {
+      scheduleWrite(pending);
+    }
+  }
+
+  private synchronized void abandonWrite(PendingStatus pending) {
+    pending.writing = false;
+  }
+
+  private synchronized void discard(PendingStatus pending) {
+    pending.changes.clear();
+    pending.writing = false;
+    pendingStatuses.values().remove(pending);
+  }
+
+  // The cached domain is replaced rather than modified, as it may be shared with the fibers which read it.
+  private static Domain withStatus(Domain domain, DomainStatus status) {
+    return new Domain()
+          .withKind(domain.getKind())
+          .withApiVersion(domain.getApiVersion())
+          .withMetadata(domain.getMetadata())
+          .withSpec(domain.getSpec())
+          .withStatus(status);
+  }
+
+  private class PendingStatus {
+    private final List<DomainStatusUpdaterContext> changes = new ArrayList<>();
+    private DomainPresenceInfo info;
+    private DomainStatus writtenStatus;
+    private OffsetDateTime lastWriteTime;
+    private boolean writing;
+    private boolean writeScheduled;
+
+    void recordChange(DomainPresenceInfo info, DomainStatusUpdaterContext context, DomainStatus newStatus) {
+      if (changes.isEmpty() && !writing) {
+        writtenStatus = cloneStatus(info.getDomain());
+      }
+      this.info = info;
+      info.setDomain(withStatus(info.getDomain(), newStatus));
+      changes.add(context);
+    }
+
+    boolean hasChanges() {
+      return !changes.isEmpty();
+    }
+
+    boolean isIntervalElapsed() {
+      return getRemainingMillis() == 0;
+    }
+
+    long getRemainingMillis() {
+      return Optional.ofNullable(lastWriteTime)
+            .map(t -> t.plusNanos(TimeUnit.MILLISECONDS.toNanos(writeIntervalMillis)))
+            .map(t -> Math.max(0, Duration.between(SystemClock.now(), t).toMillis()))
+            .orElse(0L);
+    }
+
+    private DomainStatus cloneStatus(Domain domain) {
+      return Optional.ofNullable(domain.getStatus()).map(DomainStatus::new).orElse(null);
+    }
+  }
+
+  private class FlushStep extends Step {
+
+    FlushStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo.fromPacket(packet)
+            .map(DomainStatusWriter.this::getPendingStatus)
+            .filter(this::claimWrite)
+            .ifPresent(DomainStatusWriter.this::startWrite);
+      return doNext(packet);
+    }
+
+    private boolean claimWrite(PendingStatus pending) {
+      synchronized (DomainStatusWriter.this) {
+        if (pending.writing || !pending.hasChanges()) {
+          return false;
+        }
+        pending.writing = true;
+        return true;
+      }
+    }
+  }
+
+  private class WriteStatusStep extends Step {
+    private final PendingStatus pending;
+
+    WriteStatusStep(PendingStatus pending) {
+      this.pending = pending;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      List<DomainStatusUpdaterContext> written;
+      Domain domain;
+      synchronized (DomainStatusWriter.this) {
+        domain = pending.info.getDomain();
+        if (DomainStatusPatch.createPatch(pending.writtenStatus, getStatus(domain)).isEmpty()) {
+          pending.changes.clear();
+          completeWrite(pending);
+          return doNext(packet);
+        }
+        written = new ArrayList<>(pending.changes);
+      }
+
+      LOGGER.fine(MessageKeys.DOMAIN_STATUS, pending.info.getDomainUid(), domain.getStatus());
+      return doNext(createReplaceStep(domain, new WriteResponseStep(pending, written)), packet);
+    }
+
+    private DomainStatus getStatus(Domain domain) {
+      return Optional.ofNullable(domain.getStatus()).orElse(new DomainStatus());
+    }
+
+    private Step createReplaceStep(Domain domain, ResponseStep<Domain> responseStep) {
+      V1ObjectMeta metadata = domain.getMetadata();
+      Domain newDomain = new Domain()
+          .withKind(KubernetesConstants.DOMAIN)
+          .withApiVersion(KubernetesConstants.API_VERSION_WEBLOGIC_ORACLE)
+          .withMetadata(metadata)
+          .withSpec(null)
+          .withStatus(new DomainStatus(getStatus(domain)));
+
+      return new CallBuilder().replaceDomainStatusAsync(
+          metadata.getName(), metadata.getNamespace(), newDomain, responseStep);
+    }
+  }
+
+  private class WriteResponseStep extends DefaultResponseStep<Domain> {
+    private final PendingStatus pending;
+    private final List<DomainStatusUpdaterContext> written;
+
+    WriteResponseStep(PendingStatus pending, List<DomainStatusUpdaterContext> written) {
+      this.pending = pending;
+      this.written = written;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
+      Domain result = callResponse.getResult();
+      if (result != null) {
+        OwnDomainWrites.getInstance().record(result);
+        recordWritten(result);
+      }
+      completeWrite(pending);
+      return doNext(packet);
+    }
+
+    // Changes made while the write was in flight are kept in the cached domain, to be written next.
+    private void recordWritten(Domain result) {
+      synchronized (DomainStatusWriter.this) {
+        pending.writtenStatus = Optional.ofNullable(result.getStatus()).map(DomainStatus::new).orElse(null);
+        pending.lastWriteTime = SystemClock.now();
+        pending.changes.removeAll(written);
+        pending.info.setDomain(
+              pending.hasChanges() ? withStatus(result, pending.info.getDomain().getStatus()) : result);
+      }
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<Domain> callResponse) {
+      if (callResponse.getStatusCode() == HTTP_NOT_FOUND) {
+        discard(pending);
+        return doNext(packet);
+      } else if (UnrecoverableErrorBuilder.isAsyncCallUnrecoverableFailure(callResponse)) {
+        discard(pending);
+        return super.onFailure(packet, callResponse);
+      } else if (callResponse.getStatusCode() == HTTP_CONFLICT) {
+        return doNext(createRetry(), packet);
+      } else {
+        return onFailure(createRetry(), packet, callResponse);
+      }
+    }
+
+    // Once its retries are exhausted, the write is abandoned; the pending changes are written with the next change.
+    @Override
+    protected NextAction onFailureNoRetry(Packet packet, CallResponse<Domain> callResponse) {
+      abandonWrite(pending);
+      return super.onFailureNoRetry(packet, callResponse);
+    }
+
+    private Step createRetry() {
+      V1ObjectMeta metadata = pending.info.getDomain().getMetadata();
+      return new CallBuilder().readDomainAsync(metadata.getName(), metadata.getNamespace(),
+            new MergeChangesStep(pending));
+    }
+  }
+
+  private class MergeChangesStep extends ResponseStep<Domain> {
+    private final PendingStatus pending;
+
+    MergeChangesStep(PendingStatus pending) {
+      this.pending = pending;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
+      Domain domain = callResponse.getResult();
+      synchronized (DomainStatusWriter.this) {
+        pending.writtenStatus = Optional.ofNullable(domain.getStatus()).map(DomainStatus::new).orElse(null);
+        DomainStatus status = Optional.ofNullable(domain.getStatus()).map(DomainStatus::new).orElse(new DomainStatus());
+        pending.changes.forEach(change -> change.applyTo(status));
+        pending.info.setDomain(withStatus(domain, status));
+      }
+      return doNext(new WriteStatusStep(pending), packet);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<Domain> callResponse) {
+      if (callResponse.getStatusCode() == HTTP_NOT_FOUND) {
+        discard(pending);
+      } else {
+        completeWrite(pending);
+      }
+      return doNext(packet);
+    }
+  }
+}
@@ -40,6 +40,7 @@ public class DomainWatcher extends Watcher<Domain> {
    * @param tuning tuning parameter
    * @param listener listener
    * @param isStopping stopping flag
+   * @param store the local store to be kept current by watch events, or null
    * @return watcher
    */
   public static DomainWatcher create(
@@ -48,9 +49,11 @@ public class DomainWatcher extends Watcher<Domain> {
       String initialResourceVersion,
       WatchTuning tuning,
       WatchListener<Domain> listener,
-      AtomicBoolean isStopping) {
+      AtomicBoolean isStopping,
+      ResourceStore<Domain> store) {
     DomainWatcher watcher =
         new DomainWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
+    watcher.setStore(store);
     watcher.start(factory);
     return watcher;
   }
@@ -41,6 +41,7 @@ public class EventWatcher extends Watcher<CoreV1Event> {
    * @param tuning Watch tuning parameters
    * @param listener a listener to which to dispatch watch events
    * @param isStopping an atomic boolean to watch to determine when to stop the watcher
+   * @param store the local store to be kept current by watch events, or null
    * @return the domain watcher
    */
   public static EventWatcher create(
@@ -49,9 +50,11 @@ public class EventWatcher extends Watcher<CoreV1Event> {
         String initialResourceVersion,
         WatchTuning tuning,
         WatchListener<CoreV1Event> listener,
-        AtomicBoolean isStopping) {
+        AtomicBoolean isStopping,
+        ResourceStore<CoreV1Event> store) {
     EventWatcher watcher =
         new EventWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
+    watcher.setStore(store);
     watcher.start(factory);
     return watcher;
   }
@@ -85,6 +85,7 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job>,
    * @param tuning Tuning parameters for the watch, for example watch lifetime
    * @param listener a null listener to keep the same signature as other watcher create methods
    * @param isStopping Stop signal
+   * @param store the local store to be kept current by watch events, or null
    * @return Job watcher for the namespace
    */
   public static JobWatcher create(
@@ -93,8 +94,10 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job>,
         String initialResourceVersion,
         WatchTuning tuning,
         @SuppressWarnings("unused") WatchListener<V1Job> listener,
-        AtomicBoolean isStopping) {
+        AtomicBoolean isStopping,
+        ResourceStore<V1Job> store) {
     JobWatcher watcher = new JobWatcher(ns, initialResourceVersion, tuning, isStopping);
+    watcher.setStore(store);
     watcher.start(factory);
     return watcher;
   }
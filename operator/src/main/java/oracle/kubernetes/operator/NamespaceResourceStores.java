@@ -0,0 +1,88 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudget;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+
+/**
+ * The local stores of the resources in a namespace, one for each resource type which the operator watches.
+ * Each holds the same resources as its watcher selects.
+ */
+class NamespaceResourceStores {
+  private static final Map<String, NamespaceResourceStores> STORES = new ConcurrentHashMap<>();
+
+  private final ResourceStore<V1ConfigMap> configMaps = new ResourceStore<>();
+  private final ResourceStore<CoreV1Event> podEvents = new ResourceStore<>();
+  private final ResourceStore<CoreV1Event> operatorEvents = new ResourceStore<>();
+  private final ResourceStore<V1Job> jobs = new ResourceStore<>();
+  private final ResourceStore<V1Pod> pods = new ResourceStore<>();
+  private final ResourceStore<V1Service> services = new ResourceStore<>();
+  private final ResourceStore<V1beta1PodDisruptionBudget> podDisruptionBudgets = new ResourceStore<>();
+  private final ResourceStore<Domain> domains = new ResourceStore<>();
+
+  /**
+   * Returns the stores for the specified namespace, creating them if needed.
+   * @param namespace a namespace name
+   */
+  static NamespaceResourceStores forNamespace(String namespace) {
+    return STORES.computeIfAbsent(namespace, n -> new NamespaceResourceStores());
+  }
+
+  /**
+   * Discards the stores for a namespace which is no longer managed.
+   * @param namespace a namespace name
+   */
+  static void remove(String namespace) {
+    STORES.remove(namespace);
+  }
+
+  /** The operator-created config maps. */
+  ResourceStore<V1ConfigMap> getConfigMaps() {
+    return configMaps;
+  }
+
+  /** The events which report readiness probe failures of pods. */
+  ResourceStore<CoreV1Event> getPodEvents() {
+    return podEvents;
+  }
+
+  /** The events created by the operator. */
+  ResourceStore<CoreV1Event> getOperatorEvents() {
+    return operatorEvents;
+  }
+
+  /** The operator-created jobs with a domain UID. */
+  ResourceStore<V1Job> getJobs() {
+    return jobs;
+  }
+
+  /** The operator-created pods with a domain UID. */
+  ResourceStore<V1Pod> getPods() {
+    return pods;
+  }
+
+  /** The operator-created services with a domain UID. */
+  ResourceStore<V1Service> getServices() {
+    return services;
+  }
+
+  /** The operator-created pod disruption budgets with a domain UID. */
+  ResourceStore<V1beta1PodDisruptionBudget> getPodDisruptionBudgets() {
+    return podDisruptionBudgets;
+  }
+
+  /** The domain resources. */
+  ResourceStore<Domain> getDomains() {
+    return domains;
+  }
+}
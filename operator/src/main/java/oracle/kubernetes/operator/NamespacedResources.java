@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -7,8 +7,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
@@ -16,22 +18,25 @@ import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.openapi.models.CoreV1EventList;
 import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudgetList;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.DomainList;
 
-import static oracle.kubernetes.operator.LabelConstants.forDomainUidSelector;
-import static oracle.kubernetes.operator.LabelConstants.getCreatedByOperatorSelector;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_GONE;
 
 /**
  * A Class to manage listing Kubernetes resources associated with a namespace and doing processing on them.
+ * Where the watcher for a resource type is keeping its local store current, the resources are read from that store
+ * instead of being listed; otherwise, they are listed, and a namespace-wide list refills the store.
  */
 class NamespacedResources {
 
@@ -136,8 +141,15 @@ class NamespacedResources {
   }
 
   private Step createConfigMapListStep(List<Consumer<V1ConfigMapList>> processing) {
-    return new CallBuilder()
-             .listConfigMapsAsync(namespace, new ListResponseStep<>(processing));
+    return new CachedOrListedStep<>("ConfigMap", getStores().getConfigMaps(), false,
+          (meta, items) -> new V1ConfigMapList().metadata(meta).items(items), processing,
+          (builder, responseStep) -> builder
+                .withLabelSelectors(LabelConstants.CREATEDBYOPERATOR_LABEL)
+                .listConfigMapsAsync(namespace, responseStep));
+  }
+
+  private NamespaceResourceStores getStores() {
+    return NamespaceResourceStores.forNamespace(namespace);
   }
 
   private Step getPodEventListSteps() {
@@ -145,9 +157,11 @@ class NamespacedResources {
   }
 
   private Step createPodEventListStep(List<Consumer<CoreV1EventList>> processing) {
-    return new CallBuilder()
-            .withFieldSelector(ProcessingConstants.READINESS_PROBE_FAILURE_EVENT_FILTER)
-            .listEventAsync(namespace, new ListResponseStep<>(processing));
+    return new CachedOrListedStep<>("Event", getStores().getPodEvents(), false,
+          (meta, items) -> new CoreV1EventList().metadata(meta).items(items), processing,
+          (builder, responseStep) -> builder
+                .withFieldSelector(ProcessingConstants.READINESS_PROBE_FAILURE_EVENT_FILTER)
+                .listEventAsync(namespace, responseStep));
   }
 
   private Step getOperatorEventListSteps() {
@@ -156,9 +170,11 @@ class NamespacedResources {
   }
 
   private Step createOperatorEventListStep(List<Consumer<CoreV1EventList>> processing) {
-    return new CallBuilder()
-        .withLabelSelectors(ProcessingConstants.OPERATOR_EVENT_LABEL_FILTER)
-        .listEventAsync(namespace, new ListResponseStep<>(processing));
+    return new CachedOrListedStep<>("OperatorEvent", getStores().getOperatorEvents(), false,
+          (meta, items) -> new CoreV1EventList().metadata(meta).items(items), processing,
+          (builder, responseStep) -> builder
+                .withLabelSelectors(ProcessingConstants.OPERATOR_EVENT_LABEL_FILTER)
+                .listEventAsync(namespace, responseStep));
   }
 
   private Step getPodDisruptionBudgetListSteps() {
@@ -167,8 +183,10 @@ class NamespacedResources {
   }
 
   private Step createPodDisruptionBudgetListStep(List<Consumer<V1beta1PodDisruptionBudgetList>> processing) {
-    return new CallBuilder().withLabelSelectors(forDomainUidSelector(domainUid), getCreatedByOperatorSelector())
-            .listPodDisruptionBudgetAsync(namespace, new ListResponseStep<>(processing));
+    return new CachedOrListedStep<>("PodDisruptionBudget", getStores().getPodDisruptionBudgets(), true,
+          (meta, items) -> new V1beta1PodDisruptionBudgetList().metadata(meta).items(items), processing,
+          (builder, responseStep) -> withSubResourceSelectors(builder)
+                .listPodDisruptionBudgetAsync(namespace, responseStep));
   }
 
   private Step getJobListSteps() {
@@ -176,7 +194,9 @@ class NamespacedResources {
   }
 
   private Step createJobListStep(List<Consumer<V1JobList>> processing) {
-    return createSubResourceCallBuilder().listJobAsync(namespace, new ListResponseStep<>(processing));
+    return new CachedOrListedStep<>("Job", getStores().getJobs(), true,
+          (meta, items) -> new V1JobList().metadata(meta).items(items), processing,
+          (builder, responseStep) -> withSubResourceSelectors(builder).listJobAsync(namespace, responseStep));
   }
 
   private Step getPodListSteps() {
@@ -184,11 +204,13 @@ class NamespacedResources {
   }
 
   private Step createPodListStep(List<Consumer<V1PodList>> processing) {
-    return createSubResourceCallBuilder().listPodAsync(namespace, new ListResponseStep<>(processing));
+    return new CachedOrListedStep<>("Pod", getStores().getPods(), true,
+          (meta, items) -> new V1PodList().metadata(meta).items(items), processing,
+          (builder, responseStep) -> withSubResourceSelectors(builder).listPodAsync(namespace, responseStep));
   }
 
-  private CallBuilder createSubResourceCallBuilder() {
-    return new CallBuilder().withLabelSelectors(LabelConstants.CREATEDBYOPERATOR_LABEL, getDomainUidLabel());
+  private CallBuilder withSubResourceSelectors(CallBuilder builder) {
+    return builder.withLabelSelectors(LabelConstants.CREATEDBYOPERATOR_LABEL, getDomainUidLabel());
   }
 
   private String getDomainUidLabel() {
@@ -200,7 +222,9 @@ class NamespacedResources {
   }
 
   private Step createServiceListStep(List<Consumer<V1ServiceList>> processing) {
-    return createSubResourceCallBuilder().listServiceAsync(namespace, new ListResponseStep<>(processing));
+    return new CachedOrListedStep<>("Service", getStores().getServices(), true,
+          (meta, items) -> new V1ServiceList().metadata(meta).items(items), processing,
+          (builder, responseStep) -> withSubResourceSelectors(builder).listServiceAsync(namespace, responseStep));
   }
 
   private Step getDomainListSteps() {
@@ -208,7 +232,9 @@ class NamespacedResources {
   }
 
   private Step createDomainListSteps(List<Consumer<DomainList>> processing) {
-    return new CallBuilder().listDomainAsync(namespace, new ListResponseStep<>(processing));
+    return new CachedOrListedStep<>("Domain", getStores().getDomains(), false,
+          (meta, items) -> new DomainList().withMetadata(meta).withItems(items), processing,
+          (builder, responseStep) -> builder.listDomainAsync(namespace, responseStep));
   }
 
   private <L extends KubernetesListObject>
@@ -229,17 +255,117 @@ class NamespacedResources {
     }
   }
 
-  private static class ListResponseStep<L extends KubernetesListObject> extends DefaultResponseStep<L> {
+  interface ListFactory<T, L extends KubernetesListObject> {
+    L createList(V1ListMeta metadata, List<T> items);
+  }
+
+  interface ListCall<T, L extends KubernetesListObject>
+        extends BiFunction<CallBuilder, ListResponseStep<T, L>, Step> {
+  }
+
+  /**
+   * Passes the resources of one type to their processing, reading them from the local store if it is current,
+   * and otherwise listing them. The first namespace-wide list after a restart asks for a state no older than the
+   * checkpoint of its watcher, if there is one, and lists again without it if the API server reports it gone.
+   */
+  private class CachedOrListedStep<T, L extends KubernetesListObject> extends Step {
+    private final String resource;
+    private final ResourceStore<T> store;
+    private final boolean domainScoped;
+    private final ListFactory<T, L> listFactory;
+    private final List<Consumer<L>> processing;
+    private final ListCall<T, L> listCall;
+
+    CachedOrListedStep(String resource, ResourceStore<T> store, boolean domainScoped, ListFactory<T, L> listFactory,
+                       List<Consumer<L>> processing, ListCall<T, L> listCall) {
+      this.resource = resource;
+      this.store = store;
+      this.domainScoped = domainScoped;
+      this.listFactory = listFactory;
+      this.processing = processing;
+      this.listCall = listCall;
+    }
+
+    // Only a list of all the resources selected by the watcher may refill its store.
+    private boolean isNamespaceWide() {
+      return !domainScoped || domainUid == null;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      if (!store.isSynced()) {
+        return doNext(Optional.ofNullable(getCheckpoint()).map(this::createCheckpointListStep)
+              .orElseGet(this::createListStep), packet);
+      }
+
+      L list = listFactory.createList(new V1ListMeta().resourceVersion(store.getResourceVersion()), getCachedItems());
+      processing.forEach(p -> p.accept(list));
+      return doNext(packet);
+    }
+
+    private String getCheckpoint() {
+      return isNamespaceWide() ? WatchCheckpoints.getInstance().takeRestoredVersion(namespace, resource) : null;
+    }
+
+    private Step createListStep() {
+      ListResponseStep<T, L> responseStep = new ListResponseStep<>(processing, isNamespaceWide() ? store : null);
+      return Step.chain(listCall.apply(new CallBuilder(), responseStep), getNext());
+    }
+
+    private Step createCheckpointListStep(String checkpoint) {
+      ListResponseStep<T, L> responseStep = new ListResponseStep<>(processing, store, this::createListStep);
+      return Step.chain(
+            listCall.apply(new CallBuilder().withResourceVersionNotOlderThan(checkpoint), responseStep), getNext());
+    }
+
+    private List<T> getCachedItems() {
+      return isNamespaceWide() ? store.getItems() : store.getItemsForDomain(domainUid);
+    }
+  }
+
+  private static class ListResponseStep<T, L extends KubernetesListObject> extends DefaultResponseStep<L> {
     private final List<Consumer<L>> processors;
+    private final ResourceStore<T> store;
+    private final Supplier<Step> fallback;
+    private final List<T> listed = new ArrayList<>();
 
-    ListResponseStep(List<Consumer<L>> processors) {
+    ListResponseStep(List<Consumer<L>> processors, ResourceStore<T> store) {
+      this(processors, store, null);
+    }
+
+    ListResponseStep(List<Consumer<L>> processors, ResourceStore<T> store, Supplier<Step> fallback) {
       this.processors = processors;
+      this.store = store;
+      this.fallback = fallback;
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<L> callResponse) {
+      if (fallback != null && callResponse.getStatusCode() == HTTP_GONE) {
+        return doNext(fallback.get(), packet);
+      }
+      return super.onFailure(packet, callResponse);
     }
 
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<L> callResponse) {
+      Optional.ofNullable(store).ifPresent(s -> recordListed(s, callResponse.getResult()));
       processors.forEach(p -> p.accept(callResponse.getResult()));
       return doContinueListOrNext(callResponse, packet);
     }
+
+    // Refills the store once the last chunk of the list has been received, before the processing of that chunk
+    // starts a watcher which will keep the store current.
+    @SuppressWarnings("unchecked")
+    private void recordListed(ResourceStore<T> store, L list) {
+      listed.addAll((List<T>) list.getItems());
+      if (isLastChunk(list)) {
+        store.replaceAll(listed, KubernetesUtils.getResourceVersion(list));
+      }
+    }
+
+    private boolean isLastChunk(L list) {
+      return Optional.ofNullable(list.getMetadata()).map(V1ListMeta::getContinue).map(String::isEmpty).orElse(true);
+    }
   }
 }
@@ -22,9 +22,11 @@ import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.builders.WatchTransport;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.EventAggregator;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResponseStep;
@@ -37,6 +39,7 @@ import oracle.kubernetes.operator.steps.InitializeInternalIdentityStep;
 import oracle.kubernetes.operator.utils.Certificates;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.FiberPriority;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -100,6 +103,12 @@ public class OperatorMain extends BaseMain {
 
       PodHelper.setProductVersion(productVersion.toString());
 
+      DomainStatusWriter.getInstance().configure(this, engine.getExecutor(), getNonNegativeTuningParameter(
+            DOMAIN_STATUS_WRITE_INTERVAL_MILLIS, DomainStatusWriter.DEFAULT_WRITE_INTERVAL_MILLIS));
+      EventAggregator.getInstance().configure(this, engine.getExecutor(),
+            getNonNegativeTuningParameter(EVENT_COUNT_FLUSH_SECONDS, EventAggregator.DEFAULT_FLUSH_INTERVAL_SECONDS),
+            getNonNegativeTuningParameter(EVENT_REPEAT_BUDGET, EventAggregator.DEFAULT_REPEAT_BUDGET));
+
       crdRefernce = new AtomicReference<>();
     }
 
@@ -172,6 +181,10 @@ public class OperatorMain extends BaseMain {
    */
   public static void main(String[] args) {
     OperatorMain operatorMain = createMain(getBuildProperties());
+    configureWatchTransport();
+    configureWatchEventCoalescing();
+    configureServerStateProbe();
+    WatchCheckpoints.getInstance().setEnabled(getWatchCheckpointSeconds() > 0);
 
     try {
       operatorMain.startDeployment(operatorMain::completeBegin);
@@ -186,6 +199,32 @@ public class OperatorMain extends BaseMain {
     }
   }
 
+  private static void configureWatchTransport() {
+    WatchTransport.getInstance().configure(
+          CoreDelegateImpl.getNonNegativeTuningParameter(
+                CoreDelegateImpl.WATCH_TRANSPORT_THREADS, WatchTransport.DEFAULT_NUM_THREADS),
+          threadFactory);
+  }
+
+  private static void configureServerStateProbe() {
+    ServerStateProbe.getInstance().configure(
+          CoreDelegateImpl.getNonNegativeTuningParameter(
+                CoreDelegateImpl.SERVER_STATE_PROBE_THREADS, ServerStateProbe.DEFAULT_NUM_THREADS),
+          threadFactory);
+  }
+
+  private static void configureWatchEventCoalescing() {
+    WatchEventCoalescer.getInstance().configure(
+          CoreDelegateImpl.getNonNegativeTuningParameter(
+                CoreDelegateImpl.WATCH_EVENT_COALESCING_MILLIS, WatchEventCoalescer.DEFAULT_WINDOW_MILLIS),
+          wrappedExecutorService);
+  }
+
+  private static int getWatchCheckpointSeconds() {
+    return CoreDelegateImpl.getNonNegativeTuningParameter(
+          CoreDelegateImpl.WATCH_CHECKPOINT_SECONDS, WatchCheckpoints.DEFAULT_CHECKPOINT_SECONDS);
+  }
+
   static @Nonnull OperatorMain createMain(Properties buildProps) {
     final MainDelegateImpl delegate = new MainDelegateImpl(buildProps, wrappedExecutorService);
 
@@ -206,8 +245,10 @@ public class OperatorMain extends BaseMain {
   @Override
   Step createStartupSteps() {
 
-    return nextStepFactory.createInternalInitializationStep(
-        mainDelegate, Namespaces.getSelection(new StartupStepsVisitor()));
+    return Step.chain(
+        WatchCheckpoints.getInstance().createRestoreStep(),
+        nextStepFactory.createInternalInitializationStep(
+            mainDelegate, Namespaces.getSelection(new StartupStepsVisitor())));
   }
 
   private static Step createInitializeInternalIdentityStep(MainDelegate delegate, Step next) {
@@ -231,7 +272,7 @@ public class OperatorMain extends BaseMain {
 
     OperatorEventWatcher startWatcher(String ns, String resourceVersion) {
       return OperatorEventWatcher.create(DomainNamespaces.getThreadFactory(), ns,
-          resourceVersion, DomainNamespaces.getWatchTuning(), processor::dispatchEventWatch, null);
+          resourceVersion, DomainNamespaces.getWatchTuning(), processor::dispatchEventWatch, null, null);
     }
   }
 
@@ -285,6 +326,11 @@ public class OperatorMain extends BaseMain {
       int stuckPodInterval = getStuckPodInterval();
       mainDelegate.scheduleWithFixedDelay(recheckDomains(), recheckInterval, recheckInterval, TimeUnit.SECONDS);
       mainDelegate.scheduleWithFixedDelay(checkStuckPods(), stuckPodInterval, stuckPodInterval, TimeUnit.SECONDS);
+      if (WatchCheckpoints.getInstance().isEnabled()) {
+        int checkpointInterval = getWatchCheckpointSeconds();
+        mainDelegate.scheduleWithFixedDelay(
+              saveWatchCheckpoints(), checkpointInterval, checkpointInterval, TimeUnit.SECONDS);
+      }
 
       markReadyAndStartLivenessThread();
 
@@ -305,7 +351,12 @@ public class OperatorMain extends BaseMain {
   }
 
   Runnable recheckDomains() {
-    return () -> mainDelegate.runSteps(createDomainRecheckSteps());
+    return () -> mainDelegate.runSteps(new Packet().with(FiberPriority.LOW), createDomainRecheckSteps(), null);
+  }
+
+  Runnable saveWatchCheckpoints() {
+    return () -> Optional.ofNullable(WatchCheckpoints.getInstance().createSaveStep())
+          .ifPresent(step -> mainDelegate.runSteps(new Packet().with(FiberPriority.LOW), step, null));
   }
 
   Runnable checkStuckPods() {
@@ -440,6 +491,7 @@ public class OperatorMain extends BaseMain {
   @Override
   protected void stopAllWatchers() {
     mainDelegate.getDomainNamespaces().stopAllWatchers();
+    WatchTransport.getInstance().shutdown();
   }
 
   void dispatchNamespaceWatch(Watch.Response<V1Namespace> item) {
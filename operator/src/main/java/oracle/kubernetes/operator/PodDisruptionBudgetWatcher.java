@@ -41,6 +41,7 @@ public class PodDisruptionBudgetWatcher extends Watcher<V1beta1PodDisruptionBudg
    * @param tuning tuning parameters
    * @param listener listener
    * @param isStopping stopping flag
+   * @param store the local store to be kept current by watch events, or null
    * @return watcher
    */
   public static PodDisruptionBudgetWatcher create(
@@ -49,9 +50,11 @@ public class PodDisruptionBudgetWatcher extends Watcher<V1beta1PodDisruptionBudg
       String initialResourceVersion,
       WatchTuning tuning,
       WatchListener<V1beta1PodDisruptionBudget> listener,
-      AtomicBoolean isStopping) {
+      AtomicBoolean isStopping,
+      ResourceStore<V1beta1PodDisruptionBudget> store) {
     PodDisruptionBudgetWatcher watcher =
         new PodDisruptionBudgetWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
+    watcher.setStore(store);
     watcher.start(factory);
     return watcher;
   }
@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -37,7 +37,7 @@ import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
-import static oracle.kubernetes.operator.ProcessingConstants.SERVER_NAME;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_NAME_KEY;
 import static oracle.kubernetes.operator.logging.MessageKeys.EXECUTE_MAKE_RIGHT_DOMAIN;
 import static oracle.kubernetes.operator.logging.MessageKeys.LOG_WAITING_COUNT;
 
@@ -75,6 +75,7 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
    * @param tuning Watch tuning parameters
    * @param listener Callback for watch events
    * @param isStopping Stop signal
+   * @param store the local store to be kept current by watch events, or null
    * @return Pod watcher for the namespace
    */
   public static PodWatcher create(
@@ -83,8 +84,10 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
       String initialResourceVersion,
       WatchTuning tuning,
       WatchListener<V1Pod> listener,
-      AtomicBoolean isStopping) {
+      AtomicBoolean isStopping,
+      ResourceStore<V1Pod> store) {
     PodWatcher watcher = new PodWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
+    watcher.setStore(store);
     watcher.start(factory);
     return watcher;
   }
@@ -206,7 +209,7 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
         public NextAction onSuccess(Packet packet, CallResponse<V1Pod> callResponse) {
 
           DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
-          String serverName = (String)packet.get(SERVER_NAME);
+          String serverName = packet.getValue(SERVER_NAME_KEY);
           String resource = initialResource == null ? resourceName : getMetadata(initialResource).getName();
           if ((info != null) && (callResponse != null)) {
             Optional.ofNullable(callResponse.getResult()).ifPresent(result ->
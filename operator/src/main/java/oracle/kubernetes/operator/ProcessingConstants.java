@@ -3,6 +3,13 @@
 
 package oracle.kubernetes.operator;
 
+import java.util.Map;
+
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.PacketKey;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
+
 /** Constants used in asynchronous processing. */
 public interface ProcessingConstants {
 
@@ -27,6 +34,15 @@ public interface ProcessingConstants {
   String SERVER_HEALTH_MAP = "serverHealthMap";
 
   String DOMAIN_TOPOLOGY = "domainTopology";
+
+  /* Typed keys to the values read by most steps. Each is the same packet entry as the name it wraps. */
+  PacketKey<WlsServerConfig> SERVER_SCAN_KEY = PacketKey.of(SERVER_SCAN);
+  PacketKey<String> SERVER_NAME_KEY = PacketKey.of(SERVER_NAME);
+  PacketKey<String> CLUSTER_NAME_KEY = PacketKey.of(CLUSTER_NAME);
+  PacketKey<Map<String, String>> SERVER_STATE_MAP_KEY = PacketKey.of(SERVER_STATE_MAP);
+  PacketKey<Map<String, ServerHealth>> SERVER_HEALTH_MAP_KEY = PacketKey.of(SERVER_HEALTH_MAP);
+  PacketKey<WlsDomainConfig> DOMAIN_TOPOLOGY_KEY = PacketKey.of(DOMAIN_TOPOLOGY);
+
   String JOB_POD_NAME = "jobPodName";
   String DOMAIN_INTROSPECTOR_JOB = "domainIntrospectorJob";
   String DOMAIN_INTROSPECTOR_LOG_RESULT = "domainIntrospectorLogResult";
@@ -0,0 +1,191 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
+
+/**
+ * A local copy of the resources of one type in one namespace, in the manner of a client-go informer. It is filled
+ * by a list of the resources, then kept current by the watcher for that type, and is to be trusted only while that
+ * watcher is running and has reported no gap in its events. Resources are indexed by their domain UID label.
+ *
+ * @param <T> the type of resource held
+ */
+class ResourceStore<T> {
+
+  // The number of recent deletions remembered, so that a relist taken before them does not restore the resources.
+  // Older deletions are forgotten, so that resources with generated names do not leave an entry each forever.
+  static final int MAX_DELETED_VERSIONS = 1000;
+
+  private final Map<String, T> itemsByName = new HashMap<>();
+  private final Map<String, Map<String, T>> itemsByDomainUid = new HashMap<>();
+  private final Map<String, BigInteger> deletedVersions = new LinkedHashMap<>() {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, BigInteger> eldest) {
+      return size() > MAX_DELETED_VERSIONS;
+    }
+  };
+  private String resourceVersion;
+  private boolean populated;
+  private volatile boolean watched;
+
+  /**
+   * Replaces the contents of this store with the result of a list, after which it is considered populated.
+   * A watch may already have applied changes made after the list was taken; those are kept, so that a relist
+   * does not revert the store to older data.
+   * @param items the resources listed
+   * @param listResourceVersion the resource version of the list
+   */
+  synchronized void replaceAll(Collection<? extends T> items, String listResourceVersion) {
+    BigInteger listVersion = KubernetesUtils.getResourceVersion(listResourceVersion);
+    List<T> newerItems = new ArrayList<>();
+    if (listVersion.signum() > 0) {
+      itemsByName.values().stream().filter(item -> getVersion(item).compareTo(listVersion) > 0)
+            .forEach(newerItems::add);
+      deletedVersions.values().removeIf(version -> version.compareTo(listVersion) <= 0);
+    } else {
+      deletedVersions.clear();
+    }
+
+    itemsByName.clear();
+    itemsByDomainUid.clear();
+    items.stream().filter(item -> !deletedVersions.containsKey(getName(item))).forEach(this::add);
+    newerItems.forEach(this::replace);
+    recordResourceVersion(listResourceVersion);
+    populated = true;
+  }
+
+  /**
+   * Applies a watch event to this store. Events which are older than the stored resource are ignored.
+   * @param type the type of event, such as "ADDED" or "DELETED"
+   * @param item the resource reported by the event
+   */
+  synchronized void apply(String type, T item) {
+    String name = getName(item);
+    if (name == null || isOlderThanStored(item)) {
+      return;
+    }
+
+    if ("DELETED".equalsIgnoreCase(type)) {
+      remove(name);
+      deletedVersions.remove(name);
+      deletedVersions.put(name, getVersion(item));
+    } else if ("ADDED".equalsIgnoreCase(type) || "MODIFIED".equalsIgnoreCase(type)) {
+      deletedVersions.remove(name);
+      replace(item);
+    }
+    recordResourceVersion(getMetadata(item).getResourceVersion());
+  }
+
+  /**
+   * Records that the watcher may have missed events, so that the store must be refilled by a list before it is used.
+   */
+  synchronized void invalidate() {
+    populated = false;
+  }
+
+  /**
+   * Records whether the watcher which keeps this store current is running.
+   * @param watched true if the watcher is running
+   */
+  void setWatched(boolean watched) {
+    this.watched = watched;
+  }
+
+  /**
+   * Returns true if this store holds a current copy of the resources, which may be used in place of a list.
+   */
+  synchronized boolean isSynced() {
+    return populated && watched;
+  }
+
+  /** Returns the highest resource version reflected in this store. */
+  synchronized String getResourceVersion() {
+    return resourceVersion;
+  }
+
+  /** Returns the number of deletions remembered. */
+  synchronized int getNumDeletedVersions() {
+    return deletedVersions.size();
+  }
+
+  /** Returns all resources in the store. */
+  synchronized List<T> getItems() {
+    return new ArrayList<>(itemsByName.values());
+  }
+
+  /**
+   * Returns the resources in the store labeled with the specified domain UID.
+   * @param domainUid a domain UID
+   */
+  synchronized List<T> getItemsForDomain(String domainUid) {
+    return new ArrayList<>(itemsByDomainUid.getOrDefault(domainUid, Collections.emptyMap()).values());
+  }
+
+  private void add(T item) {
+    String name = getName(item);
+    if (name != null) {
+      itemsByName.put(name, item);
+      Optional.ofNullable(getDomainUid(item))
+            .ifPresent(uid -> itemsByDomainUid.computeIfAbsent(uid, k -> new HashMap<>()).put(name, item));
+    }
+  }
+
+  private void replace(T item) {
+    remove(getName(item));
+    add(item);
+  }
+
+  private void remove(String name) {
+    Optional.ofNullable(itemsByName.remove(name)).map(this::getDomainUid).map(itemsByDomainUid::get)
+          .ifPresent(items -> items.remove(name));
+  }
+
+  private boolean isOlderThanStored(T item) {
+    return Optional.ofNullable(itemsByName.get(getName(item)))
+          .map(stored -> compareVersions(getMetadata(item), getMetadata(stored)) < 0)
+          .orElse(false);
+  }
+
+  private int compareVersions(V1ObjectMeta first, V1ObjectMeta second) {
+    return KubernetesUtils.getResourceVersion(first).compareTo(KubernetesUtils.getResourceVersion(second));
+  }
+
+  private BigInteger getVersion(T item) {
+    return KubernetesUtils.getResourceVersion(getMetadata(item));
+  }
+
+  private void recordResourceVersion(String newResourceVersion) {
+    BigInteger newVersion = KubernetesUtils.getResourceVersion(newResourceVersion);
+    if (newVersion.compareTo(KubernetesUtils.getResourceVersion(resourceVersion)) > 0) {
+      resourceVersion = newResourceVersion;
+    }
+  }
+
+  private String getName(T item) {
+    return Optional.ofNullable(getMetadata(item)).map(V1ObjectMeta::getName).orElse(null);
+  }
+
+  private String getDomainUid(T item) {
+    return Optional.ofNullable(getMetadata(item)).map(V1ObjectMeta::getLabels)
+          .map(labels -> labels.get(LabelConstants.DOMAINUID_LABEL))
+          .orElse(null);
+  }
+
+  private V1ObjectMeta getMetadata(T item) {
+    return item instanceof KubernetesObject ? ((KubernetesObject) item).getMetadata() : null;
+  }
+}
@@ -0,0 +1,210 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.helpers.ClientPool;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.logging.ThreadLoggingContext;
+import oracle.kubernetes.operator.utils.KubernetesExec;
+import oracle.kubernetes.operator.utils.KubernetesExecFactory;
+import oracle.kubernetes.operator.utils.KubernetesExecFactoryImpl;
+import oracle.kubernetes.utils.OperatorUtils;
+import oracle.kubernetes.utils.SystemClock;
+
+import static oracle.kubernetes.operator.KubernetesConstants.WLS_CONTAINER_NAME;
+import static oracle.kubernetes.operator.logging.ThreadLoggingContext.setThreadContext;
+
+/**
+ * Reads the node manager state of servers whose pods are not ready, by running the readState script in the server
+ * container. Each read opens an exec session, so reads run on a small pool of probe threads rather than on the
+ * threads which run fibers, and concurrent or closely repeated reads of the same pod version share one result.
+ */
+class ServerStateProbe {
+
+  /** The default number of threads which run state reads. */
+  static final int DEFAULT_NUM_THREADS = 4;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  @SuppressWarnings("FieldMayBeFinal") // non-final to allow unit tests to replace it
+  private static ServerStateProbe instance = new ServerStateProbe();
+
+  @SuppressWarnings("FieldMayBeFinal") // may be replaced by unit test
+  private static KubernetesExecFactory execFactory = new KubernetesExecFactoryImpl();
+
+  private final Map<String, Probe> probes = new HashMap<>();
+  private ExecutorService executor;
+
+  static ServerStateProbe getInstance() {
+    return instance;
+  }
+
+  /**
+   * Creates the threads which run state reads. Intended to be called once, at startup. Until it is called,
+   * or if no threads are specified, each read runs on the thread which requests it.
+   * @param numThreads the number of threads which run state reads
+   * @param threadFactory the factory for those threads
+   */
+  synchronized void configure(int numThreads, ThreadFactory threadFactory) {
+    if (executor == null && numThreads > 0) {
+      executor = Executors.newFixedThreadPool(numThreads, threadFactory);
+    }
+  }
+
+  /**
+   * Returns the state of the WebLogic server in the specified pod, as reported by its node manager. The result
+   * of a read is shared with any later request for the same pod version made within half the initial status
+   * update interval, and with any request made while it is in progress.
+   * @param pod the server pod
+   * @param timeoutSeconds the time to wait for the readState script to complete
+   * @return a future which completes with the state, or null if it could not be read
+   */
+  CompletableFuture<String> readState(V1Pod pod, long timeoutSeconds) {
+    String key = getKey(pod);
+    String resourceVersion = getResourceVersion(pod);
+    if (key == null || resourceVersion == null) {
+      return startRead(pod, timeoutSeconds);
+    }
+
+    synchronized (this) {
+      Probe probe = probes.get(key);
+      if (probe == null || !probe.canShare(resourceVersion)) {
+        probe = new Probe(resourceVersion, startRead(pod, timeoutSeconds));
+        probes.put(key, probe);
+      }
+      return probe.result;
+    }
+  }
+
+  /**
+   * Discards the results of reads of pods in a namespace which is no longer managed.
+   * @param namespace a namespace name
+   */
+  synchronized void removeNamespace(String namespace) {
+    String prefix = namespace + "/";
+    probes.keySet().removeIf(k -> k.startsWith(prefix));
+  }
+
+  private CompletableFuture<String> startRead(V1Pod pod, long timeoutSeconds) {
+    ExecutorService probeExecutor = getExecutor();
+    if (probeExecutor == null) {
+      return CompletableFuture.completedFuture(execReadState(pod, timeoutSeconds));
+    }
+    return CompletableFuture.supplyAsync(() -> execReadState(pod, timeoutSeconds), probeExecutor);
+  }
+
+  private synchronized ExecutorService getExecutor() {
+    return executor;
+  }
+
+  private String execReadState(V1Pod pod, long timeoutSeconds) {
+    Process proc = null;
+    String state = null;
+    ClientPool helper = ClientPool.getInstance();
+    ApiClient client = helper.take();
+
+    try (ThreadLoggingContext stack = setThreadContext().namespace(getNamespace(pod)).domainUid(getDomainUid(pod))) {
+      try {
+        KubernetesExec kubernetesExec = execFactory.create(client, pod, WLS_CONTAINER_NAME);
+        kubernetesExec.setStdin(false);
+        kubernetesExec.setTty(false);
+        proc = kubernetesExec.exec("/weblogic-operator/scripts/readState.sh");
+
+        try (final Reader reader = new InputStreamReader(proc.getInputStream())) {
+          state = OperatorUtils.toString(reader);
+        }
+
+        if (proc.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+          int exitValue = proc.exitValue();
+          LOGGER.fine("readState exit: " + exitValue + ", readState for " + pod.getMetadata().getName());
+          if (exitValue == 1 || exitValue == 2) {
+            state =
+                PodHelper.isDeleting(pod)
+                    ? WebLogicConstants.SHUTDOWN_STATE
+                    : WebLogicConstants.STARTING_STATE;
+          } else if (exitValue != 0) {
+            state = WebLogicConstants.UNKNOWN_STATE;
+          }
+        }
+      } catch (InterruptedException ignore) {
+        Thread.currentThread().interrupt();
+      } catch (IOException | ApiException e) {
+        LOGGER.warning(MessageKeys.EXCEPTION, e);
+      } finally {
+        helper.recycle(client);
+        if (proc != null) {
+          proc.destroy();
+        }
+      }
+    }
+    return state;
+  }
+
+  private String getKey(V1Pod pod) {
+    return Optional.ofNullable(pod.getMetadata())
+          .filter(m -> m.getName() != null)
+          .map(m -> m.getNamespace() + "/" + m.getName())
+          .orElse(null);
+  }
+
+  private String getResourceVersion(V1Pod pod) {
+    return Optional.ofNullable(pod.getMetadata()).map(V1ObjectMeta::getResourceVersion).orElse(null);
+  }
+
+  private String getNamespace(@Nonnull V1Pod pod) {
+    return Optional.ofNullable(pod.getMetadata()).map(V1ObjectMeta::getNamespace).orElse(null);
+  }
+
+  private String getDomainUid(V1Pod pod) {
+    return KubernetesUtils.getDomainUidLabel(Optional.ofNullable(pod).map(V1Pod::getMetadata).orElse(null));
+  }
+
+  private static class Probe {
+    private final String resourceVersion;
+    private final CompletableFuture<String> result;
+    private volatile OffsetDateTime completionTime;
+
+    Probe(String resourceVersion, CompletableFuture<String> result) {
+      this.resourceVersion = resourceVersion;
+      this.result = result;
+      result.whenComplete((state, throwable) -> completionTime = SystemClock.now());
+    }
+
+    boolean canShare(String resourceVersion) {
+      return this.resourceVersion.equals(resourceVersion) && (!result.isDone() || isRecent());
+    }
+
+    private boolean isRecent() {
+      return Optional.ofNullable(completionTime)
+            .map(t -> SystemClock.now().isBefore(t.plusNanos(getSharingNanos())))
+            .orElse(true);
+    }
+
+    private long getSharingNanos() {
+      return TimeUnit.SECONDS.toNanos(TuningParameters.getInstance().getMainTuning().initialShortDelay) / 2;
+    }
+  }
+}
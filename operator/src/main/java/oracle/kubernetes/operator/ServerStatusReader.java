@@ -3,44 +3,35 @@
 
 package oracle.kubernetes.operator;
 
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
-import io.kubernetes.client.openapi.ApiClient;
-import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
-import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.ForkJoinLimits;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.LastKnownStatus;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
-import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
 import oracle.kubernetes.operator.steps.ReadHealthStep;
-import oracle.kubernetes.operator.utils.KubernetesExec;
-import oracle.kubernetes.operator.utils.KubernetesExecFactory;
-import oracle.kubernetes.operator.utils.KubernetesExecFactoryImpl;
+import oracle.kubernetes.operator.work.AsyncFiber;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
-import oracle.kubernetes.utils.OperatorUtils;
 import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 
-import static oracle.kubernetes.operator.KubernetesConstants.WLS_CONTAINER_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 import static oracle.kubernetes.operator.logging.ThreadLoggingContext.setThreadContext;
@@ -52,8 +43,8 @@ public class ServerStatusReader {
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static Function<Step, Step> stepFactory = ReadHealthStep::createReadHealthStep;
 
-  @SuppressWarnings("FieldMayBeFinal") // may be replaced by unit test
-  private static KubernetesExecFactory execFactory = new KubernetesExecFactoryImpl();
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static Function<Step, Step> domainHealthStepFactory = ReadHealthStep::createReadDomainHealthStep;
 
   private ServerStatusReader() {
   }
@@ -88,19 +79,50 @@ public class ServerStatusReader {
       packet.put(SERVER_STATE_MAP, new ConcurrentHashMap<String, String>());
       packet.put(SERVER_HEALTH_MAP, new ConcurrentHashMap<String, ServerHealth>());
 
-      AtomicInteger remainingServerHealthToRead = new AtomicInteger();
-      packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, remainingServerHealthToRead);
+      packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, new AtomicInteger());
+
+      Step readServersStep = new ServerStatusReadersStep(info, timeoutSeconds, getNext());
+      if (info.getServerPods().findAny().isEmpty()) {
+        return doNext(packet);
+      } else if (isReadHealthThroughAdminServer()) {
+        return doNext(domainHealthStepFactory.apply(readServersStep), packet);
+      } else {
+        return doNext(readServersStep, packet);
+      }
+    }
 
+    private boolean isReadHealthThroughAdminServer() {
+      return Optional.ofNullable(info.getDomain()).map(Domain::isReadHealthThroughAdminServer).orElse(false);
+    }
+  }
+
+  /**
+   * Reads the state and health of each server with a pod, other than those already read from the admin server.
+   */
+  private static class ServerStatusReadersStep extends Step {
+    private final DomainPresenceInfo info;
+    private final long timeoutSeconds;
+
+    ServerStatusReadersStep(DomainPresenceInfo info, long timeoutSeconds, Step next) {
+      super(next);
+      this.info = info;
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Map<String, ServerHealth> serverHealthMap = packet.getValue(SERVER_HEALTH_MAP);
       Collection<StepAndPacket> startDetails =
           info.getServerPods()
+              .filter(pod -> !serverHealthMap.containsKey(PodHelper.getPodServerName(pod)))
               .map(pod -> createStatusReaderStep(packet, pod))
               .collect(Collectors.toList());
 
       if (startDetails.isEmpty()) {
         return doNext(packet);
       } else {
-        remainingServerHealthToRead.set(startDetails.size());
-        return doForkJoin(getNext(), packet, startDetails);
+        packet.<AtomicInteger>getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ).set(startDetails.size());
+        return doForkJoin(getNext(), packet, startDetails, ForkJoinLimits.forDomain(packet));
       }
     }
 
@@ -164,64 +186,22 @@ public class ServerStatusReader {
         return doNext(packet);
       }
 
-      final boolean stdin = false;
-      final boolean tty = false;
-
       return doSuspend(
-          fiber -> {
-            Process proc = null;
-            String state = null;
-            ClientPool helper = ClientPool.getInstance();
-            ApiClient client = helper.take();
-
-            try {
-              try (ThreadLoggingContext stack =
-                       setThreadContext().namespace(getNamespace(pod)).domainUid(getDomainUid(pod))) {
-
-                KubernetesExec kubernetesExec = execFactory.create(client, pod, WLS_CONTAINER_NAME);
-                kubernetesExec.setStdin(stdin);
-                kubernetesExec.setTty(tty);
-                proc = kubernetesExec.exec("/weblogic-operator/scripts/readState.sh");
-
-                try (final Reader reader = new InputStreamReader(proc.getInputStream())) {
-                  state = OperatorUtils.toString(reader);
-                }
-
-                if (proc.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
-                  int exitValue = proc.exitValue();
-                  LOGGER.fine("readState exit: " + exitValue + ", readState for " + pod.getMetadata().getName());
-                  if (exitValue == 1 || exitValue == 2) {
-                    state =
-                        PodHelper.isDeleting(pod)
-                            ? WebLogicConstants.SHUTDOWN_STATE
-                            : WebLogicConstants.STARTING_STATE;
-                  } else if (exitValue != 0) {
-                    state = WebLogicConstants.UNKNOWN_STATE;
-                  }
-                }
-              }
-            } catch (InterruptedException ignore) {
-              Thread.currentThread().interrupt();
-            } catch (IOException | ApiException e) {
-              try (ThreadLoggingContext stack =
-                       setThreadContext().namespace(getNamespace(pod)).domainUid(getDomainUid(pod))) {
-                LOGGER.warning(MessageKeys.EXCEPTION, e);
-              }
-            } finally {
-              helper.recycle(client);
-              if (proc != null) {
-                proc.destroy();
-              }
-            }
-
-            try (ThreadLoggingContext stack =
-                     setThreadContext().namespace(getNamespace(pod)).domainUid(getDomainUid(pod))) {
-              LOGGER.fine("readState: " + state + " for " + pod.getMetadata().getName());
-              state = chooseStateOrLastKnownServerStatus(lastKnownStatus, state);
-              serverStateMap.put(serverName, state);
-            }
-            fiber.resume(packet);
-          });
+          fiber -> ServerStateProbe.getInstance().readState(pod, timeoutSeconds)
+                .whenComplete((state, throwable) -> recordState(fiber, packet, lastKnownStatus, state)));
+    }
+
+    private void recordState(AsyncFiber fiber, Packet packet, LastKnownStatus lastKnownStatus, String state) {
+      @SuppressWarnings("unchecked")
+      ConcurrentMap<String, String> serverStateMap =
+          (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
+
+      try (ThreadLoggingContext stack =
+               setThreadContext().namespace(getNamespace(pod)).domainUid(getDomainUid(pod))) {
+        LOGGER.fine("readState: " + state + " for " + pod.getMetadata().getName());
+        serverStateMap.put(serverName, chooseStateOrLastKnownServerStatus(lastKnownStatus, state));
+      }
+      fiber.resume(packet);
     }
 
     private String getNamespace(@Nonnull V1Pod pod) {
@@ -41,6 +41,7 @@ public class ServiceWatcher extends Watcher<V1Service> {
    * @param tuning tuning parameters
    * @param listener listener
    * @param isStopping stopping flag
+   * @param store the local store to be kept current by watch events, or null
    * @return watcher
    */
   public static ServiceWatcher create(
@@ -49,9 +50,11 @@ public class ServiceWatcher extends Watcher<V1Service> {
       String initialResourceVersion,
       WatchTuning tuning,
       WatchListener<V1Service> listener,
-      AtomicBoolean isStopping) {
+      AtomicBoolean isStopping,
+      ResourceStore<V1Service> store) {
     ServiceWatcher watcher =
         new ServiceWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
+    watcher.setStore(store);
     watcher.start(factory);
     return watcher;
   }
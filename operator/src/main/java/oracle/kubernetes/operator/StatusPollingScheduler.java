@@ -0,0 +1,190 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+
+/**
+ * Schedules the status updates of all domains from a single periodic task. The first update of each domain
+ * is spread over the initial short delay, so that domains registered together are not polled together, and
+ * each tick starts the updates of every domain which is due. A domain whose status has not changed for
+ * {@code unchangedCountToDelayStatusRecheck} updates is polled at doubling intervals, up to the eventual
+ * long delay; any change in its status, or activity on its pods or domain resource, restores the short delay.
+ */
+class StatusPollingScheduler {
+
+  /** The interval, in seconds, at which the scheduler looks for domains which are due for a status update. */
+  static final long TICK_SECONDS = 1;
+
+  private final CoreDelegate delegate;
+  private final BiPredicate<String, String> isDomainPresent;
+  private final Map<String, Poll> polls = new HashMap<>();
+  private boolean ticking;
+  private long now;
+
+  /**
+   * Creates a scheduler.
+   * @param delegate the delegate which runs the periodic task
+   * @param isDomainPresent returns true if the domain with the specified namespace and UID is still managed
+   */
+  StatusPollingScheduler(CoreDelegate delegate, BiPredicate<String, String> isDomainPresent) {
+    this.delegate = delegate;
+    this.isDomainPresent = isDomainPresent;
+  }
+
+  /**
+   * Schedules status updates for a domain, replacing any already scheduled for it. A domain already registered
+   * keeps its place in the schedule, but returns to the short delay.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   * @param updater the task which starts a status update
+   */
+  synchronized void register(String namespace, String domainUid, Runnable updater) {
+    Poll poll = polls.get(getKey(namespace, domainUid));
+    if (poll == null) {
+      polls.put(getKey(namespace, domainUid), new Poll(updater, now + getSpreadOffset(namespace, domainUid)));
+    } else {
+      poll.updater = updater;
+      poll.restoreShortDelay();
+    }
+    startTicking();
+  }
+
+  /**
+   * Stops scheduling status updates for a domain.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   */
+  synchronized void unregister(String namespace, String domainUid) {
+    polls.remove(getKey(namespace, domainUid));
+  }
+
+  /**
+   * Records activity which may change the status of a domain, so that it is next polled within the short delay.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   */
+  synchronized void recordActivity(String namespace, String domainUid) {
+    Poll poll = polls.get(getKey(namespace, domainUid));
+    if (poll != null) {
+      poll.restoreShortDelay();
+    }
+  }
+
+  /**
+   * Records the result of a status update, from which the interval to the next one is chosen.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   * @param fingerprint a value which differs from that of the previous update if the status changed
+   */
+  synchronized void recordResult(String namespace, String domainUid, Object fingerprint) {
+    Poll poll = polls.get(getKey(namespace, domainUid));
+    if (poll != null) {
+      poll.recordResult(fingerprint);
+    }
+  }
+
+  /**
+   * Returns the number of seconds between the latest status update of a domain and its next one.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   */
+  synchronized long getInterval(String namespace, String domainUid) {
+    Poll poll = polls.get(getKey(namespace, domainUid));
+    return poll == null ? 0 : poll.interval;
+  }
+
+  private String getKey(String namespace, String domainUid) {
+    return namespace + "/" + domainUid;
+  }
+
+  // An offset in the range [1, initialShortDelay], which is stable for any one domain.
+  private long getSpreadOffset(String namespace, String domainUid) {
+    long shortDelay = toTicks(getMainTuning().initialShortDelay);
+    return 1 + Math.floorMod(getKey(namespace, domainUid).hashCode(), shortDelay);
+  }
+
+  private void startTicking() {
+    if (!ticking) {
+      delegate.scheduleWithFixedDelay(this::tick, TICK_SECONDS, TICK_SECONDS, TimeUnit.SECONDS);
+      ticking = true;
+    }
+  }
+
+  void tick() {
+    for (Runnable updater : selectDueUpdaters()) {
+      updater.run();
+    }
+  }
+
+  private synchronized List<Runnable> selectDueUpdaters() {
+    now++;
+    polls.entrySet().removeIf(e -> !isDomainPresent(e.getKey()));
+
+    List<Runnable> due = new ArrayList<>();
+    for (Poll poll : polls.values()) {
+      if (poll.nextDue <= now) {
+        poll.lastStart = now;
+        poll.nextDue = now + poll.interval;
+        due.add(poll.updater);
+      }
+    }
+    return due;
+  }
+
+  private boolean isDomainPresent(String key) {
+    int separator = key.indexOf('/');
+    return isDomainPresent.test(key.substring(0, separator), key.substring(separator + 1));
+  }
+
+  private static TuningParameters.MainTuning getMainTuning() {
+    return TuningParameters.getInstance().getMainTuning();
+  }
+
+  private static long toTicks(long seconds) {
+    return Math.max(1, seconds / TICK_SECONDS);
+  }
+
+  private class Poll {
+    private Runnable updater;
+    private long nextDue;
+    private long lastStart;
+    private long interval = toTicks(getMainTuning().initialShortDelay);
+    private int unchangedCount;
+    private Object lastFingerprint;
+
+    Poll(Runnable updater, long nextDue) {
+      this.updater = updater;
+      this.nextDue = nextDue;
+    }
+
+    void restoreShortDelay() {
+      unchangedCount = 0;
+      interval = toTicks(getMainTuning().initialShortDelay);
+      nextDue = Math.min(nextDue, now + interval);
+    }
+
+    void recordResult(Object fingerprint) {
+      if (lastFingerprint != null && Objects.equals(lastFingerprint, fingerprint)) {
+        unchangedCount++;
+      } else {
+        unchangedCount = 0;
+      }
+      lastFingerprint = fingerprint;
+
+      if (unchangedCount == 0) {
+        interval = toTicks(getMainTuning().initialShortDelay);
+      } else if (unchangedCount >= getMainTuning().unchangedCountToDelayStatusRecheck) {
+        interval = Math.min(interval * 2, Math.max(interval, toTicks(getMainTuning().eventualLongDelay)));
+      }
+      nextDue = lastStart + interval;
+    }
+  }
+}
@@ -42,10 +42,19 @@ public class StuckPodProcessing {
   }
 
   void checkStuckPods(String namespace) {
-    Step step = new CallBuilder()
+    mainDelegate.runSteps(OperatorMain.createPacketWithLoggingContext(namespace), createPodCheckStep(namespace), null);
+  }
+
+  // Examines the pods in the local store if the pod watcher is keeping it current, and otherwise lists them.
+  private Step createPodCheckStep(String namespace) {
+    ResourceStore<V1Pod> store = NamespaceResourceStores.forNamespace(namespace).getPods();
+    if (store.isSynced()) {
+      return new CachedPodProcessing(namespace, store.getItems(), SystemClock.now());
+    }
+
+    return new CallBuilder()
           .withLabelSelectors(LabelConstants.getCreatedByOperatorSelector())
           .listPodAsync(namespace, new PodListProcessing(namespace, SystemClock.now()));
-    mainDelegate.runSteps(OperatorMain.createPacketWithLoggingContext(namespace), step, null);
   }
 
   @SuppressWarnings("unchecked")
@@ -64,32 +73,50 @@ public class StuckPodProcessing {
 
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<V1PodList> callResponse) {
-      callResponse.getResult().getItems().stream()
-            .filter(pod -> isStuck(pod, now))
-            .forEach(pod -> addStuckPodToPacket(packet, pod));
+      recordStuckPods(packet, callResponse.getResult().getItems(), now);
       
       return doContinueListOrNext(callResponse, packet);
     }
+  }
 
-    private boolean isStuck(V1Pod pod, OffsetDateTime now)  {
-      return getExpectedDeleteTime(pod).isBefore(now);
-    }
+  class CachedPodProcessing extends Step {
 
-    private OffsetDateTime getExpectedDeleteTime(V1Pod pod) {
-      return getDeletionTimeStamp(pod).plusSeconds((int) getDeletionGracePeriodSeconds(pod));
-    }
+    private final List<V1Pod> pods;
+    private final OffsetDateTime now;
 
-    private long getDeletionGracePeriodSeconds(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionGracePeriodSeconds).orElse(1L);
+    CachedPodProcessing(String namespace, List<V1Pod> pods, OffsetDateTime dateTime) {
+      super(new PodActionsStep(namespace));
+      this.pods = pods;
+      now = dateTime;
     }
 
-    private OffsetDateTime getDeletionTimeStamp(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).orElse(SystemClock.now());
+    @Override
+    public NextAction apply(Packet packet) {
+      recordStuckPods(packet, pods, now);
+      return doNext(packet);
     }
+  }
 
-    private void addStuckPodToPacket(Packet packet, V1Pod stuckPod) {
-      getStuckPodList(packet).add(stuckPod);
-    }
+  private void recordStuckPods(Packet packet, List<V1Pod> pods, OffsetDateTime now) {
+    pods.stream()
+          .filter(pod -> isStuck(pod, now))
+          .forEach(pod -> getStuckPodList(packet).add(pod));
+  }
+
+  private boolean isStuck(V1Pod pod, OffsetDateTime now)  {
+    return getExpectedDeleteTime(pod).isBefore(now);
+  }
+
+  private OffsetDateTime getExpectedDeleteTime(V1Pod pod) {
+    return getDeletionTimeStamp(pod).plusSeconds((int) getDeletionGracePeriodSeconds(pod));
+  }
+
+  private long getDeletionGracePeriodSeconds(V1Pod pod) {
+    return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionGracePeriodSeconds).orElse(1L);
+  }
+
+  private OffsetDateTime getDeletionTimeStamp(V1Pod pod) {
+    return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).orElse(SystemClock.now());
   }
 
   class PodActionsStep extends Step {
@@ -0,0 +1,171 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+
+/**
+ * Checkpoints of the resource versions reached by the watchers of each domain namespace, including those reported by
+ * bookmarks, saved periodically to a config map in the operator's namespace. After a restart, the first list of each
+ * resource type in a namespace asks for a state no older than its checkpoint, which the API server can serve from
+ * its watch cache rather than by a quorum read from etcd.
+ */
+class WatchCheckpoints {
+
+  static final String CHECKPOINT_CONFIG_MAP_NAME = "weblogic-operator-watch-checkpoints";
+
+  /** The default interval between saves of changed checkpoints, in seconds. */
+  static final int DEFAULT_CHECKPOINT_SECONDS = 60;
+
+  @SuppressWarnings("FieldMayBeFinal") // non-final to allow unit tests to replace it
+  private static WatchCheckpoints instance = new WatchCheckpoints();
+
+  private final Map<String, String> current = new ConcurrentHashMap<>();
+  private final Map<String, String> restored = new ConcurrentHashMap<>();
+  private final AtomicBoolean changed = new AtomicBoolean();
+  private volatile boolean enabled;
+
+  static WatchCheckpoints getInstance() {
+    return instance;
+  }
+
+  /**
+   * Enables or disables checkpoints. Intended to be called once, at startup.
+   * @param enabled true if checkpoints should be recorded, saved and restored
+   */
+  void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  // Config map keys may not contain '/', but namespace names may not contain '.'.
+  private String toKey(String namespace, String resource) {
+    return namespace + "." + resource;
+  }
+
+  /**
+   * Records the resource version reached by a watcher.
+   * @param namespace the namespace watched
+   * @param resource the name of the watched resource type, such as "Pod"
+   * @param resourceVersion the resource version reached
+   */
+  void record(String namespace, String resource, String resourceVersion) {
+    if (enabled && namespace != null && resourceVersion != null
+          && !resourceVersion.equals(current.put(toKey(namespace, resource), resourceVersion))) {
+      changed.set(true);
+    }
+  }
+
+  /**
+   * Returns the restored checkpoint for a resource type in a namespace, if any. Each checkpoint is returned only once,
+   * as it is useful only for the first list after a restart.
+   * @param namespace a namespace name
+   * @param resource the name of the resource type, such as "Pod"
+   * @return a resource version, or null
+   */
+  String takeRestoredVersion(String namespace, String resource) {
+    return restored.remove(toKey(namespace, resource));
+  }
+
+  /**
+   * Discards the checkpoints of a namespace which is no longer managed.
+   * @param namespace a namespace name
+   */
+  void removeNamespace(String namespace) {
+    String prefix = namespace + ".";
+    if (current.keySet().removeIf(k -> k.startsWith(prefix))) {
+      changed.set(true);
+    }
+    restored.keySet().removeIf(k -> k.startsWith(prefix));
+  }
+
+  /**
+   * Returns a step which reads the saved checkpoints, or null if checkpoints are disabled.
+   */
+  Step createRestoreStep() {
+    return enabled
+          ? new CallBuilder().readConfigMapAsync(CHECKPOINT_CONFIG_MAP_NAME, getOperatorNamespace(), null,
+                new RestoreResponseStep())
+          : null;
+  }
+
+  private class RestoreResponseStep extends DefaultResponseStep<V1ConfigMap> {
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+      Optional.ofNullable(callResponse.getResult()).map(V1ConfigMap::getData).ifPresent(restored::putAll);
+      return doNext(packet);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+      return doNext(packet);
+    }
+  }
+
+  /**
+   * Returns a step which saves the checkpoints, if any have changed since they were last saved.
+   */
+  Step createSaveStep() {
+    return changed.compareAndSet(true, false) ? createReplaceStep(createConfigMap()) : null;
+  }
+
+  private V1ConfigMap createConfigMap() {
+    return new V1ConfigMap()
+          .metadata(new V1ObjectMeta().name(CHECKPOINT_CONFIG_MAP_NAME).namespace(getOperatorNamespace())
+                .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true"))
+          .data(new HashMap<>(current));
+  }
+
+  private Step createReplaceStep(V1ConfigMap configMap) {
+    return new CallBuilder().replaceConfigMapAsync(CHECKPOINT_CONFIG_MAP_NAME, getOperatorNamespace(), configMap,
+          new SaveResponseStep(configMap));
+  }
+
+  private class SaveResponseStep extends DefaultResponseStep<V1ConfigMap> {
+    private final V1ConfigMap configMap;
+
+    SaveResponseStep(V1ConfigMap configMap) {
+      this.configMap = configMap;
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+      if (callResponse.getStatusCode() == HTTP_NOT_FOUND) {
+        return doNext(new CallBuilder().createConfigMapAsync(getOperatorNamespace(), configMap,
+              new DefaultResponseStep<>()), packet);
+      }
+      changed.set(true);
+      return doNext(packet);
+    }
+  }
+
+  // for test
+  String getRecordedVersion(String namespace, String resource) {
+    return current.get(toKey(namespace, resource));
+  }
+
+  // for test
+  void restore(String namespace, String resource, String resourceVersion) {
+    restored.put(toKey(namespace, resource), resourceVersion);
+  }
+}
@@ -0,0 +1,146 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.watcher.WatchListener;
+
+/**
+ * Collapses bursts of watch events for the same resource before they are dispatched to the domain processor.
+ * The first ADDED or MODIFIED event for a resource is held for a fixed window; events for that resource which arrive
+ * within the window replace it, and only the latest is dispatched when the window closes. A DELETED event discards
+ * any held event and is dispatched at once. Since the window is not extended by later events, no event is delayed
+ * by more than the window.
+ */
+class WatchEventCoalescer {
+
+  /** The default time for which events are held, in milliseconds. */
+  static final int DEFAULT_WINDOW_MILLIS = 200;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final String ADDED = "ADDED";
+  private static final String MODIFIED = "MODIFIED";
+  private static final String API_VERSION_PREFIX = "^(Core)?V\\d+((alpha|beta)\\d+)?";
+
+  @SuppressWarnings("FieldMayBeFinal") // non-final to allow unit tests to replace it
+  private static WatchEventCoalescer instance = new WatchEventCoalescer();
+
+  private final Map<String, HeldEvent<?>> held = new ConcurrentHashMap<>();
+  private volatile long windowMillis;
+  private volatile ScheduledExecutorService executor;
+
+  static WatchEventCoalescer getInstance() {
+    return instance;
+  }
+
+  /**
+   * Sets the window for which events are held. Intended to be called once, at startup.
+   * @param windowMillis the window in milliseconds; zero dispatches every event as it arrives
+   * @param executor the executor on which held events are dispatched
+   */
+  void configure(long windowMillis, ScheduledExecutorService executor) {
+    this.windowMillis = windowMillis;
+    this.executor = executor;
+  }
+
+  private boolean isEnabled() {
+    return windowMillis > 0 && executor != null;
+  }
+
+  /**
+   * Returns a listener which coalesces the events it receives before passing them to the specified listener.
+   * @param listener the listener to receive the coalesced events
+   */
+  <T> WatchListener<T> coalescing(WatchListener<T> listener) {
+    return item -> receive(item, listener);
+  }
+
+  private <T> void receive(Watch.Response<T> item, WatchListener<T> listener) {
+    String key = getKey(item);
+    if (!isEnabled() || key == null) {
+      listener.receivedResponse(item);
+    } else if (isHoldable(item)) {
+      hold(key, item, listener);
+    } else {
+      Optional.ofNullable(held.remove(key)).ifPresent(e -> recordSuppressed(item));
+      listener.receivedResponse(item);
+    }
+  }
+
+  private boolean isHoldable(Watch.Response<?> item) {
+    return ADDED.equals(item.type) || MODIFIED.equals(item.type);
+  }
+
+  private <T> void hold(String key, Watch.Response<T> item, WatchListener<T> listener) {
+    HeldEvent<T> created = new HeldEvent<>(item, listener);
+    if (held.merge(key, created, HeldEvent::absorb) == created) {
+      executor.schedule(() -> release(key, created), windowMillis, TimeUnit.MILLISECONDS);
+    } else {
+      recordSuppressed(item);
+    }
+  }
+
+  private void release(String key, HeldEvent<?> event) {
+    if (held.remove(key, event)) {
+      event.dispatch();
+    }
+  }
+
+  private void recordSuppressed(Watch.Response<?> item) {
+    OperatorMetrics.getInstance().recordCoalescedWatchEvent(getKind(item));
+  }
+
+  private String getKey(Watch.Response<?> item) {
+    return Optional.ofNullable(getMetadata(item))
+          .filter(m -> m.getName() != null)
+          .map(m -> getKind(item) + '/' + m.getNamespace() + '/' + m.getName())
+          .orElse(null);
+  }
+
+  private V1ObjectMeta getMetadata(Watch.Response<?> item) {
+    return item.object instanceof KubernetesObject ? ((KubernetesObject) item.object).getMetadata() : null;
+  }
+
+  private String getKind(Watch.Response<?> item) {
+    return item.object.getClass().getSimpleName().replaceFirst(API_VERSION_PREFIX, "");
+  }
+
+  private static class HeldEvent<T> {
+    private final WatchListener<T> listener;
+    private volatile Watch.Response<T> latest;
+
+    HeldEvent(Watch.Response<T> item, WatchListener<T> listener) {
+      this.latest = item;
+      this.listener = listener;
+    }
+
+    // A resource added and then modified within the window is reported as added, in its latest state.
+    @SuppressWarnings("unchecked")
+    private HeldEvent<?> absorb(HeldEvent<?> newer) {
+      T object = (T) newer.latest.object;
+      latest = new Watch.Response<>(ADDED.equals(latest.type) ? ADDED : newer.latest.type, object);
+      return this;
+    }
+
+    private void dispatch() {
+      try {
+        listener.receivedResponse(latest);
+      } catch (Throwable t) {
+        LOGGER.warning(MessageKeys.EXCEPTION, t);
+      }
+    }
+  }
+}
@@ -6,6 +6,7 @@ package oracle.kubernetes.operator;
 import java.lang.reflect.Method;
 import java.math.BigInteger;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
@@ -17,12 +18,15 @@ import io.kubernetes.client.openapi.models.V1Status;
 import io.kubernetes.client.util.Watch;
 import io.kubernetes.client.util.Watchable;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.AsyncWatchable;
 import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.builders.WatchTransport;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.watcher.WatchListener;
 
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_GONE;
@@ -30,7 +34,9 @@ import static oracle.kubernetes.utils.OperatorUtils.isNullOrEmpty;
 
 /**
  * This class handles the Watching interface and drives the watch support for a specific type of
- * object. It runs in a separate thread to drive watching asynchronously to the main thread.
+ * object. If the {@link WatchTransport} can carry them, its watches are read and processed on the transport's shared
+ * threads as events arrive; otherwise, it runs in a separate thread to drive watching asynchronously to the main
+ * thread.
  *
  * @param <T> The type of the object to be watched.
  */
@@ -41,6 +47,8 @@ abstract class Watcher<T> {
   private static final Pattern RESOURCE_VERSION_PATTERN = Pattern.compile("\\((\\d+)\\)");
 
   private final AtomicBoolean isDraining = new AtomicBoolean(false);
+  private final AtomicBoolean readScheduled = new AtomicBoolean(false);
+  private final CountDownLatch streamingDone = new CountDownLatch(1);
   private final WatchTuning tuning;
 
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // not final so unit tests can set it
@@ -49,7 +57,12 @@ abstract class Watcher<T> {
   private String resourceVersion;
   private final AtomicBoolean stopping;
   private WatchListener<T> listener;
+  private volatile ResourceStore<T> store;
+  private volatile boolean watching;
+  private boolean missedEvents;
   private Thread thread = null;
+  private boolean streaming;
+  private Watchable<T> stream;
   private long lastInitialize = 0;
 
   /**
@@ -83,22 +96,34 @@ abstract class Watcher<T> {
     this.listener = listener;
   }
 
-  /** Waits for this watcher's thread to exit. For unit testing only. */
+  /**
+   * Waits for this watcher's thread, or its watches on the transport, to exit. A watcher served by a cluster-scoped
+   * watch has neither, and returns at once. For unit testing only.
+   */
   void waitForExit() {
     try {
       if (thread != null) {
         thread.join();
+      } else if (streaming) {
+        streamingDone.await();
       }
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
     }
   }
 
-  // for test
   String getResourceVersion() {
     return resourceVersion;
   }
 
+  WatchTuning getTuning() {
+    return tuning;
+  }
+
+  boolean isWatching() {
+    return watching;
+  }
+
   /**
    * Sets the listener for watch events.
    *
@@ -108,9 +133,33 @@ abstract class Watcher<T> {
     this.listener = listener;
   }
 
-  /** Kick off the watcher processing that runs in a separate thread. */
+  /**
+   * Sets the local store to be kept current by watch events.
+   *
+   * @param store the store of the watched resources
+   */
+  synchronized void setStore(ResourceStore<T> store) {
+    this.store = store;
+    Optional.ofNullable(store).ifPresent(s -> s.setWatched(watching));
+    if (store != null && missedEvents) {
+      store.invalidate();
+      missedEvents = false;
+    }
+  }
+
+  /**
+   * Kick off the watcher processing. If its namespace is served by a cluster-scoped watch, this watcher receives
+   * that watch's events for its namespace; otherwise, it runs its own watch on the watch transport if that can carry
+   * it, or else in a separate thread.
+   */
   void start(ThreadFactory factory) {
-    thread = starter.startWatcher(factory, this::doWatch);
+    if (ClusterScopedWatches.getInstance().register(this, factory)) {
+      streamingDone.countDown();  // there is no watch of its own for which to wait
+    } else if (WatchTransport.getInstance().canCarryPooledClients()) {
+      startStreaming();
+    } else {
+      thread = starter.startWatcher(factory, this::doWatch);
+    }
   }
 
   public static Thread startAsynchronousWatch(ThreadFactory factory, Runnable doWatch) {
@@ -122,12 +171,41 @@ abstract class Watcher<T> {
   private void doWatch() {
     setIsDraining(false);
 
-    while (!isDraining()) {
-      if (isStopping()) {
-        setIsDraining(true);
-      } else {
-        watchForEvents();
+    try {
+      while (!isDraining()) {
+        if (isStopping()) {
+          setIsDraining(true);
+        } else {
+          markStoreWatched();
+          watchForEvents();
+        }
       }
+    } finally {
+      setWatching(false);
+    }
+  }
+
+  private void markStoreWatched() {
+    setWatching(true);
+  }
+
+  /**
+   * Records whether the watch which keeps this watcher's store current is running.
+   * @param watching true if the watch is running
+   */
+  void setWatching(boolean watching) {
+    this.watching = watching;
+    Optional.ofNullable(store).ifPresent(s -> s.setWatched(watching));
+  }
+
+  /**
+   * Records that the watch may have missed events, so that the store must be refilled by a list before it is used.
+   */
+  synchronized void onEventsMissed() {
+    if (store != null) {
+      store.invalidate();
+    } else {
+      missedEvents = true;
     }
   }
 
@@ -142,7 +220,7 @@ abstract class Watcher<T> {
   }
 
   protected boolean isStopping() {
-    return stopping.get();
+    return stopping != null && stopping.get();
   }
 
   private void watchForEvents() {
@@ -159,35 +237,133 @@ abstract class Watcher<T> {
     } else {
       lastInitialize = now;
     }
-    try (Watchable<T> watch =
-        initiateWatch(
-            new WatchBuilder()
-                .withResourceVersion(resourceVersion)
-                .withTimeoutSeconds(getWatchLifetime()))) {
+    try (Watchable<T> watch = initiateWatch(createWatchBuilder())) {
       while (hasNext(watch)) {
-        Watch.Response<T> item = watch.next();
+        processEvent(watch.next());
+      }
+    } catch (Throwable ex) {
+      LOGGER.warning(MessageKeys.EXCEPTION, ex);
+    }
+  }
 
-        if (isStopping()) {
-          setIsDraining(true);
-        }
-        if (isDraining()) {
-          continue;
-        }
+  WatchBuilder createWatchBuilder() {
+    return new WatchBuilder().withResourceVersion(resourceVersion).withTimeoutSeconds(getWatchLifetime());
+  }
 
-        try (ThreadLoggingContext ignored =
-                 ThreadLoggingContext.setThreadContext().namespace(getNamespace()).domainUid(getDomainUid(item))) {
-          if (isError(item)) {
-            handleErrorResponse(item);
-          } else {
-            handleRegularUpdate(item);
-          }
-        }
+  private void processEvent(Watch.Response<T> item) {
+    recordWatchEvent(item);
+    receiveEvent(item);
+  }
+
+  /**
+   * Processes an event for this watcher's namespace. Called for the events of this watcher's own watch, or of the
+   * cluster-scoped watch which serves its namespace.
+   * @param item the watch event
+   */
+  void receiveEvent(Watch.Response<T> item) {
+    if (isStopping()) {
+      setIsDraining(true);
+    }
+    if (isDraining()) {
+      return;
+    }
+
+    try (ThreadLoggingContext ignored =
+             ThreadLoggingContext.setThreadContext().namespace(getNamespace()).domainUid(getDomainUid(item))) {
+      if (isError(item)) {
+        handleErrorResponse(item);
+      } else {
+        handleRegularUpdate(item);
+      }
+    }
+  }
+
+  private void startStreaming() {
+    streaming = true;
+    setIsDraining(false);
+    openStream();
+  }
+
+  // Starts the next watch, to be read as its events arrive. A watch which cannot notify is read on a transport
+  // thread until it ends; that happens only for watches which the transport does not carry.
+  private synchronized void openStream() {
+    if (isStopping()) {
+      stopStreaming();
+      return;
+    }
+
+    markStoreWatched();
+    lastInitialize = System.currentTimeMillis();
+    try {
+      final Watchable<T> watch = initiateWatch(createWatchBuilder());
+      stream = watch;
+      if (!notifiesWhenReady(watch)) {
+        WatchTransport.getInstance().execute(() -> readStream(watch, false));
       }
     } catch (Throwable ex) {
       LOGGER.warning(MessageKeys.EXCEPTION, ex);
+      scheduleReopen();
+    }
+  }
+
+  private boolean notifiesWhenReady(Watchable<T> watch) {
+    return watch instanceof AsyncWatchable
+          && ((AsyncWatchable<T>) watch).notifyWhenReady(() -> scheduleRead(watch));
+  }
+
+  private void scheduleRead(Watchable<T> watch) {
+    if (readScheduled.compareAndSet(false, true)) {
+      WatchTransport.getInstance().execute(() -> {
+        readScheduled.set(false);
+        readStream(watch, true);
+      });
     }
   }
 
+  private synchronized void readStream(Watchable<T> watch, boolean async) {
+    if (watch != stream) {
+      return;
+    }
+
+    try {
+      while (hasNext(watch)) {
+        processEvent(watch.next());
+      }
+      if (!async || isDraining() || ((AsyncWatchable<T>) watch).isComplete()) {
+        endStream(watch);
+      }
+    } catch (Throwable ex) {
+      LOGGER.warning(MessageKeys.EXCEPTION, ex);
+      endStream(watch);
+    }
+  }
+
+  private void endStream(Watchable<T> watch) {
+    stream = null;
+    try {
+      watch.close();
+    } catch (Throwable ex) {
+      LOGGER.finer(MessageKeys.EXCEPTION, ex);
+    }
+
+    if (isDraining() || isStopping()) {
+      stopStreaming();
+    } else {
+      scheduleReopen();
+    }
+  }
+
+  private void scheduleReopen() {
+    long delay = (getWatchMinimumDelay() * 1000L) - (System.currentTimeMillis() - lastInitialize);
+    WatchTransport.getInstance().schedule(this::openStream, Math.max(0, delay));
+  }
+
+  private void stopStreaming() {
+    setIsDraining(true);
+    setWatching(false);
+    streamingDone.countDown();
+  }
+
   private int getWatchLifetime() {
     return Optional.ofNullable(tuning).map(t -> t.watchLifetime).orElse(5);
   }
@@ -233,15 +409,29 @@ abstract class Watcher<T> {
     return item.type.equalsIgnoreCase("ERROR");
   }
 
+  private void recordWatchEvent(Watch.Response<T> item) {
+    OperatorMetrics.getInstance().recordWatchEvent(getResourceName(), item.type);
+  }
+
+  /** Returns the name of the watched resource type, as reported in metrics. */
+  String getResourceName() {
+    return getClass().getSimpleName().replace("Watcher", "");
+  }
+
   private void handleRegularUpdate(Watch.Response<T> item) {
     LOGGER.finer(MessageKeys.WATCH_EVENT, item.type, item.object);
     trackResourceVersion(item.type, item.object);
+    if (store != null) {
+      store.apply(item.type, item.object);
+    }
     if (listener != null) {
       listener.receivedResponse(item);
     }
   }
 
+  // Any error means that the watch will restart from an earlier version, or from none, and may have missed events.
   private void handleErrorResponse(Watch.Response<T> item) {
+    onEventsMissed();
     if (Optional.ofNullable(item.status).map(V1Status::getCode).orElse(0) != HTTP_GONE) {
       resourceVersion = IGNORED;
     } else {
@@ -298,5 +488,6 @@ abstract class Watcher<T> {
         resourceVersion = newResourceVersion;
       }
     }
+    WatchCheckpoints.getInstance().record(getNamespace(), getResourceName(), resourceVersion);
   }
 }
@@ -0,0 +1,29 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.builders;
+
+import io.kubernetes.client.util.Watchable;
+
+/**
+ * A watch which may be read without blocking. Its owner asks to be notified when events arrive, and then reads
+ * only those events already received; {@link #hasNext()} never waits for the server.
+ *
+ * @param <T> the Kubernetes type watched
+ */
+public interface AsyncWatchable<T> extends Watchable<T> {
+
+  /**
+   * Requests that the specified listener be run whenever events arrive, or the watch ends.
+   * The listener runs on a transport thread and should hand off any significant work.
+   * @param listener the notification to run
+   * @return false if this watch cannot notify, and must instead be read by blocking
+   */
+  boolean notifyWhenReady(Runnable listener);
+
+  /**
+   * Returns true once the watch has ended and all of its events have been read.
+   * Meaningful only for a watch which has agreed to notify its owner.
+   */
+  boolean isComplete();
+}
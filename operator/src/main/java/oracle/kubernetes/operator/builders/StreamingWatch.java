@@ -0,0 +1,166 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.builders;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
+/**
+ * A watch whose response is delivered line by line by the {@link WatchTransport}. Each line is decoded into an event
+ * as it arrives, and queued until its owner reads it.
+ *
+ * @param <T> the Kubernetes type watched
+ */
+public class StreamingWatch<T> implements AsyncWatchable<T> {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final Queue<Watch.Response<T>> events = new ConcurrentLinkedQueue<>();
+  private final EventDecoder<T> decoder;
+  private final JSON json;
+  private volatile boolean ended;
+  private volatile Runnable listener;
+  private volatile Flow.Subscription subscription;
+  private volatile CompletableFuture<?> response;
+
+  StreamingWatch(JSON json, Type watchType) {
+    this.json = json;
+    this.decoder = new EventDecoder<>(json, watchType);
+  }
+
+  // Decodes watch events with the same logic as the blocking client watch.
+  private static class EventDecoder<T> extends Watch<T> {
+    EventDecoder(JSON json, Type watchType) {
+      super(json, null, watchType, null);
+    }
+
+    Watch.Response<T> decode(String line) throws IOException {
+      return parseLine(line);
+    }
+  }
+
+  /** Returns the subscriber which receives the lines of the response body. */
+  Flow.Subscriber<String> getLineSubscriber() {
+    return new Flow.Subscriber<>() {
+      @Override
+      public void onSubscribe(Flow.Subscription subscription) {
+        StreamingWatch.this.subscription = subscription;
+        subscription.request(Long.MAX_VALUE);
+      }
+
+      @Override
+      public void onNext(String line) {
+        acceptLine(line);
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+        end();
+      }
+
+      @Override
+      public void onComplete() {
+        end();
+      }
+    };
+  }
+
+  void setResponse(CompletableFuture<?> response) {
+    this.response = response;
+  }
+
+  void acceptLine(String line) {
+    if (ended || line.isBlank()) {
+      return;
+    }
+
+    try {
+      events.add(decoder.decode(line));
+      notifyListener();
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+      end();
+    }
+  }
+
+  /**
+   * Reports a response which rejected the watch, as an error event from which the owner may recover.
+   * @param statusCode the HTTP status of the response
+   * @param body the body of the response, usually a Kubernetes status
+   */
+  void acceptErrorResponse(int statusCode, String body) {
+    events.add(new Watch.Response<>("ERROR", toStatus(statusCode, body)));
+    end();
+  }
+
+  private V1Status toStatus(int statusCode, String body) {
+    try {
+      return Optional.ofNullable(json.<V1Status>deserialize(body, V1Status.class))
+            .map(status -> status.code(Optional.ofNullable(status.getCode()).orElse(statusCode)))
+            .orElse(new V1Status().code(statusCode));
+    } catch (RuntimeException e) {
+      return new V1Status().code(statusCode).message(body);
+    }
+  }
+
+  void end() {
+    ended = true;
+    notifyListener();
+  }
+
+  private void notifyListener() {
+    Optional.ofNullable(listener).ifPresent(Runnable::run);
+  }
+
+  @Override
+  public boolean notifyWhenReady(Runnable listener) {
+    this.listener = listener;
+    if (ended || !events.isEmpty()) {
+      listener.run();
+    }
+    return true;
+  }
+
+  @Override
+  public boolean isComplete() {
+    return ended && events.isEmpty();
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !events.isEmpty();
+  }
+
+  @Override
+  public Watch.Response<T> next() {
+    return Optional.ofNullable(events.poll()).orElseThrow(NoSuchElementException::new);
+  }
+
+  @Override
+  @Nonnull
+  public Iterator<Watch.Response<T>> iterator() {
+    return this;
+  }
+
+  @Override
+  public void close() {
+    ended = true;
+    Optional.ofNullable(subscription).ifPresent(Flow.Subscription::cancel);
+    Optional.ofNullable(response).ifPresent(r -> r.cancel(true));
+  }
+}
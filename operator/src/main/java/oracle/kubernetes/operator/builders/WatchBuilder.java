@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.builders;
@@ -37,6 +37,7 @@ public class WatchBuilder {
   private static final String RESOURCE_VERSION_MATCH_UNSET = null;
 
   private final CallParamsImpl callParams = new CallParamsImpl();
+  private boolean allNamespaces;
 
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // Leave non-final for unit test
   private static WatchFactory factory = new WatchFactoryImpl();
@@ -49,7 +50,8 @@ public class WatchBuilder {
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
   public Watchable<V1Service> createServiceWatch(String namespace) throws ApiException {
-    return factory.createWatch(callParams, V1Service.class, new ListNamespacedServiceCall(namespace));
+    return factory.createWatch(callParams, V1Service.class,
+        allNamespaces ? new ListServiceForAllNamespacesCall() : new ListNamespacedServiceCall(namespace));
   }
 
   /**
@@ -61,7 +63,7 @@ public class WatchBuilder {
    */
   public Watchable<V1beta1PodDisruptionBudget> createPodDisruptionBudgetWatch(String namespace) throws ApiException {
     return factory.createWatch(callParams, V1beta1PodDisruptionBudget.class,
-        new ListPodDisruptionBudgetCall(namespace));
+        allNamespaces ? new ListPodDisruptionBudgetForAllNamespacesCall() : new ListPodDisruptionBudgetCall(namespace));
   }
 
   /**
@@ -73,7 +75,7 @@ public class WatchBuilder {
    */
   public Watchable<V1Pod> createPodWatch(String namespace) throws ApiException {
     return factory.createWatch(
-        callParams, V1Pod.class, new ListPodCall(namespace));
+        callParams, V1Pod.class, allNamespaces ? new ListPodForAllNamespacesCall() : new ListPodCall(namespace));
   }
 
   /**
@@ -85,7 +87,7 @@ public class WatchBuilder {
    */
   public Watchable<V1Job> createJobWatch(String namespace) throws ApiException {
     return factory.createWatch(
-        callParams, V1Job.class, new ListJobCall(namespace));
+        callParams, V1Job.class, allNamespaces ? new ListJobForAllNamespacesCall() : new ListJobCall(namespace));
   }
 
   /**
@@ -123,7 +125,7 @@ public class WatchBuilder {
     return factory.createWatch(
         callParams,
         V1ConfigMap.class,
-        new ListNamespacedConfigMapCall(namespace));
+        allNamespaces ? new ListConfigMapForAllNamespacesCall() : new ListNamespacedConfigMapCall(namespace));
   }
 
   /**
@@ -161,6 +163,17 @@ public class WatchBuilder {
     return this;
   }
 
+  /**
+   * Directs the watch to report resources in all namespaces, rather than in the one specified when it is created.
+   * Supported for pods, services, jobs, pod disruption budgets and config maps.
+   *
+   * @return the updated builder
+   */
+  public WatchBuilder forAllNamespaces() {
+    allNamespaces = true;
+    return this;
+  }
+
   @SuppressWarnings("SameParameterValue")
   WatchBuilder withLimit(Integer limit) {
     callParams.setLimit(limit);
@@ -453,4 +466,134 @@ public class WatchBuilder {
     }
   }
 
+  private static class ListServiceForAllNamespacesCall implements BiFunction<ApiClient, CallParams, Call> {
+
+    @Override
+    public Call apply(ApiClient client, CallParams callParams) {
+      configureClient(client);
+
+      try {
+        return new CoreV1Api(client)
+            .listServiceForAllNamespacesCall(
+                ALLOW_BOOKMARKS,
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getPretty(),
+                callParams.getResourceVersion(),
+                RESOURCE_VERSION_MATCH_UNSET,
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null);
+      } catch (ApiException e) {
+        throw new UncheckedApiException(e);
+      }
+    }
+  }
+
+  private static class ListPodForAllNamespacesCall implements BiFunction<ApiClient, CallParams, Call> {
+
+    @Override
+    public Call apply(ApiClient client, CallParams callParams) {
+      configureClient(client);
+
+      try {
+        return new CoreV1Api(client)
+            .listPodForAllNamespacesCall(
+                ALLOW_BOOKMARKS,
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getPretty(),
+                callParams.getResourceVersion(),
+                RESOURCE_VERSION_MATCH_UNSET,
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null);
+      } catch (ApiException e) {
+        throw new UncheckedApiException(e);
+      }
+    }
+  }
+
+  private static class ListJobForAllNamespacesCall implements BiFunction<ApiClient, CallParams, Call> {
+
+    @Override
+    public Call apply(ApiClient client, CallParams callParams) {
+      configureClient(client);
+
+      try {
+        return new BatchV1Api(client)
+            .listJobForAllNamespacesCall(
+                ALLOW_BOOKMARKS,
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getPretty(),
+                callParams.getResourceVersion(),
+                RESOURCE_VERSION_MATCH_UNSET,
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null);
+      } catch (ApiException e) {
+        throw new UncheckedApiException(e);
+      }
+    }
+  }
+
+  private static class ListPodDisruptionBudgetForAllNamespacesCall implements BiFunction<ApiClient, CallParams, Call> {
+
+    @Override
+    public Call apply(ApiClient client, CallParams callParams) {
+      configureClient(client);
+
+      try {
+        return new PolicyV1beta1Api(client)
+            .listPodDisruptionBudgetForAllNamespacesCall(
+                ALLOW_BOOKMARKS,
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getPretty(),
+                callParams.getResourceVersion(),
+                RESOURCE_VERSION_MATCH_UNSET,
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null);
+      } catch (ApiException e) {
+        throw new UncheckedApiException(e);
+      }
+    }
+  }
+
+  private static class ListConfigMapForAllNamespacesCall implements BiFunction<ApiClient, CallParams, Call> {
+
+    @Override
+    public Call apply(ApiClient client, CallParams callParams) {
+      configureClient(client);
+
+      try {
+        return new CoreV1Api(client)
+            .listConfigMapForAllNamespacesCall(
+                ALLOW_BOOKMARKS,
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getPretty(),
+                callParams.getResourceVersion(),
+                RESOURCE_VERSION_MATCH_UNSET,
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null);
+      } catch (ApiException e) {
+        throw new UncheckedApiException(e);
+      }
+    }
+  }
+
 }
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.builders;
@@ -18,9 +18,10 @@ import okhttp3.Call;
 import oracle.kubernetes.operator.helpers.ClientPool;
 
 /**
- * A wrapper of the Kubernetes Watch class that includes management of clients.
+ * A wrapper of the Kubernetes Watch class that includes management of clients. If the {@link WatchTransport} is
+ * enabled, the watch is carried by it, and may be read without blocking.
  */
-public class WatchImpl<T> implements Watchable<T> {
+public class WatchImpl<T> implements AsyncWatchable<T> {
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // non-final to allow unit testing
   private static WatchFactory<?> factory = WatchImpl::createWatch;
 
@@ -35,7 +36,12 @@ public class WatchImpl<T> implements Watchable<T> {
 
   private static <W> Watchable<W> createWatch(ApiClient client, Call call, Type type) {
     try {
+      if (WatchTransport.getInstance().canCarry(client)) {
+        return WatchTransport.getInstance().open(client, call, type);
+      }
       return Watch.createWatch(client, call, type);
+    } catch (IOException e) {
+      throw new UncheckedApiException(new ApiException(e));
     } catch (ApiException e) {
       throw new UncheckedApiException(e);
     }
@@ -68,6 +74,16 @@ public class WatchImpl<T> implements Watchable<T> {
     }
   }
 
+  @Override
+  public boolean notifyWhenReady(Runnable listener) {
+    return impl instanceof AsyncWatchable && ((AsyncWatchable<T>) impl).notifyWhenReady(listener);
+  }
+
+  @Override
+  public boolean isComplete() {
+    return impl instanceof AsyncWatchable ? ((AsyncWatchable<T>) impl).isComplete() : !impl.hasNext();
+  }
+
   @Override
   @Nonnull
   public Iterator<Watch.Response<T>> iterator() {
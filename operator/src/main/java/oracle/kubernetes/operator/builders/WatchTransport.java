@@ -0,0 +1,315 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.builders;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+
+import io.kubernetes.client.openapi.ApiClient;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import oracle.kubernetes.operator.helpers.ClientPool;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
+/**
+ * A transport which carries all watch streams over the JDK's non-blocking HTTP client, rather than parking one
+ * thread on each stream. Response bodies are decoded line by line as they arrive, and the owners of the watches are
+ * notified on a small, fixed pool of threads, which also runs their event processing. The number of threads used for
+ * watching therefore stays flat as the number of watched namespaces grows. Where the server supports HTTP/2, the
+ * streams also share connections.
+ *
+ * <p>The transport is disabled until configured with a positive number of threads, in which case each watcher
+ * runs its own blocking thread, as before.
+ */
+public class WatchTransport {
+  /** The default number of threads which deliver and process watch events. */
+  public static final int DEFAULT_NUM_THREADS = 4;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final Set<String> RESTRICTED_HEADERS
+        = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+  @SuppressWarnings("FieldMayBeFinal") // non-final to allow unit tests to replace it
+  private static WatchTransport instance = new WatchTransport();
+
+  private final AtomicInteger numOpenStreams = new AtomicInteger();
+  private ScheduledExecutorService executor;
+  private ApiClient boundClient;
+  private HttpClient httpClient;
+
+  public static WatchTransport getInstance() {
+    return instance;
+  }
+
+  /**
+   * Enables the transport. Intended to be called once, at startup.
+   * @param numThreads the number of threads which deliver and process watch events; zero leaves the transport disabled
+   * @param threadFactory the factory for those threads
+   */
+  public synchronized void configure(int numThreads, ThreadFactory threadFactory) {
+    if (executor == null && numThreads > 0) {
+      executor = new ScheduledThreadPoolExecutor(numThreads, threadFactory);
+    }
+  }
+
+  /**
+   * Stops the transport threads. Open watches end without notifying their owners.
+   */
+  public synchronized void shutdown() {
+    Optional.ofNullable(executor).ifPresent(ScheduledExecutorService::shutdownNow);
+  }
+
+  /** Returns true if watches are to be carried by this transport. */
+  public synchronized boolean isEnabled() {
+    return executor != null;
+  }
+
+  /**
+   * Runs the specified task on one of the transport threads.
+   * @param task the task to run
+   */
+  public void execute(Runnable task) {
+    getExecutor().execute(task);
+  }
+
+  /**
+   * Runs the specified task on one of the transport threads after a delay.
+   * @param task the task to run
+   * @param delayMillis the delay in milliseconds
+   */
+  public void schedule(Runnable task, long delayMillis) {
+    getExecutor().schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private synchronized ScheduledExecutorService getExecutor() {
+    return Optional.ofNullable(executor).orElseThrow(IllegalStateException::new);
+  }
+
+  /** Returns the number of watch streams now open over this transport. */
+  public int getNumOpenStreams() {
+    return numOpenStreams.get();
+  }
+
+  /**
+   * Returns true if the specified client's connection settings can be carried by this transport. The JDK client
+   * cannot be told to skip host name verification, so a client which does not verify its server cannot.
+   * @param client the Kubernetes client
+   */
+  boolean canCarry(ApiClient client) {
+    return isEnabled() && (client.isVerifyingSsl() || !client.getBasePath().startsWith("https"));
+  }
+
+  /**
+   * Returns true if watches made with the operator's pooled Kubernetes clients can be carried by this transport.
+   * Watches which cannot must each be read on a thread of their own, as they block until events arrive.
+   */
+  public boolean canCarryPooledClients() {
+    if (!isEnabled()) {
+      return false;
+    }
+
+    ApiClient client = ClientPool.getInstance().take();
+    try {
+      return canCarry(client);
+    } finally {
+      ClientPool.getInstance().recycle(client);
+    }
+  }
+
+  /**
+   * Opens a watch stream.
+   * @param client the Kubernetes client, whose address and credentials are to be used
+   * @param call the call which the client would make to start the watch
+   * @param watchType the type of the watch events
+   * @param <T> the Kubernetes type watched
+   * @return a watch which will receive the events as they arrive
+   * @throws IOException if the request cannot be authenticated
+   */
+  <T> StreamingWatch<T> open(ApiClient client, Call call, Type watchType) throws IOException {
+    StreamingWatch<T> watch = new StreamingWatch<>(client.getJSON(), watchType);
+    HttpRequest request = toHttpRequest(authenticate(client.getHttpClient(), call));
+
+    numOpenStreams.incrementAndGet();
+    CompletableFuture<?> response = getHttpClient(client).sendAsync(request, createBodyHandler(watch));
+    response.whenComplete((r, t) -> {
+      numOpenStreams.decrementAndGet();
+      if (t != null) {
+        watch.end();
+      }
+    });
+    watch.setResponse(response);
+    return watch;
+  }
+
+  private BodyHandler<Void> createBodyHandler(StreamingWatch<?> watch) {
+    return responseInfo -> isSuccess(responseInfo.statusCode())
+          ? BodySubscribers.fromLineSubscriber(watch.getLineSubscriber())
+          : rejectionSubscriber(watch, responseInfo.statusCode());
+  }
+
+  private boolean isSuccess(int statusCode) {
+    return statusCode >= 200 && statusCode < 300;
+  }
+
+  private BodySubscriber<Void> rejectionSubscriber(StreamingWatch<?> watch, int statusCode) {
+    return BodySubscribers.mapping(BodySubscribers.ofString(StandardCharsets.UTF_8), body -> {
+      watch.acceptErrorResponse(statusCode, body);
+      return null;
+    });
+  }
+
+  // The Kubernetes client may add credentials in interceptors, rather than to the request it builds; apply them.
+  private Request authenticate(OkHttpClient okHttpClient, Call call) throws IOException {
+    Request authenticated = call.request();
+    for (Interceptor interceptor : okHttpClient.interceptors()) {
+      authenticated = new RequestCapture(call, authenticated).apply(interceptor);
+    }
+    return authenticated;
+  }
+
+  private HttpRequest toHttpRequest(Request request) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(request.url().uri()).GET();
+    for (String name : request.headers().names()) {
+      if (!RESTRICTED_HEADERS.contains(name.toLowerCase())) {
+        request.headers(name).forEach(value -> builder.header(name, value));
+      }
+    }
+    return builder.build();
+  }
+
+  private synchronized HttpClient getHttpClient(ApiClient client) throws IOException {
+    if (httpClient == null || boundClient != client) {
+      httpClient = createHttpClient(client);
+      boundClient = client;
+    }
+    return httpClient;
+  }
+
+  private HttpClient createHttpClient(ApiClient client) throws IOException {
+    OkHttpClient okHttpClient = client.getHttpClient();
+    HttpClient.Builder builder = HttpClient.newBuilder()
+          .executor(getExecutor())
+          .connectTimeout(Duration.ofMillis(Math.max(okHttpClient.connectTimeoutMillis(), 1000)));
+    if (client.getBasePath().startsWith("https")) {
+      builder.sslContext(createSslContext(client, okHttpClient));
+    }
+    return builder.build();
+  }
+
+  private SSLContext createSslContext(ApiClient client, OkHttpClient okHttpClient) throws IOException {
+    try {
+      SSLContext sslContext = SSLContext.getInstance("TLS");
+      TrustManager[] trustManagers = Optional.ofNullable(okHttpClient.x509TrustManager())
+            .map(tm -> new TrustManager[] {tm})
+            .orElse(null);
+      sslContext.init(client.getKeyManagers(), trustManagers, null);
+      return sslContext;
+    } catch (GeneralSecurityException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+      throw new IOException(e);
+    }
+  }
+
+  // An interceptor chain which ends by capturing the request, rather than sending it. Interceptors which ask for
+  // the call are given the one which the client built for the watch; it is never executed.
+  private static class RequestCapture implements Interceptor.Chain {
+    private final Call call;
+    private Request request;
+
+    RequestCapture(Call call, Request request) {
+      this.call = call;
+      this.request = request;
+    }
+
+    Request apply(Interceptor interceptor) throws IOException {
+      interceptor.intercept(this);
+      return request;
+    }
+
+    @Override
+    @Nonnull
+    public Request request() {
+      return request;
+    }
+
+    @Override
+    @Nonnull
+    public Response proceed(@Nonnull Request request) {
+      this.request = request;
+      return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(200).message("OK")
+            .body(ResponseBody.create("", null)).build();
+    }
+
+    @Override
+    public Connection connection() {
+      return null;
+    }
+
+    @Override
+    @Nonnull
+    public Call call() {
+      return call;
+    }
+
+    @Override
+    public int connectTimeoutMillis() {
+      return 0;
+    }
+
+    @Override
+    @Nonnull
+    public Interceptor.Chain withConnectTimeout(int timeout, @Nonnull TimeUnit timeUnit) {
+      return this;
+    }
+
+    @Override
+    public int readTimeoutMillis() {
+      return 0;
+    }
+
+    @Override
+    @Nonnull
+    public Interceptor.Chain withReadTimeout(int timeout, @Nonnull TimeUnit timeUnit) {
+      return this;
+    }
+
+    @Override
+    public int writeTimeoutMillis() {
+      return 0;
+    }
+
+    @Override
+    @Nonnull
+    public Interceptor.Chain withWriteTimeout(int timeout, @Nonnull TimeUnit timeUnit) {
+      return this;
+    }
+  }
+}
@@ -0,0 +1,253 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_TOO_MANY_REQUESTS;
+
+/**
+ * A client-side limit on the number of Kubernetes API calls in flight, adjusted in the manner of TCP congestion
+ * control: additive increase while calls complete promptly, multiplicative decrease when the API server throttles
+ * the operator or its latency climbs well above the observed baseline. Each class of request has its own budget,
+ * so that a burst of writes during a rollout cannot starve the reads and lists on which make-right depends.
+ * Calls beyond the current limit are queued in order and started as earlier calls complete.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+  /** The initial number of calls of each class which may be in flight. */
+  public static final int DEFAULT_INITIAL_LIMIT = 20;
+  /** The largest number of calls of each class which may be in flight. */
+  public static final int DEFAULT_MAX_LIMIT = 200;
+  /** The status to report for a call which received no response before the fiber timed out. */
+  public static final int TIMED_OUT = -2;
+  /** The status which the client reports for a call which failed without an HTTP response, such as a refused
+   *  or reset connection. */
+  public static final int NO_HTTP_RESPONSE = 0;
+
+  // A call whose latency exceeds the baseline by this factor indicates that the API server is saturated.
+  private static final double LATENCY_TOLERANCE = 2.0;
+  private static final double LATENCY_BACKOFF_RATIO = 0.9;
+  private static final double THROTTLE_BACKOFF_RATIO = 0.5;
+  private static final double BASELINE_SMOOTHING = 0.1;
+
+  @SuppressWarnings("FieldMayBeFinal") // non-final to allow unit tests to replace it
+  private static AdaptiveConcurrencyLimiter instance = new AdaptiveConcurrencyLimiter();
+
+  private final Map<RequestClass, Budget> budgets = new EnumMap<>(RequestClass.class);
+
+  /**
+   * The classes of request, each of which is limited separately.
+   */
+  public enum RequestClass {
+    LIST, WATCH, READ, MUTATE;
+
+    /**
+     * Returns the class of request for the specified API operation.
+     * @param operationName the name of the operation, such as "list" or "replaceStatus"
+     */
+    public static RequestClass forOperation(String operationName) {
+      if (operationName == null) {
+        return MUTATE;
+      } else if (operationName.startsWith("list")) {
+        return LIST;
+      } else if (operationName.startsWith("watch")) {
+        return WATCH;
+      } else if (operationName.startsWith("read") || operationName.startsWith("get")) {
+        return READ;
+      } else {
+        return MUTATE;
+      }
+    }
+  }
+
+  /**
+   * Creates a limiter with the default limits.
+   */
+  public AdaptiveConcurrencyLimiter() {
+    this(DEFAULT_INITIAL_LIMIT, DEFAULT_MAX_LIMIT);
+  }
+
+  /**
+   * Creates a limiter.
+   * @param initialLimit the number of calls of each class which may be in flight before any have completed
+   * @param maxLimit the largest number of calls of each class which may be in flight; zero disables limiting
+   */
+  public AdaptiveConcurrencyLimiter(int initialLimit, int maxLimit) {
+    for (RequestClass requestClass : RequestClass.values()) {
+      budgets.put(requestClass, new Budget(requestClass));
+    }
+    configure(initialLimit, maxLimit);
+  }
+
+  public static AdaptiveConcurrencyLimiter getInstance() {
+    return instance;
+  }
+
+  /**
+   * Sets the limits on calls in flight. Intended to be called once, at startup.
+   * @param initialLimit the number of calls of each class which may be in flight before any have completed
+   * @param maxLimit the largest number of calls of each class which may be in flight; zero disables limiting
+   */
+  public void configure(int initialLimit, int maxLimit) {
+    budgets.values().forEach(b -> b.configure(initialLimit, maxLimit));
+  }
+
+  /**
+   * Runs the specified operation once a call of the specified class may start; either immediately,
+   * or when enough earlier calls have completed. Every acquisition must be followed by a release.
+   * @param requestClass the class of the call
+   * @param operation the operation which starts the call
+   */
+  public void acquire(RequestClass requestClass, Runnable operation) {
+    budgets.get(requestClass).acquire(operation);
+  }
+
+  /**
+   * Records the completion of a call, adjusts the limit for its class and starts any calls now permitted.
+   * @param requestClass the class of the call
+   * @param startNanos the time at which the call was started
+   * @param statusCode the HTTP status of the response, {@link #TIMED_OUT} if the call timed out,
+   *                   {@link #NO_HTTP_RESPONSE} if it failed without a response, or another negative value
+   *                   if it was never sent
+   */
+  public void release(RequestClass requestClass, long startNanos, int statusCode) {
+    budgets.get(requestClass).release(startNanos, System.nanoTime(), statusCode);
+  }
+
+  /** Returns the current limit on calls in flight of the specified class. */
+  public int getLimit(RequestClass requestClass) {
+    return budgets.get(requestClass).getLimit();
+  }
+
+  /** Returns the number of calls of the specified class now in flight. */
+  public int getNumInFlight(RequestClass requestClass) {
+    return budgets.get(requestClass).getNumInFlight();
+  }
+
+  /** Returns the number of calls of the specified class waiting to start. */
+  public int getNumWaiting(RequestClass requestClass) {
+    return budgets.get(requestClass).getNumWaiting();
+  }
+
+  static class Budget {
+    private final RequestClass requestClass;
+    private final Queue<Runnable> waiting = new ArrayDeque<>();
+    private int maxLimit;
+    private double limit;
+    private int inFlight;
+    private double baselineNanos;
+    private long lastDecreaseNanos = Long.MIN_VALUE;
+
+    Budget(RequestClass requestClass) {
+      this.requestClass = requestClass;
+    }
+
+    synchronized void configure(int initialLimit, int maxLimit) {
+      this.maxLimit = maxLimit;
+      this.limit = Math.max(1, Math.min(initialLimit, maxLimit));
+    }
+
+    void acquire(Runnable operation) {
+      if (tryAdmit(operation)) {
+        operation.run();
+      }
+    }
+
+    private synchronized boolean tryAdmit(Runnable operation) {
+      if (waiting.isEmpty() && inFlight < getLimit()) {
+        inFlight++;
+        return true;
+      }
+      waiting.add(operation);
+      return false;
+    }
+
+    private boolean isLimited() {
+      return maxLimit > 0;
+    }
+
+    void release(long startNanos, long endNanos, int statusCode) {
+      complete(startNanos, endNanos, statusCode);
+
+      Runnable next;
+      while ((next = admitNext()) != null) {
+        next.run();
+      }
+    }
+
+    private synchronized void complete(long startNanos, long endNanos, int statusCode) {
+      inFlight = Math.max(0, inFlight - 1);
+      if (isLimited()) {
+        adjustLimit(startNanos, endNanos, statusCode);
+      }
+    }
+
+    // Returns the oldest waiting operation if the limit now permits it to start.
+    private synchronized Runnable admitNext() {
+      if (waiting.isEmpty() || inFlight >= getLimit()) {
+        return null;
+      }
+      inFlight++;
+      return waiting.remove();
+    }
+
+    private void adjustLimit(long startNanos, long endNanos, int statusCode) {
+      long latencyNanos = endNanos - startNanos;
+      if (statusCode == HTTP_TOO_MANY_REQUESTS || statusCode == TIMED_OUT) {
+        decrease(startNanos, endNanos, THROTTLE_BACKOFF_RATIO);
+      } else if (statusCode < 0 || statusCode == NO_HTTP_RESPONSE) {
+        // A transport failure says nothing about the server's load, and the retry strategy already backs off.
+        return;
+      } else if (isLatencySensitive() && isSlow(latencyNanos)) {
+        decrease(startNanos, endNanos, LATENCY_BACKOFF_RATIO);
+      } else if (inFlight + 1 >= limit / 2) {
+        limit = Math.min(maxLimit, limit + 1 / limit);
+      }
+
+      if (isLatencySensitive()) {
+        updateBaseline(latencyNanos);
+      }
+    }
+
+    // Watches are held open by the server, so their latency says nothing about its load.
+    private boolean isLatencySensitive() {
+      return requestClass != RequestClass.WATCH;
+    }
+
+    private boolean isSlow(long latencyNanos) {
+      return baselineNanos > 0 && latencyNanos > LATENCY_TOLERANCE * baselineNanos;
+    }
+
+    private void updateBaseline(long latencyNanos) {
+      baselineNanos = baselineNanos == 0
+            ? latencyNanos
+            : baselineNanos + BASELINE_SMOOTHING * (latencyNanos - baselineNanos);
+    }
+
+    // Only calls started after the last decrease may trigger another, so that a burst of throttled responses
+    // to calls which were all in flight together reduces the limit only once.
+    private void decrease(long startNanos, long endNanos, double ratio) {
+      if (startNanos > lastDecreaseNanos) {
+        limit = Math.max(1, limit * ratio);
+        lastDecreaseNanos = endNanos;
+      }
+    }
+
+    synchronized int getLimit() {
+      return isLimited() ? (int) limit : Integer.MAX_VALUE;
+    }
+
+    synchronized int getNumInFlight() {
+      return inFlight;
+    }
+
+    synchronized int getNumWaiting() {
+      return waiting.size();
+    }
+  }
+}
@@ -12,11 +12,13 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 
+import com.google.gson.Gson;
 import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.openapi.ApiCallback;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ListMeta;
+import oracle.kubernetes.operator.builders.CallParams;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.Pool;
 import oracle.kubernetes.operator.helpers.ResponseStep;
@@ -25,7 +27,9 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Cancellable;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -55,6 +59,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
   public static final String RESPONSE_COMPONENT_NAME = "response";
   public static final String CONTINUE = "continue";
   public static final int FIBER_TIMEOUT = 0;
+  private static final int NO_RESPONSE = -1;
 
   private static final Random R = new Random();
   private static final int HIGH = 200;
@@ -176,6 +181,11 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     final String cont;
     final AtomicBoolean didResume = new AtomicBoolean(false);
     final ApiClient client;
+    final AdaptiveConcurrencyLimiter.RequestClass requestClass =
+          AdaptiveConcurrencyLimiter.RequestClass.forOperation(requestParams.getOperationName());
+    volatile long startNanos = System.nanoTime();
+    private volatile Cancellable timeout;
+    private volatile RequestCoalescer.InFlightRequest sharedRequest;
 
     public AsyncRequestStepProcessing(Packet packet, RetryStrategy retry, String cont) {
       this.packet = packet;
@@ -185,6 +195,35 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
       client = helper.take();
     }
 
+    // Send the request, unless an identical read is already in flight, in which case wait to share its response.
+    private void start(AsyncFiber fiber) {
+      String key = getCoalescingKey(cont);
+      if (key != null) {
+        sharedRequest = RequestCoalescer.getInstance().join(key, requestParams.namespace,
+              TimeUnit.SECONDS.toNanos(2L * timeoutSeconds), new SharedResponseFollower(fiber));
+        if (sharedRequest == null) {
+          return;
+        }
+      }
+      AdaptiveConcurrencyLimiter.getInstance().acquire(requestClass, () -> startCall(fiber));
+    }
+
+    // Start the call once the concurrency limiter admits it, so that the time spent waiting does not count
+    // against its timeout.
+    private void startCall(AsyncFiber fiber) {
+      startNanos = System.nanoTime();
+      try {
+        CancellableCall cc = createCall(fiber);
+        setTimeout(scheduleTimeoutCheck(fiber, timeoutSeconds, () -> handleTimeout(fiber, cc)));
+      } catch (ApiException t) {
+        logAsyncFailure(t, t.getResponseBody());
+        resumeAfterThrowable(fiber);
+      } catch (Throwable t) {
+        logAsyncFailure(t, "");
+        resumeAfterThrowable(fiber);
+      }
+    }
+
     // Create a call to Kubernetes that we can cancel if it doesn't succeed in time.
     private CancellableCall createCall(AsyncFiber fiber) throws ApiException {
       return factory.generate(requestParams, client, cont, new ApiCallbackImpl(this, fiber));
@@ -194,17 +233,56 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     void onSuccess(AsyncFiber fiber, T result, int statusCode, Map<String, List<String>> responseHeaders) {
       removeExistingFailureCondition();
       if (firstTimeResumed()) {
+        recordCall(statusCode);
+        recordWriteIfMutation();
         if (LOGGER.isFinerEnabled()) {
           logSuccess(result, statusCode, responseHeaders);
         }
 
-        helper.recycle(client);
-        addResponseComponent(Component.createFor(
-            createSuccess(requestParams, result, statusCode).withResponseHeaders(responseHeaders)));
-        fiber.resume(packet);
+        Optional.ofNullable(sharedRequest).ifPresent(r -> RequestCoalescer.getInstance()
+              .succeed(r, () -> copyOf(result), statusCode, responseHeaders));
+        resumeWithResult(fiber, result, statusCode, responseHeaders);
+      }
+    }
+
+    // Reads sent before a write completed may not reflect it, so must not be shared with the fiber which wrote.
+    private void recordWriteIfMutation() {
+      if (requestClass == AdaptiveConcurrencyLimiter.RequestClass.MUTATE) {
+        RequestCoalescer.getInstance().recordWrite(requestParams.namespace);
       }
     }
 
+    // An identical request, sent by another fiber, succeeded. Proceed as though this one had.
+    void onSharedSuccess(AsyncFiber fiber, T result, int statusCode, Map<String, List<String>> responseHeaders) {
+      removeExistingFailureCondition();
+      if (firstTimeResumed()) {
+        resumeWithResult(fiber, result, statusCode, responseHeaders);
+      }
+    }
+
+    private void resumeWithResult(
+          AsyncFiber fiber, T result, int statusCode, Map<String, List<String>> responseHeaders) {
+      helper.recycle(client);
+      addResponseComponent(Component.createFor(
+          createSuccess(requestParams, result, statusCode).withResponseHeaders(responseHeaders)));
+      fiber.resume(packet);
+    }
+
+    // Each fiber which shares a response receives its own copy, which it may modify freely.
+    @SuppressWarnings("unchecked")
+    private T copyOf(T result) {
+      if (result == null || result instanceof String) {
+        return result;
+      }
+      Gson gson = client.getJSON().getGson();
+      return (T) gson.fromJson(gson.toJsonTree(result), result.getClass());
+    }
+
+    // Release any fibers waiting to share the response to this request, so that they may send their own.
+    private void abandonSharedRequest() {
+      Optional.ofNullable(sharedRequest).ifPresent(RequestCoalescer.getInstance()::fail);
+    }
+
     private void removeExistingFailureCondition() {
       DomainPresenceInfo.fromPacket(packet)
             .map(DomainPresenceInfo::getDomain)
@@ -216,6 +294,8 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     // add the failure into the packet and prepare to try again.
     void onFailure(AsyncFiber fiber, ApiException ae, int statusCode, Map<String, List<String>> responseHeaders) {
       if (firstTimeResumed()) {
+        recordCall(statusCode);
+        recordWriteIfMutation();
         if (statusCode != HTTP_NOT_FOUND) {
           addDomainFailureStatus(ae);
           if (LOGGER.isFineEnabled()) {
@@ -229,6 +309,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
           helper.recycle(client);
         }
 
+        abandonSharedRequest();
         addResponseComponent(Component.createFor(
               RetryStrategy.class, retryStrategy,
               createFailure(requestParams, ae, statusCode).withResponseHeaders(responseHeaders)));
@@ -265,12 +346,14 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     // a callback within the timeout. So cancel the call and prepare to try again.
     private void handleTimeout(AsyncFiber fiber, CancellableCall cc) {
       if (firstTimeResumed()) {
+        recordCall(FIBER_TIMEOUT, AdaptiveConcurrencyLimiter.TIMED_OUT);
         try {
           cc.cancel();
         } finally {
           if (LOGGER.isFinerEnabled()) {
             logTimeout();
           }
+          abandonSharedRequest();
           addResponseComponent(Component.createFor(RetryStrategy.class, retryStrategy));
           fiber.resume(packet);
         }
@@ -280,17 +363,62 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     // A throwable occurred while attempting to set up the call. So prepare to try again.
     private void resumeAfterThrowable(AsyncFiber fiber) {
       if (firstTimeResumed()) {
+        AdaptiveConcurrencyLimiter.getInstance().release(requestClass, startNanos, NO_RESPONSE);
+        abandonSharedRequest();
         addResponseComponent(Component.createFor(RetryStrategy.class, retryStrategy));
         fiber.resume(packet);
       }
     }
 
+    private void recordCall(int statusCode) {
+      recordCall(statusCode, statusCode);
+    }
+
+    // The limiter must distinguish a timeout from a transport failure, although both are retried as status 0.
+    private void recordCall(int statusCode, int limiterStatus) {
+      AdaptiveConcurrencyLimiter.getInstance().release(requestClass, startNanos, limiterStatus);
+      OperatorMetrics.getInstance().recordApiCall(requestParams.getOperationName(), requestParams.getResourceType(),
+            statusCode, System.nanoTime() - startNanos);
+    }
+
     private void addResponseComponent(Component component) {
       packet.getComponents().put(RESPONSE_COMPONENT_NAME, component);
     }
 
+    // Records the pending timeout check, so that it may be discarded once a response arrives.
+    private void setTimeout(Cancellable timeout) {
+      this.timeout = timeout;
+      if (didResume.get()) {
+        timeout.cancel();
+      }
+    }
+
+    private class SharedResponseFollower implements RequestCoalescer.Follower {
+      private final AsyncFiber fiber;
+
+      SharedResponseFollower(AsyncFiber fiber) {
+        this.fiber = fiber;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public void onSharedSuccess(Object result, int statusCode, Map<String, List<String>> responseHeaders) {
+        AsyncRequestStepProcessing.this.onSharedSuccess(fiber, (T) result, statusCode, responseHeaders);
+      }
+
+      @Override
+      public void onSharedFailure() {
+        start(fiber);
+      }
+    }
+
     private boolean firstTimeResumed() {
-      return didResume.compareAndSet(false, true);
+      if (!didResume.compareAndSet(false, true)) {
+        return false;
+      }
+
+      Optional.ofNullable(timeout).ifPresent(Cancellable::cancel);
+      return true;
     }
 
     private void logTimeout() {
@@ -397,24 +525,32 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     }
 
     AsyncRequestStepProcessing processing = new AsyncRequestStepProcessing(packet, retry, cont);
-    return doSuspend(
-        fiber -> {
-          try {
-            CancellableCall cc = processing.createCall(fiber);
-            scheduleTimeoutCheck(fiber, timeoutSeconds, () -> processing.handleTimeout(fiber, cc));
-          } catch (ApiException t) {
-            logAsyncFailure(t, t.getResponseBody());
-            processing.resumeAfterThrowable(fiber);
-          } catch (Throwable t) {
-            logAsyncFailure(t, "");
-            processing.resumeAfterThrowable(fiber);
-          }
-        });
+    return doSuspend(processing::start);
+  }
+
+  // Returns a key which identifies this request and all of its parameters, if it is a read or list
+  // whose response may be shared with other fibers; otherwise, returns null.
+  private String getCoalescingKey(String cont) {
+    AdaptiveConcurrencyLimiter.RequestClass requestClass =
+          AdaptiveConcurrencyLimiter.RequestClass.forOperation(requestParams.getOperationName());
+    if (requestClass != AdaptiveConcurrencyLimiter.RequestClass.READ
+          && requestClass != AdaptiveConcurrencyLimiter.RequestClass.LIST) {
+      return null;
+    }
+
+    CallParams callParams = requestParams.callParams;
+    return String.join("|", requestParams.call, requestParams.namespace, requestParams.name, cont,
+          fieldSelector, labelSelector, resourceVersion,
+          Optional.ofNullable(callParams).map(CallParams::getFieldSelector).orElse(null),
+          Optional.ofNullable(callParams).map(CallParams::getLabelSelector).orElse(null),
+          Optional.ofNullable(callParams).map(CallParams::getResourceVersion).orElse(null),
+          Optional.ofNullable(callParams).map(CallParams::getLimit).map(String::valueOf).orElse(null),
+          Optional.ofNullable(callParams).map(CallParams::getTimeoutSeconds).map(String::valueOf).orElse(null));
   }
 
   // Schedule the timeout check to happen on the fiber at some number of seconds in the future.
-  private void scheduleTimeoutCheck(AsyncFiber fiber, int timeoutSeconds, Runnable timeoutCheck) {
-    fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, timeoutCheck);
+  private Cancellable scheduleTimeoutCheck(AsyncFiber fiber, int timeoutSeconds, Runnable timeoutCheck) {
+    return fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, timeoutCheck);
   }
 
   private void logAsyncRequest() {
@@ -471,9 +607,9 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     public NextAction doPotentialRetry(Step conflictStep, Packet packet, int statusCode) {
       if (mayRetryOnStatusValue(statusCode)) {
         optionallyAdjustListenTimeout(statusCode);
-        return retriesLeft() ? backOffAndRetry(packet, retryStep) : null;
+        return retriesLeft() ? backOffAndRetry(packet, retryStep, getRetryReason(statusCode)) : null;
       } else if (isRestartableConflict(conflictStep, statusCode)) {
-        return backOffAndRetry(packet, conflictStep);
+        return backOffAndRetry(packet, conflictStep, "conflict");
       } else {
         return null;
       }
@@ -495,9 +631,15 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
             || statusCode == HTTP_GATEWAY_TIMEOUT;
     }
 
+    private String getRetryReason(int statusCode) {
+      return statusCode == FIBER_TIMEOUT ? "timeout" : Integer.toString(statusCode);
+    }
+
     @Nonnull
-    private NextAction backOffAndRetry(Packet packet, Step nextStep) {
+    private NextAction backOffAndRetry(Packet packet, Step nextStep, String reason) {
       final long waitTime = getNextWaitTime();
+      OperatorMetrics.getInstance().recordApiRetry(
+            requestParams.getOperationName(), requestParams.getResourceType(), reason, waitTime);
       LOGGER.finer(MessageKeys.ASYNC_RETRY, identityHash(), String.valueOf(waitTime),
             requestParams.call, requestParams.namespace, requestParams.name);
 
@@ -0,0 +1,189 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical Kubernetes reads and lists which are in flight at the same time. The first caller to issue
+ * a request leads it and sends it to Kubernetes; callers which issue the same request before the response arrives
+ * follow it, and are given a copy of the leader's response instead of sending their own. If the leader does not
+ * receive a successful response, its followers send their requests as usual.
+ *
+ * <p>A caller which has just written a resource must see its own write, which a read sent earlier may not reflect.
+ * Each namespace therefore has a write generation, advanced whenever a write to it completes; a request may be
+ * joined only if no write to its namespace has completed since it was sent.
+ */
+public class RequestCoalescer {
+
+  @SuppressWarnings("FieldMayBeFinal") // non-final to allow unit tests to replace it
+  private static RequestCoalescer instance = new RequestCoalescer();
+
+  private final Map<String, InFlightRequest> inFlight = new ConcurrentHashMap<>();
+  private final Map<String, AtomicLong> writeGenerations = new ConcurrentHashMap<>();
+  private final AtomicLong numWrites = new AtomicLong();
+  private final AtomicLong numSent = new AtomicLong();
+  private final AtomicLong numCoalesced = new AtomicLong();
+
+  /**
+   * A caller waiting for the response to a request led by another.
+   */
+  interface Follower {
+
+    /**
+     * Receives the response to the leader's request.
+     * @param result a copy of the response body
+     * @param statusCode the HTTP status of the response
+     * @param responseHeaders the headers of the response
+     */
+    void onSharedSuccess(Object result, int statusCode, Map<String, List<String>> responseHeaders);
+
+    /**
+     * Notifies the follower that the leader received no successful response, so it must send its own request.
+     */
+    void onSharedFailure();
+  }
+
+  /**
+   * A request which has been sent and whose response may be shared.
+   */
+  class InFlightRequest {
+    private final String key;
+    private final long writeGeneration;
+    private final long startNanos = System.nanoTime();
+    private final List<Follower> followers = new ArrayList<>();
+    private boolean done;
+
+    InFlightRequest(String key, long writeGeneration) {
+      this.key = key;
+      this.writeGeneration = writeGeneration;
+    }
+
+    private boolean isOlderThan(long maxAgeNanos) {
+      return System.nanoTime() - startNanos > maxAgeNanos;
+    }
+
+    private boolean isJoinable(long maxAgeNanos, long currentWriteGeneration) {
+      return !isOlderThan(maxAgeNanos) && writeGeneration == currentWriteGeneration;
+    }
+
+    private synchronized boolean addFollower(Follower follower) {
+      if (!done) {
+        followers.add(follower);
+      }
+      return !done;
+    }
+
+    // Returns the followers of this request, after which no more may be added.
+    private synchronized List<Follower> finish() {
+      inFlight.remove(key, this);
+      done = true;
+      return followers;
+    }
+  }
+
+  public static RequestCoalescer getInstance() {
+    return instance;
+  }
+
+  /**
+   * Records that a write to the specified namespace has completed, so that requests already in flight to that
+   * namespace may no longer be joined.
+   * @param namespace the namespace written, or null for a cluster-scoped resource
+   */
+  void recordWrite(String namespace) {
+    numWrites.incrementAndGet();
+    writeGenerations.computeIfAbsent(toGenerationKey(namespace), n -> new AtomicLong()).incrementAndGet();
+  }
+
+  // Requests which span all namespaces are affected by writes to any of them.
+  private long getWriteGeneration(String namespace) {
+    if (namespace == null) {
+      return numWrites.get();
+    }
+    return Optional.ofNullable(writeGenerations.get(toGenerationKey(namespace))).map(AtomicLong::get).orElse(0L);
+  }
+
+  private String toGenerationKey(String namespace) {
+    return Optional.ofNullable(namespace).orElse("");
+  }
+
+  /**
+   * Discards the write generation of a namespace which is no longer managed.
+   * @param namespace a namespace
+   */
+  public void removeNamespace(String namespace) {
+    writeGenerations.remove(namespace);
+  }
+
+  /**
+   * Joins the specified request, if it is in flight and no write to its namespace has completed since it was sent,
+   * or else records that the caller is about to send it.
+   * @param key a string which identifies the request and all of its parameters
+   * @param namespace the namespace of the request, or null if it spans all namespaces
+   * @param maxAgeNanos the age beyond which an in-flight request is assumed to have been lost, and not joined
+   * @param follower the caller, to be notified when the response is received if it joins the request
+   * @return the request which the caller must now send, or null if the caller has joined one already in flight
+   */
+  InFlightRequest join(String key, String namespace, long maxAgeNanos, Follower follower) {
+    while (true) {
+      long writeGeneration = getWriteGeneration(namespace);
+      InFlightRequest created = new InFlightRequest(key, writeGeneration);
+      InFlightRequest existing = inFlight.putIfAbsent(key, created);
+      if (existing == null
+            || (!existing.isJoinable(maxAgeNanos, writeGeneration) && inFlight.replace(key, existing, created))) {
+        numSent.incrementAndGet();
+        return created;
+      } else if (existing.addFollower(follower)) {
+        numCoalesced.incrementAndGet();
+        return null;
+      }
+    }
+  }
+
+  /**
+   * Shares a successful response with the followers of a request.
+   * @param request the request led by the caller
+   * @param copier a source of copies of the response body, one for each follower
+   * @param statusCode the HTTP status of the response
+   * @param responseHeaders the headers of the response
+   */
+  void succeed(InFlightRequest request, Supplier<Object> copier,
+               int statusCode, Map<String, List<String>> responseHeaders) {
+    for (Follower follower : request.finish()) {
+      follower.onSharedSuccess(copier.get(), statusCode, responseHeaders);
+    }
+  }
+
+  /**
+   * Releases the followers of a request which did not succeed to send their own requests.
+   * @param request the request led by the caller
+   */
+  void fail(InFlightRequest request) {
+    request.finish().forEach(Follower::onSharedFailure);
+  }
+
+  /** Returns the number of coalescable requests sent to Kubernetes. */
+  public long getNumSent() {
+    return numSent.get();
+  }
+
+  /** Returns the number of requests answered with the response to an identical request already in flight. */
+  public long getNumCoalesced() {
+    return numCoalesced.get();
+  }
+
+  /** Returns the fraction of coalescable requests which were answered without being sent. */
+  public double getHitRate() {
+    long coalesced = numCoalesced.get();
+    long total = coalesced + numSent.get();
+    return total == 0 ? 0.0 : (double) coalesced / total;
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -10,12 +10,20 @@ import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import org.apache.commons.codec.digest.DigestUtils;
 
 /** Delegate authentication decisions to Kubernetes. */
 public class AuthenticationProxy {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static AuthorizationProxy authorizationProxy = new AuthorizationProxy();
+  @SuppressWarnings("FieldMayBeFinal") // non-final to allow unit tests to replace it
+  private static ReviewCache<String, V1TokenReviewStatus> tokenReviews = new ReviewCache<>();
+
+  /** Returns the cache of successful token reviews, keyed by a hash of the token. */
+  public static ReviewCache<String, V1TokenReviewStatus> getTokenReviewCache() {
+    return tokenReviews;
+  }
 
   /**
    * Check if the specified access token can be authenticated.
@@ -30,6 +38,13 @@ public class AuthenticationProxy {
 
     LOGGER.entering(principal); // Don't expose the token since it's a credential
 
+    String tokenHash = token == null ? null : DigestUtils.sha256Hex(token);
+    V1TokenReviewStatus cachedStatus = tokenHash == null ? null : tokenReviews.get(tokenHash);
+    if (cachedStatus != null) {
+      LOGGER.exiting(cachedStatus);
+      return cachedStatus;
+    }
+
     V1TokenReview result = null;
     try {
       boolean allowed =
@@ -52,6 +67,9 @@ public class AuthenticationProxy {
     }
     LOGGER.fine("Returned TokenReview", result);
     V1TokenReviewStatus status = result != null ? result.getStatus() : null;
+    if (tokenHash != null && status != null && Boolean.TRUE.equals(status.getAuthenticated())) {
+      tokenReviews.put(tokenHash, status);
+    }
     LOGGER.exiting(status);
     return status;
   }
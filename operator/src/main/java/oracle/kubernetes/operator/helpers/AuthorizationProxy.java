@@ -1,8 +1,9 @@
-// Copyright (c) 2017, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.Arrays;
 import java.util.List;
 
 import io.kubernetes.client.openapi.ApiException;
@@ -22,6 +23,13 @@ import oracle.kubernetes.operator.logging.MessageKeys;
 /** Delegate authorization decisions to Kubernetes ABAC and/or RBAC. */
 public class AuthorizationProxy {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  @SuppressWarnings("FieldMayBeFinal") // non-final to allow unit tests to replace it
+  private static ReviewCache<List<Object>, Boolean> accessReviews = new ReviewCache<>();
+
+  /** Returns the cache of subject access review decisions, keyed by the subject and the access requested. */
+  public static ReviewCache<List<Object>, Boolean> getAccessReviewCache() {
+    return accessReviews;
+  }
 
   /**
    * Check if the specified principal is allowed to perform the specified operation on the specified
@@ -70,6 +78,13 @@ public class AuthorizationProxy {
       Scope scope,
       String namespaceName) {
     LOGGER.entering();
+    List<Object> reviewKey = Arrays.asList(principal, groups, operation, resource, resourceName, scope, namespaceName);
+    Boolean cachedResult = accessReviews.get(reviewKey);
+    if (cachedResult != null) {
+      LOGGER.exiting(cachedResult);
+      return cachedResult;
+    }
+
     V1SubjectAccessReview subjectAccessReview =
         prepareSubjectAccessReview(
             principal, groups, operation, resource, resourceName, scope, namespaceName);
@@ -82,6 +97,9 @@ public class AuthorizationProxy {
     }
     V1SubjectAccessReviewStatus subjectAccessReviewStatus = subjectAccessReview.getStatus();
     Boolean result = subjectAccessReviewStatus.getAllowed();
+    if (result != null) {
+      accessReviews.put(reviewKey, result);
+    }
     LOGGER.exiting(result);
     return result;
   }
@@ -80,6 +80,7 @@ public class CallBuilder {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private static final String RESOURCE_VERSION_MATCH_UNSET = null;
+  private static final String RESOURCE_VERSION_MATCH_NOT_OLDER_THAN = "NotOlderThan";
   private String container;
 
   private static final SynchronousCallDispatcher DEFAULT_DISPATCHER =
@@ -287,7 +288,8 @@ public class CallBuilder {
   private Integer timeoutSeconds = 5;
   private final CallParamsImpl callParams = new CallParamsImpl();
 
-  private final String resourceVersion = "";
+  private String resourceVersion = "";
+  private String resourceVersionMatch = RESOURCE_VERSION_MATCH_UNSET;
 
   private Integer maxRetryCount = 10;
   private final Boolean watch = null;
@@ -403,6 +405,9 @@ public class CallBuilder {
                   resourceVersion,
                   timeoutSeconds,
                   watch);
+  private final SynchronousCallFactory<Domain> readDomainCall =
+      (client, requestParams) ->
+          new WeblogicApi(client).getNamespacedDomain(requestParams.name, requestParams.namespace);
   private final SynchronousCallFactory<Domain> replaceDomainCall =
       (client, requestParams) ->
           new WeblogicApi(client)
@@ -516,6 +521,20 @@ public class CallBuilder {
     return this;
   }
 
+  /**
+   * Requests a list of resources in a state no older than the specified resource version. The list is not divided
+   * into chunks, so that the API server may serve it from its watch cache.
+   * @param resourceVersion the oldest acceptable resource version
+   * @return this builder
+   */
+  public CallBuilder withResourceVersionNotOlderThan(String resourceVersion) {
+    this.resourceVersion = resourceVersion;
+    this.resourceVersionMatch = RESOURCE_VERSION_MATCH_NOT_OLDER_THAN;
+    this.limit = null;
+    this.callParams.setLimit(null);
+    return this;
+  }
+
   public CallBuilder withTimeoutSeconds(int timeoutSeconds) {
     this.timeoutSeconds = timeoutSeconds;
     return this;
@@ -641,6 +660,19 @@ public class CallBuilder {
         responseStep, new RequestParams("listDomain", namespace, null, null, callParams), listDomain);
   }
 
+  /**
+   * Read domain.
+   *
+   * @param uid the domain uid (unique within the k8s cluster)
+   * @param namespace Namespace
+   * @return Domain
+   * @throws ApiException APIException
+   */
+  public Domain readDomain(String uid, String namespace) throws ApiException {
+    RequestParams requestParams = new RequestParams("readDomain", namespace, uid, null, uid);
+    return executeSynchronousCall(requestParams, readDomainCall);
+  }
+
   private Call readDomainAsync(
       ApiClient client, String name, String namespace, ApiCallback<Domain> callback)
       throws ApiException {
@@ -858,7 +890,7 @@ public class CallBuilder {
             labelSelector,
             limit,
             resourceVersion,
-            RESOURCE_VERSION_MATCH_UNSET,
+            resourceVersionMatch,
             timeoutSeconds,
             watch,
             callback);
@@ -1081,7 +1113,7 @@ public class CallBuilder {
             labelSelector,
             limit,
             resourceVersion,
-            RESOURCE_VERSION_MATCH_UNSET,
+            resourceVersionMatch,
             timeoutSeconds,
             watch,
             callback);
@@ -1316,7 +1348,7 @@ public class CallBuilder {
             orphanDependents,
             propagationPolicy,
             resourceVersion,
-            RESOURCE_VERSION_MATCH_UNSET,
+            resourceVersionMatch,
             timeoutSeconds,
             deleteOptions,
             callback);
@@ -1349,7 +1381,7 @@ public class CallBuilder {
             labelSelector,
             limit,
             resourceVersion,
-            RESOURCE_VERSION_MATCH_UNSET,
+            resourceVersionMatch,
             timeoutSeconds,
             watch,
             callback);
@@ -1470,7 +1502,7 @@ public class CallBuilder {
             labelSelector,
             limit,
             resourceVersion,
-            RESOURCE_VERSION_MATCH_UNSET,
+            resourceVersionMatch,
             timeoutSeconds,
             watch,
             callback);
@@ -1589,7 +1621,7 @@ public class CallBuilder {
             labelSelector,
             limit,
             resourceVersion,
-            RESOURCE_VERSION_MATCH_UNSET,
+            resourceVersionMatch,
             timeoutSeconds,
             watch,
             callback);
@@ -1740,7 +1772,7 @@ public class CallBuilder {
             labelSelector,
             limit,
             resourceVersion,
-            RESOURCE_VERSION_MATCH_UNSET,
+            resourceVersionMatch,
             timeoutSeconds,
             watch,
             callback);
@@ -1843,7 +1875,7 @@ public class CallBuilder {
             labelSelector,
             limit,
             resourceVersion,
-            RESOURCE_VERSION_MATCH_UNSET,
+            resourceVersionMatch,
             timeoutSeconds,
             watch,
             callback);
@@ -1896,7 +1928,7 @@ public class CallBuilder {
             labelSelector,
             limit,
             resourceVersion,
-            RESOURCE_VERSION_MATCH_UNSET,
+            resourceVersionMatch,
             timeoutSeconds,
             watch,
             callback);
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -21,6 +21,7 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -39,6 +40,7 @@ import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.PacketComponent;
+import oracle.kubernetes.operator.work.PacketKey;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.Domain;
@@ -57,6 +59,10 @@ import static oracle.kubernetes.operator.helpers.PodHelper.isNotAdminServer;
  * including the scan and the Pods and Services for servers.
  */
 public class DomainPresenceInfo implements PacketComponent {
+
+  /** The key by which steps find the domain presence info in a packet. */
+  public static final PacketKey<DomainPresenceInfo> PACKET_KEY = PacketKey.forComponent(DomainPresenceInfo.class);
+
   private final String namespace;
   private final String domainUid;
   private final AtomicReference<Domain> domain;
@@ -75,6 +81,7 @@ public class DomainPresenceInfo implements PacketComponent {
 
   private final List<String> validationWarnings = Collections.synchronizedList(new ArrayList<>());
   private Map<String, Step.StepAndPacket> serversToRoll = Collections.emptyMap();
+  private final AtomicReference<PodInputsFingerprint> podInputsFingerprint = new AtomicReference<>();
 
   /**
    * Create presence for a domain.
@@ -201,7 +208,7 @@ public class DomainPresenceInfo implements PacketComponent {
   }
 
   public static Optional<DomainPresenceInfo> fromPacket(Packet packet) {
-    return Optional.ofNullable(packet.getSpi(DomainPresenceInfo.class));
+    return Optional.ofNullable(packet.getValue(PACKET_KEY));
   }
 
   public void addToPacket(Packet packet) {
@@ -587,6 +594,37 @@ public class DomainPresenceInfo implements PacketComponent {
     this.domain.set(domain);
   }
 
+  /**
+   * Returns a fingerprint of the domain-wide inputs to the desired state of the domain's pods. The fingerprint is
+   * computed once for each combination of domain and topology objects, so that it is shared by all servers.
+   * @param topology the domain topology
+   * @param fingerprinter a function to compute the fingerprint
+   */
+  String getPodInputsFingerprint(Object topology, Supplier<String> fingerprinter) {
+    PodInputsFingerprint current = podInputsFingerprint.get();
+    if (current == null || !current.isFor(getDomain(), topology)) {
+      current = new PodInputsFingerprint(getDomain(), topology, fingerprinter.get());
+      podInputsFingerprint.set(current);
+    }
+    return current.fingerprint;
+  }
+
+  private static class PodInputsFingerprint {
+    private final Domain domain;
+    private final Object topology;
+    private final String fingerprint;
+
+    PodInputsFingerprint(Domain domain, Object topology, String fingerprint) {
+      this.domain = domain;
+      this.topology = topology;
+      this.fingerprint = fingerprint;
+    }
+
+    boolean isFor(Domain domain, Object topology) {
+      return this.domain == domain && this.topology == topology;
+    }
+  }
+
   /**
    * Gets the Domain UID.
    *
@@ -771,9 +809,9 @@ public class DomainPresenceInfo implements PacketComponent {
      */
     public Packet createPacket(Packet packet) {
       Packet p = packet.copy();
-      p.put(ProcessingConstants.CLUSTER_NAME, getClusterName());
-      p.put(ProcessingConstants.SERVER_NAME, getName());
-      p.put(ProcessingConstants.SERVER_SCAN, serverConfig);
+      p.putValue(ProcessingConstants.CLUSTER_NAME_KEY, getClusterName());
+      p.putValue(ProcessingConstants.SERVER_NAME_KEY, getName());
+      p.putValue(ProcessingConstants.SERVER_SCAN_KEY, serverConfig);
       p.put(ProcessingConstants.ENVVARS, getEnvironment());
       return p;
     }
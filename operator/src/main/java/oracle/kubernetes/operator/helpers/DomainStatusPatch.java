@@ -1,11 +1,15 @@
-// Copyright (c) 2019, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.Optional;
+
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import jakarta.json.Json;
+import jakarta.json.JsonArray;
 import jakarta.json.JsonPatchBuilder;
 import jakarta.json.JsonValue;
 import oracle.kubernetes.operator.DomainFailureReason;
@@ -20,8 +24,23 @@ public class DomainStatusPatch {
 
   @SuppressWarnings("SameParameterValue")
   static void updateSynchronously(Domain domain, DomainFailureReason reason, String message) {
-    new DomainStatusPatch(domain, reason.toString(), message).update();
+    Domain patched = new DomainStatusPatch(domain, reason.toString(), message).update();
     updateCachedDomainStatus(domain, reason.toString(), message);
+    Optional.ofNullable(patched).map(Domain::getMetadata).map(V1ObjectMeta::getResourceVersion)
+          .ifPresent(domain.getMetadata()::setResourceVersion);
+    OwnDomainWrites.getInstance().record(patched);
+  }
+
+  /**
+   * Returns the JSON patch operations which change one domain status into another.
+   * @param oldStatus the status before the change, if any
+   * @param newStatus the status after the change
+   * @return an array of operations, which is empty if the statuses do not differ
+   */
+  public static JsonArray createPatch(DomainStatus oldStatus, DomainStatus newStatus) {
+    JsonPatchBuilder builder = Json.createPatchBuilder();
+    newStatus.createPatchFrom(builder, oldStatus);
+    return builder.build().toJsonArray();
   }
 
   private DomainStatusPatch(Domain domain, String reason, String message) {
@@ -59,11 +78,11 @@ public class DomainStatusPatch {
     }
   }
 
-  private void update() {
+  private Domain update() {
     try {
-      new CallBuilder().patchDomain(name, namespace, getPatchBody());
+      return new CallBuilder().patchDomain(name, namespace, getPatchBody());
     } catch (ApiException ignored) {
-      /* extraneous comment to fool checkstyle into thinking that this is not an empty catch block. */
+      return null;
     }
   }
 
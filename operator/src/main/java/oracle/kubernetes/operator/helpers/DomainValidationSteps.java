@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -253,7 +253,7 @@ public class DomainValidationSteps {
     public NextAction apply(Packet packet) {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
       boolean isExplicitRecheck = MakeRightDomainOperation.isExplicitRecheck(packet);
-      WlsDomainConfig wlsDomainConfig = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      WlsDomainConfig wlsDomainConfig = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
       validate(info, wlsDomainConfig);
 
       return doNext(getNextStep(info.getValidationWarningsAsString(), isExplicitRecheck, getNext()), packet);
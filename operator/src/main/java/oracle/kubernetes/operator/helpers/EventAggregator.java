@@ -0,0 +1,203 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.CoreDelegate;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.helpers.KubernetesEventObjects.EventIdentifier;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+import static oracle.kubernetes.operator.DomainProcessorImpl.getEventK8SObjects;
+
+/**
+ * Counts repeats of events which the operator has already created, rather than replacing each event as it recurs.
+ * The counts are written together on a schedule, one replace for each event which recurred since the last flush.
+ * A domain may record only a limited number of repeats per flush interval; any more are dropped.
+ */
+public class EventAggregator {
+
+  /** The default time, in seconds, between writes of the counts of repeated events. */
+  public static final int DEFAULT_FLUSH_INTERVAL_SECONDS = 10;
+
+  /** The default number of event repeats which a domain may record per flush interval. */
+  public static final int DEFAULT_REPEAT_BUDGET = 50;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  @SuppressWarnings("FieldMayBeFinal") // non-final to allow unit tests to replace it
+  private static EventAggregator instance = new EventAggregator();
+
+  private final Map<EventIdentifier, RepeatedEvent> repeats = new LinkedHashMap<>();
+  private final Map<String, Integer> recordedRepeats = new HashMap<>();
+  private CoreDelegate delegate;
+  private ScheduledExecutorService executor;
+  private long flushIntervalSeconds;
+  private int repeatBudget;
+  private boolean flushScheduled;
+
+  public static EventAggregator getInstance() {
+    return instance;
+  }
+
+  /**
+   * Enables aggregation. Until this is called, or if the interval is zero, each repeat replaces its event at once.
+   * @param delegate the delegate which runs the fibers which write the counts
+   * @param executor the executor which schedules those fibers
+   * @param flushIntervalSeconds the time between writes of the counts
+   * @param repeatBudget the number of repeats which a domain may record per interval; zero for no limit
+   */
+  public synchronized void configure(
+        CoreDelegate delegate, ScheduledExecutorService executor, long flushIntervalSeconds, int repeatBudget) {
+    this.delegate = delegate;
+    this.executor = executor;
+    this.flushIntervalSeconds = flushIntervalSeconds;
+    this.repeatBudget = repeatBudget;
+  }
+
+  synchronized boolean isEnabled() {
+    return executor != null && flushIntervalSeconds > 0;
+  }
+
+  /**
+   * Records a repeat of an event which already exists, to be counted at the next flush.
+   * @param existingEvent the cached event
+   * @param timestamp the time of the repeat
+   */
+  synchronized void recordRepeat(CoreV1Event existingEvent, OffsetDateTime timestamp) {
+    String domainKey = getDomainKey(existingEvent);
+    if (isBudgetExhausted(domainKey)) {
+      return;
+    }
+
+    recordedRepeats.merge(domainKey, 1, Integer::sum);
+    repeats.computeIfAbsent(new EventIdentifier(existingEvent), k -> new RepeatedEvent(existingEvent)).add(timestamp);
+    scheduleFlush();
+  }
+
+  /** Returns the number of events whose repeats have not yet been written. */
+  synchronized int getNumPending() {
+    return repeats.size();
+  }
+
+  private boolean isBudgetExhausted(String domainKey) {
+    return repeatBudget > 0 && recordedRepeats.getOrDefault(domainKey, 0) >= repeatBudget;
+  }
+
+  private String getDomainKey(CoreV1Event event) {
+    V1ObjectMeta metadata = event.getMetadata();
+    return metadata.getNamespace() + "/" + Optional.ofNullable(metadata.getLabels())
+          .orElse(Collections.emptyMap()).getOrDefault(LabelConstants.DOMAINUID_LABEL, "");
+  }
+
+  // Must be called while synchronized on this object.
+  private void scheduleFlush() {
+    if (!flushScheduled) {
+      flushScheduled = true;
+      executor.schedule(this::flush, flushIntervalSeconds, TimeUnit.SECONDS);
+    }
+  }
+
+  private void flush() {
+    List<RepeatedEvent> toWrite;
+    synchronized (this) {
+      flushScheduled = false;
+      recordedRepeats.clear();
+      toWrite = new ArrayList<>(repeats.values());
+      repeats.clear();
+    }
+
+    if (!toWrite.isEmpty()) {
+      delegate.runSteps(Step.chain(toWrite.stream().map(WriteCountStep::new).toArray(Step[]::new)));
+    }
+  }
+
+  private static class RepeatedEvent {
+    private final CoreV1Event event;
+    private int count;
+    private OffsetDateTime lastTimestamp;
+
+    RepeatedEvent(CoreV1Event event) {
+      this.event = event;
+    }
+
+    void add(OffsetDateTime timestamp) {
+      count++;
+      lastTimestamp = timestamp;
+    }
+  }
+
+  // Adds the repeats to the event as now cached. An event no longer cached has been deleted, or is in a namespace
+  // no longer managed, so its repeats are dropped.
+  private static class WriteCountStep extends Step {
+    private final RepeatedEvent repeated;
+
+    WriteCountStep(RepeatedEvent repeated) {
+      this.repeated = repeated;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(Optional.ofNullable(getExistingEvent()).map(this::createReplaceCall).orElse(getNext()), packet);
+    }
+
+    private CoreV1Event getExistingEvent() {
+      return Optional.ofNullable(getEventK8SObjects(repeated.event))
+            .map(o -> o.getExistingEvent(repeated.event)).orElse(null);
+    }
+
+    private Step createReplaceCall(CoreV1Event existingEvent) {
+      LOGGER.fine(MessageKeys.REPLACING_EVENT, existingEvent.getReason());
+      existingEvent.count(Optional.ofNullable(existingEvent.getCount()).orElse(1) + repeated.count);
+      existingEvent.lastTimestamp(repeated.lastTimestamp);
+      return new CallBuilder()
+          .replaceEventAsync(
+              existingEvent.getMetadata().getName(),
+              existingEvent.getMetadata().getNamespace(),
+              existingEvent,
+              new WriteCountResponseStep(existingEvent, repeated.count, getNext()));
+    }
+  }
+
+  private static class WriteCountResponseStep extends ResponseStep<CoreV1Event> {
+    private final CoreV1Event existingEvent;
+    private final int added;
+
+    WriteCountResponseStep(CoreV1Event existingEvent, int added, Step next) {
+      super(next);
+      this.existingEvent = existingEvent;
+      this.added = added;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<CoreV1Event> callResponse) {
+      return doNext(packet);
+    }
+
+    // A count which cannot be written is dropped, rather than holding up the counts of other events.
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<CoreV1Event> callResponse) {
+      existingEvent.count(existingEvent.getCount() - added);
+      return doNext(packet);
+    }
+  }
+}
@@ -13,7 +13,6 @@ import io.kubernetes.client.openapi.models.V1ObjectReference;
 import jakarta.validation.constraints.NotNull;
 import oracle.kubernetes.operator.DomainFailureReason;
 import oracle.kubernetes.operator.DomainNamespaces;
-import oracle.kubernetes.operator.DomainProcessorImpl;
 import oracle.kubernetes.operator.EventConstants;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
@@ -157,7 +156,14 @@ public class EventHelper {
 
     private Step createEventAPICall(CoreV1Event event) {
       CoreV1Event existingEvent = getExistingEvent(event);
-      return existingEvent != null ? createReplaceEventCall(event, existingEvent) : createCreateEventCall(event);
+      if (existingEvent == null) {
+        return createCreateEventCall(event);
+      } else if (EventAggregator.getInstance().isEnabled()) {
+        EventAggregator.getInstance().recordRepeat(existingEvent, event.getLastTimestamp());
+        return getNext();
+      } else {
+        return createReplaceEventCall(event, existingEvent);
+      }
     }
 
     private Step createCreateEventCall(CoreV1Event event) {
@@ -259,7 +265,8 @@ public class EventHelper {
         } else if (UnrecoverableErrorBuilder.isAsyncCallUnrecoverableFailure(callResponse)) {
           return onFailureNoRetry(packet, callResponse);
         } else {
-          return onFailure(createRetry(existingEvent), packet, callResponse);
+          // the event watches keep the cached event current, so the retry needs no read of the event
+          return onFailure(replaceEventStep, packet, callResponse);
         }
       }
 
@@ -269,17 +276,6 @@ public class EventHelper {
         }
         existingEvent.count(existingEvent.getCount() - 1);
       }
-
-      Step createRetry(CoreV1Event event) {
-        return Step.chain(createEventRefreshStep(event), replaceEventStep);
-      }
-
-      private Step createEventRefreshStep(CoreV1Event event) {
-        return new CallBuilder().readEventAsync(
-            event.getMetadata().getName(),
-            event.getMetadata().getNamespace(),
-            new ReadEventResponseStep(getNext()));
-      }
     }
 
     private boolean isForbiddenForNSWatchStoppedEvent(
@@ -295,18 +291,6 @@ public class EventHelper {
       }
       return false;
     }
-
-    private static class ReadEventResponseStep extends ResponseStep<CoreV1Event> {
-      ReadEventResponseStep(Step next) {
-        super(next);
-      }
-
-      @Override
-      public NextAction onSuccess(Packet packet, CallResponse<CoreV1Event> callResponse) {
-        DomainProcessorImpl.updateEventK8SObjects(callResponse.getResult());
-        return doNext(packet);
-      }
-    }
   }
 
   private static long generateRandomLong() {
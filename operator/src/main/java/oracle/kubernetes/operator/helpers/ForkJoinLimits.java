@@ -0,0 +1,84 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.work.ConcurrencyLimiter;
+import oracle.kubernetes.operator.work.Packet;
+
+/**
+ * Limits on the number of child fibers which per-server fork/joins may run at once. Each such fork/join is limited
+ * both by its own cap, set by the "forkJoinParallelism" tuning parameter, and by a cap shared by all such
+ * fork/joins in the same namespace, set by the "namespaceForkJoinParallelism" tuning parameter. This keeps
+ * a large domain from monopolizing the engine threads and the HTTP client.
+ *
+ * <p>These limits are meant for short-lived reads, such as those of server status. Server lifecycle fork/joins,
+ * whose children may wait for the whole of a server's startup or graceful shutdown, must not use them, lest they
+ * hold the namespace's permits and block those reads.
+ */
+public class ForkJoinLimits {
+
+  /** Tuning parameter which sets the maximum number of children a single fork/join runs at once. */
+  public static final String FORK_JOIN_PARALLELISM = "forkJoinParallelism";
+  /** Tuning parameter which sets the maximum number of children run at once in a namespace. */
+  public static final String NAMESPACE_FORK_JOIN_PARALLELISM = "namespaceForkJoinParallelism";
+
+  static final int DEFAULT_FORK_JOIN_PARALLELISM = 10;
+  static final int DEFAULT_NAMESPACE_FORK_JOIN_PARALLELISM = 50;
+
+  @SuppressWarnings("FieldMayBeFinal") // non-final to allow unit tests to replace it
+  private static Map<String, ConcurrencyLimiter> namespaceLimiters = new ConcurrentHashMap<>();
+
+  private ForkJoinLimits() {
+  }
+
+  /**
+   * Returns the limiters for a fork/join of steps on the servers of the domain in the specified packet.
+   * @param packet a packet containing a domain presence info
+   * @return a new per-call limiter, followed by the limiter for the domain's namespace, if known
+   */
+  public static ConcurrencyLimiter[] forDomain(Packet packet) {
+    List<ConcurrencyLimiter> limiters = new ArrayList<>();
+    limiters.add(new ConcurrencyLimiter(getLimit(FORK_JOIN_PARALLELISM, DEFAULT_FORK_JOIN_PARALLELISM)));
+    DomainPresenceInfo.fromPacket(packet)
+          .map(DomainPresenceInfo::getNamespace)
+          .map(ForkJoinLimits::forNamespace)
+          .ifPresent(limiters::add);
+    return limiters.toArray(new ConcurrencyLimiter[0]);
+  }
+
+  /**
+   * Returns the limiter shared by all per-server fork/joins in the specified namespace.
+   * @param namespace a namespace
+   * @return a limiter
+   */
+  public static ConcurrencyLimiter forNamespace(String namespace) {
+    return namespaceLimiters.computeIfAbsent(namespace,
+          ns -> new ConcurrencyLimiter(
+                getLimit(NAMESPACE_FORK_JOIN_PARALLELISM, DEFAULT_NAMESPACE_FORK_JOIN_PARALLELISM)));
+  }
+
+  /**
+   * Discards the limiter for the specified namespace, which is no longer managed.
+   * @param namespace a namespace
+   */
+  public static void removeNamespace(String namespace) {
+    namespaceLimiters.remove(namespace);
+  }
+
+  private static int getLimit(String name, int defaultValue) {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(t -> t.get(name))
+          .map(String::trim)
+          .filter(s -> s.matches("\\d+"))
+          .map(Integer::parseInt)
+          .orElse(defaultValue);
+  }
+}
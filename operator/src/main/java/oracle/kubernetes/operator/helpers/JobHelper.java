@@ -19,7 +19,9 @@ import io.kubernetes.client.openapi.models.V1ContainerStateWaiting;
 import io.kubernetes.client.openapi.models.V1ContainerStatus;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1JobCondition;
 import io.kubernetes.client.openapi.models.V1JobSpec;
+import io.kubernetes.client.openapi.models.V1JobStatus;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
@@ -35,6 +37,7 @@ import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.steps.WatchDomainIntrospectorJobReadyStep;
 import oracle.kubernetes.operator.work.NextAction;
@@ -423,6 +426,7 @@ public class JobHelper {
         Optional.ofNullable(callResponse.getResult()).ifPresent(result -> processIntrospectionResult(packet, result));
 
         final V1Job domainIntrospectorJob = packet.getValue(DOMAIN_INTROSPECTOR_JOB);
+        recordJobDuration(domainIntrospectorJob);
         if (JobWatcher.isComplete(domainIntrospectorJob)) {
           return doNext(packet);
         } else {
@@ -430,6 +434,32 @@ public class JobHelper {
         }
       }
 
+      // Records the duration of a job which has finished, measured to the time its terminal condition was set.
+      // This step runs again on retries, so the metrics ignore a job whose duration was already recorded.
+      private void recordJobDuration(V1Job job) {
+        Optional.ofNullable(job)
+              .map(V1Job::getStatus)
+              .map(V1JobStatus::getStartTime)
+              .ifPresent(startTime -> getTerminalCondition(job)
+                    .ifPresent(condition -> OperatorMetrics.getInstance().recordIntrospectorJob(getJobUid(job),
+                          SECONDS.between(startTime, condition.getLastTransitionTime()),
+                          "Complete".equals(condition.getType()))));
+      }
+
+      private Optional<V1JobCondition> getTerminalCondition(V1Job job) {
+        return Optional.ofNullable(job.getStatus().getConditions()).orElse(Collections.emptyList()).stream()
+              .filter(c -> "Complete".equals(c.getType()) || "Failed".equals(c.getType()))
+              .filter(c -> "True".equals(c.getStatus()))
+              .filter(c -> c.getLastTransitionTime() != null)
+              .findFirst();
+      }
+
+      private String getJobUid(V1Job job) {
+        return Optional.ofNullable(job.getMetadata())
+              .map(m -> Optional.ofNullable(m.getUid()).orElse(m.getNamespace() + "/" + m.getName()))
+              .orElse("");
+      }
+
       private void processIntrospectionResult(Packet packet, String result) {
         LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + result);
         convertJobLogsToOperatorLogs(result);
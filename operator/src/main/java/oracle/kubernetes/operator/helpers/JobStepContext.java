@@ -81,7 +81,7 @@ public class JobStepContext extends BasePodStepContext {
 
   JobStepContext(Packet packet) {
     super(packet.getSpi(DomainPresenceInfo.class));
-    domainTopology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY);
+    domainTopology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
     init();
   }
 
@@ -0,0 +1,89 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+
+/**
+ * The resource versions of domains written by this operator to their status. A watch event which reports a domain
+ * at one of these versions only echoes a write whose result is already cached, and need not be processed.
+ */
+public class OwnDomainWrites {
+
+  /** The most writes remembered per domain; older ones are forgotten if their events never arrive. */
+  static final int MAX_WRITES_PER_DOMAIN = 8;
+
+  @SuppressWarnings("FieldMayBeFinal") // non-final to allow unit tests to replace it
+  private static OwnDomainWrites instance = new OwnDomainWrites();
+
+  private final Map<String, Deque<String>> writes = new HashMap<>();
+
+  public static OwnDomainWrites getInstance() {
+    return instance;
+  }
+
+  /**
+   * Records the domain returned by a write to its status.
+   * @param written the domain as returned by the API server
+   */
+  public void record(Domain written) {
+    Optional.ofNullable(written).map(Domain::getMetadata).filter(m -> m.getResourceVersion() != null)
+          .ifPresent(this::record);
+  }
+
+  private synchronized void record(V1ObjectMeta metadata) {
+    Deque<String> versions = writes.computeIfAbsent(getKey(metadata), k -> new ArrayDeque<>());
+    versions.addLast(metadata.getResourceVersion());
+    if (versions.size() > MAX_WRITES_PER_DOMAIN) {
+      versions.removeFirst();
+    }
+  }
+
+  /**
+   * Returns true if the specified domain, reported by a watch event, is in the state produced by one of this
+   * operator's writes, and records the event as dropped. Each write is matched only once.
+   * @param observed the domain reported by a watch event
+   */
+  public boolean isEcho(Domain observed) {
+    V1ObjectMeta metadata = Optional.ofNullable(observed).map(Domain::getMetadata).orElse(null);
+    if (metadata == null || metadata.getResourceVersion() == null || !removeVersion(metadata)) {
+      return false;
+    }
+
+    OperatorMetrics.getInstance().recordDroppedEchoEvent("Domain");
+    return true;
+  }
+
+  private synchronized boolean removeVersion(V1ObjectMeta metadata) {
+    Deque<String> versions = writes.get(getKey(metadata));
+    if (versions == null || !versions.remove(metadata.getResourceVersion())) {
+      return false;
+    }
+
+    if (versions.isEmpty()) {
+      writes.remove(getKey(metadata));
+    }
+    return true;
+  }
+
+  /**
+   * Forgets the writes to a domain which has been deleted.
+   * @param domain the deleted domain
+   */
+  public synchronized void remove(Domain domain) {
+    Optional.ofNullable(domain).map(Domain::getMetadata).map(this::getKey).ifPresent(writes::remove);
+  }
+
+  private String getKey(V1ObjectMeta metadata) {
+    return metadata.getNamespace() + '/' + metadata.getName();
+  }
+}
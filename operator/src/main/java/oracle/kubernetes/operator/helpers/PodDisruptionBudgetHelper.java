@@ -1,4 +1,4 @@
-// Copyright (c) 2021, Oracle and/or its affiliates.
+// Copyright (c) 2021, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -77,7 +77,7 @@ public class PodDisruptionBudgetHelper {
     PodDisruptionBudgetContext(Step conflictStep, Packet packet) {
       super(packet.getSpi(DomainPresenceInfo.class));
       this.conflictStep = conflictStep;
-      this.clusterName = (String) packet.get(ProcessingConstants.CLUSTER_NAME);
+      this.clusterName = packet.getValue(ProcessingConstants.CLUSTER_NAME_KEY);
     }
 
     Step getConflictStep() {
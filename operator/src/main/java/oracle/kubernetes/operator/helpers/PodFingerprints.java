@@ -0,0 +1,104 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+
+/**
+ * Fingerprints of the inputs from which the operator computes the desired state of each server pod: the domain spec,
+ * the domain topology, the pod tuning parameters and the per-server values placed in the packet by introspection.
+ * When a pod has been verified as matching its desired state, the fingerprint is recorded along with the pod's resource
+ * version. A later make-right which finds the same pod version and computes the same fingerprint need not rebuild
+ * the pod model to compare it with the pod.
+ */
+public class PodFingerprints {
+
+  @SuppressWarnings("FieldMayBeFinal") // non-final to allow unit tests to replace it
+  private static PodFingerprints instance = new PodFingerprints();
+
+  private static final JSON json = new JSON();
+
+  private final Map<String, String> verified = new ConcurrentHashMap<>();
+
+  public static PodFingerprints getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns a fingerprint of the specified inputs to a pod's desired state.
+   * @param inputs the inputs, which may include nulls
+   */
+  static String createFingerprint(Object... inputs) {
+    return AnnotationHelper.createHash(Arrays.asList(inputs));
+  }
+
+  /**
+   * Returns the JSON form of an object, as it would be sent to the API server. Unlike the YAML used for hashes,
+   * this includes every serialized field of the domain model classes.
+   * @param object the object to serialize
+   */
+  static String toJson(Object object) {
+    return json.serialize(object);
+  }
+
+  /**
+   * Returns true if the specified pod, at its current resource version, was found to match the desired state
+   * computed from inputs with the specified fingerprint.
+   * @param pod a server pod
+   * @param fingerprint the fingerprint of the current inputs to the pod's desired state
+   */
+  boolean isVerified(V1Pod pod, String fingerprint) {
+    return Optional.ofNullable(getKey(pod))
+          .map(verified::get)
+          .map(v -> v.equals(toVersionedFingerprint(pod, fingerprint)))
+          .orElse(false);
+  }
+
+  /**
+   * Records that the specified pod, at its current resource version, matches the desired state computed
+   * from inputs with the specified fingerprint.
+   * @param pod a server pod
+   * @param fingerprint the fingerprint of the inputs to the pod's desired state
+   */
+  void recordVerified(V1Pod pod, String fingerprint) {
+    Optional.ofNullable(getKey(pod))
+          .filter(k -> getResourceVersion(pod) != null)
+          .ifPresent(k -> verified.put(k, toVersionedFingerprint(pod, fingerprint)));
+  }
+
+  /**
+   * Discards the fingerprints of pods in a namespace which is no longer managed.
+   * @param namespace a namespace name
+   */
+  public void removeNamespace(String namespace) {
+    String prefix = namespace + "/";
+    verified.keySet().removeIf(k -> k.startsWith(prefix));
+  }
+
+  private String toVersionedFingerprint(V1Pod pod, String fingerprint) {
+    return fingerprint + "@" + getResourceVersion(pod);
+  }
+
+  private String getResourceVersion(V1Pod pod) {
+    return pod.getMetadata().getResourceVersion();
+  }
+
+  private String getKey(V1Pod pod) {
+    return Optional.ofNullable(pod.getMetadata())
+          .filter(m -> m.getName() != null)
+          .map(this::getKey)
+          .orElse(null);
+  }
+
+  private String getKey(V1ObjectMeta metadata) {
+    return metadata.getNamespace() + "/" + metadata.getName();
+  }
+}
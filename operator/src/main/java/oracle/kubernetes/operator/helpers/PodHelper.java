@@ -317,8 +317,6 @@ public class PodHelper {
     AdminPodStepContext(Step conflictStep, Packet packet) {
       super(conflictStep, packet);
       this.packet = packet;
-
-      init();
     }
 
     @Override
@@ -433,9 +431,7 @@ public class PodHelper {
     ManagedPodStepContext(Step conflictStep, Packet packet) {
       super(conflictStep, packet);
       this.packet = packet;
-      clusterName = (String) packet.get(ProcessingConstants.CLUSTER_NAME);
-
-      init();
+      clusterName = packet.getValue(ProcessingConstants.CLUSTER_NAME_KEY);
     }
 
     @Override
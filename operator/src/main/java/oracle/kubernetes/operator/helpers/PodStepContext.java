@@ -123,11 +123,11 @@ public abstract class PodStepContext extends BasePodStepContext {
   PodStepContext(Step conflictStep, Packet packet) {
     super(packet.getSpi(DomainPresenceInfo.class));
     this.conflictStep = conflictStep;
-    domainTopology = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+    domainTopology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
     miiModelSecretsHash = (String)packet.get(IntrospectorConfigMapConstants.SECRETS_MD_5);
     miiDomainZipHash = (String)packet.get(IntrospectorConfigMapConstants.DOMAINZIP_HASH);
     domainRestartVersion = (String)packet.get(IntrospectorConfigMapConstants.DOMAIN_RESTART_VERSION);
-    scan = (WlsServerConfig) packet.get(ProcessingConstants.SERVER_SCAN);
+    scan = packet.getValue(ProcessingConstants.SERVER_SCAN_KEY);
     this.packet = packet;
     exporterContext = createExporterContext();
   }
@@ -147,11 +147,10 @@ public abstract class PodStepContext extends BasePodStepContext {
     PodStepContext.productVersion = productVersion;
   }
 
-  void init() {
-    podModel = createPodModel();
-  }
-
   V1Pod getPodModel() {
+    if (podModel == null) {
+      podModel = createPodModel();
+    }
     return podModel;
   }
 
@@ -386,11 +385,41 @@ public abstract class PodStepContext extends BasePodStepContext {
    * @return a step to be scheduled.
    */
   Step verifyPod(Step next) {
+    if (isCurrentPodVerified()) {
+      return new VerifiedPodStep(next);
+    }
+
     return Step.chain(
-        DomainValidationSteps.createAdditionalDomainValidationSteps(podModel.getSpec()),
+        DomainValidationSteps.createAdditionalDomainValidationSteps(getPodModel().getSpec()),
         new VerifyPodStep(next));
   }
 
+  // A pod whose version was verified against inputs with the same fingerprint still matches its desired state.
+  private boolean isCurrentPodVerified() {
+    return Optional.ofNullable(info.getServerPod(getServerName()))
+          .map(pod -> PodFingerprints.getInstance().isVerified(pod, getPodInputsFingerprint()))
+          .orElse(false);
+  }
+
+  private void recordVerifiedPod(V1Pod currentPod) {
+    PodFingerprints.getInstance().recordVerified(currentPod, getPodInputsFingerprint());
+  }
+
+  private String getPodInputsFingerprint() {
+    return PodFingerprints.createFingerprint(
+          info.getPodInputsFingerprint(domainTopology, this::createDomainInputsFingerprint),
+          getServerName(), getClusterName(), miiModelSecretsHash, miiDomainZipHash, domainRestartVersion,
+          packet.get(MII_DYNAMIC_UPDATE), packet.get(ProcessingConstants.ENVVARS));
+  }
+
+  private String createDomainInputsFingerprint() {
+    TuningParameters tuningParameters = TuningParameters.getInstance();
+    return PodFingerprints.createFingerprint(
+          getDomain().getMetadata().getUid(), getDomain().getMetadata().getGeneration(),
+          PodFingerprints.toJson(getDomain().getSpec()), domainTopology,
+          tuningParameters.getPodTuning(), tuningParameters.getKubernetesPlatform(), productVersion);
+  }
+
   /**
    * Creates the specified new pod and performs any additional needed processing.
    *
@@ -1196,11 +1225,7 @@ public abstract class PodStepContext extends BasePodStepContext {
     @Override
     public NextAction apply(Packet packet) {
       V1Pod currentPod = info.getServerPod(getServerName());
-      // reset introspect failure job count - if any
-      Optional.ofNullable(packet.getSpi(DomainPresenceInfo.class))
-          .map(DomainPresenceInfo::getDomain)
-          .map(Domain::getStatus)
-          .ifPresent(DomainStatus::resetIntrospectJobFailureCount);
+      resetIntrospectJobFailureCount(packet);
 
       if (currentPod == null) {
         return doNext(createNewPod(getNext()), packet);
@@ -1209,12 +1234,34 @@ public abstract class PodStepContext extends BasePodStepContext {
       } else if (mustPatchPod(currentPod)) {
         return doNext(patchCurrentPod(currentPod, getNext()), packet);
       } else {
+        recordVerifiedPod(currentPod);
         logPodExists();
         return doNext(packet);
       }
     }
   }
 
+  private void resetIntrospectJobFailureCount(Packet packet) {
+    Optional.ofNullable(packet.getSpi(DomainPresenceInfo.class))
+        .map(DomainPresenceInfo::getDomain)
+        .map(Domain::getStatus)
+        .ifPresent(DomainStatus::resetIntrospectJobFailureCount);
+  }
+
+  private class VerifiedPodStep extends BaseStep {
+
+    VerifiedPodStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      resetIntrospectJobFailureCount(packet);
+      LOGGER.fine(getPodExistsMessageKey(), getDomainUid(), getServerName());
+      return doNext(packet);
+    }
+  }
+
   private abstract class BaseResponseStep extends ResponseStep<V1Pod> {
     BaseResponseStep(Step next) {
       super(next);
@@ -0,0 +1,98 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * A bounded cache of the results of Kubernetes reviews, so that repeated REST requests from the same client
+ * need not each ask the API server to authenticate the same token or authorize the same operation.
+ * Each result is kept for a fixed time; when the cache is full, the least recently used result is dropped.
+ *
+ * @param <K> the type of the key which identifies a review
+ * @param <V> the type of the review result
+ */
+public class ReviewCache<K, V> {
+
+  /** The default time, in seconds, for which a review result is kept. */
+  public static final int DEFAULT_TTL_SECONDS = 30;
+
+  /** The default maximum number of review results kept. */
+  public static final int DEFAULT_MAX_SIZE = 1000;
+
+  private final Map<K, CachedResult<V>> results = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, CachedResult<V>> eldest) {
+      return size() > maxSize;
+    }
+  };
+  private final AtomicLong numHits = new AtomicLong();
+  private final AtomicLong numMisses = new AtomicLong();
+  private long ttlSeconds = DEFAULT_TTL_SECONDS;
+  private int maxSize = DEFAULT_MAX_SIZE;
+
+  /**
+   * Sets the lifetime and capacity of the cache, discarding any results already cached.
+   * @param ttlSeconds the time for which a result is kept; zero disables the cache
+   * @param maxSize the maximum number of results kept
+   */
+  public synchronized void configure(long ttlSeconds, int maxSize) {
+    this.ttlSeconds = ttlSeconds;
+    this.maxSize = maxSize;
+    results.clear();
+  }
+
+  /**
+   * Returns the unexpired result cached for the specified key, if any.
+   * @param key a review key
+   * @return the cached result, or null
+   */
+  synchronized V get(K key) {
+    CachedResult<V> cached = results.get(key);
+    if (cached != null && cached.isExpired()) {
+      results.remove(key);
+      cached = null;
+    }
+
+    (cached == null ? numMisses : numHits).incrementAndGet();
+    return cached == null ? null : cached.result;
+  }
+
+  synchronized void put(K key, V result) {
+    if (ttlSeconds > 0) {
+      results.put(key, new CachedResult<>(result, SystemClock.now().plusSeconds(ttlSeconds)));
+    }
+  }
+
+  synchronized int size() {
+    return results.size();
+  }
+
+  public long getNumHits() {
+    return numHits.get();
+  }
+
+  public long getNumMisses() {
+    return numMisses.get();
+  }
+
+  private static class CachedResult<V> {
+    private final V result;
+    private final OffsetDateTime expiration;
+
+    CachedResult(V result, OffsetDateTime expiration) {
+      this.result = result;
+      this.expiration = expiration;
+    }
+
+    boolean isExpired() {
+      return !SystemClock.now().isBefore(expiration);
+    }
+  }
+}
@@ -30,7 +30,7 @@ import oracle.kubernetes.operator.work.Step.StepAndPacket;
 import oracle.kubernetes.utils.OperatorUtils;
 import org.jetbrains.annotations.NotNull;
 
-import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY_KEY;
 
 /**
  * After the {@link PodHelper} identifies servers that are presently running, but that are using an
@@ -133,7 +133,7 @@ public class RollingHelper {
       }
 
       private String getClusterName(Map.Entry<String, StepAndPacket> rollingEntry) {
-        return rollingEntry.getValue().packet.getValue(ProcessingConstants.CLUSTER_NAME);
+        return rollingEntry.getValue().packet.getValue(ProcessingConstants.CLUSTER_NAME_KEY);
       }
 
       private boolean isServerNotReady(Map.Entry<String, StepAndPacket> rollingEntry) {
@@ -220,7 +220,7 @@ public class RollingHelper {
     @Override
     public NextAction apply(Packet packet) {
       StepContext context = new StepContext(packet, clusterName);
-      List<String> readyServers = context.getReadyServers(packet.getValue(DOMAIN_TOPOLOGY));
+      List<String> readyServers = context.getReadyServers(packet.getValue(DOMAIN_TOPOLOGY_KEY));
       LOGGER.info(MessageKeys.ROLLING_SERVERS, context.getDomainUid(), servers, readyServers);
 
       int countToRestartNow = readyServers.size() - context.getMinAvailable(clusterName);
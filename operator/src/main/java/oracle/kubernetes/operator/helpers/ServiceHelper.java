@@ -220,9 +220,9 @@ public class ServiceHelper {
     ServerServiceStepContext(boolean isPreserveServices, Step conflictStep, Packet packet) {
       super(conflictStep, packet, OperatorServiceType.SERVER);
       this.isPreserveServices = isPreserveServices;
-      serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
-      clusterName = (String) packet.get(ProcessingConstants.CLUSTER_NAME);
-      scan = (WlsServerConfig) packet.get(ProcessingConstants.SERVER_SCAN);
+      serverName = packet.getValue(ProcessingConstants.SERVER_NAME_KEY);
+      clusterName = packet.getValue(ProcessingConstants.CLUSTER_NAME_KEY);
+      scan = packet.getValue(ProcessingConstants.SERVER_SCAN_KEY);
       version = packet.getSpi(KubernetesVersion.class);
     }
 
@@ -372,7 +372,7 @@ public class ServiceHelper {
     ServiceStepContext(Step conflictStep, Packet packet, OperatorServiceType serviceType) {
       super(packet.getSpi(DomainPresenceInfo.class));
       this.conflictStep = conflictStep;
-      domainTopology = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      domainTopology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
       this.serviceType = serviceType;
     }
 
@@ -754,8 +754,8 @@ public class ServiceHelper {
 
     ClusterStepContext(Step conflictStep, Packet packet) {
       super(conflictStep, packet, OperatorServiceType.CLUSTER);
-      clusterName = (String) packet.get(ProcessingConstants.CLUSTER_NAME);
-      config = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      clusterName = packet.getValue(ProcessingConstants.CLUSTER_NAME_KEY);
+      config = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
     }
 
     @Override
@@ -876,7 +876,7 @@ public class ServiceHelper {
 
     ExternalServiceStepContext(Step conflictStep, Packet packet) {
       super(conflictStep, packet, EXTERNAL);
-      adminServerName = (String) packet.get(ProcessingConstants.SERVER_NAME);
+      adminServerName = packet.getValue(ProcessingConstants.SERVER_NAME_KEY);
     }
 
     @Override
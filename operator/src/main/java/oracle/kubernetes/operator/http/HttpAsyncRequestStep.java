@@ -4,12 +4,13 @@
 package oracle.kubernetes.operator.http;
 
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -17,12 +18,12 @@ import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
 import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Cancellable;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_OK;
-import static oracle.kubernetes.operator.http.TrustAllX509ExtendedTrustManager.getTrustingSSLContext;
 import static oracle.kubernetes.operator.logging.ThreadLoggingContext.setThreadContext;
 
 /**
@@ -31,7 +32,7 @@ import static oracle.kubernetes.operator.logging.ThreadLoggingContext.setThreadC
 public class HttpAsyncRequestStep extends Step {
 
   interface FutureFactory {
-    CompletableFuture<HttpResponse<String>> createFuture(HttpRequest request);
+    CompletableFuture<HttpResponse<String>> createFuture(HttpRequest request, boolean limitedPerHost);
   }
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
@@ -44,9 +45,7 @@ public class HttpAsyncRequestStep extends Step {
   private static FutureFactory factory = DEFAULT_FACTORY;
   private final HttpRequest request;
   private long timeoutSeconds = DEFAULT_TIMEOUT_SECONDS;
-  private static final HttpClient httpClient = HttpClient.newBuilder()
-      .sslContext(getTrustingSSLContext())
-      .build();
+  private boolean limitedPerHost = true;
 
   private HttpAsyncRequestStep(HttpRequest request, HttpResponseStep responseStep) {
     super(responseStep);
@@ -61,7 +60,8 @@ public class HttpAsyncRequestStep extends Step {
    * @return a new step to run as part of a fiber, linked to the response step
    */
   static HttpAsyncRequestStep createGetRequest(String url, HttpResponseStep responseStep) {
-    HttpRequest request = HttpRequest.newBuilder(URI.create(url)).GET().build();
+    HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+          .timeout(Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS)).GET().build();
     return create(request, responseStep);
   }
 
@@ -86,6 +86,16 @@ public class HttpAsyncRequestStep extends Step {
     return this;
   }
 
+  /**
+   * Sends this request without waiting for the limit on requests in flight to its host, so that it is not held up
+   * behind status reads.
+   * @return this step
+   */
+  public HttpAsyncRequestStep withoutHostLimit() {
+    this.limitedPerHost = false;
+    return this;
+  }
+
   @Override
   public NextAction apply(Packet packet) {
     AsyncProcessing processing = new AsyncProcessing(packet);
@@ -95,6 +105,8 @@ public class HttpAsyncRequestStep extends Step {
   class AsyncProcessing {
     private final Packet packet;
     private CompletableFuture<HttpResponse<String>> future;
+    private volatile Cancellable timeout;
+    private final AtomicBoolean resumed = new AtomicBoolean();
 
     AsyncProcessing(Packet packet) {
       this.packet = packet;
@@ -102,13 +114,25 @@ public class HttpAsyncRequestStep extends Step {
 
     void process(AsyncFiber fiber) {
       HttpResponseStep.removeResponse(packet);
-      future = factory.createFuture(request);
-      future.whenComplete((response, throwable) -> resume(fiber, response, throwable));
-      fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, () -> checkTimeout(fiber));
+      future = factory.createFuture(request, limitedPerHost);
+      future.whenComplete((response, throwable) -> complete(fiber, response, throwable));
+      timeout = fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, () -> checkTimeout(fiber));
+      if (future.isDone()) {
+        timeout.cancel();  // the response arrived before there was a timeout to cancel
+      }
+    }
+
+    private void complete(AsyncFiber fiber, HttpResponse<String> response, Throwable throwable) {
+      Optional.ofNullable(timeout).ifPresent(Cancellable::cancel);
+      if (resumed.compareAndSet(false, true)) {
+        resume(fiber, response, throwable);
+      }
     }
 
+    // The request is cancelled, so that it no longer counts against the limit on requests to its host.
     private void checkTimeout(AsyncFiber fiber) {
-      if (!future.isDone()) {
+      if (!future.isDone() && resumed.compareAndSet(false, true)) {
+        future.cancel(true);
         resume(fiber, null, new HttpTimeoutException(request.method(), request.uri()));
       }
     }
@@ -150,8 +174,10 @@ public class HttpAsyncRequestStep extends Step {
     }
   }
 
-  private static CompletableFuture<HttpResponse<String>> createFuture(HttpRequest request) {
-    return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+  private static CompletableFuture<HttpResponse<String>> createFuture(HttpRequest request, boolean limitedPerHost) {
+    return limitedPerHost
+          ? WebLogicHttpClient.getInstance().sendAsync(request)
+          : WebLogicHttpClient.getInstance().sendWithoutLimit(request);
   }
 
   static class HttpTimeoutException extends RuntimeException {
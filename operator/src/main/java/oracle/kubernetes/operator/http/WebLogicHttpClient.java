@@ -0,0 +1,248 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
+
+import static oracle.kubernetes.operator.http.TrustAllX509ExtendedTrustManager.getTrustingSSLContext;
+
+/**
+ * The client for REST requests to WebLogic Server instances. One {@link HttpClient} keeps idle connections to each
+ * server alive for reuse, negotiates HTTP/2 where the server supports it, and resumes TLS sessions from the session
+ * cache of a single SSL context. The requests in flight to each host are limited, so that a burst of status reads
+ * cannot open many connections to one server; further requests wait for earlier ones to complete.
+ */
+public class WebLogicHttpClient {
+
+  /** The default number of requests which may be in flight to each host. */
+  public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 4;
+
+  /** The number of requests which may wait for each host; any more fail at once. */
+  static final int MAX_WAITING_PER_HOST = 100;
+
+  /** The number of TLS session IDs remembered in order to distinguish new sessions from reused ones. */
+  static final int MAX_REMEMBERED_SESSIONS = 4096;
+
+  @SuppressWarnings("FieldMayBeFinal") // non-final to allow unit tests to replace it
+  private static WebLogicHttpClient instance = new WebLogicHttpClient();
+
+  private final Function<HttpRequest, CompletableFuture<HttpResponse<String>>> sender;
+  private final Map<String, Destination> destinations = new HashMap<>();
+  private final Map<String, Boolean> sessionIds = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+      return size() > MAX_REMEMBERED_SESSIONS;
+    }
+  };
+  private final AtomicLong numNewSessions = new AtomicLong();
+  private final AtomicLong numReusedSessions = new AtomicLong();
+  private int maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+
+  private WebLogicHttpClient() {
+    this(createHttpClient(getTrustingSSLContext()));
+  }
+
+  private WebLogicHttpClient(HttpClient httpClient) {
+    this(request -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+  }
+
+  WebLogicHttpClient(Function<HttpRequest, CompletableFuture<HttpResponse<String>>> sender) {
+    this.sender = sender;
+  }
+
+  private static HttpClient createHttpClient(SSLContext sslContext) {
+    return HttpClient.newBuilder()
+          .version(HttpClient.Version.HTTP_2)
+          .sslContext(sslContext)
+          .build();
+  }
+
+  public static WebLogicHttpClient getInstance() {
+    return instance;
+  }
+
+  /**
+   * Sets the number of requests which may be in flight to each host.
+   * @param maxRequestsPerHost the limit; zero removes it
+   */
+  public synchronized void setMaxRequestsPerHost(int maxRequestsPerHost) {
+    this.maxRequestsPerHost = maxRequestsPerHost;
+  }
+
+  /**
+   * Sends a request, once the limit on requests in flight to its host permits. A caller which gives up on the request
+   * should cancel the returned future, which withdraws the request if it is still waiting, or else cancels it and
+   * frees its place for the next. If too many requests are already waiting for the host, the request fails at once.
+   * @param request the request to send
+   * @return a future which completes with the response
+   */
+  public CompletableFuture<HttpResponse<String>> sendAsync(HttpRequest request) {
+    PendingRequest pending = new PendingRequest(request, true);
+    admit(pending);
+    return pending.result;
+  }
+
+  /**
+   * Sends a request at once, without regard to the limit on requests in flight to its host, so that requests which
+   * change the state of a server, such as shutdowns, are not held up behind status reads.
+   * @param request the request to send
+   * @return a future which completes with the response; cancelling it cancels the request
+   */
+  public CompletableFuture<HttpResponse<String>> sendWithoutLimit(HttpRequest request) {
+    PendingRequest pending = new PendingRequest(request, false);
+    pending.send();
+    return pending.result;
+  }
+
+  private String getDestination(URI uri) {
+    return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+  }
+
+  private void admit(PendingRequest pending) {
+    boolean rejected = false;
+    synchronized (this) {
+      Destination entry = destinations.computeIfAbsent(pending.destination, d -> new Destination());
+      if (maxRequestsPerHost <= 0 || entry.numInFlight < maxRequestsPerHost) {
+        entry.numInFlight++;
+      } else if (entry.waiting.size() < MAX_WAITING_PER_HOST) {
+        entry.waiting.add(pending);
+        return;
+      } else {
+        rejected = true;
+      }
+    }
+
+    if (rejected) {
+      pending.result.completeExceptionally(
+            new RejectedExecutionException("Too many requests waiting for " + pending.destination));
+    } else {
+      pending.send();
+    }
+  }
+
+  // A waiting request inherits the slot of the one which completed.
+  private void release(String destination) {
+    PendingRequest next;
+    synchronized (this) {
+      Destination entry = destinations.get(destination);
+      next = entry.waiting.poll();
+      if (next == null && --entry.numInFlight == 0) {
+        destinations.remove(destination);
+      }
+    }
+    Optional.ofNullable(next).ifPresent(PendingRequest::send);
+  }
+
+  private synchronized boolean removeWaiting(PendingRequest pending) {
+    return Optional.ofNullable(destinations.get(pending.destination))
+          .map(entry -> entry.waiting.remove(pending))
+          .orElse(false);
+  }
+
+  private void recordSession(SSLSession session) {
+    String id = Base64.getEncoder().encodeToString(session.getId());
+    boolean reused;
+    synchronized (sessionIds) {
+      reused = sessionIds.put(id, Boolean.TRUE) != null;
+    }
+    (reused ? numReusedSessions : numNewSessions).incrementAndGet();
+  }
+
+  /** Returns the number of responses received over a TLS session not seen before, each begun with a handshake. */
+  public long getNumNewSessions() {
+    return numNewSessions.get();
+  }
+
+  /** Returns the number of responses received over a TLS session already seen, on a kept-alive connection. */
+  public long getNumReusedSessions() {
+    return numReusedSessions.get();
+  }
+
+  /** Returns the number of requests now in flight to all hosts. */
+  public synchronized int getNumInFlight() {
+    return destinations.values().stream().mapToInt(d -> d.numInFlight).sum();
+  }
+
+  /** Returns the number of requests now waiting for the limit on requests to their hosts. */
+  public synchronized int getNumWaiting() {
+    return destinations.values().stream().mapToInt(d -> d.waiting.size()).sum();
+  }
+
+  private static class Destination {
+    private final Queue<PendingRequest> waiting = new ArrayDeque<>();
+    private int numInFlight;
+  }
+
+  // A request, with the future returned to its caller. Cancelling that future withdraws the request if it is waiting,
+  // or cancels the request sent, whose completion then frees its place.
+  private class PendingRequest {
+    private final HttpRequest request;
+    private final String destination;
+    private final boolean limited;
+    private final CompletableFuture<HttpResponse<String>> result = new CompletableFuture<>();
+    private volatile CompletableFuture<HttpResponse<String>> sent;
+
+    PendingRequest(HttpRequest request, boolean limited) {
+      this.request = request;
+      this.destination = getDestination(request.uri());
+      this.limited = limited;
+      result.whenComplete((response, throwable) -> {
+        if (result.isCancelled()) {
+          withdraw();
+        }
+      });
+    }
+
+    private void withdraw() {
+      if (!limited || !removeWaiting(this)) {
+        Optional.ofNullable(sent).ifPresent(f -> f.cancel(true));
+      }
+    }
+
+    // A request withdrawn while it was being started is cancelled here, rather than by withdraw().
+    private void send() {
+      CompletableFuture<HttpResponse<String>> future;
+      try {
+        future = sender.apply(request);
+      } catch (RuntimeException e) {
+        future = CompletableFuture.failedFuture(e);
+      }
+
+      sent = future;
+      future.whenComplete(this::complete);
+      if (result.isCancelled()) {
+        future.cancel(true);
+      }
+    }
+
+    private void complete(HttpResponse<String> response, Throwable throwable) {
+      if (limited) {
+        release(destination);
+      }
+      Optional.ofNullable(response).map(HttpResponse::sslSession).flatMap(s -> s)
+            .ifPresent(WebLogicHttpClient.this::recordSession);
+      if (throwable != null) {
+        result.completeExceptionally(throwable);
+      } else {
+        result.complete(response);
+      }
+    }
+  }
+}
@@ -0,0 +1,30 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.List;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * A family of monotonically increasing counters.
+ */
+class CounterMetric extends Metric<DoubleAdder> {
+
+  CounterMetric(String name, String help, String... labelNames) {
+    super(name, help, "counter", labelNames);
+  }
+
+  void increment(String... labelValues) {
+    add(1, labelValues);
+  }
+
+  void add(double amount, String... labelValues) {
+    getSeries(labelValues, k -> new DoubleAdder()).add(amount);
+  }
+
+  @Override
+  void writeSeries(PrometheusWriter writer, List<String> labelValues, DoubleAdder state) {
+    writer.writeSample(getName(), getLabelNames(), labelValues, state.sum());
+  }
+}
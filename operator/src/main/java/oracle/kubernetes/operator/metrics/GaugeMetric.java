@@ -0,0 +1,40 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A family of values which are read from their source when the metrics are exported, rather than recorded.
+ */
+class GaugeMetric extends Metric<Void> {
+  private final Consumer<Sampler> source;
+
+  /** Receives the current samples of a gauge. */
+  interface Sampler {
+    void sample(double value, String... labelValues);
+  }
+
+  GaugeMetric(String name, String help, String type, Consumer<Sampler> source, String... labelNames) {
+    super(name, help, type, labelNames);
+    this.source = source;
+  }
+
+  @Override
+  void write(PrometheusWriter writer) {
+    super.write(writer);
+    source.accept((value, labelValues) -> writeSample(writer, Arrays.asList(labelValues), value));
+  }
+
+  private void writeSample(PrometheusWriter writer, List<String> labelValues, double value) {
+    writer.writeSample(getName(), getLabelNames(), labelValues, value);
+  }
+
+  @Override
+  void writeSeries(PrometheusWriter writer, List<String> labelValues, Void state) {
+    // gauges have no recorded series
+  }
+}
@@ -0,0 +1,61 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.work.LatencyHistogram;
+
+/**
+ * A family of duration histograms, exported with fixed bucket bounds in seconds. Durations are recorded in
+ * {@link LatencyHistogram}s, whose own buckets are mapped to the exported bounds; a duration may therefore be
+ * counted in the bucket for a bound which it exceeds by up to the precision of that histogram.
+ */
+class HistogramMetric extends Metric<LatencyHistogram> {
+  static final double[] DEFAULT_BOUNDS_SECONDS = {.005, .01, .025, .05, .1, .25, .5, 1, 2.5, 5, 10, 30, 60};
+  static final double[] LONG_BOUNDS_SECONDS = {1, 5, 10, 30, 60, 120, 300, 600, 1200, 1800, 3600};
+
+  private final double[] boundsSeconds;
+  private final long[] boundsNanos;
+
+  HistogramMetric(String name, String help, double[] boundsSeconds, String... labelNames) {
+    super(name, help, "histogram", labelNames);
+    this.boundsSeconds = boundsSeconds;
+    this.boundsNanos = new long[boundsSeconds.length];
+    for (int i = 0; i < boundsSeconds.length; i++) {
+      boundsNanos[i] = (long) (boundsSeconds[i] * TimeUnit.SECONDS.toNanos(1));
+    }
+  }
+
+  void observeNanos(long nanos, String... labelValues) {
+    getSeries(labelValues, k -> new LatencyHistogram()).record(nanos);
+  }
+
+  @Override
+  void writeSeries(PrometheusWriter writer, List<String> labelValues, LatencyHistogram histogram) {
+    long[] counts = new long[boundsNanos.length];
+    histogram.forEachBucket((lower, upper, count) -> addToBounds(counts, lower, count));
+
+    long cumulative = 0;
+    for (int i = 0; i < counts.length; i++) {
+      cumulative += counts[i];
+      String bound = PrometheusWriter.format(boundsSeconds[i]);
+      writer.writeBucket(getName(), getLabelNames(), labelValues, bound, cumulative);
+    }
+    writer.writeBucket(getName(), getLabelNames(), labelValues, "+Inf", histogram.getCount());
+    writer.writeSample(getName() + "_count", getLabelNames(), labelValues, histogram.getCount());
+    writer.writeSample(getName() + "_sum", getLabelNames(), labelValues,
+          PrometheusWriter.toSeconds(histogram.getTotalNanos()));
+  }
+
+  private void addToBounds(long[] counts, long lowerBound, long count) {
+    for (int i = 0; i < boundsNanos.length; i++) {
+      if (lowerBound < boundsNanos[i]) {
+        counts[i] += count;
+        return;
+      }
+    }
+  }
+}
@@ -0,0 +1,64 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A family of metric samples which share a name and are distinguished by the values of their labels.
+ * @param <S> the type which holds the state of one labeled series
+ */
+abstract class Metric<S> {
+  private final String name;
+  private final String help;
+  private final String type;
+  private final String[] labelNames;
+  private final Map<List<String>, S> series = new ConcurrentHashMap<>();
+
+  Metric(String name, String help, String type, String... labelNames) {
+    this.name = name;
+    this.help = help;
+    this.type = type;
+    this.labelNames = labelNames;
+  }
+
+  String getName() {
+    return name;
+  }
+
+  String[] getLabelNames() {
+    return labelNames;
+  }
+
+  S getSeries(String[] labelValues, Function<List<String>, S> creator) {
+    if (labelValues.length != labelNames.length) {
+      throw new IllegalArgumentException(name + " requires labels " + Arrays.toString(labelNames));
+    }
+    return series.computeIfAbsent(Arrays.asList(labelValues), creator);
+  }
+
+  void removeSeries(String... labelValues) {
+    series.remove(Arrays.asList(labelValues));
+  }
+
+  /**
+   * Removes all series whose first labels have the specified values.
+   * @param labelValues the values of the leading labels
+   */
+  void removeSeriesWithPrefix(String... labelValues) {
+    List<String> prefix = Arrays.asList(labelValues);
+    series.keySet().removeIf(key -> key.subList(0, prefix.size()).equals(prefix));
+  }
+
+  void write(PrometheusWriter writer) {
+    writer.writeHeader(name, help, type);
+    series.forEach((labelValues, state) -> writeSeries(writer, labelValues, state));
+  }
+
+  abstract void writeSeries(PrometheusWriter writer, List<String> labelValues, S state);
+}
@@ -0,0 +1,290 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import oracle.kubernetes.operator.builders.WatchTransport;
+import oracle.kubernetes.operator.calls.AdaptiveConcurrencyLimiter;
+import oracle.kubernetes.operator.calls.AdaptiveConcurrencyLimiter.RequestClass;
+import oracle.kubernetes.operator.calls.RequestCoalescer;
+import oracle.kubernetes.operator.helpers.AuthenticationProxy;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy;
+import oracle.kubernetes.operator.helpers.ReviewCache;
+import oracle.kubernetes.operator.http.WebLogicHttpClient;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.FiberMetrics;
+import oracle.kubernetes.operator.work.FiberPriority;
+import oracle.kubernetes.operator.work.LaneStatistics;
+
+/**
+ * The metrics which the operator records about itself. Recording a sample costs a map lookup and an atomic
+ * update; all formatting is deferred until {@link #toPrometheusText()} is called by the metrics endpoint.
+ */
+public class OperatorMetrics {
+  private static final String PREFIX = "wko_";
+  private static final OperatorMetrics INSTANCE = new OperatorMetrics();
+
+  /** The number of introspector jobs remembered in order to record the duration of each only once. */
+  private static final int MAX_REMEMBERED_INTROSPECTOR_JOBS = 1000;
+
+  private final List<Metric<?>> metrics = new CopyOnWriteArrayList<>();
+  private final AtomicReference<Engine> engine = new AtomicReference<>();
+
+  private final CounterMetric apiCalls = add(new CounterMetric(PREFIX + "kubernetes_api_calls_total",
+        "Kubernetes API calls completed, by verb, resource and HTTP status code, or 'timeout'.",
+        "verb", "resource", "code"));
+  private final HistogramMetric apiCallDuration = add(new HistogramMetric(
+        PREFIX + "kubernetes_api_call_duration_seconds", "Latency of Kubernetes API calls.",
+        HistogramMetric.DEFAULT_BOUNDS_SECONDS, "verb", "resource"));
+  private final CounterMetric apiRetries = add(new CounterMetric(PREFIX + "kubernetes_api_retries_total",
+        "Kubernetes API calls retried, by verb, resource and reason.", "verb", "resource", "reason"));
+  private final CounterMetric apiBackoff = add(new CounterMetric(PREFIX + "kubernetes_api_backoff_seconds_total",
+        "Time spent backing off before retrying Kubernetes API calls.", "verb", "resource"));
+  private final CounterMetric watchEvents = add(new CounterMetric(PREFIX + "watch_events_total",
+        "Watch events received, by watched resource and event type.", "resource", "type"));
+  private final CounterMetric coalescedWatchEvents = add(new CounterMetric(PREFIX + "watch_events_coalesced_total",
+        "Watch events superseded by a later event for the same resource before dispatch, by resource.",
+        "resource"));
+  private final CounterMetric droppedEchoEvents = add(new CounterMetric(PREFIX + "watch_echo_events_dropped_total",
+        "Watch events dropped because they only reported the result of the operator's own write, by resource.",
+        "resource"));
+  private final SummaryMetric makeRightDuration = add(new SummaryMetric(PREFIX + "make_right_duration_seconds",
+        "Duration of completed make-right operations per domain.", "namespace", "domain"));
+  private final CounterMetric makeRightFailures = add(new CounterMetric(PREFIX + "make_right_failures_total",
+        "Make-right operations which ended with a failure, per domain.", "namespace", "domain"));
+  private final HistogramMetric introspectorJobDuration = add(new HistogramMetric(
+        PREFIX + "introspector_job_duration_seconds", "Duration of introspector jobs, from start to completion.",
+        HistogramMetric.LONG_BOUNDS_SECONDS, "result"));
+  private final Map<String, Boolean> recordedIntrospectorJobs = new LinkedHashMap<>() {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+      return size() > MAX_REMEMBERED_INTROSPECTOR_JOBS;
+    }
+  };
+
+  private OperatorMetrics() {
+    add(new GaugeMetric(PREFIX + "kubernetes_api_concurrency_limit",
+          "Current limit on Kubernetes API calls in flight, by request class.", "gauge",
+          s -> forEachRequestClass((c, l) -> s.sample(l.getLimit(c), c.name().toLowerCase())), "class"));
+    add(new GaugeMetric(PREFIX + "kubernetes_api_calls_in_flight", "Kubernetes API calls in flight, by request class.",
+          "gauge", s -> forEachRequestClass((c, l) -> s.sample(l.getNumInFlight(c), c.name().toLowerCase())),
+          "class"));
+    add(new GaugeMetric(PREFIX + "kubernetes_api_calls_waiting",
+          "Kubernetes API calls waiting for the concurrency limit, by request class.", "gauge",
+          s -> forEachRequestClass((c, l) -> s.sample(l.getNumWaiting(c), c.name().toLowerCase())), "class"));
+    add(new GaugeMetric(PREFIX + "kubernetes_api_coalescable_requests_sent_total",
+          "Kubernetes reads and lists sent which could have shared the response to an identical request.", "counter",
+          s -> s.sample(RequestCoalescer.getInstance().getNumSent())));
+    add(new GaugeMetric(PREFIX + "kubernetes_api_requests_coalesced_total",
+          "Kubernetes reads and lists answered with the response to an identical request already in flight.",
+          "counter", s -> s.sample(RequestCoalescer.getInstance().getNumCoalesced())));
+    add(new GaugeMetric(PREFIX + "weblogic_requests_in_flight", "REST requests to WebLogic Servers in flight.",
+          "gauge", s -> s.sample(WebLogicHttpClient.getInstance().getNumInFlight())));
+    add(new GaugeMetric(PREFIX + "weblogic_requests_waiting",
+          "REST requests to WebLogic Servers waiting for the limit on requests to their hosts.", "gauge",
+          s -> s.sample(WebLogicHttpClient.getInstance().getNumWaiting())));
+    add(new GaugeMetric(PREFIX + "weblogic_tls_handshakes_total",
+          "REST responses from WebLogic Servers received over a TLS session not seen before.", "counter",
+          s -> s.sample(WebLogicHttpClient.getInstance().getNumNewSessions())));
+    add(new GaugeMetric(PREFIX + "weblogic_tls_sessions_reused_total",
+          "REST responses from WebLogic Servers received over a TLS session already seen.", "counter",
+          s -> s.sample(WebLogicHttpClient.getInstance().getNumReusedSessions())));
+    add(new GaugeMetric(PREFIX + "rest_review_cache_hits_total",
+          "REST API token and access reviews answered from the review cache, by review type.", "counter",
+          s -> forEachReviewCache((type, cache) -> s.sample(cache.getNumHits(), type)), "review"));
+    add(new GaugeMetric(PREFIX + "rest_review_cache_misses_total",
+          "REST API token and access reviews not found in the review cache, by review type.", "counter",
+          s -> forEachReviewCache((type, cache) -> s.sample(cache.getNumMisses(), type)), "review"));
+    add(new GaugeMetric(PREFIX + "watch_streams_open", "Watch streams open over the shared watch transport.", "gauge",
+          s -> s.sample(WatchTransport.getInstance().getNumOpenStreams())));
+    add(new GaugeMetric(PREFIX + "engine_queued_fibers", "Fibers waiting to run, by priority lane.", "gauge",
+          s -> forEachLane((lane, statistics) -> s.sample(statistics.getNumQueued(), lane)), "lane"));
+    add(new GaugeMetric(PREFIX + "engine_dispatched_fibers_total", "Fiber runs started, by priority lane.", "counter",
+          s -> forEachLane((lane, statistics) -> s.sample(statistics.getNumDispatched(), lane)), "lane"));
+    add(new GaugeMetric(PREFIX + "engine_queue_wait_seconds_total",
+          "Time fibers have waited to run, by priority lane.", "counter",
+          s -> forEachLane((lane, statistics) ->
+                s.sample(PrometheusWriter.toSeconds(statistics.getTotalWaitNanos()), lane)), "lane"));
+    add(new GaugeMetric(PREFIX + "fiber_gate_active_fibers", "Fibers running or waiting in each fiber gate.", "gauge",
+          s -> FiberMetrics.getInstance().getGateStatistics().forEach((g, st) -> s.sample(st.getNumActive(), g)),
+          "gate"));
+    add(new GaugeMetric(PREFIX + "fiber_gate_suspended_fibers", "Suspended fibers in each fiber gate.", "gauge",
+          s -> FiberMetrics.getInstance().getGateStatistics().forEach((g, st) -> s.sample(st.getNumSuspended(), g)),
+          "gate"));
+    add(new GaugeMetric(PREFIX + "fiber_gate_completed_fibers_total", "Fibers completed by each fiber gate.",
+          "counter",
+          s -> FiberMetrics.getInstance().getGateStatistics().forEach((g, st) -> s.sample(st.getNumCompleted(), g)),
+          "gate"));
+    add(new GaugeMetric(PREFIX + "step_executions_total",
+          "Step executions, by step class, recorded while fiber metrics are enabled.", "counter",
+          s -> FiberMetrics.getInstance().getStepStatistics().forEach(
+                (step, st) -> s.sample(st.getExecutionTime().getCount(), step)), "step"));
+    add(new GaugeMetric(PREFIX + "step_execution_seconds_total",
+          "Time spent executing steps, by step class, recorded while fiber metrics are enabled.", "counter",
+          s -> FiberMetrics.getInstance().getStepStatistics().forEach(
+                (step, st) -> s.sample(PrometheusWriter.toSeconds(st.getExecutionTime().getTotalNanos()), step)),
+          "step"));
+    add(new GaugeMetric(PREFIX + "step_suspension_seconds_total",
+          "Time fibers were suspended, by suspending step class, recorded while fiber metrics are enabled.",
+          "counter",
+          s -> FiberMetrics.getInstance().getStepStatistics().forEach(
+                (step, st) -> s.sample(PrometheusWriter.toSeconds(st.getSuspensionTime().getTotalNanos()), step)),
+          "step"));
+  }
+
+  public static OperatorMetrics getInstance() {
+    return INSTANCE;
+  }
+
+  private <M extends Metric<?>> M add(M metric) {
+    metrics.add(metric);
+    return metric;
+  }
+
+  /**
+   * Sets the engine whose queues are reported.
+   * @param engine the fiber engine
+   */
+  public void setEngine(Engine engine) {
+    this.engine.set(engine);
+  }
+
+  private void forEachLane(LaneConsumer consumer) {
+    Optional.ofNullable(engine.get()).ifPresent(e -> {
+      for (FiberPriority priority : FiberPriority.values()) {
+        consumer.accept(priority.name().toLowerCase(), e.getLaneStatistics(priority));
+      }
+    });
+  }
+
+  private void forEachRequestClass(BiConsumer<RequestClass, AdaptiveConcurrencyLimiter> consumer) {
+    for (RequestClass requestClass : RequestClass.values()) {
+      consumer.accept(requestClass, AdaptiveConcurrencyLimiter.getInstance());
+    }
+  }
+
+  private void forEachReviewCache(BiConsumer<String, ReviewCache<?, ?>> consumer) {
+    consumer.accept("token", AuthenticationProxy.getTokenReviewCache());
+    consumer.accept("access", AuthorizationProxy.getAccessReviewCache());
+  }
+
+  private interface LaneConsumer {
+    void accept(String lane, LaneStatistics statistics);
+  }
+
+  /**
+   * Records a completed Kubernetes API call.
+   * @param verb the operation, such as "list" or "replaceStatus"
+   * @param resource the resource type, such as "Pod"
+   * @param statusCode the HTTP status code, or zero if the call timed out
+   * @param nanos the time from the start of the call until its completion
+   */
+  public void recordApiCall(String verb, String resource, int statusCode, long nanos) {
+    apiCalls.increment(verb, resource, statusCode == 0 ? "timeout" : Integer.toString(statusCode));
+    apiCallDuration.observeNanos(nanos, verb, resource);
+  }
+
+  /**
+   * Records the retry of a Kubernetes API call.
+   * @param verb the operation
+   * @param resource the resource type
+   * @param reason why the call is being retried, such as "conflict"
+   * @param backoffMillis the time to wait before retrying
+   */
+  public void recordApiRetry(String verb, String resource, String reason, long backoffMillis) {
+    apiRetries.increment(verb, resource, reason);
+    apiBackoff.add(backoffMillis / 1000.0, verb, resource);
+  }
+
+  /**
+   * Records a watch event.
+   * @param resource the watched resource type
+   * @param type the event type, such as "ADDED"
+   */
+  public void recordWatchEvent(String resource, String type) {
+    watchEvents.increment(resource, type);
+  }
+
+  /**
+   * Records a watch event which was not dispatched, because a later event for the same resource replaced it.
+   * @param resource the watched resource type
+   */
+  public void recordCoalescedWatchEvent(String resource) {
+    coalescedWatchEvents.increment(resource);
+  }
+
+  /**
+   * Records a watch event which was not dispatched, because it reported the result of the operator's own write.
+   * @param resource the watched resource type
+   */
+  public void recordDroppedEchoEvent(String resource) {
+    droppedEchoEvents.increment(resource);
+  }
+
+  /**
+   * Records the completion of a make-right operation.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   * @param nanos the duration of the operation
+   * @param failed true if the operation ended with a failure
+   */
+  public void recordMakeRight(String namespace, String domainUid, long nanos, boolean failed) {
+    makeRightDuration.observeNanos(nanos, namespace, domainUid);
+    if (failed) {
+      makeRightFailures.increment(namespace, domainUid);
+    }
+  }
+
+  /**
+   * Discards the per-domain series of a deleted domain.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   */
+  public void removeDomain(String namespace, String domainUid) {
+    makeRightDuration.removeSeries(namespace, domainUid);
+    makeRightFailures.removeSeries(namespace, domainUid);
+  }
+
+  /**
+   * Discards the per-domain series of all domains in a namespace no longer managed.
+   * @param namespace the domain namespace
+   */
+  public void removeNamespace(String namespace) {
+    makeRightDuration.removeSeriesWithPrefix(namespace);
+    makeRightFailures.removeSeriesWithPrefix(namespace);
+  }
+
+  /**
+   * Records the duration of a finished introspector job, unless that of the same job has already been recorded.
+   * @param jobUid the UID of the job
+   * @param seconds the time from the start of the job until it finished
+   * @param succeeded true if the job completed successfully
+   */
+  public void recordIntrospectorJob(String jobUid, long seconds, boolean succeeded) {
+    synchronized (recordedIntrospectorJobs) {
+      if (recordedIntrospectorJobs.put(jobUid, Boolean.TRUE) != null) {
+        return;
+      }
+    }
+    introspectorJobDuration.observeNanos(TimeUnit.SECONDS.toNanos(seconds), succeeded ? "succeeded" : "failed");
+  }
+
+  /**
+   * Returns all metrics in the Prometheus text exposition format.
+   * @return the metrics text
+   */
+  public String toPrometheusText() {
+    PrometheusWriter writer = new PrometheusWriter();
+    metrics.forEach(m -> m.write(writer));
+    return writer.toString();
+  }
+}
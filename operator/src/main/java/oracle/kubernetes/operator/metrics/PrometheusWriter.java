@@ -0,0 +1,83 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formats metric samples in the Prometheus text exposition format, version 0.0.4.
+ */
+class PrometheusWriter {
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final StringBuilder builder = new StringBuilder();
+
+  static double toSeconds(long nanos) {
+    return nanos / NANOS_PER_SECOND;
+  }
+
+  static String format(double value) {
+    if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+      return Long.toString((long) value);
+    }
+    return Double.toString(value);
+  }
+
+  void writeHeader(String name, String help, String type) {
+    builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+    builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+  }
+
+  void writeSample(String name, String[] labelNames, List<String> labelValues, double value) {
+    builder.append(name);
+    appendLabels(labelNames, labelValues, null);
+    builder.append(' ').append(format(value)).append('\n');
+  }
+
+  void writeBucket(String name, String[] labelNames, List<String> labelValues, String bound, long count) {
+    builder.append(name).append("_bucket");
+    appendLabels(labelNames, labelValues, bound);
+    builder.append(' ').append(count).append('\n');
+  }
+
+  private void appendLabels(String[] labelNames, List<String> labelValues, String bound) {
+    if (labelNames.length == 0 && bound == null) {
+      return;
+    }
+
+    builder.append('{');
+    for (int i = 0; i < labelNames.length; i++) {
+      appendLabel(i > 0, labelNames[i], labelValues.get(i));
+    }
+    if (bound != null) {
+      appendLabel(labelNames.length > 0, "le", bound);
+    }
+    builder.append('}');
+  }
+
+  private void appendLabel(boolean separate, String name, String value) {
+    if (separate) {
+      builder.append(',');
+    }
+    builder.append(name).append("=\"");
+    String text = value == null ? "" : value;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '\\' || c == '"') {
+        builder.append('\\').append(c);
+      } else if (c == '\n') {
+        builder.append("\\n");
+      } else {
+        builder.append(c);
+      }
+    }
+    builder.append('"');
+  }
+
+  @Override
+  public String toString() {
+    return builder.toString();
+  }
+}
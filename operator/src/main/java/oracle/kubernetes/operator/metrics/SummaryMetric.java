@@ -0,0 +1,38 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A family of durations reported only by their count and sum, in seconds. Suited to series with many
+ * label values, such as one per domain, for which a histogram would be too costly to scrape.
+ */
+class SummaryMetric extends Metric<SummaryMetric.Totals> {
+
+  SummaryMetric(String name, String help, String... labelNames) {
+    super(name, help, "summary", labelNames);
+  }
+
+  void observeNanos(long nanos, String... labelValues) {
+    getSeries(labelValues, k -> new Totals()).add(nanos);
+  }
+
+  @Override
+  void writeSeries(PrometheusWriter writer, List<String> labelValues, Totals state) {
+    writer.writeSample(getName() + "_count", getLabelNames(), labelValues, state.count.get());
+    writer.writeSample(getName() + "_sum", getLabelNames(), labelValues, PrometheusWriter.toSeconds(state.nanos.get()));
+  }
+
+  static class Totals {
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong nanos = new AtomicLong();
+
+    void add(long duration) {
+      count.incrementAndGet();
+      nanos.addAndGet(Math.max(0, duration));
+    }
+  }
+}
@@ -0,0 +1,5 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+/** Metrics which the operator records about itself, and their export in Prometheus text format. */
+package oracle.kubernetes.operator.metrics;
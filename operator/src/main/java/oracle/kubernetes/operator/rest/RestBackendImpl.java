@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.rest;
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -25,6 +26,7 @@ import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.ResponseBuilder;
 import jakarta.ws.rs.core.Response.Status;
+import oracle.kubernetes.operator.DomainProcessorImpl;
 import oracle.kubernetes.operator.OperatorMain;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.helpers.AuthenticationProxy;
@@ -58,6 +60,11 @@ public class RestBackendImpl implements RestBackend {
       "{'clusterName':'%s','replicas':%d}".replaceAll("'", "\"");
   private static final String INITIAL_VERSION = "1";
 
+  /** The default time, in seconds, for which a write waits for the domain cache to reflect it. */
+  public static final int DEFAULT_READ_YOUR_WRITES_SECONDS = 5;
+
+  private static long readYourWritesSeconds = DEFAULT_READ_YOUR_WRITES_SECONDS;
+
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // used by unit test
   private static TopologyRetriever instance =
       (String ns, String domainUid) -> {
@@ -175,7 +182,12 @@ public class RestBackendImpl implements RestBackend {
     return getDomainStream().map(Domain::getDomainUid).collect(Collectors.toSet());
   }
 
+  // When the caller was authenticated by a token review, it has also been authorized by an access review, and the
+  // domains may be read from the operator's cache. Otherwise, the caller's own token must be used to read them.
   private Stream<Domain> getDomainStream() {
+    if (authenticateWithTokenReview()) {
+      return domainNamespaces.get().stream().flatMap(DomainProcessorImpl::getCachedDomains);
+    }
     return domainNamespaces.get().stream().map(this::getDomains).flatMap(Collection::stream);
   }
 
@@ -262,7 +274,13 @@ public class RestBackendImpl implements RestBackend {
 
   private Optional<Domain> getDomain(String domainUid) {
     authorize(null, Operation.list);
-    
+
+    if (authenticateWithTokenReview()) {
+      return domainNamespaces.get().stream()
+            .map(ns -> DomainProcessorImpl.getCachedDomain(ns, domainUid))
+            .flatMap(Optional::stream)
+            .findFirst();
+    }
     return getDomainStream().filter(domain -> domainUid.equals(domain.getDomainUid())).findFirst();
   }
 
@@ -299,15 +317,30 @@ public class RestBackendImpl implements RestBackend {
     }
 
     authorize(domainUid, Operation.update);
-    forDomainDo(domainUid, d -> performScaling(d, cluster, managedServerCount));
+    forDomainDo(domainUid, d -> performScaling(getLiveDomain(d), cluster, managedServerCount));
     LOGGER.exiting();
   }
 
+  // A domain from the cache may lag behind the API server, so it is read again before a patch is built from it.
+  private Domain getLiveDomain(Domain domain) {
+    if (!authenticateWithTokenReview()) {
+      return domain;
+    }
+
+    try {
+      return callBuilder.readDomain(domain.getDomainUid(), domain.getMetadata().getNamespace());
+    } catch (ApiException e) {
+      throw handleApiException(e);
+    }
+  }
+
   private void performScaling(Domain domain, String cluster, int managedServerCount) {
     verifyWlsConfiguredClusterCapacity(domain, cluster, managedServerCount);
     patchClusterReplicas(domain, cluster, managedServerCount);
   }
 
+  // The patch refers to the cluster by its index, so it also tests that the index still names the cluster;
+  // if the clusters have since been reordered, the API server rejects the patch rather than scale the wrong one.
   private void patchClusterReplicas(Domain domain, String cluster, int replicas) {
     if (replicas == domain.getReplicaCount(cluster)) {
       return;
@@ -318,6 +351,7 @@ public class RestBackendImpl implements RestBackend {
     if (index < 0) {
       patchBuilder.add("/spec/clusters/0", String.format(NEW_CLUSTER_REPLICAS, cluster, replicas));
     } else {
+      patchBuilder.test("/spec/clusters/" + index + "/clusterName", cluster);
       patchBuilder.replace("/spec/clusters/" + index + "/replicas", replicas);
     }
 
@@ -326,15 +360,41 @@ public class RestBackendImpl implements RestBackend {
 
   private void patchDomain(Domain domain, JsonPatchBuilder patchBuilder) {
     try {
-      callBuilder
+      Domain patched = callBuilder
           .patchDomain(
               domain.getDomainUid(), domain.getMetadata().getNamespace(),
               new V1Patch(patchBuilder.build().toString()));
+      if (authenticateWithTokenReview()) {
+        awaitCachedGeneration(domain, getGeneration(patched));
+      }
     } catch (ApiException e) {
       throw handleApiException(e);
     }
   }
 
+  private Long getGeneration(Domain domain) {
+    return Optional.ofNullable(domain).map(Domain::getMetadata).map(V1ObjectMeta::getGeneration).orElse(null);
+  }
+
+  // Waits, for a limited time, until the domain watch has updated the cache with the patched domain, so that the
+  // next request from the same client sees the result of this one.
+  private void awaitCachedGeneration(Domain domain, Long generation) {
+    if (generation == null) {
+      return;
+    }
+
+    try {
+      DomainProcessorImpl.awaitCachedDomain(domain.getMetadata().getNamespace(), domain.getDomainUid(),
+            cached -> isGenerationAtLeast(cached, generation), TimeUnit.SECONDS.toMillis(readYourWritesSeconds));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private boolean isGenerationAtLeast(Domain domain, long generation) {
+    return Optional.ofNullable(getGeneration(domain)).filter(g -> g >= generation).isPresent();
+  }
+
   private int getClusterIndex(Domain domain, String cluster) {
     for (int i = 0; i < domain.getSpec().getClusters().size(); i++) {
       if (cluster.equals(domain.getSpec().getClusters().get(i).getClusterName())) {
@@ -417,6 +477,14 @@ public class RestBackendImpl implements RestBackend {
         .orElse("false"));
   }
 
+  /**
+   * Sets the time for which a domain patch waits until the domain cache reflects it.
+   * @param seconds the maximum wait; zero does not wait
+   */
+  public static void setReadYourWritesSeconds(long seconds) {
+    readYourWritesSeconds = seconds;
+  }
+
   V1UserInfo getUserInfo() {
     return userInfo;
   }
@@ -0,0 +1,43 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.resource;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+
+/**
+ * MetricsResource is a jaxrs resource that implements the REST api for the /metrics path. It exports the
+ * operator's own metrics in the Prometheus text format.
+ */
+@Path("metrics")
+public class MetricsResource extends BaseResource {
+
+  /** The media type of the Prometheus text exposition format. */
+  public static final String PROMETHEUS_TEXT = "text/plain; version=0.0.4; charset=utf-8";
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /** Construct a MetricsResource. */
+  public MetricsResource() {
+    super(null, "metrics");
+  }
+
+  /**
+   * Get the operator's metrics.
+   *
+   * @return the metrics in Prometheus text format.
+   */
+  @GET
+  @Produces(PROMETHEUS_TEXT)
+  public String get() {
+    LOGGER.entering(href());
+    String result = OperatorMetrics.getInstance().toPrometheusText();
+    LOGGER.exiting();
+    return result;
+  }
+}
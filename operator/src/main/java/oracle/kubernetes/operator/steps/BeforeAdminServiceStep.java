@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
@@ -18,7 +18,7 @@ public class BeforeAdminServiceStep extends Step {
   @Override
   public NextAction apply(Packet packet) {
     WlsDomainConfig domainTopology =
-        (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+        packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
     String adminServerName = domainTopology.getAdminServerName();
     packet.put(ProcessingConstants.SERVER_NAME, adminServerName);
     packet.put(ProcessingConstants.SERVER_SCAN, domainTopology.getServerConfig(adminServerName));
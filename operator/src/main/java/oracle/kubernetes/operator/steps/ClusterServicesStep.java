@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
@@ -27,7 +27,7 @@ public class ClusterServicesStep extends Step {
     Collection<StepAndPacket> startDetails = new ArrayList<>();
 
     // Add cluster services
-    WlsDomainConfig config = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+    WlsDomainConfig config = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
     if (config != null) {
       for (Map.Entry<String, WlsClusterConfig> entry : config.getClusterConfigs().entrySet()) {
         Packet p = packet.copy();
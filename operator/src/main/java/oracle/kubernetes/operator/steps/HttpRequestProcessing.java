@@ -5,6 +5,7 @@ package oracle.kubernetes.operator.steps;
 
 import java.net.URI;
 import java.net.http.HttpRequest;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 import javax.annotation.Nonnull;
@@ -60,6 +61,7 @@ abstract class HttpRequestProcessing {
   final HttpRequest.Builder createRequestBuilder(String url) {
     HttpRequest.Builder builder = HttpRequest.newBuilder()
           .uri(URI.create(url))
+          .timeout(Duration.ofSeconds(HTTP_TIMEOUT_SECONDS))
           .header("Accept", "application/json")
           .header("Content-Type", "application/json")
           .header("X-Requested-By", "WebLogic Operator");
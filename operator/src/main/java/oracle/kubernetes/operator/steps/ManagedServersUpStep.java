@@ -99,7 +99,7 @@ public class ManagedServersUpStep extends Step {
     LOGGER.entering();
     DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
     boolean isExplicitRecheck = MakeRightDomainOperation.isExplicitRecheck(packet);
-    WlsDomainConfig config = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+    WlsDomainConfig config = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
 
     ServersUpStepFactory factory = new ServersUpStepFactory(config, info, isExplicitRecheck);
 
@@ -34,6 +34,7 @@ import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.MonitoringExporterConfiguration;
 
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_NAME;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_NAME_KEY;
 import static oracle.kubernetes.operator.steps.HttpRequestProcessing.createRequestStep;
 
 public class MonitoringExporterSteps {
@@ -242,12 +243,12 @@ public class MonitoringExporterSteps {
     }
 
     private static V1Service getServerService(Packet packet) {
-      final String serverName = packet.getValue(SERVER_NAME);
+      final String serverName = packet.getValue(SERVER_NAME_KEY);
       return DomainPresenceInfo.fromPacket(packet).map(dpi -> dpi.getServerService(serverName)).orElseThrow();
     }
 
     private static V1Pod getServerPod(Packet packet) {
-      final String serverName = packet.getValue(SERVER_NAME);
+      final String serverName = packet.getValue(SERVER_NAME_KEY);
       return DomainPresenceInfo.fromPacket(packet).map(dpi -> dpi.getServerPod(serverName)).orElseThrow();
     }
 
@@ -47,7 +47,7 @@ import oracle.kubernetes.weblogic.domain.model.SubsystemHealth;
 
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ;
-import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP_KEY;
 import static oracle.kubernetes.operator.steps.HttpRequestProcessing.createRequestStep;
 import static oracle.kubernetes.utils.OperatorUtils.emptyToNull;
 
@@ -72,11 +72,22 @@ public class ReadHealthStep extends Step {
     return new ReadHealthStep(next);
   }
 
+  /**
+   * Creates asynchronous {@link Step} to read the state and health of all running server instances
+   * with a single request to the admin server. Servers missing from its response are left unrecorded.
+   *
+   * @param next Next processing step
+   * @return asynchronous step
+   */
+  public static Step createReadDomainHealthStep(Step next) {
+    return new ReadDomainHealthStep(next);
+  }
+
   // overallHealthState, healthState
 
   @Override
   public NextAction apply(Packet packet) {
-    String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
+    String serverName = packet.getValue(ProcessingConstants.SERVER_NAME_KEY);
     DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
     V1Service service = info.getServerService(serverName);
     if (service == null) {
@@ -90,10 +101,47 @@ public class ReadHealthStep extends Step {
     }
   }
 
+  /**
+   * Step to read the health of all running servers from the admin server. Packet values used:
+   *  DOMAIN_TOPOLOGY                   the topology of the domain
+   */
+  static final class ReadDomainHealthStep extends Step {
+
+    ReadDomainHealthStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      String adminServerName = Optional.ofNullable(ReadHealthProcessing.getWlsDomainConfig(packet))
+            .map(WlsDomainConfig::getAdminServerName)
+            .orElse(null);
+      V1Service service = Optional.ofNullable(adminServerName).map(info::getServerService).orElse(null);
+      if (service == null) {
+        return doNext(packet);
+      } else {
+        return doNext(
+              Step.chain(
+                  SecretHelper.createAuthorizationSourceStep(),
+                  new ReadDomainHealthWithHttpStep(
+                        service, info.getServerPod(adminServerName), adminServerName, getNext())),
+              packet);
+      }
+    }
+  }
+
   static final class ReadHealthProcessing extends HttpRequestProcessing {
 
+    private final String serverName;
+
     ReadHealthProcessing(Packet packet, @Nonnull V1Service service, V1Pod pod) {
+      this(packet, service, pod, packet.getValue(ProcessingConstants.SERVER_NAME_KEY));
+    }
+
+    ReadHealthProcessing(Packet packet, @Nonnull V1Service service, V1Pod pod, String serverName) {
       super(packet, service, pod);
+      this.serverName = serverName;
     }
 
     private static String getRetrieveHealthSearchPath() {
@@ -104,6 +152,15 @@ public class ReadHealthStep extends Step {
       return "{ fields: [ 'state', 'overallHealthState', 'activationTime' ], links: [] }";
     }
 
+    private static String getRetrieveDomainHealthSearchPath() {
+      return "/management/weblogic/latest/domainRuntime/search";
+    }
+
+    private static String getRetrieveDomainHealthSearchPayload() {
+      return "{ fields: [], links: [], children: { serverRuntimes: "
+            + "{ fields: [ 'name', 'state', 'overallHealthState', 'activationTime' ], links: [] } } }";
+    }
+
     private HttpRequest createRequest() {
       LOGGER.finer("Create REST request to service URL: " + getRequestUrl());
       return createRequestBuilder(getRequestUrl())
@@ -115,6 +172,14 @@ public class ReadHealthStep extends Step {
       return getServiceUrl() + getRetrieveHealthSearchPath();
     }
 
+    private HttpRequest createDomainHealthRequest() {
+      String url = getServiceUrl() + getRetrieveDomainHealthSearchPath();
+      LOGGER.finer("Create REST request to service URL: " + url);
+      return createRequestBuilder(url)
+            .POST(HttpRequest.BodyPublishers.ofString(getRetrieveDomainHealthSearchPayload()))
+            .build();
+    }
+
     protected PortDetails getPortDetails() {
       Integer port = getWlsServerAdminProtocolPort();
       return new PortDetails(port, !port.equals(getWlsServerConfig().getListenPort()));
@@ -155,16 +220,21 @@ public class ReadHealthStep extends Step {
     }
 
     private String getServerName() {
-      return (String) getPacket().get(ProcessingConstants.SERVER_NAME);
+      return serverName;
     }
 
     private WlsDomainConfig getWlsDomainConfig() {
-      DomainPresenceInfo info = getPacket().getSpi(DomainPresenceInfo.class);
+      return getWlsDomainConfig(getPacket());
+    }
+
+    private static WlsDomainConfig getWlsDomainConfig(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
       WlsDomainConfig domainConfig =
-          (WlsDomainConfig) getPacket().get(ProcessingConstants.DOMAIN_TOPOLOGY);
+          packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
       if (domainConfig == null) {
-        Scan scan = ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid());
-        domainConfig = scan.getWlsDomainConfig();
+        domainConfig = Optional.ofNullable(ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid()))
+              .map(Scan::getWlsDomainConfig)
+              .orElse(null);
       }
       return domainConfig;
     }
@@ -198,6 +268,81 @@ public class ReadHealthStep extends Step {
 
   }
 
+  /**
+   * Step to send a query to the admin server to obtain the health of all running servers.
+   * Packet values used:
+   *  DOMAIN_TOPOLOGY                   the topology of the domain
+   */
+  static final class ReadDomainHealthWithHttpStep extends Step {
+    @Nonnull
+    private final V1Service service;
+    private final V1Pod pod;
+    private final String adminServerName;
+
+    ReadDomainHealthWithHttpStep(@Nonnull V1Service service, V1Pod pod, String adminServerName, Step next) {
+      super(next);
+      this.service = service;
+      this.pod = pod;
+      this.adminServerName = adminServerName;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      ReadHealthProcessing processing = new ReadHealthProcessing(packet, service, pod, adminServerName);
+      if (processing.getWlsServerConfig() == null) {
+        return doNext(packet);
+      }
+      return doNext(createRequestStep(processing.createDomainHealthRequest(), new RecordDomainHealthStep(getNext())),
+            packet);
+    }
+  }
+
+  /**
+   * {@link Step} for processing json result object containing the response from the admin server's REST call.
+   * Only servers whose pods are known to the operator are recorded; a failed request records nothing, so that
+   * each server's health will be read individually.
+   * Packet values used:
+   *  SERVER_STATE_MAP                  a map of server names to state
+   *  SERVER_HEALTH_MAP                 a map of server names to health
+   *  (spi) HttpResponse.class          the response from the admin server
+   */
+  static final class RecordDomainHealthStep extends HttpResponseStep {
+
+    RecordDomainHealthStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, HttpResponse<String> response) {
+      try {
+        recordStatesAndHealth(packet, response);
+      } catch (Throwable t) {
+        LOGGER.fine("Unable to read server health from the admin server: " + t);
+      }
+      return doNext(packet);
+    }
+
+    private void recordStatesAndHealth(Packet packet, HttpResponse<String> response) throws IOException {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      JsonNode root = new ObjectMapper().readTree(response.body());
+      Iterator<JsonNode> items = root.path("serverRuntimes").path("items").elements();
+      while (items.hasNext()) {
+        JsonNode item = items.next();
+        String serverName = emptyToNull(item.path("name").asText());
+        if (serverName != null && info.getServerPod(serverName) != null) {
+          Pair<String, ServerHealth> pair = RecordHealthStep.HealthResponseProcessing.parseServerHealth(item);
+          new RecordHealthStep.HealthResponseProcessing(packet, response, serverName)
+                .recordStateAndHealth(emptyToNull(pair.getLeft()), pair.getRight());
+        }
+      }
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, HttpResponse<String> response) {
+      return doNext(packet);
+    }
+  }
+
   /**
    * {@link Step} for processing json result object containing the response from the REST call.
    * Packet values used:
@@ -252,14 +397,13 @@ public class ReadHealthStep extends Step {
       private final HttpResponse<String> response;
 
       public HealthResponseProcessing(Packet packet, HttpResponse<String> response) {
-        this.packet = packet;
-        this.response = response;
-
-        serverName = getServerName();
+        this(packet, response, packet.getValue(ProcessingConstants.SERVER_NAME_KEY));
       }
 
-      private String getServerName() {
-        return (String) getPacket().get(ProcessingConstants.SERVER_NAME);
+      HealthResponseProcessing(Packet packet, HttpResponse<String> response, String serverName) {
+        this.packet = packet;
+        this.response = response;
+        this.serverName = serverName;
       }
 
       void recordFailedStateAndHealth() {
@@ -278,8 +422,10 @@ public class ReadHealthStep extends Step {
         }
 
         ObjectMapper mapper = new ObjectMapper();
-        JsonNode root = mapper.readTree(jsonResult);
+        return parseServerHealth(mapper.readTree(jsonResult));
+      }
 
+      private static Pair<String, ServerHealth> parseServerHealth(JsonNode root) {
         JsonNode healthState = null;
         JsonNode subsystemName = null;
         JsonNode symptoms = null;
@@ -339,7 +485,7 @@ public class ReadHealthStep extends Step {
         recordStateAndHealth(state, health);
       }
 
-      private void recordStateAndHealth(String state, ServerHealth health) {
+      void recordStateAndHealth(String state, ServerHealth health) {
         Optional.ofNullable(state).ifPresent(this::recordServerState);
         getServerHealthMap().put(serverName, health);
       }
@@ -349,14 +495,12 @@ public class ReadHealthStep extends Step {
         getServerStateMap().put(serverName, state);
       }
 
-      @SuppressWarnings("unchecked")
       private Map<String, ServerHealth> getServerHealthMap() {
-        return (Map<String, ServerHealth>) getPacket().get(ProcessingConstants.SERVER_HEALTH_MAP);
+        return getPacket().getValue(ProcessingConstants.SERVER_HEALTH_MAP_KEY);
       }
 
-      @SuppressWarnings("unchecked")
       private Map<String, String> getServerStateMap() {
-        return (Map<String, String>) getPacket().get(SERVER_STATE_MAP);
+        return getPacket().getValue(SERVER_STATE_MAP_KEY);
       }
 
       private boolean isServerOverloaded() {
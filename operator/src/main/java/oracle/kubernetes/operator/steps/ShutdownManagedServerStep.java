@@ -5,6 +5,7 @@ package oracle.kubernetes.operator.steps;
 
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -119,6 +120,7 @@ public class ShutdownManagedServerStep extends Step {
 
     private HttpRequest createRequest() {
       return createRequestBuilder(getRequestUrl(isGracefulShutdown))
+            .timeout(Duration.ofSeconds(getRequestTimeoutSeconds()))
             .POST(HttpRequest.BodyPublishers.ofString(getManagedServerShutdownPayload(
                 isGracefulShutdown, ignoreSessions, timeout, waitForAllSessions))).build();
     }
@@ -271,7 +273,7 @@ public class ShutdownManagedServerStep extends Step {
     private WlsDomainConfig getWlsDomainConfig() {
       DomainPresenceInfo info = getPacket().getSpi(DomainPresenceInfo.class);
       WlsDomainConfig domainConfig =
-          (WlsDomainConfig) getPacket().get(ProcessingConstants.DOMAIN_TOPOLOGY);
+          getPacket().getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
       if (domainConfig == null) {
         Scan scan = ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid());
         domainConfig = scan.getWlsDomainConfig();
@@ -282,7 +284,7 @@ public class ShutdownManagedServerStep extends Step {
     HttpAsyncRequestStep createRequestStep(
         ShutdownManagedServerResponseStep shutdownManagedServerResponseStep) {
       HttpAsyncRequestStep requestStep = HttpAsyncRequestStep.create(createRequest(),
-          shutdownManagedServerResponseStep).withTimeoutSeconds(getRequestTimeoutSeconds());
+          shutdownManagedServerResponseStep).withTimeoutSeconds(getRequestTimeoutSeconds()).withoutHostLimit();
       shutdownManagedServerResponseStep.requestStep = requestStep;
       return requestStep;
     }
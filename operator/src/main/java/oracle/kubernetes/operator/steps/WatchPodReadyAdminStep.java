@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
@@ -26,7 +26,7 @@ public class WatchPodReadyAdminStep extends Step {
   public NextAction apply(Packet packet) {
     DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
     WlsDomainConfig domainTopology =
-        (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+        packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
     V1Pod adminPod = info.getServerPod(domainTopology.getAdminServerName());
 
     PodAwaiterStepFactory pw = podAwaiterStepFactory;
@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
@@ -31,8 +31,9 @@ public interface AsyncFiber {
    * @param timeout the interval before the check should run, in units
    * @param unit the unit of time that defines the interval
    * @param runnable the operation to run
+   * @return a handle which may be used to cancel the operation
    */
-  void scheduleOnce(long timeout, TimeUnit unit, Runnable runnable);
+  Cancellable scheduleOnce(long timeout, TimeUnit unit, Runnable runnable);
 
   /**
    * Creates a child Fiber. If this Fiber is cancelled, so will all of the children.
@@ -40,4 +41,9 @@ public interface AsyncFiber {
    * @return a new child fiber
    */
   Fiber createChildFiber();
+
+  /**
+   * Returns true if this fiber has been cancelled.
+   */
+  boolean isCancelled();
 }
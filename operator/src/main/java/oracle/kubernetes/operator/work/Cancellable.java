@@ -0,0 +1,16 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+/**
+ * A handle to a scheduled operation, which may be cancelled before it runs.
+ */
+public interface Cancellable {
+
+  /**
+   * Cancels the operation, if it has not yet run.
+   * @return true if the operation was cancelled by this call
+   */
+  boolean cancel();
+}
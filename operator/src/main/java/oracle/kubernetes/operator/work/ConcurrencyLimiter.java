@@ -0,0 +1,71 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * Limits the number of operations which may run at once, without blocking any thread. An operation is admitted
+ * by running it as soon as a permit is available; otherwise it waits in a queue and is admitted, in order,
+ * when a running operation releases its permit.
+ */
+public class ConcurrencyLimiter {
+  private final int limit;
+  private final Queue<Runnable> waiting = new ArrayDeque<>();
+  private int numRunning;
+
+  /**
+   * Creates a limiter.
+   * @param limit the maximum number of operations which may run at once; if not positive, there is no limit
+   */
+  public ConcurrencyLimiter(int limit) {
+    this.limit = limit > 0 ? limit : Integer.MAX_VALUE;
+  }
+
+  /**
+   * Runs the specified operation now if a permit is available, or queues it until one is.
+   * The operation must eventually call {@link #release()}.
+   * @param operation the operation to admit
+   */
+  public void acquire(Runnable operation) {
+    synchronized (this) {
+      if (numRunning >= limit) {
+        waiting.add(operation);
+        return;
+      }
+      numRunning++;
+    }
+    operation.run();
+  }
+
+  /**
+   * Releases the permit held by a completed operation, passing it to the next waiting operation, if any.
+   */
+  public void release() {
+    Runnable next;
+    synchronized (this) {
+      next = waiting.poll();
+      if (next == null) {
+        numRunning--;
+      }
+    }
+
+    if (next != null) {
+      next.run();
+    }
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public synchronized int getNumRunning() {
+    return numRunning;
+  }
+
+  public synchronized int getNumWaiting() {
+    return waiting.size();
+  }
+}
@@ -1,22 +1,27 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nonnull;
 
 /**
- * Collection of {@link Fiber}s. Owns an {@link Executor} to run them.
+ * Collection of {@link Fiber}s. Owns an {@link Executor} to run them. Runnable fibers are queued in lanes by
+ * {@link FiberPriority}, so that high-priority fibers do not wait behind periodic work.
  */
 public class Engine {
   private static final int DEFAULT_THREAD_COUNT = 10;
   private final AtomicReference<ScheduledExecutorService> threadPool = new AtomicReference<>();
+  private final TimingWheel timingWheel;
+  private final FiberDispatcher dispatcher = new FiberDispatcher();
 
   /**
    * Creates engine with the specified executor.
@@ -24,7 +29,18 @@ public class Engine {
    * @param threadPool Executor
    */
   public Engine(ScheduledExecutorService threadPool) {
+    this(threadPool, null);
+  }
+
+  /**
+   * Creates engine with the specified executor, which uses a timing wheel for fiber timeouts and delays.
+   *
+   * @param threadPool Executor
+   * @param timingWheel the timing wheel; if null, timeouts and delays are scheduled on the executor
+   */
+  public Engine(ScheduledExecutorService threadPool, TimingWheel timingWheel) {
     this.threadPool.set(threadPool);
+    this.timingWheel = timingWheel;
   }
 
   /**
@@ -49,6 +65,18 @@ public class Engine {
     return wrap(container, threadPool);
   }
 
+  /**
+   * wrapped executor service which runs fibers on a work-stealing pool.
+   * @param id id
+   * @param container container
+   * @param parallelism the number of threads on which to run fibers
+   * @return executor service
+   */
+  public static ScheduledExecutorService wrappedWorkStealingExecutorService(
+        String id, Container container, int parallelism) {
+    return wrap(container, new WorkStealingExecutorService(id, parallelism));
+  }
+
   private static ScheduledExecutorService wrap(Container container, ScheduledExecutorService ex) {
     return container != null ? ContainerResolver.getDefault().wrapExecutor(container, ex) : ex;
   }
@@ -62,8 +90,46 @@ public class Engine {
     return threadPool.get();
   }
 
+  /**
+   * Returns the timing wheel used for fiber timeouts and delays, if any. Once it has been stopped,
+   * they are scheduled on the executor instead.
+   *
+   * @return timing wheel, or null
+   */
+  public TimingWheel getTimingWheel() {
+    return timingWheel;
+  }
+
+  Cancellable scheduleOnce(Runnable runnable, long delay, TimeUnit unit) {
+    if (timingWheel != null && !timingWheel.isStopped()) {
+      return timingWheel.schedule(runnable, delay, unit);
+    } else {
+      ScheduledFuture<?> future = getExecutor().schedule(runnable, delay, unit);
+      return () -> future.cancel(false);
+    }
+  }
+
+  /**
+   * Sets the number of high-priority fibers which may run in succession while a low-priority fiber is waiting.
+   *
+   * @param starvationLimit the maximum number of high-priority fibers to run before the next low-priority one
+   */
+  public void setStarvationLimit(int starvationLimit) {
+    dispatcher.setStarvationLimit(starvationLimit);
+  }
+
+  /**
+   * Returns a snapshot of the activity of the specified priority lane.
+   *
+   * @param priority a fiber priority
+   * @return lane statistics
+   */
+  public LaneStatistics getLaneStatistics(FiberPriority priority) {
+    return dispatcher.getStatistics(priority);
+  }
+
   void addRunnable(Fiber fiber) {
-    getExecutor().execute(fiber);
+    dispatcher.dispatch(fiber, getExecutor());
   }
 
   /**
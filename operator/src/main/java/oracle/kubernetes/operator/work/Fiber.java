@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
@@ -68,6 +68,11 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
   public final Engine owner;
   private final Fiber parent;
   private final int id;
+  private volatile FiberPriority priority;
+  private long startNanos;
+  private volatile boolean suspended;
+  private long suspendedNanos;
+  private Step suspendingStep;
   /**
    * Replace uses of synchronized(this) with this lock so that we can control unlocking for resume
    * use cases.
@@ -95,6 +100,7 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
   Fiber(Engine engine, Fiber parent) {
     this.owner = engine;
     this.parent = parent;
+    this.priority = parent == null ? FiberPriority.HIGH : parent.priority;
     id = (parent == null) ? iotaGen.incrementAndGet() : (parent.children.size() + 1);
 
     // if this is run from another fiber, then we naturally inherit its context
@@ -113,14 +119,23 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
   }
 
   /**
-   * Use this fiber's executor to schedule an operation for some time in the future.
+   * Returns the priority with which this fiber is queued to run.
+   * @return a fiber priority
+   */
+  public FiberPriority getPriority() {
+    return priority;
+  }
+
+  /**
+   * Use this fiber's engine to schedule an operation for some time in the future.
    * @param timeout the interval before the check should run, in units
    * @param unit the unit of time that defines the interval
    * @param runnable the operation to run
+   * @return a handle which may be used to cancel the operation
    */
   @Override
-  public void scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
-    this.owner.getExecutor().schedule(runnable, timeout, unit);
+  public Cancellable scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
+    return this.owner.scheduleOnce(runnable, timeout, unit);
   }
 
   /**
@@ -133,15 +148,21 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
    *     final packet is available.
    */
   public void start(Step stepline, Packet packet, CompletionCallback completionCallback) {
+    Optional.ofNullable(packet).map(p -> p.getValue(FiberPriority.PACKET_KEY)).ifPresent(p -> priority = p);
     this.na = new NextAction();
     this.na.invoke(stepline, packet);
     this.completionCallback = completionCallback;
+    if (parent == null && FiberMetrics.getInstance().isEnabled()) {
+      startNanos = System.nanoTime();
+    }
 
     if (status.get() == NOT_COMPLETE) {
       LOGGER.finer("{0} started", getName());
       breadCrumbs = new ArrayList<>();
 
       owner.addRunnable(this);
+    } else if (status.get() == CANCELLED) {
+      reportCancellation();
     }
   }
 
@@ -175,6 +196,7 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
         na.packet = resumePacket;
         if (na.kind == Kind.SUSPEND) {
           doAddRunnable = true;
+          recordResumption();
           NextAction resume = new NextAction();
           resume.invoke(na.next, na.packet);
           na = resume;
@@ -194,6 +216,31 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
     }
   }
 
+  private void recordSuspension(Step step) {
+    if (FiberMetrics.getInstance().isEnabled()) {
+      suspendedNanos = System.nanoTime();
+      suspendingStep = step;
+    }
+    suspended = true;
+  }
+
+  private void recordResumption() {
+    suspended = false;
+    if (suspendingStep != null) {
+      FiberMetrics.getInstance().recordSuspension(suspendingStep, System.nanoTime() - suspendedNanos);
+      suspendingStep = null;
+    }
+  }
+
+  boolean isSuspended() {
+    return suspended;
+  }
+
+  @Override
+  public boolean isCancelled() {
+    return status.get() == CANCELLED;
+  }
+
   private String getStatus() {
     switch (status.get()) {
       case NOT_COMPLETE: return "NOT_COMPLETE";
@@ -370,7 +417,9 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
         } catch (Throwable t) {
           LOGGER.fine(MessageKeys.EXCEPTION, t);
         } finally {
-          status.compareAndSet(NOT_COMPLETE, DONE);
+          if (status.compareAndSet(NOT_COMPLETE, DONE) && startNanos != 0) {
+            FiberMetrics.getInstance().getFiberLatency().record(System.nanoTime() - startNanos);
+          }
           condition.signalAll();
         }
       }
@@ -477,7 +526,7 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
 
       NextAction result;
       try {
-        result = na.next.apply(na.packet);
+        result = applyStep(na.next, na.packet);
       } catch (Throwable t) {
         Packet p = na.packet;
         na = new NextAction();
@@ -504,6 +553,7 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
           break;
         case SUSPEND:
           addBreadCrumb(result);
+          recordSuspension(last.next);
           if (suspend(isRequireUnlock, result.onExit)) {
             return true; // explicitly exiting control loop
           }
@@ -522,6 +572,19 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
     return false;
   }
 
+  private NextAction applyStep(Step step, Packet packet) {
+    if (!FiberMetrics.getInstance().isEnabled()) {
+      return step.apply(packet);
+    }
+
+    long stepStart = System.nanoTime();
+    try {
+      return step.apply(packet);
+    } finally {
+      FiberMetrics.getInstance().recordExecution(step, System.nanoTime() - stepStart);
+    }
+  }
+
   private boolean isReady() {
     return na.kind != Kind.SUSPEND;
   }
@@ -572,7 +635,9 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
    */
   boolean cancelAndExitCallback(boolean mayInterrupt, ExitCallback exitCallback) {
     // Mark fiber as cancelled, if not already done
-    status.compareAndSet(NOT_COMPLETE, CANCELLED);
+    if (status.compareAndSet(NOT_COMPLETE, CANCELLED)) {
+      reportCancellation();
+    }
 
     if (LOGGER.isFinerEnabled()) {
       LOGGER.finer("{0} cancelled", getName());
@@ -617,6 +682,15 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
     }
   }
 
+  // A cancelled fiber never reaches its completion check, so its callback is told here instead.
+  private void reportCancellation() {
+    try {
+      Optional.ofNullable(completionCallback).ifPresent(CompletionCallback::onCancellation);
+    } catch (Throwable t) {
+      LOGGER.fine(MessageKeys.EXCEPTION, t);
+    }
+  }
+
   private synchronized void addBreadCrumb(NextAction na) {
     breadCrumbs.add(na);
   }
@@ -702,6 +776,14 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
      * @param throwable The throwable
      */
     void onThrowable(Packet packet, Throwable throwable);
+
+    /**
+     * Indicates that the fiber was cancelled before it finished, so that neither of the other methods will be
+     * invoked. This method may be invoked more than once, and by the thread which cancelled the fiber.
+     */
+    default void onCancellation() {
+      // no-op by default
+    }
   }
 
   /** Callback invoked when a Thread exits processing this fiber. */
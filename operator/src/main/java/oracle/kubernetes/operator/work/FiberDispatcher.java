@@ -0,0 +1,113 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+/**
+ * Queues runnable fibers by priority and hands them to an executor. Each queued fiber submits one dispatch task
+ * to the executor; when that task runs, it runs the highest-priority fiber then waiting, which is not necessarily
+ * the one which submitted it. To keep low-priority fibers from starving, after a set number of consecutive
+ * high-priority fibers have run while a low-priority fiber was waiting, the oldest low-priority fiber runs next.
+ */
+class FiberDispatcher {
+  static final int DEFAULT_STARVATION_LIMIT = 8;
+
+  private final Map<FiberPriority, Lane> lanes = new EnumMap<>(FiberPriority.class);
+  private volatile int starvationLimit = DEFAULT_STARVATION_LIMIT;
+  private int numHighWhileLowWaiting;
+
+  FiberDispatcher() {
+    for (FiberPriority priority : FiberPriority.values()) {
+      lanes.put(priority, new Lane());
+    }
+  }
+
+  void setStarvationLimit(int starvationLimit) {
+    this.starvationLimit = Math.max(1, starvationLimit);
+  }
+
+  void dispatch(Fiber fiber, Executor executor) {
+    synchronized (this) {
+      lanes.get(fiber.getPriority()).add(fiber);
+    }
+    executor.execute(this::runNext);
+  }
+
+  private void runNext() {
+    Fiber fiber = pollNext();
+    if (fiber != null) {
+      fiber.run();
+    }
+  }
+
+  private synchronized Fiber pollNext() {
+    Lane high = lanes.get(FiberPriority.HIGH);
+    Lane low = lanes.get(FiberPriority.LOW);
+    if (low.isEmpty()) {
+      return high.poll();
+    } else if (high.isEmpty()) {
+      numHighWhileLowWaiting = 0;
+      return low.poll();
+    } else if (numHighWhileLowWaiting >= starvationLimit) {
+      numHighWhileLowWaiting = 0;
+      low.numStarvationDispatches++;
+      return low.poll();
+    } else {
+      numHighWhileLowWaiting++;
+      return high.poll();
+    }
+  }
+
+  synchronized LaneStatistics getStatistics(FiberPriority priority) {
+    return lanes.get(priority).getStatistics();
+  }
+
+  private static class Lane {
+    private final Queue<QueuedFiber> queue = new ArrayDeque<>();
+    private long numDispatched;
+    private long numStarvationDispatches;
+    private long totalWaitNanos;
+    private long maxWaitNanos;
+
+    void add(Fiber fiber) {
+      queue.add(new QueuedFiber(fiber, System.nanoTime()));
+    }
+
+    boolean isEmpty() {
+      return queue.isEmpty();
+    }
+
+    Fiber poll() {
+      QueuedFiber queued = queue.poll();
+      if (queued == null) {
+        return null;
+      }
+
+      long waitNanos = System.nanoTime() - queued.queuedNanos;
+      numDispatched++;
+      totalWaitNanos += waitNanos;
+      maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+      return queued.fiber;
+    }
+
+    LaneStatistics getStatistics() {
+      return new LaneStatistics(queue.size(), numDispatched, numStarvationDispatches, totalWaitNanos, maxWaitNanos);
+    }
+  }
+
+  private static class QueuedFiber {
+    private final Fiber fiber;
+    private final long queuedNanos;
+
+    QueuedFiber(Fiber fiber, long queuedNanos) {
+      this.fiber = fiber;
+      this.queuedNanos = queuedNanos;
+    }
+  }
+}
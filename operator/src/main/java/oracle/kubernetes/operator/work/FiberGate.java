@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
@@ -9,6 +9,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import oracle.kubernetes.operator.ProcessingConstants;
@@ -24,6 +25,7 @@ import oracle.kubernetes.utils.SystemClock;
 public class FiberGate {
   private final Engine engine;
   private final ConcurrentMap<String, Fiber> gateMap = new ConcurrentHashMap<>();
+  private final AtomicLong numCompleted = new AtomicLong();
 
   private final Fiber placeholder;
 
@@ -45,6 +47,22 @@ public class FiberGate {
     return new HashMap<>(gateMap);
   }
 
+  /**
+   * Returns a snapshot of the fibers in this gate.
+   * @return gate statistics
+   */
+  public GateStatistics getStatistics() {
+    int numActive = 0;
+    int numSuspended = 0;
+    for (Fiber fiber : gateMap.values()) {
+      numActive++;
+      if (fiber.isSuspended()) {
+        numSuspended++;
+      }
+    }
+    return new GateStatistics(numActive, numSuspended, numCompleted.get());
+  }
+
   public ScheduledExecutorService getExecutor() {
     return engine.getExecutor();
   }
@@ -117,6 +135,7 @@ public class FiberGate {
               callback.onCompletion(packet);
             } finally {
               gateMap.remove(key, f);
+              numCompleted.incrementAndGet();
             }
           }
 
@@ -126,6 +145,7 @@ public class FiberGate {
               callback.onThrowable(packet, throwable);
             } finally {
               gateMap.remove(key, f);
+              numCompleted.incrementAndGet();
             }
           }
         });
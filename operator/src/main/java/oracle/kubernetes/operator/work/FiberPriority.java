@@ -0,0 +1,25 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+/**
+ * The lane in which the {@link Engine} queues a fiber which is ready to run. Fibers in the high-priority lane
+ * run before those in the low-priority lane, except that a low-priority fiber is not kept waiting indefinitely.
+ *
+ * <p>A fiber is started with high priority, unless its packet has been marked with a priority, e.g. by
+ * {@code new Packet().with(FiberPriority.LOW)}. Child fibers have the priority of their parent.
+ */
+public enum FiberPriority implements PacketComponent {
+  /** Work which responds to a change, such as a make-right, watch event or REST request. */
+  HIGH,
+  /** Periodic work, such as status polling and rechecks. */
+  LOW;
+
+  static final PacketKey<FiberPriority> PACKET_KEY = PacketKey.of("fiberPriority");
+
+  @Override
+  public void addToPacket(Packet packet) {
+    packet.putValue(PACKET_KEY, this);
+  }
+}
@@ -0,0 +1,34 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+/**
+ * A snapshot of the fibers started by a {@link FiberGate}.
+ */
+public class GateStatistics {
+  private final int numActive;
+  private final int numSuspended;
+  private final long numCompleted;
+
+  GateStatistics(int numActive, int numSuspended, long numCompleted) {
+    this.numActive = numActive;
+    this.numSuspended = numSuspended;
+    this.numCompleted = numCompleted;
+  }
+
+  /** Returns the number of fibers currently running or waiting to run in the gate. */
+  public int getNumActive() {
+    return numActive;
+  }
+
+  /** Returns the number of active fibers which are suspended. */
+  public int getNumSuspended() {
+    return numSuspended;
+  }
+
+  /** Returns the number of fibers started by the gate which have completed. */
+  public long getNumCompleted() {
+    return numCompleted;
+  }
+}
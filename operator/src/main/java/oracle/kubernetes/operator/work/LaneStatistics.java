@@ -0,0 +1,56 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+/**
+ * A snapshot of the activity of one {@link FiberPriority} lane of an {@link Engine}.
+ */
+public class LaneStatistics {
+  private final int numQueued;
+  private final long numDispatched;
+  private final long numStarvationDispatches;
+  private final long totalWaitNanos;
+  private final long maxWaitNanos;
+
+  LaneStatistics(int numQueued, long numDispatched, long numStarvationDispatches,
+                 long totalWaitNanos, long maxWaitNanos) {
+    this.numQueued = numQueued;
+    this.numDispatched = numDispatched;
+    this.numStarvationDispatches = numStarvationDispatches;
+    this.totalWaitNanos = totalWaitNanos;
+    this.maxWaitNanos = maxWaitNanos;
+  }
+
+  /** Returns the number of fibers waiting in the lane to run. */
+  public int getNumQueued() {
+    return numQueued;
+  }
+
+  /** Returns the number of times a fiber in the lane has been run. */
+  public long getNumDispatched() {
+    return numDispatched;
+  }
+
+  /** Returns the number of times a fiber in the lane was run ahead of higher-priority fibers to avoid starvation. */
+  public long getNumStarvationDispatches() {
+    return numStarvationDispatches;
+  }
+
+  /** Returns the total time, in nanoseconds, which fibers have waited in the lane before running. */
+  public long getTotalWaitNanos() {
+    return totalWaitNanos;
+  }
+
+  /** Returns the longest time, in nanoseconds, which a fiber has waited in the lane before running. */
+  public long getMaxWaitNanos() {
+    return maxWaitNanos;
+  }
+
+  @Override
+  public String toString() {
+    return "LaneStatistics{queued=" + numQueued + ", dispatched=" + numDispatched
+          + ", starvationDispatches=" + numStarvationDispatches
+          + ", totalWaitNanos=" + totalWaitNanos + ", maxWaitNanos=" + maxWaitNanos + '}';
+  }
+}
@@ -0,0 +1,119 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations in nanoseconds, with log-linear buckets in the manner of an HDR histogram:
+ * each power of two is divided into eight equal buckets, so that any recorded value is known to within 12.5%,
+ * while the full range of a long is covered by fewer than 500 buckets.
+ */
+public class LatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int NUM_BUCKETS = bucketIndex(Long.MAX_VALUE) + 1;
+
+  private final AtomicLongArray counts = new AtomicLongArray(NUM_BUCKETS);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong total = new AtomicLong();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * A consumer of the non-empty buckets of a histogram.
+   */
+  public interface BucketConsumer {
+    /**
+     * Accepts one bucket.
+     * @param lowerBound the smallest value, in nanoseconds, counted in the bucket
+     * @param upperBound the value, in nanoseconds, above all those counted in the bucket
+     * @param count the number of values recorded in the bucket
+     */
+    void accept(long lowerBound, long upperBound, long count);
+  }
+
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKET_COUNT;
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  static long lowerBound(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    return (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+  }
+
+  static long upperBound(int index) {
+    return index + 1 < NUM_BUCKETS ? lowerBound(index + 1) : Long.MAX_VALUE;
+  }
+
+  /**
+   * Records a duration.
+   * @param nanos the duration in nanoseconds; negative values are recorded as zero
+   */
+  public void record(long nanos) {
+    long value = Math.max(0, nanos);
+    counts.incrementAndGet(bucketIndex(value));
+    count.incrementAndGet();
+    total.addAndGet(value);
+    max.accumulateAndGet(value, Math::max);
+  }
+
+  public long getCount() {
+    return count.get();
+  }
+
+  /** Returns the sum of all recorded durations, in nanoseconds. */
+  public long getTotalNanos() {
+    return total.get();
+  }
+
+  /** Returns the longest recorded duration, in nanoseconds. */
+  public long getMaxNanos() {
+    return max.get();
+  }
+
+  /**
+   * Returns an estimate of the specified percentile of the recorded durations: the upper bound of the bucket
+   * which contains it, but no more than the largest recorded value.
+   * @param percentile a percentile, from 0 to 100
+   * @return a duration in nanoseconds, or zero if nothing has been recorded
+   */
+  public long getPercentileNanos(double percentile) {
+    long numRecorded = count.get();
+    if (numRecorded == 0) {
+      return 0;
+    }
+
+    long threshold = Math.max(1, (long) Math.ceil(numRecorded * Math.min(100.0, percentile) / 100.0));
+    long cumulative = 0;
+    for (int i = 0; i < NUM_BUCKETS; i++) {
+      cumulative += counts.get(i);
+      if (cumulative >= threshold) {
+        return Math.min(upperBound(i) - 1, max.get());
+      }
+    }
+    return max.get();
+  }
+
+  /**
+   * Passes each non-empty bucket, in increasing order, to the specified consumer.
+   * @param consumer the bucket consumer
+   */
+  public void forEachBucket(BucketConsumer consumer) {
+    for (int i = 0; i < NUM_BUCKETS; i++) {
+      long bucketCount = counts.get(i);
+      if (bucketCount > 0) {
+        consumer.accept(lowerBound(i), upperBound(i), bucketCount);
+      }
+    }
+  }
+}
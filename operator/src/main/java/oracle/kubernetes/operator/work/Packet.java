@@ -1,22 +1,45 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
 
 import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import javax.annotation.Nonnull;
 
-/** Context of a single processing flow. Acts as a map and as a registry of components. */
+/**
+ * Context of a single processing flow. Acts as a map and as a registry of components.
+ *
+ * <p>Values and components are held in persistent maps, so that a copy shares the state of the original packet
+ * until one of them is modified, and changes to either are never visible in the other.
+ *
+ * <p>Values with a {@link PacketKey} are instead held in an array indexed by the key's slot, which is likewise
+ * shared until modified. Such a value may be accessed either with its key or with the key's name. Components
+ * which provide an SPI with a component key are also recorded in that key's slot.
+ */
 public class Packet extends AbstractMap<String, Object> implements ComponentRegistry, ComponentEx {
-  private final ConcurrentMap<String, Component> components =
-      new ConcurrentHashMap<>();
-  private final ConcurrentMap<String, Object> delegate = new ConcurrentHashMap<>();
+  private static final Object[] NO_SLOTS = new Object[0];
 
+  private final ComponentMap components;
+  private final SharedMap<Object> delegate;
+  private final AtomicReference<Object[]> slots;
+
+  /**
+   * Creates an empty packet.
+   */
   public Packet() {
+    components = new ComponentMap(PersistentMap.empty());
+    delegate = new SharedMap<>(PersistentMap.empty());
+    slots = new AtomicReference<>(NO_SLOTS);
   }
 
   /**
@@ -29,8 +52,9 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
   }
 
   private Packet(Packet that) {
-    components.putAll(that.components);
-    delegate.putAll(that.delegate);
+    components = new ComponentMap(that.components.snapshot());
+    delegate = new SharedMap<>(that.delegate.snapshot());
+    slots = new AtomicReference<>(that.slots.get());
   }
 
   /**
@@ -49,8 +73,19 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
    * @return implementation object
    */
   public <S> S getSpi(Class<S> spiType) {
-    for (Component c : components.values()) {
-      S s = c.getSpi(spiType);
+    PacketKey<?> key = PacketKey.findComponentKey(spiType);
+    if (key != null) {
+      Object spi = readSlot(key.getSlot());
+      if (spi != null) {
+        return spiType.cast(spi);
+      }
+    }
+    return findSpi(spiType);
+  }
+
+  private <S> S findSpi(Class<S> spiType) {
+    for (Entry<String, Component> entry : components.snapshot().entries()) {
+      S s = entry.getValue().getSpi(spiType);
       if (s != null) {
         return s;
       }
@@ -73,17 +108,295 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
   }
 
   @Override
+  @Nonnull
   public Set<Entry<String, Object>> entrySet() {
-    return delegate.entrySet();
+    return new AbstractSet<>() {
+      @Override
+      @Nonnull
+      public Iterator<Entry<String, Object>> iterator() {
+        return new SnapshotIterator<>(Packet.this, getEntries());
+      }
+
+      @Override
+      public int size() {
+        return Packet.this.size();
+      }
+    };
+  }
+
+  private List<Entry<String, Object>> getEntries() {
+    List<Entry<String, Object>> entries = new ArrayList<>(delegate.snapshot().entries());
+    Object[] values = slots.get();
+    for (int i = 0; i < values.length; i++) {
+      PacketKey<?> key = PacketKey.getKey(i);
+      if (values[i] != null && !key.isComponentKey()) {
+        entries.add(new SimpleImmutableEntry<>(key.getName(), values[i]));
+      }
+    }
+    return entries;
+  }
+
+  @Override
+  public Object get(Object key) {
+    PacketKey<?> packetKey = PacketKey.findValueKey(key);
+    return packetKey != null ? getValue(packetKey) : delegate.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public Object put(String key, Object value) {
+    PacketKey<Object> packetKey = (PacketKey<Object>) PacketKey.findValueKey(key);
+    if (packetKey != null) {
+      return putValue(packetKey, value);
+    }
     return value != null ? delegate.put(key, value) : delegate.remove(key);
   }
 
+  @Override
+  public Object remove(Object key) {
+    PacketKey<?> packetKey = PacketKey.findValueKey(key);
+    return packetKey != null ? removeValue(packetKey) : delegate.remove(key);
+  }
+
+  @Override
+  public int size() {
+    int size = delegate.size();
+    Object[] values = slots.get();
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != null && !PacketKey.getKey(i).isComponentKey()) {
+        size++;
+      }
+    }
+    return size;
+  }
+
   @SuppressWarnings("unchecked")
   public <T> T getValue(String key) {
     return (T) get(key);
   }
+
+  /**
+   * Returns the value or component SPI with the specified key.
+   * @param key a packet key
+   * @param <T> the type of the value
+   * @return the value, or null if there is none
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T getValue(PacketKey<T> key) {
+    Object value = readSlot(key.getSlot());
+    if (value != null) {
+      return (T) value;
+    } else if (key.isComponentKey()) {
+      return findSpi(key.getSpiType());
+    } else {
+      // a value set by name before its key was created
+      return (T) delegate.get(key.getName());
+    }
+  }
+
+  /**
+   * Sets the value with the specified key. A null value removes it.
+   * @param key a packet value key
+   * @param value the new value
+   * @param <T> the type of the value
+   * @return the previous value, or null if there was none
+   */
+  public <T> T putValue(PacketKey<T> key, T value) {
+    if (key.isComponentKey()) {
+      throw new IllegalArgumentException(key + " is a component key");
+    }
+    T previous = getValue(key);
+    writeSlot(key.getSlot(), value);
+    if (!delegate.isEmpty()) {
+      delegate.remove(key.getName());
+    }
+    return previous;
+  }
+
+  /**
+   * Removes the value with the specified key.
+   * @param key a packet value key
+   * @param <T> the type of the value
+   * @return the previous value, or null if there was none
+   */
+  public <T> T removeValue(PacketKey<T> key) {
+    return putValue(key, null);
+  }
+
+  private Object readSlot(int slot) {
+    Object[] values = slots.get();
+    return slot < values.length ? values[slot] : null;
+  }
+
+  private void writeSlot(int slot, Object value) {
+    while (true) {
+      Object[] original = slots.get();
+      if (value == null && slot >= original.length) {
+        return;
+      }
+      Object[] updated = Arrays.copyOf(original, Math.max(original.length, PacketKey.getNumSlots()));
+      updated[slot] = value;
+      if (slots.compareAndSet(original, updated)) {
+        return;
+      }
+    }
+  }
+
+  // Records the SPIs of a new or replaced component in the slots of their component keys.
+  private void indexComponent(Component removed, Component added) {
+    for (PacketKey<?> key : PacketKey.getComponentKeys()) {
+      Object spi = added == null ? null : added.getSpi(key.getSpiType());
+      if (spi != null) {
+        writeSlot(key.getSlot(), spi);
+      } else if (removed != null && removed.getSpi(key.getSpiType()) == readSlot(key.getSlot())) {
+        writeSlot(key.getSlot(), findSpi(key.getSpiType()));
+      }
+    }
+  }
+
+  // The components of the packet, whose updates also maintain the component slots.
+  private class ComponentMap extends SharedMap<Component> {
+
+    ComponentMap(PersistentMap<String, Component> contents) {
+      super(contents);
+    }
+
+    @Override
+    public Component put(String key, Component value) {
+      Component removed = super.put(key, value);
+      indexComponent(removed, value);
+      return removed;
+    }
+
+    @Override
+    public Component remove(Object key) {
+      Component removed = super.remove(key);
+      if (removed != null) {
+        indexComponent(removed, null);
+      }
+      return removed;
+    }
+
+    @Override
+    public void clear() {
+      super.clear();
+      for (PacketKey<?> key : PacketKey.getComponentKeys()) {
+        writeSlot(key.getSlot(), null);
+      }
+    }
+  }
+
+  // A mutable, thread-safe view of a persistent map. Updates replace the map atomically.
+  private static class SharedMap<V> extends AbstractMap<String, V> {
+    private final AtomicReference<PersistentMap<String, V>> contents;
+
+    SharedMap(PersistentMap<String, V> contents) {
+      this.contents = new AtomicReference<>(contents);
+    }
+
+    PersistentMap<String, V> snapshot() {
+      return contents.get();
+    }
+
+    @Override
+    public V get(Object key) {
+      return key == null ? null : contents.get().get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+      return contents.get().size();
+    }
+
+    @Override
+    public V put(String key, V value) {
+      return update(map -> map.put(key, value), key);
+    }
+
+    @Override
+    public V remove(Object key) {
+      return update(map -> map.remove(key), key);
+    }
+
+    @Override
+    public void clear() {
+      contents.set(PersistentMap.empty());
+    }
+
+    // Applies the specified update and returns the value previously associated with the key.
+    private V update(UnaryOperator<PersistentMap<String, V>> operation, Object key) {
+      while (true) {
+        PersistentMap<String, V> original = contents.get();
+        if (contents.compareAndSet(original, operation.apply(original))) {
+          return original.get(key);
+        }
+      }
+    }
+
+    @Override
+    @Nonnull
+    public Set<Entry<String, V>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        @Nonnull
+        public Iterator<Entry<String, V>> iterator() {
+          return new SnapshotIterator<>(SharedMap.this, contents.get().entries());
+        }
+
+        @Override
+        public int size() {
+          return SharedMap.this.size();
+        }
+      };
+    }
+  }
+
+  // Iterates over the entries present when it was created. Removal and value updates write through to the map.
+  private static class SnapshotIterator<V> implements Iterator<Entry<String, V>> {
+    private final Map<String, V> map;
+    private final Iterator<Entry<String, V>> entries;
+    private String lastKey;
+
+    SnapshotIterator(Map<String, V> map, List<Entry<String, V>> entries) {
+      this.map = map;
+      this.entries = entries.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return entries.hasNext();
+    }
+
+    @Override
+    public Entry<String, V> next() {
+      Entry<String, V> entry = entries.next();
+      lastKey = entry.getKey();
+      return new SimpleEntry<>(entry) {
+        @Override
+        public V setValue(V value) {
+          map.put(getKey(), value);
+          return super.setValue(value);
+        }
+      };
+    }
+
+    @Override
+    public void remove() {
+      if (lastKey == null) {
+        throw new IllegalStateException();
+      }
+      map.remove(lastKey);
+      lastKey = null;
+    }
+  }
 }
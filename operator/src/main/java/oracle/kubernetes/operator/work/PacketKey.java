@@ -0,0 +1,109 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A typed key to a value or component of a {@link Packet}. Each key is assigned a slot, so that a packet
+ * can find its value with an array read rather than a hash lookup, and its type is checked at compile time.
+ *
+ * <p>A value key has a name, and the packet treats {@code packet.get(name)} and {@code packet.getValue(key)}
+ * as the same entry. A component key is identified by the SPI type which it caches; whenever a component
+ * providing that type is added to a packet, its SPI is recorded in the key's slot.
+ *
+ * @param <T> the type of the value
+ */
+public final class PacketKey<T> {
+  private static final AtomicInteger nextSlot = new AtomicInteger();
+  private static final Map<String, PacketKey<?>> valueKeys = new ConcurrentHashMap<>();
+  private static final Map<Class<?>, PacketKey<?>> componentKeys = new ConcurrentHashMap<>();
+  private static volatile PacketKey<?>[] keysBySlot = new PacketKey<?>[0];
+
+  private final String name;
+  private final Class<T> spiType;
+  private final int slot;
+
+  private PacketKey(String name, Class<T> spiType) {
+    this.name = name;
+    this.spiType = spiType;
+    this.slot = register(this);
+  }
+
+  private static synchronized int register(PacketKey<?> key) {
+    int slot = nextSlot.getAndIncrement();
+    PacketKey<?>[] keys = Arrays.copyOf(keysBySlot, slot + 1);
+    keys[slot] = key;
+    keysBySlot = keys;
+    return slot;
+  }
+
+  /**
+   * Returns the value key with the specified name, creating it if needed.
+   * @param name the name under which the value may also be accessed as a map entry
+   * @param <T> the type of the value
+   * @return a packet key
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> PacketKey<T> of(String name) {
+    return (PacketKey<T>) valueKeys.computeIfAbsent(name, n -> new PacketKey<>(n, null));
+  }
+
+  /**
+   * Returns the component key for the specified SPI type, creating it if needed.
+   * @param spiType the class of the component SPI
+   * @param <T> the type of the SPI
+   * @return a packet key
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> PacketKey<T> forComponent(Class<T> spiType) {
+    return (PacketKey<T>) componentKeys.computeIfAbsent(spiType, t -> new PacketKey<>(t.getName(), t));
+  }
+
+  static PacketKey<?> findValueKey(Object name) {
+    return name instanceof String ? valueKeys.get(name) : null;
+  }
+
+  static PacketKey<?> findComponentKey(Class<?> spiType) {
+    return componentKeys.get(spiType);
+  }
+
+  static Collection<PacketKey<?>> getComponentKeys() {
+    return Collections.unmodifiableCollection(componentKeys.values());
+  }
+
+  static int getNumSlots() {
+    return nextSlot.get();
+  }
+
+  static PacketKey<?> getKey(int slot) {
+    return keysBySlot[slot];
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  int getSlot() {
+    return slot;
+  }
+
+  Class<T> getSpiType() {
+    return spiType;
+  }
+
+  boolean isComponentKey() {
+    return spiType != null;
+  }
+
+  @Override
+  public String toString() {
+    return "PacketKey[" + name + "]";
+  }
+}
@@ -0,0 +1,347 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An immutable hash map, implemented as a hash array mapped trie. Updates return a new map which shares all
+ * unchanged nodes with the original, so that taking a snapshot is free and an update copies only the nodes
+ * on the path to the changed entry.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class PersistentMap<K, V> {
+  private static final int BITS_PER_LEVEL = 5;
+  private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+  @SuppressWarnings("rawtypes")
+  private static final PersistentMap EMPTY = new PersistentMap<>(null, 0);
+
+  private final Node<K, V> root;
+  private final int size;
+
+  private PersistentMap(Node<K, V> root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <K, V> PersistentMap<K, V> empty() {
+    return EMPTY;
+  }
+
+  int size() {
+    return size;
+  }
+
+  V get(Object key) {
+    return root == null ? null : root.get(key, hash(key), 0);
+  }
+
+  boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  /**
+   * Returns a map with the specified key set to the specified value.
+   * @param key the key to set; may not be null
+   * @param value the new value; may not be null
+   * @return the updated map, or this map if the key already had the specified value
+   */
+  PersistentMap<K, V> put(K key, V value) {
+    Objects.requireNonNull(key);
+    Objects.requireNonNull(value);
+    Leaf<K, V> leaf = new Leaf<>(hash(key), key, value);
+    if (root == null) {
+      return new PersistentMap<>(new BitmapNode<K, V>(0, new Object[0]).put(leaf, 0), 1);
+    }
+
+    Node<K, V> newRoot = root.put(leaf, 0);
+    if (newRoot == root) {
+      return this;
+    }
+    return new PersistentMap<>(newRoot, root.get(key, leaf.hash, 0) == null ? size + 1 : size);
+  }
+
+  /**
+   * Returns a map without the specified key.
+   * @param key the key to remove
+   * @return the updated map, or this map if the key was not present
+   */
+  PersistentMap<K, V> remove(Object key) {
+    if (root == null || key == null || root.get(key, hash(key), 0) == null) {
+      return this;
+    }
+
+    Node<K, V> newRoot = root.remove(key, hash(key), 0);
+    return newRoot == null ? empty() : new PersistentMap<>(newRoot, size - 1);
+  }
+
+  /**
+   * Returns a snapshot of the entries in this map.
+   */
+  List<Map.Entry<K, V>> entries() {
+    List<Map.Entry<K, V>> entries = new ArrayList<>(size);
+    if (root != null) {
+      root.collect(entries);
+    }
+    return entries;
+  }
+
+  private static int hash(Object key) {
+    int h = key == null ? 0 : key.hashCode();
+    return h ^ (h >>> 16);
+  }
+
+  private static int fragment(int hash, int shift) {
+    return (hash >>> shift) & LEVEL_MASK;
+  }
+
+  // Creates a node holding both an existing leaf or node and a new leaf, whose hashes match up to the given shift.
+  @SuppressWarnings("unchecked")
+  private static <K, V> Node<K, V> merge(Object existing, int existingHash, Leaf<K, V> leaf, int shift) {
+    if (existingHash == leaf.hash) {
+      return new CollisionNode<>(existingHash, new Leaf[] {(Leaf<K, V>) existing, leaf});
+    }
+
+    int existingFragment = fragment(existingHash, shift);
+    int newFragment = fragment(leaf.hash, shift);
+    if (existingFragment == newFragment) {
+      return new BitmapNode<>(1 << existingFragment,
+            new Object[] {merge(existing, existingHash, leaf, shift + BITS_PER_LEVEL)});
+    } else if (existingFragment < newFragment) {
+      return new BitmapNode<>((1 << existingFragment) | (1 << newFragment), new Object[] {existing, leaf});
+    } else {
+      return new BitmapNode<>((1 << existingFragment) | (1 << newFragment), new Object[] {leaf, existing});
+    }
+  }
+
+  private static Object[] replace(Object[] array, int index, Object value) {
+    Object[] result = array.clone();
+    result[index] = value;
+    return result;
+  }
+
+  private static Object[] insert(Object[] array, int index, Object value) {
+    Object[] result = new Object[array.length + 1];
+    System.arraycopy(array, 0, result, 0, index);
+    result[index] = value;
+    System.arraycopy(array, index, result, index + 1, array.length - index);
+    return result;
+  }
+
+  private static Object[] delete(Object[] array, int index) {
+    Object[] result = new Object[array.length - 1];
+    System.arraycopy(array, 0, result, 0, index);
+    System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+    return result;
+  }
+
+  private interface Node<K, V> {
+    V get(Object key, int hash, int shift);
+
+    Node<K, V> put(Leaf<K, V> leaf, int shift);
+
+    Node<K, V> remove(Object key, int hash, int shift);
+
+    void collect(List<Map.Entry<K, V>> entries);
+  }
+
+  private static final class Leaf<K, V> extends AbstractMap.SimpleImmutableEntry<K, V> {
+    private final int hash;
+
+    Leaf(int hash, K key, V value) {
+      super(key, value);
+      this.hash = hash;
+    }
+
+    boolean hasKey(Object key) {
+      return getKey().equals(key);
+    }
+  }
+
+  // An interior node whose bitmap indicates which of the 32 possible children are present.
+  private static final class BitmapNode<K, V> implements Node<K, V> {
+    private final int bitmap;
+    private final Object[] children;
+
+    BitmapNode(int bitmap, Object[] children) {
+      this.bitmap = bitmap;
+      this.children = children;
+    }
+
+    private int index(int bit) {
+      return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key, int hash, int shift) {
+      int bit = 1 << fragment(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return null;
+      }
+
+      Object child = children[index(bit)];
+      if (child instanceof Leaf) {
+        Leaf<K, V> leaf = (Leaf<K, V>) child;
+        return leaf.hasKey(key) ? leaf.getValue() : null;
+      }
+      return ((Node<K, V>) child).get(key, hash, shift + BITS_PER_LEVEL);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Node<K, V> put(Leaf<K, V> leaf, int shift) {
+      int bit = 1 << fragment(leaf.hash, shift);
+      int index = index(bit);
+      if ((bitmap & bit) == 0) {
+        return new BitmapNode<>(bitmap | bit, insert(children, index, leaf));
+      }
+
+      Object child = children[index];
+      if (child instanceof Leaf) {
+        Leaf<K, V> existing = (Leaf<K, V>) child;
+        if (!existing.hasKey(leaf.getKey())) {
+          return new BitmapNode<>(bitmap, replace(children, index,
+                merge(existing, existing.hash, leaf, shift + BITS_PER_LEVEL)));
+        } else if (existing.getValue() == leaf.getValue()) {
+          return this;
+        } else {
+          return new BitmapNode<>(bitmap, replace(children, index, leaf));
+        }
+      }
+
+      Node<K, V> node = (Node<K, V>) child;
+      Node<K, V> newNode = node.put(leaf, shift + BITS_PER_LEVEL);
+      return newNode == node ? this : new BitmapNode<>(bitmap, replace(children, index, newNode));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Node<K, V> remove(Object key, int hash, int shift) {
+      int bit = 1 << fragment(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return this;
+      }
+
+      int index = index(bit);
+      Object child = children[index];
+      if (child instanceof Leaf) {
+        return ((Leaf<K, V>) child).hasKey(key) ? without(bit, index) : this;
+      }
+
+      Node<K, V> node = (Node<K, V>) child;
+      Node<K, V> newNode = node.remove(key, hash, shift + BITS_PER_LEVEL);
+      if (newNode == node) {
+        return this;
+      } else if (newNode == null) {
+        return without(bit, index);
+      } else {
+        return new BitmapNode<>(bitmap, replace(children, index, collapse(newNode)));
+      }
+    }
+
+    private Node<K, V> without(int bit, int index) {
+      return bitmap == bit ? null : new BitmapNode<>(bitmap ^ bit, delete(children, index));
+    }
+
+    // A node which holds only a single leaf may be replaced by that leaf.
+    private Object collapse(Node<K, V> node) {
+      if (node instanceof BitmapNode && ((BitmapNode<K, V>) node).children.length == 1
+            && ((BitmapNode<K, V>) node).children[0] instanceof Leaf) {
+        return ((BitmapNode<K, V>) node).children[0];
+      } else if (node instanceof CollisionNode && ((CollisionNode<K, V>) node).leaves.length == 1) {
+        return ((CollisionNode<K, V>) node).leaves[0];
+      }
+      return node;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void collect(List<Map.Entry<K, V>> entries) {
+      for (Object child : children) {
+        if (child instanceof Leaf) {
+          entries.add((Leaf<K, V>) child);
+        } else {
+          ((Node<K, V>) child).collect(entries);
+        }
+      }
+    }
+  }
+
+  // A node holding leaves whose keys have identical hashes.
+  private static final class CollisionNode<K, V> implements Node<K, V> {
+    private final int hash;
+    private final Leaf<K, V>[] leaves;
+
+    CollisionNode(int hash, Leaf<K, V>[] leaves) {
+      this.hash = hash;
+      this.leaves = leaves;
+    }
+
+    private int indexOf(Object key) {
+      for (int i = 0; i < leaves.length; i++) {
+        if (leaves[i].hasKey(key)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    public V get(Object key, int hash, int shift) {
+      int index = this.hash == hash ? indexOf(key) : -1;
+      return index < 0 ? null : leaves[index].getValue();
+    }
+
+    @Override
+    public Node<K, V> put(Leaf<K, V> leaf, int shift) {
+      if (leaf.hash != hash) {
+        return merge(this, hash, leaf, shift);
+      }
+
+      int index = indexOf(leaf.getKey());
+      Leaf<K, V>[] newLeaves;
+      if (index < 0) {
+        newLeaves = Arrays.copyOf(leaves, leaves.length + 1);
+        newLeaves[leaves.length] = leaf;
+      } else if (leaves[index].getValue() == leaf.getValue()) {
+        return this;
+      } else {
+        newLeaves = leaves.clone();
+        newLeaves[index] = leaf;
+      }
+      return new CollisionNode<>(hash, newLeaves);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Node<K, V> remove(Object key, int hash, int shift) {
+      int index = this.hash == hash ? indexOf(key) : -1;
+      if (index < 0) {
+        return this;
+      } else if (leaves.length == 1) {
+        return null;
+      }
+
+      Leaf<K, V>[] newLeaves = new Leaf[leaves.length - 1];
+      System.arraycopy(leaves, 0, newLeaves, 0, index);
+      System.arraycopy(leaves, index + 1, newLeaves, index, leaves.length - index - 1);
+      return new CollisionNode<>(hash, newLeaves);
+    }
+
+    @Override
+    public void collect(List<Map.Entry<K, V>> entries) {
+      entries.addAll(Arrays.asList(leaves));
+    }
+  }
+}
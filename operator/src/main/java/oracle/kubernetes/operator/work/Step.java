@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
@@ -8,6 +8,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
@@ -279,6 +280,26 @@ public abstract class Step {
    */
   protected NextAction doForkJoin(
       Step step, Packet packet, Collection<StepAndPacket> startDetails) {
+    return doForkJoin(step, packet, startDetails, new ConcurrencyLimiter[0]);
+  }
+
+  /**
+   * Create a {@link NextAction} that suspends the current {@link Fiber} and that starts child
+   * fibers for each step and packet pair, as each of the specified limiters admits them. A child fiber
+   * holds a permit from every limiter until it completes, so the number of children running at once never
+   * exceeds the smallest limit; the others wait, in order. When all of the child fibers complete,
+   * this fiber is resumed with the indicated step and packet.
+   *
+   * <p>The child fibers must not themselves wait for permits from the same limiters.
+   *
+   * @param step Step to invoke next when resumed after child fibers complete
+   * @param packet Resume packet
+   * @param startDetails Pairs of step and packet to use when starting child fibers
+   * @param limiters the limiters which must admit each child fiber
+   * @return Next action
+   */
+  protected NextAction doForkJoin(
+      Step step, Packet packet, Collection<StepAndPacket> startDetails, ConcurrencyLimiter... limiters) {
     return doSuspend(
         step,
         (fiber) -> {
@@ -301,11 +322,73 @@ public abstract class Step {
               };
           // start forked fibers
           for (StepAndPacket sp : startDetails) {
-            fiber.createChildFiber().start(sp.step, sp.packet, callback);
+            admit(limiters, 0, () -> startChildFiber(fiber, sp, callback, limiters));
           }
         });
   }
 
+  private static void admit(ConcurrencyLimiter[] limiters, int index, Runnable start) {
+    if (index == limiters.length) {
+      start.run();
+    } else {
+      limiters[index].acquire(() -> admit(limiters, index + 1, start));
+    }
+  }
+
+  // A child admitted after its parent was cancelled is not started; its permits are passed on at once.
+  private static void startChildFiber(
+        AsyncFiber fiber, StepAndPacket sp, CompletionCallback callback, ConcurrencyLimiter[] limiters) {
+    if (fiber.isCancelled()) {
+      releasePermits(limiters);
+      return;
+    }
+
+    fiber.createChildFiber().start(sp.step, sp.packet,
+          limiters.length == 0 ? callback : new ReleasingCompletionCallback(callback, limiters));
+  }
+
+  private static void releasePermits(ConcurrencyLimiter[] limiters) {
+    for (int i = limiters.length - 1; i >= 0; i--) {
+      limiters[i].release();
+    }
+  }
+
+  // Releases the permits held by a child fiber before reporting its completion. A child which is cancelled,
+  // including one which waited for its permits until after its parent was cancelled, releases them at once.
+  private static class ReleasingCompletionCallback implements CompletionCallback {
+    private final CompletionCallback callback;
+    private final ConcurrencyLimiter[] limiters;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    ReleasingCompletionCallback(CompletionCallback callback, ConcurrencyLimiter[] limiters) {
+      this.callback = callback;
+      this.limiters = limiters;
+    }
+
+    @Override
+    public void onCompletion(Packet packet) {
+      releasePermits();
+      callback.onCompletion(packet);
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      releasePermits();
+      callback.onThrowable(packet, throwable);
+    }
+
+    @Override
+    public void onCancellation() {
+      releasePermits();
+    }
+
+    private void releasePermits() {
+      if (!released.getAndSet(true)) {
+        Step.releasePermits(limiters);
+      }
+    }
+  }
+
   /** Multi-exception. */
   public static class MultiThrowable extends RuntimeException {
     private final List<Throwable> throwables;
@@ -0,0 +1,22 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+/**
+ * The latencies recorded for all steps of one class.
+ */
+public class StepStatistics {
+  private final LatencyHistogram executionTime = new LatencyHistogram();
+  private final LatencyHistogram suspensionTime = new LatencyHistogram();
+
+  /** Returns the times taken by calls to the steps' apply methods. */
+  public LatencyHistogram getExecutionTime() {
+    return executionTime;
+  }
+
+  /** Returns the times for which the steps kept their fibers suspended, from suspension until resumption. */
+  public LatencyHistogram getSuspensionTime() {
+    return suspensionTime;
+  }
+}
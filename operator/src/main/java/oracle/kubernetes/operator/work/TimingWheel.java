@@ -0,0 +1,282 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
+/**
+ * A hashed timing wheel, used for the short-lived timeouts and delays of fibers. Most of these are cancelled
+ * long before they expire, so both scheduling and cancellation are O(1): new and cancelled entries are queued,
+ * and a single timer thread moves them into or out of the wheel's buckets once per tick. Entries whose delay
+ * exceeds one revolution of the wheel record the number of remaining revolutions.
+ *
+ * <p>The timer thread does no work itself; when an entry expires, its task is handed to the executor.
+ * Tasks therefore run up to one tick later than requested.
+ */
+public class TimingWheel {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /** The maximum number of new entries to move into the wheel in a single tick. */
+  private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+  private final String id;
+  private final Executor executor;
+  private final long tickNanos;
+  private final Bucket[] wheel;
+  private final int mask;
+  private final Queue<Entry> pendingEntries = new ConcurrentLinkedQueue<>();
+  private final Queue<Entry> cancelledEntries = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private final AtomicInteger numPending = new AtomicInteger();
+  private final AtomicLong numExpired = new AtomicLong();
+  private final AtomicLong numCancelled = new AtomicLong();
+  private final long startTime = System.nanoTime();
+  private volatile boolean stopped;
+
+  // accessed only by the timer thread
+  private long tick;
+
+  /**
+   * Creates a timing wheel.
+   * @param id an identifier used to name the timer thread
+   * @param executor the executor to which expired tasks are handed
+   * @param tickDuration the time represented by each bucket of the wheel
+   * @param unit the unit of the tick duration
+   * @param wheelSize the number of buckets; will be rounded up to a power of two
+   */
+  public TimingWheel(String id, Executor executor, long tickDuration, TimeUnit unit, int wheelSize) {
+    if (tickDuration <= 0 || wheelSize <= 0) {
+      throw new IllegalArgumentException("tick duration and wheel size must be positive");
+    }
+    this.id = id;
+    this.executor = executor;
+    this.tickNanos = unit.toNanos(tickDuration);
+    this.wheel = createWheel(wheelSize);
+    this.mask = wheel.length - 1;
+  }
+
+  private static Bucket[] createWheel(int wheelSize) {
+    int size = Integer.highestOneBit(wheelSize);
+    if (size < wheelSize) {
+      size <<= 1;
+    }
+
+    Bucket[] buckets = new Bucket[size];
+    for (int i = 0; i < size; i++) {
+      buckets[i] = new Bucket();
+    }
+    return buckets;
+  }
+
+  /**
+   * Schedules a task to be handed to the executor after the specified delay.
+   * @param task the task to run
+   * @param delay the delay before running the task
+   * @param unit the unit of the delay
+   * @return a handle which may be used to cancel the task
+   */
+  public Cancellable schedule(Runnable task, long delay, TimeUnit unit) {
+    if (stopped) {
+      throw new IllegalStateException("Timing wheel " + id + " has been stopped");
+    }
+    startIfNeeded();
+
+    Entry entry = new Entry(task, System.nanoTime() - startTime + Math.max(0, unit.toNanos(delay)));
+    numPending.incrementAndGet();
+    pendingEntries.add(entry);
+    return entry;
+  }
+
+  private void startIfNeeded() {
+    if (started.compareAndSet(false, true)) {
+      Thread thread = new Thread(this::runTimer, "engine-" + id + "-timing-wheel");
+      thread.setDaemon(true);
+      thread.start();
+    }
+  }
+
+  /** Stops the timer thread. Tasks not yet expired will never run. */
+  public void stop() {
+    stopped = true;
+  }
+
+  /** Returns true if the timer thread has been stopped. */
+  public boolean isStopped() {
+    return stopped;
+  }
+
+  /** Returns the number of scheduled tasks which have neither expired nor been cancelled. */
+  public int getNumPending() {
+    return numPending.get();
+  }
+
+  /** Returns the number of tasks which have been handed to the executor. */
+  public long getNumExpired() {
+    return numExpired.get();
+  }
+
+  /** Returns the number of tasks which were cancelled before they expired. */
+  public long getNumCancelled() {
+    return numCancelled.get();
+  }
+
+  private void runTimer() {
+    while (!stopped) {
+      if (waitForNextTick()) {
+        processTick();
+      }
+    }
+  }
+
+  // Sleeps until the end of the current tick. Returns false if interrupted.
+  private boolean waitForNextTick() {
+    long sleepNanos = tickNanos * (tick + 1) - (System.nanoTime() - startTime);
+    if (sleepNanos > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(sleepNanos);
+      } catch (InterruptedException e) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void processTick() {
+    removeCancelledEntries();
+    transferPendingEntries();
+    wheel[(int) (tick & mask)].expireEntries();
+    tick++;
+  }
+
+  private void removeCancelledEntries() {
+    Entry entry;
+    while ((entry = cancelledEntries.poll()) != null) {
+      if (entry.bucket != null) {
+        entry.bucket.remove(entry);
+      }
+    }
+  }
+
+  private void transferPendingEntries() {
+    for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+      Entry entry = pendingEntries.poll();
+      if (entry == null) {
+        return;
+      } else if (!entry.isCancelled()) {
+        long expirationTick = Math.max(entry.deadline / tickNanos, tick);
+        entry.remainingRounds = (expirationTick - tick) / wheel.length;
+        wheel[(int) (expirationTick & mask)].add(entry);
+      }
+    }
+  }
+
+  private static final int WAITING = 0;
+  private static final int CANCELLED = 1;
+  private static final int EXPIRED = 2;
+
+  private class Entry implements Cancellable {
+    private final Runnable task;
+    private final long deadline;
+    private final AtomicInteger state = new AtomicInteger(WAITING);
+
+    // accessed only by the timer thread
+    private long remainingRounds;
+    private Bucket bucket;
+    private Entry next;
+    private Entry prev;
+
+    Entry(Runnable task, long deadline) {
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    @Override
+    public boolean cancel() {
+      if (!state.compareAndSet(WAITING, CANCELLED)) {
+        return false;
+      }
+      numPending.decrementAndGet();
+      numCancelled.incrementAndGet();
+      cancelledEntries.add(this);
+      return true;
+    }
+
+    boolean isCancelled() {
+      return state.get() == CANCELLED;
+    }
+
+    void expire() {
+      if (state.compareAndSet(WAITING, EXPIRED)) {
+        numPending.decrementAndGet();
+        numExpired.incrementAndGet();
+        try {
+          executor.execute(task);
+        } catch (RuntimeException e) {
+          LOGGER.warning(MessageKeys.EXCEPTION, e);
+        }
+      }
+    }
+  }
+
+  // A doubly-linked list of entries, so that a cancelled entry may be removed in constant time.
+  private static class Bucket {
+    private Entry head;
+    private Entry tail;
+
+    void add(Entry entry) {
+      entry.bucket = this;
+      if (head == null) {
+        head = tail = entry;
+      } else {
+        tail.next = entry;
+        entry.prev = tail;
+        tail = entry;
+      }
+    }
+
+    void expireEntries() {
+      Entry entry = head;
+      while (entry != null) {
+        Entry next = entry.next;
+        if (entry.isCancelled()) {
+          remove(entry);
+        } else if (entry.remainingRounds <= 0) {
+          remove(entry);
+          entry.expire();
+        } else {
+          entry.remainingRounds--;
+        }
+        entry = next;
+      }
+    }
+
+    void remove(Entry entry) {
+      if (entry.bucket != this) {
+        return;
+      }
+      if (entry.prev != null) {
+        entry.prev.next = entry.next;
+      } else {
+        head = entry.next;
+      }
+      if (entry.next != null) {
+        entry.next.prev = entry.prev;
+      } else {
+        tail = entry.prev;
+      }
+      entry.next = entry.prev = null;
+      entry.bucket = null;
+    }
+  }
+}
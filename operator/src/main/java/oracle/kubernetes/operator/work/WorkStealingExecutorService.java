@@ -0,0 +1,233 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnull;
+
+/**
+ * A scheduled executor which runs all work on a work-stealing {@link ForkJoinPool}. Delayed and periodic tasks
+ * are tracked by a separate single-threaded timer, which does no work itself; when a task becomes due, the timer
+ * simply hands it to the pool. This keeps a large number of pending timers from delaying runnable fibers.
+ *
+ * <p>Periodic tasks never overlap: if a run is still in progress when the next period arrives, that period is
+ * skipped. As with {@link ScheduledThreadPoolExecutor}, a periodic task which throws is not run again; its future
+ * then reports it as cancelled, rather than completing with the exception.
+ */
+public class WorkStealingExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+  private final ForkJoinPool pool;
+  private final ScheduledThreadPoolExecutor timer;
+
+  /**
+   * Creates the executor service.
+   * @param id an identifier used to name the threads
+   * @param parallelism the number of worker threads in the work-stealing pool
+   */
+  public WorkStealingExecutorService(String id, int parallelism) {
+    pool = new ForkJoinPool(parallelism, new WorkerThreadFactory(id), null, true);
+    timer = new ScheduledThreadPoolExecutor(1, r -> createTimerThread(id, r));
+    timer.setRemoveOnCancelPolicy(true);
+  }
+
+  private static Thread createTimerThread(String id, Runnable r) {
+    Thread t = new Thread(r, "engine-" + id + "-timer");
+    t.setDaemon(true);
+    return t;
+  }
+
+  /**
+   * Returns the number of worker threads in the work-stealing pool.
+   */
+  public int getParallelism() {
+    return pool.getParallelism();
+  }
+
+  @Override
+  public void execute(@Nonnull Runnable command) {
+    pool.execute(command);
+  }
+
+  @Override
+  @Nonnull
+  public ScheduledFuture<?> schedule(@Nonnull Runnable command, long delay, @Nonnull TimeUnit unit) {
+    return schedule(Executors.callable(command), delay, unit);
+  }
+
+  @Override
+  @Nonnull
+  public <V> ScheduledFuture<V> schedule(@Nonnull Callable<V> callable, long delay, @Nonnull TimeUnit unit) {
+    FutureTask<V> task = new FutureTask<>(callable);
+    return new HandOffFuture<>(timer.schedule(() -> pool.execute(task), delay, unit), task);
+  }
+
+  @Override
+  @Nonnull
+  public ScheduledFuture<?> scheduleAtFixedRate(
+        @Nonnull Runnable command, long initialDelay, long period, @Nonnull TimeUnit unit) {
+    PeriodicHandOff handOff = new PeriodicHandOff(command);
+    return handOff.setTrigger(timer.scheduleAtFixedRate(handOff, initialDelay, period, unit));
+  }
+
+  @Override
+  @Nonnull
+  public ScheduledFuture<?> scheduleWithFixedDelay(
+        @Nonnull Runnable command, long initialDelay, long delay, @Nonnull TimeUnit unit) {
+    PeriodicHandOff handOff = new PeriodicHandOff(command);
+    return handOff.setTrigger(timer.scheduleWithFixedDelay(handOff, initialDelay, delay, unit));
+  }
+
+  @Override
+  public void shutdown() {
+    timer.shutdown();
+    pool.shutdown();
+  }
+
+  @Override
+  @Nonnull
+  public List<Runnable> shutdownNow() {
+    List<Runnable> result = new ArrayList<>(timer.shutdownNow());
+    result.addAll(pool.shutdownNow());
+    return result;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return pool.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return timer.isTerminated() && pool.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    return timer.awaitTermination(timeout, unit)
+          && pool.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+  }
+
+  // Hands each occurrence of a periodic task to the pool, unless the previous occurrence is still running.
+  // Once an occurrence throws, the timer entry is cancelled so that the task does not run again.
+  private class PeriodicHandOff implements Runnable {
+    private final Runnable command;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean failed;
+    private volatile ScheduledFuture<?> trigger;
+
+    PeriodicHandOff(Runnable command) {
+      this.command = command;
+    }
+
+    ScheduledFuture<?> setTrigger(ScheduledFuture<?> trigger) {
+      this.trigger = trigger;
+      if (failed) {
+        trigger.cancel(false);
+      }
+      return trigger;
+    }
+
+    @Override
+    public void run() {
+      if (!failed && running.compareAndSet(false, true)) {
+        pool.execute(this::runCommand);
+      }
+    }
+
+    private void runCommand() {
+      try {
+        command.run();
+      } catch (RuntimeException e) {
+        suppressFurtherRuns();
+      } finally {
+        running.set(false);
+      }
+    }
+
+    private void suppressFurtherRuns() {
+      failed = true;
+      Optional.ofNullable(trigger).ifPresent(t -> t.cancel(false));
+    }
+  }
+
+  // A future which reports the delay of the timer entry and the result of the task it hands off.
+  private static class HandOffFuture<V> implements ScheduledFuture<V> {
+    private final ScheduledFuture<?> trigger;
+    private final FutureTask<V> task;
+
+    HandOffFuture(ScheduledFuture<?> trigger, FutureTask<V> task) {
+      this.trigger = trigger;
+      this.task = task;
+    }
+
+    @Override
+    public long getDelay(@Nonnull TimeUnit unit) {
+      return trigger.getDelay(unit);
+    }
+
+    @Override
+    public int compareTo(@Nonnull Delayed o) {
+      return trigger.compareTo(o);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      trigger.cancel(false);
+      return task.cancel(mayInterruptIfRunning);
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return task.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+      return task.isDone();
+    }
+
+    @Override
+    public V get() throws InterruptedException, ExecutionException {
+      return task.get();
+    }
+
+    @Override
+    public V get(long timeout, @Nonnull TimeUnit unit)
+          throws InterruptedException, ExecutionException, TimeoutException {
+      return task.get(timeout, unit);
+    }
+  }
+
+  private static class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+    private final String namePrefix;
+
+    WorkerThreadFactory(String id) {
+      namePrefix = "engine-" + id + "-worker-";
+    }
+
+    @Override
+    public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+      ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      thread.setName(namePrefix + thread.getPoolIndex());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -216,6 +216,18 @@ public abstract class DomainConfigurator {
     return this;
   }
 
+  /**
+   * Sets whether to read the state and health of all running servers with a single request
+   * to the admin server.
+   *
+   * @param readHealthThroughAdminServer true to read server health through the admin server
+   * @return this object
+   */
+  public DomainConfigurator withReadHealthThroughAdminServer(boolean readHealthThroughAdminServer) {
+    getDomainSpec().setReadHealthThroughAdminServer(readHealthThroughAdminServer);
+    return this;
+  }
+
   public DomainConfigurator withAllowReplicasBelowMinDynClusterSize(Boolean allowReplicasBelowMinDynClusterSize) {
     getDomainSpec().setAllowReplicasBelowMinDynClusterSize(allowReplicasBelowMinDynClusterSize);
     return this;
@@ -28,6 +28,18 @@ public class WeblogicApi extends CustomObjectsApi {
     super(apiClient);
   }
 
+  /**
+   * Read domain.
+   *
+   * @param name      name
+   * @param namespace namespace
+   * @return domain
+   * @throws ApiException on failure
+   */
+  public Domain getNamespacedDomain(String name, String namespace) throws ApiException {
+    return toDomain(getNamespacedCustomObject(DOMAIN_GROUP, DOMAIN_VERSION, namespace, DOMAIN_PLURAL, name));
+  }
+
   /**
    * Asynchronously read domain.
    *
@@ -547,6 +547,10 @@ public class Domain implements KubernetesObject {
     return spec.getHttpAccessLogInLogHome();
   }
 
+  public boolean isReadHealthThroughAdminServer() {
+    return spec.isReadHealthThroughAdminServer();
+  }
+
   /**
    * Returns if the domain is using online update.
    * return true if using online update
@@ -138,6 +138,15 @@ public class DomainSpec extends BaseConfiguration {
       + "the directory configured in the WebLogic domain configuration. Defaults to true.")
   private Boolean httpAccessLogInLogHome;
 
+  /**
+   * Whether to read the state and health of all running servers with a single request to the admin server,
+   * rather than one request to each server. Default is false.
+   */
+  @Description("Specifies whether the operator will read the state and health of all running WebLogic Server "
+      + "instances with a single REST request to the Administration Server, rather than one request to each instance. "
+      + "Instances missing from the Administration Server's response are read individually. Defaults to false.")
+  private Boolean readHealthThroughAdminServer;
+
   /**
    * Full path of an optional liveness probe custom script for WebLogic Server instance pods.
    * The existing liveness probe script `livenessProbe.sh` will invoke this custom script after the
@@ -667,6 +676,19 @@ public class DomainSpec extends BaseConfiguration {
     this.httpAccessLogInLogHome = httpAccessLogInLogHome;
   }
 
+  /**
+   * Whether to read the state and health of all running servers with a single request to the admin server.
+   *
+   * @return true if server health should be read through the admin server, false if from each server
+   */
+  boolean isReadHealthThroughAdminServer() {
+    return Boolean.TRUE.equals(readHealthThroughAdminServer);
+  }
+
+  public void setReadHealthThroughAdminServer(boolean readHealthThroughAdminServer) {
+    this.readHealthThroughAdminServer = readHealthThroughAdminServer;
+  }
+
   /**
    * Returns true if this domain's home is defined in the default docker image for the domain.
    * Defaults to true.
@@ -1006,6 +1028,7 @@ public class DomainSpec extends BaseConfiguration {
             .append("imagePullSecrets", imagePullSecrets)
             .append("includeServerOutInPodLog", includeServerOutInPodLog)
             .append("introspectVersion", introspectVersion)
+            .append("readHealthThroughAdminServer", readHealthThroughAdminServer)
             .append("logHome", logHome)
             .append("logHomeEnabled", logHomeEnabled)
             .append("managedServers", managedServers)
@@ -1039,6 +1062,7 @@ public class DomainSpec extends BaseConfiguration {
             .append(imagePullSecrets)
             .append(includeServerOutInPodLog)
             .append(introspectVersion)
+            .append(readHealthThroughAdminServer)
             .append(logHome)
             .append(logHomeEnabled)
             .append(managedServers)
@@ -1084,6 +1108,7 @@ public class DomainSpec extends BaseConfiguration {
             .append(logHomeEnabled, rhs.logHomeEnabled)
             .append(monitoringExporter, rhs.monitoringExporter)
             .append(includeServerOutInPodLog, rhs.includeServerOutInPodLog)
+            .append(readHealthThroughAdminServer, rhs.readHealthThroughAdminServer)
             .append(configOverrides, rhs.configOverrides)
             .append(configOverrideSecrets, rhs.configOverrideSecrets)
             .append(isAllowReplicasBelowMinDynClusterSize(), rhs.isAllowReplicasBelowMinDynClusterSize())
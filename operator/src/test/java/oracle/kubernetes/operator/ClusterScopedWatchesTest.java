@@ -0,0 +1,227 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.ClusterScopedWatches.ClusterScopedWatcher;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.net.HttpURLConnection.HTTP_GONE;
+import static oracle.kubernetes.operator.Namespaces.SELECTION_STRATEGY_KEY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ClusterScopedWatchesTest {
+
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+  private static final String INITIAL_RESOURCE_VERSION = "100";
+
+  private final WatchTuning tuning = new WatchTuning(30, 0, 5, 24);
+  private final AtomicBoolean stopping = new AtomicBoolean();
+  private final ClusterScopedWatches watches = new ClusterScopedWatches();
+  private final List<String> ns1Pods = new ArrayList<>();
+  private final List<String> ns2Pods = new ArrayList<>();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(NoopWatcherStarter.install());
+    mementos.add(StaticStubSupport.install(ClusterScopedWatches.class, "instance", watches));
+
+    TuningParametersStub.setParameter(SELECTION_STRATEGY_KEY, "LabelSelector");
+    watches.setEnabled(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private PodWatcher createPodWatcher(String namespace, String resourceVersion, List<String> received) {
+    return PodWatcher.create(Thread::new, namespace, resourceVersion, tuning,
+          response -> received.add(response.object.getMetadata().getName()), stopping, null);
+  }
+
+  private ClusterScopedWatcher<V1Pod> getPodClusterWatcher() {
+    return getClusterWatcher(PodWatcher.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> ClusterScopedWatcher<T> getClusterWatcher(Class<?> watcherClass) {
+    return (ClusterScopedWatcher<T>) watches.getWatcher(watcherClass);
+  }
+
+  private V1Pod createPod(String namespace, String name, String resourceVersion) {
+    return new V1Pod().metadata(new V1ObjectMeta().namespace(namespace).name(name).resourceVersion(resourceVersion));
+  }
+
+  private Watch.Response<V1Pod> added(V1Pod pod) {
+    return WatchEvent.createAddedEvent(pod).toWatchResponse();
+  }
+
+  @Test
+  void whenEnabled_watchersOfOneTypeShareOneWatch() {
+    createPodWatcher(NS1, INITIAL_RESOURCE_VERSION, ns1Pods);
+    createPodWatcher(NS2, INITIAL_RESOURCE_VERSION, ns2Pods);
+
+    assertThat(watches.getNumWatches(), equalTo(1));
+    assertThat(getPodClusterWatcher(), notNullValue());
+  }
+
+  @Test
+  void whenNamespacesSelectedByList_watchersRunOwnWatches() {
+    TuningParametersStub.setParameter(SELECTION_STRATEGY_KEY, "List");
+
+    createPodWatcher(NS1, INITIAL_RESOURCE_VERSION, ns1Pods);
+
+    assertThat(watches.getNumWatches(), equalTo(0));
+  }
+
+  @Test
+  void whenNotEnabled_watchersRunOwnWatches() {
+    watches.setEnabled(false);
+
+    createPodWatcher(NS1, INITIAL_RESOURCE_VERSION, ns1Pods);
+
+    assertThat(watches.getNumWatches(), equalTo(0));
+  }
+
+  @Test
+  void watchedEvents_areDeliveredToWatcherOfTheirNamespace() {
+    createPodWatcher(NS1, INITIAL_RESOURCE_VERSION, ns1Pods);
+    createPodWatcher(NS2, INITIAL_RESOURCE_VERSION, ns2Pods);
+
+    getPodClusterWatcher().receiveEvent(added(createPod(NS1, "pod1", "101")));
+    getPodClusterWatcher().receiveEvent(added(createPod(NS2, "pod2", "102")));
+    getPodClusterWatcher().receiveEvent(added(createPod(NS1, "pod3", "103")));
+
+    assertThat(ns1Pods, contains("pod1", "pod3"));
+    assertThat(ns2Pods, contains("pod2"));
+  }
+
+  @Test
+  void eventsInUnselectedNamespaces_areDropped() {
+    createPodWatcher(NS1, INITIAL_RESOURCE_VERSION, ns1Pods);
+
+    getPodClusterWatcher().receiveEvent(added(createPod("other", "pod1", "101")));
+
+    assertThat(ns1Pods, empty());
+  }
+
+  @Test
+  void afterNamespaceRemoved_itsEventsAreDropped() {
+    createPodWatcher(NS1, INITIAL_RESOURCE_VERSION, ns1Pods);
+    createPodWatcher(NS2, INITIAL_RESOURCE_VERSION, ns2Pods);
+
+    watches.removeNamespace(NS1);
+    getPodClusterWatcher().receiveEvent(added(createPod(NS1, "pod1", "101")));
+
+    assertThat(ns1Pods, empty());
+  }
+
+  @Test
+  void afterLastNamespaceRemoved_stopClusterWatch() {
+    createPodWatcher(NS1, INITIAL_RESOURCE_VERSION, ns1Pods);
+    ClusterScopedWatcher<V1Pod> clusterWatcher = getPodClusterWatcher();
+
+    watches.removeNamespace(NS1);
+
+    assertThat(clusterWatcher.isStopping(), is(true));
+    assertThat(watches.getNumWatches(), equalTo(0));
+  }
+
+  @Test
+  void whileOtherNamespacesRemain_keepClusterWatch() {
+    createPodWatcher(NS1, INITIAL_RESOURCE_VERSION, ns1Pods);
+    createPodWatcher(NS2, INITIAL_RESOURCE_VERSION, ns2Pods);
+
+    watches.removeNamespace(NS1);
+
+    assertThat(getPodClusterWatcher().isStopping(), is(false));
+  }
+
+  @Test
+  void afterClusterWatchStopped_newRegistrantStartsAnother() {
+    createPodWatcher(NS1, INITIAL_RESOURCE_VERSION, ns1Pods);
+    ClusterScopedWatcher<V1Pod> clusterWatcher = getPodClusterWatcher();
+    watches.removeNamespace(NS1);
+
+    createPodWatcher(NS2, INITIAL_RESOURCE_VERSION, ns2Pods);
+
+    assertThat(getPodClusterWatcher(), not(sameInstance(clusterWatcher)));
+    assertThat(getPodClusterWatcher().isStopping(), is(false));
+  }
+
+  @Test
+  void whenClusterWatchReceivesError_invalidateStoresOfAllNamespaces() {
+    ResourceStore<V1Pod> store1 = createSyncedStore(createPodWatcher(NS1, INITIAL_RESOURCE_VERSION, ns1Pods));
+    ResourceStore<V1Pod> store2 = createSyncedStore(createPodWatcher(NS2, INITIAL_RESOURCE_VERSION, ns2Pods));
+
+    getPodClusterWatcher().receiveEvent(WatchEvent.<V1Pod>createErrorEvent(HTTP_GONE).toWatchResponse());
+
+    assertThat(store1.isSynced(), is(false));
+    assertThat(store2.isSynced(), is(false));
+  }
+
+  @Test
+  void whenWatcherRegistersBehindClusterWatch_invalidateItsStore() {
+    createPodWatcher(NS1, INITIAL_RESOURCE_VERSION, ns1Pods);
+    getPodClusterWatcher().receiveEvent(added(createPod(NS1, "pod1", "150")));
+
+    ResourceStore<V1Pod> store = createSyncedStore(createPodWatcher(NS2, "120", ns2Pods));
+
+    assertThat(store.isSynced(), is(false));
+  }
+
+  @Test
+  void whenWatcherRegistersAtClusterWatchVersion_keepItsStore() {
+    createPodWatcher(NS1, INITIAL_RESOURCE_VERSION, ns1Pods);
+    getPodClusterWatcher().receiveEvent(added(createPod(NS1, "pod1", "150")));
+
+    ResourceStore<V1Pod> store = createSyncedStore(createPodWatcher(NS2, "150", ns2Pods));
+
+    assertThat(store.isSynced(), is(true));
+  }
+
+  // The store is attached once the cluster-scoped watch is running.
+  private ResourceStore<V1Pod> createSyncedStore(PodWatcher watcher) {
+    getPodClusterWatcher().setWatching(true);
+    ResourceStore<V1Pod> store = new ResourceStore<>();
+    store.replaceAll(List.of(), watcher.getResourceVersion());
+    watcher.setStore(store);
+    return store;
+  }
+
+  @Test
+  void afterStopAll_noWatchesRemain() {
+    createPodWatcher(NS1, INITIAL_RESOURCE_VERSION, ns1Pods);
+
+    watches.stopAll();
+
+    assertThat(watches.getNumWatches(), equalTo(0));
+  }
+}
@@ -45,6 +45,6 @@ class ConfigMapWatcherTest extends WatcherTestBase implements WatchListener<V1Co
 
   @Override
   protected ConfigMapWatcher createWatcher(String ns, AtomicBoolean stopping, BigInteger rv) {
-    return ConfigMapWatcher.create(this, ns, rv.toString(), tuning, this, stopping);
+    return ConfigMapWatcher.create(this, ns, rv.toString(), tuning, this, stopping, null);
   }
 }
@@ -16,6 +16,7 @@ import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.FiberGate;
 import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import org.jetbrains.annotations.NotNull;
@@ -108,7 +109,7 @@ public abstract class DomainProcessorDelegateStub implements DomainProcessorDele
     return new File("/deployment");
   }
 
-  private static class PassthroughPodAwaiterStepFactory implements PodAwaiterStepFactory {
+  private class PassthroughPodAwaiterStepFactory implements PodAwaiterStepFactory {
     @Override
     public Step waitForReady(V1Pod pod, Step next) {
       return next;
@@ -121,7 +122,19 @@ public abstract class DomainProcessorDelegateStub implements DomainProcessorDele
 
     @Override
     public Step waitForDelete(V1Pod pod, Step next) {
-      return next;
+      return new DeletionNotificationStep(next);
+    }
+  }
+
+  // Resumes only after the work already queued, as the deletion is reported by a watch event after the delete call
+  private class DeletionNotificationStep extends Step {
+    DeletionNotificationStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(getNext(), fiber -> testSupport.schedule(() -> fiber.resume(packet)));
     }
   }
 
@@ -8,6 +8,7 @@ import java.util.Map;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1SecretReference;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.Domain;
@@ -112,4 +113,12 @@ public class DomainProcessorTestSetup {
                       .data(Map.of(USERNAME_KEY, "user".getBytes(),
                             PASSWORD_KEY, "password".getBytes())));
   }
+
+  /**
+   * Replaces the cached domain, as the domain processor does when the domain watch reports a change.
+   * @param domain the domain to cache
+   */
+  public static void updateCachedDomain(Domain domain) {
+    DomainProcessorImpl.registerDomainPresenceInfo(new DomainPresenceInfo(domain));
+  }
 }
@@ -0,0 +1,235 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Failed;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class DomainStatusWriterTest {
+  private static final int WRITE_INTERVAL_MILLIS = 1000;
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final Domain domain = DomainProcessorTestSetup.createTestDomain();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
+  private final DomainStatusWriter writer = new DomainStatusWriter();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(ClientFactoryStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(StaticStubSupport.install(DomainStatusWriter.class, "instance", writer));
+
+    writer.configure(DomainProcessorDelegateStub.createDelegate(testSupport),
+          testSupport.getEngine().getExecutor(), WRITE_INTERVAL_MILLIS);
+    domain.setStatus(new DomainStatus());
+    testSupport.defineResources(domain);
+    testSupport.addDomainPresenceInfo(info);
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private Domain getRecordedDomain() {
+    return testSupport.getResourceWithName(KubernetesTestSupport.DOMAIN, UID);
+  }
+
+  private long getRecordedResourceVersion() {
+    return Long.parseLong(getRecordedDomain().getMetadata().getResourceVersion());
+  }
+
+  private void runAfterFirstWrite(Step step) {
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+    testSupport.runSteps(step);
+  }
+
+  private void waitForWriteInterval() {
+    SystemClockTestSupport.increment();
+    testSupport.setTime(WRITE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  @Test
+  void whenNoRecentWrite_writeChangeImmediately() {
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+
+    assertThat(getRecordedDomain().getStatus().isRolling(), is(true));
+  }
+
+  @Test
+  void whenChangeHasNoEventsOrNextStep_completeFiberWithoutFailure() throws Exception {
+    domain.setStatus(new DomainStatus().withIntrospectJobFailureCount(1));
+
+    testSupport.runSteps(DomainStatusUpdater.createResetFailureCountStep());
+
+    testSupport.throwOnCompletionFailure();
+    assertThat(getRecordedDomain().getStatus().getIntrospectJobFailureCount(), equalTo(0));
+  }
+
+  @Test
+  void whenWrittenRecently_holdChangeInCachedDomain() {
+    runAfterFirstWrite(DomainStatusUpdater.createServerPodFailureSteps("pod failed"));
+
+    assertThat(getRecordedDomain().getStatus().hasConditionWithType(Failed), is(false));
+    assertThat(info.getDomain().getStatus().hasConditionWithType(Failed), is(true));
+    assertThat(writer.getNumPending(), equalTo(1));
+  }
+
+  @Test
+  void afterWriteInterval_writeHeldChanges() {
+    runAfterFirstWrite(DomainStatusUpdater.createServerPodFailureSteps("pod failed"));
+
+    waitForWriteInterval();
+
+    assertThat(getRecordedDomain().getStatus().hasConditionWithType(Failed), is(true));
+    assertThat(writer.getNumPending(), equalTo(0));
+  }
+
+  @Test
+  void heldChanges_areWrittenTogether() {
+    runAfterFirstWrite(DomainStatusUpdater.createServerPodFailureSteps("pod failed"));
+    testSupport.runSteps(DomainStatusUpdater.createRemoveFailuresStep());
+    testSupport.runSteps(DomainStatusUpdater.createDomainInvalidFailureSteps("bad domain"));
+    long resourceVersion = getRecordedResourceVersion();
+
+    waitForWriteInterval();
+
+    assertThat(getRecordedResourceVersion(), equalTo(resourceVersion + 1));
+    assertThat(getRecordedDomain().getStatus().getMessage(), equalTo("bad domain"));
+  }
+
+  @Test
+  void whenHeldChangesCancelOut_dontWrite() {
+    runAfterFirstWrite(DomainStatusUpdater.createServerPodFailureSteps("pod failed"));
+    testSupport.runSteps(DomainStatusUpdater.createRemoveFailuresStep());
+    long resourceVersion = getRecordedResourceVersion();
+
+    waitForWriteInterval();
+
+    assertThat(getRecordedResourceVersion(), equalTo(resourceVersion));
+  }
+
+  @Test
+  void flushStep_writesHeldChangesWithoutWaiting() {
+    runAfterFirstWrite(Step.chain(
+          DomainStatusUpdater.createServerPodFailureSteps("pod failed"),
+          DomainStatusUpdater.createStatusFlushStep(null)));
+
+    assertThat(getRecordedDomain().getStatus().hasConditionWithType(Failed), is(true));
+  }
+
+  @Test
+  void whenWriteConflicts_rereadDomainAndMergeHeldChanges() {
+    runAfterFirstWrite(DomainStatusUpdater.createServerPodFailureSteps("pod failed"));
+    testSupport.failOnResource("DomainStatus", UID, NS, HTTP_CONFLICT);
+
+    waitForWriteInterval();
+
+    assertThat(getRecordedDomain().getStatus().isRolling(), is(true));
+    assertThat(getRecordedDomain().getStatus().hasConditionWithType(Failed), is(true));
+  }
+
+  @Test
+  void whenChangingFiberIsReplacedDuringWrite_writeLaterChangesImmediately() {
+    FiberGate gate = testSupport.createFiberGate();
+    testSupport.doOnUpdate(KubernetesTestSupport.DOMAIN, d -> replaceFiber(gate));
+    gate.startFiber(UID, DomainStatusUpdater.createStartRollStep(), new Packet().with(info), new NullCallback());
+
+    SystemClockTestSupport.increment();
+    testSupport.runSteps(DomainStatusUpdater.createServerPodFailureSteps("pod failed"));
+
+    assertThat(getRecordedDomain().getStatus().hasConditionWithType(Failed), is(true));
+    assertThat(writer.getNumPending(), equalTo(0));
+  }
+
+  // Starts a fiber which replaces the one for the domain, and runs it at once, while the current step is in progress.
+  private void replaceFiber(FiberGate gate) {
+    if (gate.getCurrentFibers().containsKey(UID)) {
+      gate.startFiber(UID, new SuspendStep(), new Packet(), new NullCallback());
+      testSupport.schedule(() -> { }, 0, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  void whenWriteRetriesExhausted_writeLaterChangesImmediately() {
+    testSupport.failOnResource("DomainStatus", UID, NS, HTTP_UNAVAILABLE);
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+    testSupport.cancelFailures();
+
+    testSupport.runSteps(DomainStatusUpdater.createServerPodFailureSteps("pod failed"));
+
+    assertThat(getRecordedDomain().getStatus().isRolling(), is(true));
+    assertThat(getRecordedDomain().getStatus().hasConditionWithType(Failed), is(true));
+  }
+
+  @Test
+  void whenNotConfigured_writeEachChangeImmediately() {
+    writer.configure(null, null, 0);
+
+    runAfterFirstWrite(DomainStatusUpdater.createServerPodFailureSteps("pod failed"));
+
+    assertThat(getRecordedDomain().getStatus().hasConditionWithType(Failed), is(true));
+  }
+
+  @Test
+  void whenNamespaceRemoved_discardHeldChanges() {
+    runAfterFirstWrite(DomainStatusUpdater.createServerPodFailureSteps("pod failed"));
+
+    writer.removeNamespace(NS);
+
+    assertThat(writer.getNumPending(), equalTo(0));
+  }
+
+  private static class NullCallback implements CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+      // no-op
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      // no-op
+    }
+  }
+
+  // Holds its fiber until the fiber is cancelled.
+  private static class SuspendStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> { });
+    }
+  }
+}
@@ -65,6 +65,6 @@ class DomainWatcherTest extends WatcherTestBase implements WatchListener<Domain>
 
   @Override
   protected DomainWatcher createWatcher(String ns, AtomicBoolean stopping, BigInteger rv) {
-    return DomainWatcher.create(this, ns, rv.toString(), tuning, this, stopping);
+    return DomainWatcher.create(this, ns, rv.toString(), tuning, this, stopping, null);
   }
 }
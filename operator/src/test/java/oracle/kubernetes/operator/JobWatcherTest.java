@@ -95,7 +95,7 @@ class JobWatcherTest extends WatcherTestBase implements WatchListener<V1Job> {
 
   @Override
   protected JobWatcher createWatcher(String ns, AtomicBoolean stopping, BigInteger rv) {
-    return JobWatcher.create(this, ns, rv.toString(), tuning, NULL_LISTENER, stopping);
+    return JobWatcher.create(this, ns, rv.toString(), tuning, NULL_LISTENER, stopping, null);
   }
 
   private JobWatcher createWatcher(AtomicBoolean stopping) {
@@ -398,4 +398,8 @@ class JobWatcherTest extends WatcherTestBase implements WatchListener<V1Job> {
     // Override as JobWatcher doesn't currently implement listener for callback
   }
 
+  public void whenWatchTransportEnabled_receivedEventsAreSentToListeners() {
+    // Override as JobWatcher doesn't currently implement listener for callback
+  }
+
 }
@@ -1,4 +1,4 @@
-// Copyright (c) 2021, Oracle and/or its affiliates.
+// Copyright (c) 2021, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -21,21 +21,51 @@ import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 
 class KubernetesExecFactoryFake implements KubernetesExecFactory {
   private final Map<String, String> responses = new HashMap<>();
+  private int numExecs;
 
+  // Each test starts with a fresh probe, so that states read by one test are not shared with the next.
   @NotNull
   public Memento install() throws NoSuchFieldException {
-    return StaticStubSupport.install(ServerStatusReader.class, "execFactory", this);
+    return new ProbeMemento(
+          StaticStubSupport.install(ServerStateProbe.class, "instance", new ServerStateProbe()),
+          StaticStubSupport.install(ServerStateProbe.class, "execFactory", this));
+  }
+
+  private static class ProbeMemento implements Memento {
+    private final Memento probeMemento;
+    private final Memento factoryMemento;
+
+    ProbeMemento(Memento probeMemento, Memento factoryMemento) {
+      this.probeMemento = probeMemento;
+      this.factoryMemento = factoryMemento;
+    }
+
+    @Override
+    public void revert() {
+      factoryMemento.revert();
+      probeMemento.revert();
+    }
+
+    @Override
+    public <T> T getOriginalValue() {
+      return factoryMemento.getOriginalValue();
+    }
   }
 
   void defineResponse(String serverName, String response) {
     responses.put(LegalNames.toPodName(UID, serverName), response);
   }
 
+  int getNumExecs() {
+    return numExecs;
+  }
+
   @Override
   public KubernetesExec create(ApiClient client, V1Pod pod, String containerName) {
     return new KubernetesExec() {
       @Override
       public Process exec(String... command) {
+        numExecs++;
         return createStub(ServerStatusReaderTest.ProcessStub.class, getResponse(pod.getMetadata().getName()));
       }
 
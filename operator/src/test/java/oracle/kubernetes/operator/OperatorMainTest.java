@@ -32,6 +32,7 @@ import io.kubernetes.client.openapi.models.VersionInfo;
 import oracle.kubernetes.operator.Namespaces.SelectionStrategy;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.helpers.EventAggregator;
 import oracle.kubernetes.operator.helpers.HelmAccess;
 import oracle.kubernetes.operator.helpers.HelmAccessStub;
 import oracle.kubernetes.operator.helpers.KubernetesEventObjects;
@@ -195,6 +196,8 @@ class OperatorMainTest extends ThreadFactoryTestBase {
     mementos.add(NoopWatcherStarter.install());
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "domainEventK8SObjects", domainEventObjects));
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "namespaceEventK8SObjects", nsEventObjects));
+    mementos.add(StaticStubSupport.install(DomainStatusWriter.class, "instance", new DomainStatusWriter()));
+    mementos.add(StaticStubSupport.install(EventAggregator.class, "instance", new EventAggregator()));
 
     HelmAccessStub.defineVariable(OPERATOR_NAMESPACE_ENV, OP_NS);
     HelmAccessStub.defineVariable(OPERATOR_POD_NAME_ENV, OPERATOR_POD_NAME);
@@ -34,6 +34,7 @@ import static oracle.kubernetes.operator.logging.MessageKeys.EXECUTE_MAKE_RIGHT_
 import static oracle.kubernetes.operator.logging.MessageKeys.INTROSPECTOR_POD_FAILED;
 import static oracle.kubernetes.utils.LogMatcher.containsFine;
 import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -106,11 +107,21 @@ class PodWatcherTest extends WatcherTestBase implements WatchListener<V1Pod> {
 
   @Override
   protected PodWatcher createWatcher(String ns, AtomicBoolean stopping, BigInteger rv) {
-    return PodWatcher.create(this, ns, rv.toString(), tuning, this, stopping);
+    return PodWatcher.create(this, ns, rv.toString(), tuning, this, stopping, null);
   }
 
   private PodWatcher createWatcher(AtomicBoolean stopping) {
-    return PodWatcher.create(this, NS, INITIAL_RESOURCE_VERSION.toString(), tuning, this, stopping);
+    return PodWatcher.create(this, NS, INITIAL_RESOURCE_VERSION.toString(), tuning, this, stopping, null);
+  }
+
+  @Test
+  void whenWatcherCreatedWithStore_storeReceivesFirstEvents() {
+    ResourceStore<V1Pod> store = new ResourceStore<>();
+    scheduleAddResponse(createPod());
+
+    PodWatcher.create(this, NS, INITIAL_RESOURCE_VERSION.toString(), tuning, this, stopping, store).waitForExit();
+
+    assertThat(store.getItems(), contains(createPod()));
   }
 
   @Test
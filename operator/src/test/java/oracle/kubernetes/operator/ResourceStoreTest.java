@@ -0,0 +1,187 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class ResourceStoreTest {
+
+  private final ResourceStore<V1Pod> store = new ResourceStore<>();
+
+  @Test
+  void whenNotPopulated_storeIsNotSynced() {
+    store.setWatched(true);
+
+    assertThat(store.isSynced(), is(false));
+  }
+
+  @Test
+  void whenPopulatedButNotWatched_storeIsNotSynced() {
+    store.replaceAll(List.of(createPod("pod1", "uid1", "1")), "10");
+
+    assertThat(store.isSynced(), is(false));
+  }
+
+  @Test
+  void whenPopulatedAndWatched_storeIsSynced() {
+    store.replaceAll(List.of(createPod("pod1", "uid1", "1")), "10");
+    store.setWatched(true);
+
+    assertThat(store.isSynced(), is(true));
+  }
+
+  @Test
+  void afterInvalidate_storeIsNotSynced() {
+    store.replaceAll(List.of(createPod("pod1", "uid1", "1")), "10");
+    store.setWatched(true);
+
+    store.invalidate();
+
+    assertThat(store.isSynced(), is(false));
+  }
+
+  @Test
+  void afterReplaceAll_storeContainsOnlyListedItems() {
+    store.apply("ADDED", createPod("old", "uid1", "1"));
+
+    store.replaceAll(List.of(createPod("pod1", "uid1", "2"), createPod("pod2", "uid2", "3")), "10");
+
+    assertThat(getNames(store.getItems()), containsInAnyOrder("pod1", "pod2"));
+    assertThat(store.getResourceVersion(), equalTo("10"));
+  }
+
+  @Test
+  void whenStoredItemNewerThanRelist_keepIt() {
+    store.replaceAll(List.of(createPod("pod1", "uid1", "1")), "10");
+    V1Pod modified = createPod("pod1", "uid1", "20");
+    store.apply("MODIFIED", modified);
+
+    store.replaceAll(List.of(createPod("pod1", "uid1", "12")), "15");
+
+    assertThat(store.getItems(), contains(sameInstance(modified)));
+    assertThat(store.getResourceVersion(), equalTo("20"));
+  }
+
+  @Test
+  void whenItemAddedAfterRelist_keepIt() {
+    store.replaceAll(List.of(), "10");
+    store.apply("ADDED", createPod("pod1", "uid1", "20"));
+
+    store.replaceAll(List.of(), "15");
+
+    assertThat(getNames(store.getItems()), contains("pod1"));
+  }
+
+  @Test
+  void whenItemDeletedAfterRelist_dontRestoreIt() {
+    store.replaceAll(List.of(createPod("pod1", "uid1", "1")), "10");
+    store.apply("DELETED", createPod("pod1", "uid1", "20"));
+
+    store.replaceAll(List.of(createPod("pod1", "uid1", "1")), "15");
+
+    assertThat(store.getItems(), empty());
+  }
+
+  @Test
+  void whenItemDeletedBeforeRelist_restoreListedItem() {
+    store.replaceAll(List.of(createPod("pod1", "uid1", "1")), "10");
+    store.apply("DELETED", createPod("pod1", "uid1", "12"));
+
+    store.replaceAll(List.of(createPod("pod1", "uid1", "18")), "20");
+
+    assertThat(getNames(store.getItems()), contains("pod1"));
+  }
+
+  @Test
+  void whenManyItemsDeleted_rememberOnlyRecentDeletions() {
+    for (int i = 1; i <= 2 * ResourceStore.MAX_DELETED_VERSIONS; i++) {
+      store.apply("DELETED", createPod("pod" + i, "uid1", Integer.toString(i)));
+    }
+
+    assertThat(store.getNumDeletedVersions(), equalTo(ResourceStore.MAX_DELETED_VERSIONS));
+  }
+
+  @Test
+  void afterManyItemsDeleted_dontRestoreRecentlyDeletedItem() {
+    int lastVersion = 2 * ResourceStore.MAX_DELETED_VERSIONS;
+    for (int i = 1; i <= lastVersion; i++) {
+      store.apply("DELETED", createPod("pod" + i, "uid1", Integer.toString(i)));
+    }
+
+    store.replaceAll(List.of(createPod("pod" + lastVersion, "uid1", "1")), "2");
+
+    assertThat(store.getItems(), empty());
+  }
+
+  @Test
+  void itemsAreIndexedByDomainUid() {
+    store.replaceAll(List.of(createPod("pod1", "uid1", "1"), createPod("pod2", "uid2", "2"),
+          createPod("pod3", "uid1", "3")), "10");
+
+    assertThat(getNames(store.getItemsForDomain("uid1")), containsInAnyOrder("pod1", "pod3"));
+  }
+
+  @Test
+  void afterModifiedEvent_storeHoldsNewVersion() {
+    store.replaceAll(List.of(createPod("pod1", "uid1", "1")), "10");
+    V1Pod modified = createPod("pod1", "uid1", "11");
+
+    store.apply("MODIFIED", modified);
+
+    assertThat(store.getItemsForDomain("uid1").get(0), sameInstance(modified));
+    assertThat(store.getResourceVersion(), equalTo("11"));
+  }
+
+  @Test
+  void whenEventOlderThanStoredItem_ignoreIt() {
+    V1Pod current = createPod("pod1", "uid1", "12");
+    store.replaceAll(List.of(current), "12");
+
+    store.apply("MODIFIED", createPod("pod1", "uid1", "11"));
+
+    assertThat(store.getItems().get(0), sameInstance(current));
+  }
+
+  @Test
+  void afterDeletedEvent_itemIsRemovedFromStoreAndIndex() {
+    store.replaceAll(List.of(createPod("pod1", "uid1", "1"), createPod("pod2", "uid1", "2")), "10");
+
+    store.apply("DELETED", createPod("pod1", "uid1", "11"));
+
+    assertThat(getNames(store.getItems()), contains("pod2"));
+    assertThat(getNames(store.getItemsForDomain("uid1")), contains("pod2"));
+  }
+
+  @Test
+  void whenDomainUidLabelChanges_moveItemInIndex() {
+    store.replaceAll(List.of(createPod("pod1", "uid1", "1")), "10");
+
+    store.apply("MODIFIED", createPod("pod1", "uid2", "11"));
+
+    assertThat(store.getItemsForDomain("uid1"), empty());
+    assertThat(getNames(store.getItemsForDomain("uid2")), contains("pod1"));
+  }
+
+  private V1Pod createPod(String name, String domainUid, String resourceVersion) {
+    return new V1Pod().metadata(new V1ObjectMeta().name(name).resourceVersion(resourceVersion)
+          .putLabelsItem(LabelConstants.DOMAINUID_LABEL, domainUid));
+  }
+
+  private List<String> getNames(List<V1Pod> pods) {
+    return pods.stream().map(V1Pod::getMetadata).map(V1ObjectMeta::getName).collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,119 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.helpers.LegalNames;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.work.ThreadFactorySingleton;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class ServerStateProbeTest {
+  private static final String NS = "namespace";
+  private static final String SERVER_NAME = "server1";
+
+  private final KubernetesExecFactoryFake execFactory = new KubernetesExecFactoryFake();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(execFactory.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(ClientFactoryStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+
+    execFactory.defineResponse(SERVER_NAME, "STARTING");
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private V1Pod createPod(String resourceVersion) {
+    return new V1Pod().metadata(new V1ObjectMeta().namespace(NS).name(LegalNames.toPodName(UID, SERVER_NAME))
+          .resourceVersion(resourceVersion));
+  }
+
+  private CompletableFuture<String> readState(V1Pod pod) {
+    return ServerStateProbe.getInstance().readState(pod, 0);
+  }
+
+  @Test
+  void readStateFromServerContainer() {
+    assertThat(readState(createPod("1")).join(), equalTo("STARTING"));
+  }
+
+  @Test
+  void whenSamePodVersionReadAgainPromptly_shareEarlierResult() {
+    readState(createPod("1"));
+    readState(createPod("1"));
+
+    assertThat(execFactory.getNumExecs(), equalTo(1));
+  }
+
+  @Test
+  void whenPodVersionChanges_readAgain() {
+    readState(createPod("1"));
+    readState(createPod("2"));
+
+    assertThat(execFactory.getNumExecs(), equalTo(2));
+  }
+
+  @Test
+  void afterSharingIntervalPasses_readAgain() {
+    readState(createPod("1"));
+
+    SystemClockTestSupport.increment(TuningParameters.getInstance().getMainTuning().initialShortDelay);
+    readState(createPod("1"));
+
+    assertThat(execFactory.getNumExecs(), equalTo(2));
+  }
+
+  @Test
+  void whenPodHasNoResourceVersion_readEachTime() {
+    readState(createPod(null));
+    readState(createPod(null));
+
+    assertThat(execFactory.getNumExecs(), equalTo(2));
+  }
+
+  @Test
+  void afterNamespaceRemoved_readAgain() {
+    readState(createPod("1"));
+
+    ServerStateProbe.getInstance().removeNamespace(NS);
+    readState(createPod("1"));
+
+    assertThat(execFactory.getNumExecs(), equalTo(2));
+  }
+
+  @Test
+  void whenThreadsConfigured_readOnProbeThread() {
+    List<Thread> probeThreads = new ArrayList<>();
+    ServerStateProbe.getInstance().configure(1, r -> {
+      Thread thread = ThreadFactorySingleton.getInstance().newThread(r);
+      probeThreads.add(thread);
+      return thread;
+    });
+
+    assertThat(readState(createPod("1")).join(), equalTo("STARTING"));
+    assertThat(probeThreads.size(), equalTo(1));
+  }
+}
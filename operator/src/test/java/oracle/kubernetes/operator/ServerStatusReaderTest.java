@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -7,6 +7,7 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -30,6 +31,7 @@ import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,6 +41,8 @@ import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -48,6 +52,7 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
   private final TerminalStep endStep = new TerminalStep();
   private final KubernetesExecFactoryFake execFactory = new KubernetesExecFactoryFake();
   private final ReadServerHealthStepFactoryFake stepFactory = new ReadServerHealthStepFactoryFake();
+  private final ReadDomainHealthStepFactoryFake domainHealthStepFactory = new ReadDomainHealthStepFactoryFake();
   private final FiberTestSupport testSupport = new FiberTestSupport();
   private final List<Memento> mementos = new ArrayList<>();
   private final Domain domain =
@@ -59,6 +64,8 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(execFactory.install());
     mementos.add(StaticStubSupport.install(ServerStatusReader.class, "stepFactory", stepFactory));
+    mementos.add(StaticStubSupport.install(ServerStatusReader.class, "domainHealthStepFactory",
+          domainHealthStepFactory));
     mementos.add(TuningParametersStub.install());
     mementos.add(ClientFactoryStub.install());
 
@@ -166,6 +173,76 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(stepFactory.serverNames, contains("server1"));
   }
 
+  @Test
+  void whenReadHealthThroughAdminServerNotSelected_readEachServerIndividually() {
+    defineReadyServerPods("server1", "server2");
+    domainHealthStepFactory.readServers("server1");
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(domainHealthStepFactory.invoked, is(false));
+    assertThat(stepFactory.serverNames, containsInAnyOrder("server1", "server2"));
+  }
+
+  private void defineReadyServerPods(String... serverNames) {
+    for (String serverName : serverNames) {
+      info.setServerPod(serverName, createPod(serverName));
+      setReadyStatus(info.getServerPod(serverName));
+    }
+  }
+
+  @Test
+  void whenReadHealthThroughAdminServer_readOnlyMissingServersIndividually() {
+    domain.getSpec().setReadHealthThroughAdminServer(true);
+    defineReadyServerPods("server1", "server2");
+    domainHealthStepFactory.readServers("server1");
+
+    Packet packet = testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(stepFactory.serverNames, contains("server2"));
+    assertThat(getServerStates(packet), hasEntry("server1", "RUNNING"));
+  }
+
+  @Test
+  void whenAllServersReadThroughAdminServer_noServerHealthRemainsToRead() {
+    domain.getSpec().setReadHealthThroughAdminServer(true);
+    defineReadyServerPods("server1", "server2");
+    domainHealthStepFactory.readServers("server1", "server2");
+
+    Packet packet = testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(stepFactory.serverNames, empty());
+    assertThat(
+        ((AtomicInteger) packet.get(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ)).get(),
+        is(0));
+  }
+
+  static class ReadDomainHealthStepFactoryFake implements Function<Step, Step> {
+    private final List<String> serverNames = new ArrayList<>();
+    boolean invoked;
+
+    void readServers(String... serverNames) {
+      this.serverNames.addAll(Arrays.asList(serverNames));
+    }
+
+    @Override
+    public Step apply(Step next) {
+      return new Step(next) {
+        @Override
+        public NextAction apply(Packet packet) {
+          invoked = true;
+          Map<String, String> serverStates = packet.getValue(SERVER_STATE_MAP);
+          Map<String, ServerHealth> serverHealths = packet.getValue(SERVER_HEALTH_MAP);
+          for (String serverName : serverNames) {
+            serverStates.put(serverName, "RUNNING");
+            serverHealths.put(serverName, new ServerHealth().withOverallHealth("ok"));
+          }
+          return doNext(packet);
+        }
+      };
+    }
+  }
+
   static class ReadServerHealthStepFactoryFake implements Function<Step, Step> {
     final List<String> serverNames = new ArrayList<>();
 
@@ -0,0 +1,206 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static com.meterware.simplestub.Stub.createStub;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThan;
+
+class StatusPollingSchedulerTest {
+  private static final String NS = "namespace";
+  private static final String UID = "domain1";
+  private static final long SHORT_DELAY = 4;
+  private static final long LONG_DELAY = 32;
+  private static final int UNCHANGED_COUNT = 2;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final CoreDelegateStub delegate = createStub(CoreDelegateStub.class);
+  private final Set<String> presentDomains = new HashSet<>();
+  private final List<String> polledDomains = new ArrayList<>();
+  private final StatusPollingScheduler scheduler
+        = new StatusPollingScheduler(delegate, (ns, uid) -> presentDomains.contains(uid));
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(
+          TuningParametersImpl.class, "instance", createStrictStub(AdaptiveTuningParametersStub.class)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void register(String domainUid) {
+    presentDomains.add(domainUid);
+    scheduler.register(NS, domainUid, () -> polledDomains.add(domainUid));
+  }
+
+  private void tick(long numTicks) {
+    for (int i = 0; i < numTicks; i++) {
+      scheduler.tick();
+    }
+  }
+
+  // Runs ticks until the domain is polled, and returns the number run
+  private long ticksToNextPoll() {
+    polledDomains.clear();
+    long numTicks = 0;
+    while (polledDomains.isEmpty() && numTicks <= LONG_DELAY) {
+      scheduler.tick();
+      numTicks++;
+    }
+    return numTicks;
+  }
+
+  private void recordUnchangedResults(int numResults) {
+    for (int i = 0; i < numResults; i++) {
+      ticksToNextPoll();
+      scheduler.recordResult(NS, UID, "unchanged");
+    }
+  }
+
+  @Test
+  void registeringDomains_schedulesOneTickTask() {
+    register("domain1");
+    register("domain2");
+
+    assertThat(delegate.numScheduled, equalTo(1));
+  }
+
+  @Test
+  void afterRegistration_pollDomainWithinShortDelay() {
+    register(UID);
+
+    tick(SHORT_DELAY);
+
+    assertThat(polledDomains, contains(UID));
+  }
+
+  @Test
+  void domainsRegisteredTogether_areSpreadOverShortDelay() {
+    for (int i = 0; i < 20; i++) {
+      register("domain" + i);
+    }
+
+    tick(1);
+    assertThat(polledDomains.size(), lessThan(20));
+
+    tick(SHORT_DELAY - 1);
+    assertThat(polledDomains, hasSize(20));
+  }
+
+  @Test
+  void whileStatusChanges_pollAtShortDelay() {
+    register(UID);
+    ticksToNextPoll();
+
+    for (int i = 0; i < 5; i++) {
+      scheduler.recordResult(NS, UID, "state" + i);
+      assertThat(ticksToNextPoll(), equalTo(SHORT_DELAY));
+    }
+  }
+
+  @Test
+  void whenStatusUnchanged_doubleInterval() {
+    register(UID);
+    scheduler.recordResult(NS, UID, "unchanged");
+
+    recordUnchangedResults(UNCHANGED_COUNT);
+
+    assertThat(scheduler.getInterval(NS, UID), equalTo(2 * SHORT_DELAY));
+    assertThat(ticksToNextPoll(), equalTo(2 * SHORT_DELAY));
+  }
+
+  @Test
+  void whenStatusUnchangedForLongTime_intervalDoesNotExceedLongDelay() {
+    register(UID);
+    scheduler.recordResult(NS, UID, "unchanged");
+
+    recordUnchangedResults(10);
+
+    assertThat(scheduler.getInterval(NS, UID), equalTo(LONG_DELAY));
+  }
+
+  @Test
+  void whenStatusChangesAfterBackoff_restoreShortDelay() {
+    register(UID);
+    scheduler.recordResult(NS, UID, "unchanged");
+    recordUnchangedResults(10);
+
+    ticksToNextPoll();
+    scheduler.recordResult(NS, UID, "changed");
+
+    assertThat(ticksToNextPoll(), equalTo(SHORT_DELAY));
+  }
+
+  @Test
+  void whenActivityRecordedAfterBackoff_pollWithinShortDelay() {
+    register(UID);
+    scheduler.recordResult(NS, UID, "unchanged");
+    recordUnchangedResults(10);
+
+    scheduler.recordActivity(NS, UID);
+
+    assertThat(ticksToNextPoll(), lessThan(SHORT_DELAY + 1));
+    assertThat(scheduler.getInterval(NS, UID), equalTo(SHORT_DELAY));
+  }
+
+  @Test
+  void afterUnregistering_stopPolling() {
+    register(UID);
+    scheduler.unregister(NS, UID);
+
+    tick(LONG_DELAY);
+
+    assertThat(polledDomains, empty());
+  }
+
+  @Test
+  void whenDomainNoLongerPresent_stopPolling() {
+    register(UID);
+    presentDomains.remove(UID);
+
+    tick(LONG_DELAY);
+
+    assertThat(polledDomains, empty());
+    assertThat(scheduler.getInterval(NS, UID), equalTo(0L));
+  }
+
+  abstract static class CoreDelegateStub implements CoreDelegate {
+    private int numScheduled;
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+      numScheduled++;
+      return null;
+    }
+  }
+
+  abstract static class AdaptiveTuningParametersStub extends TuningParametersStub {
+    @Override
+    public MainTuning getMainTuning() {
+      return new MainTuning(5, 2, 2, 2, 2, 2, UNCHANGED_COUNT, 30, SHORT_DELAY, LONG_DELAY, 120);
+    }
+  }
+}
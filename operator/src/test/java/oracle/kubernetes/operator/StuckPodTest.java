@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -76,6 +77,7 @@ class StuckPodTest {
     testSupport.throwOnCompletionFailure();
     
     mementos.forEach(Memento::revert);
+    NamespaceResourceStores.remove(NS);
   }
 
   @Test
@@ -154,6 +156,24 @@ class StuckPodTest {
     assertThat(getSelectedPod(FOREIGN_POD), notNullValue());
   }
 
+  @Test
+  void whenPodStoreIsCurrent_examinePodsInStore() {
+    V1Pod cachedPod = defineManagedPod(SERVER_POD_1);
+    markAsDelete(cachedPod);
+    syncPodStore(cachedPod);
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    processing.checkStuckPods(NS);
+
+    assertThat(getSelectedPod(SERVER_POD_1), nullValue());
+  }
+
+  private void syncPodStore(V1Pod... pods) {
+    ResourceStore<V1Pod> store = NamespaceResourceStores.forNamespace(NS).getPods();
+    store.replaceAll(Arrays.asList(pods), "1");
+    store.setWatched(true);
+  }
+
   private V1Pod getSelectedPod(String name) {
     return testSupport.getResourceWithName(POD, name);
   }
@@ -0,0 +1,205 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_GONE;
+import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.WatchCheckpoints.CHECKPOINT_CONFIG_MAP_NAME;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+class WatchCheckpointsTest {
+
+  private static final String NS = "namespace";
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final WatchCheckpoints checkpoints = new WatchCheckpoints();
+  private final List<String> listedPods = new ArrayList<>();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(StaticStubSupport.install(WatchCheckpoints.class, "instance", checkpoints));
+
+    checkpoints.setEnabled(true);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    testSupport.throwOnCompletionFailure();
+
+    mementos.forEach(Memento::revert);
+    NamespaceResourceStores.remove(NS);
+  }
+
+  @Test
+  void whenEnabled_recordResourceVersions() {
+    checkpoints.record(NS, "Pod", "123");
+
+    assertThat(checkpoints.getRecordedVersion(NS, "Pod"), equalTo("123"));
+  }
+
+  @Test
+  void whenDisabled_ignoreResourceVersions() {
+    checkpoints.setEnabled(false);
+
+    checkpoints.record(NS, "Pod", "123");
+
+    assertThat(checkpoints.getRecordedVersion(NS, "Pod"), nullValue());
+  }
+
+  @Test
+  void whenNothingRecorded_saveNothing() {
+    assertThat(checkpoints.createSaveStep(), nullValue());
+  }
+
+  @Test
+  void whenVersionsRecorded_saveToConfigMapInOperatorNamespace() {
+    checkpoints.record(NS, "Pod", "123");
+    checkpoints.record(NS, "Service", "456");
+
+    testSupport.runSteps(checkpoints.createSaveStep());
+
+    assertThat(getCheckpointConfigMap().getData(), hasEntry(NS + ".Pod", "123"));
+    assertThat(getCheckpointConfigMap().getData(), hasEntry(NS + ".Service", "456"));
+  }
+
+  private V1ConfigMap getCheckpointConfigMap() {
+    return testSupport.<V1ConfigMap>getResources(CONFIG_MAP).stream()
+          .filter(cm -> CHECKPOINT_CONFIG_MAP_NAME.equals(cm.getMetadata().getName()))
+          .filter(cm -> getOperatorNamespace().equals(cm.getMetadata().getNamespace()))
+          .findFirst()
+          .orElse(null);
+  }
+
+  @Test
+  void afterSave_saveAgainOnlyWhenChanged() {
+    checkpoints.record(NS, "Pod", "123");
+    testSupport.runSteps(checkpoints.createSaveStep());
+
+    checkpoints.record(NS, "Pod", "123");
+
+    assertThat(checkpoints.createSaveStep(), nullValue());
+  }
+
+  @Test
+  void whenCheckpointConfigMapExists_saveReplacesIt() {
+    checkpoints.record(NS, "Pod", "123");
+    testSupport.runSteps(checkpoints.createSaveStep());
+
+    checkpoints.record(NS, "Pod", "200");
+    testSupport.runSteps(checkpoints.createSaveStep());
+
+    assertThat(getCheckpointConfigMap().getData(), hasEntry(NS + ".Pod", "200"));
+  }
+
+  @Test
+  void afterRestore_returnSavedVersionOnlyOnce() {
+    checkpoints.record(NS, "Pod", "123");
+    testSupport.runSteps(checkpoints.createSaveStep());
+
+    WatchCheckpoints restarted = new WatchCheckpoints();
+    restarted.setEnabled(true);
+    testSupport.runSteps(restarted.createRestoreStep());
+
+    assertThat(restarted.takeRestoredVersion(NS, "Pod"), equalTo("123"));
+    assertThat(restarted.takeRestoredVersion(NS, "Pod"), nullValue());
+  }
+
+  @Test
+  void whenNoCheckpointConfigMap_restoreNothing() {
+    testSupport.runSteps(checkpoints.createRestoreStep());
+
+    assertThat(checkpoints.takeRestoredVersion(NS, "Pod"), nullValue());
+  }
+
+  @Test
+  void whenDisabled_noRestoreStep() {
+    checkpoints.setEnabled(false);
+
+    assertThat(checkpoints.createRestoreStep(), nullValue());
+  }
+
+  @Test
+  void afterNamespaceRemoved_discardItsVersions() {
+    checkpoints.record(NS, "Pod", "123");
+    checkpoints.restore(NS, "Service", "100");
+
+    checkpoints.removeNamespace(NS);
+
+    assertThat(checkpoints.getRecordedVersion(NS, "Pod"), nullValue());
+    assertThat(checkpoints.takeRestoredVersion(NS, "Service"), nullValue());
+  }
+
+  @Test
+  void whenCheckpointRestored_firstListUsesIt() {
+    defineDomainPods("pod1", "pod2");
+    checkpoints.restore(NS, "Pod", "100");
+
+    testSupport.runSteps(createPodListSteps());
+
+    assertThat(listedPods, containsInAnyOrder("pod1", "pod2"));
+    assertThat(checkpoints.takeRestoredVersion(NS, "Pod"), nullValue());
+  }
+
+  @Test
+  void whenCheckpointedListReportsGone_listAgainWithoutCheckpoint() {
+    defineDomainPods("pod1");
+    checkpoints.restore(NS, "Pod", "100");
+    testSupport.failOnResource(POD, null, NS, HTTP_GONE);
+
+    testSupport.runSteps(createPodListSteps());
+
+    assertThat(listedPods, contains("pod1"));
+    assertThat(NamespaceResourceStores.forNamespace(NS).getPods().getResourceVersion(), notNullValue());
+  }
+
+  private void defineDomainPods(String... names) {
+    for (String name : names) {
+      testSupport.defineResources(new V1Pod().metadata(new V1ObjectMeta().namespace(NS).name(name)
+            .putLabelsItem(CREATEDBYOPERATOR_LABEL, "true").putLabelsItem(DOMAINUID_LABEL, "uid")));
+    }
+  }
+
+  private Step createPodListSteps() {
+    NamespacedResources resources = new NamespacedResources(NS, null);
+    resources.addProcessing(new NamespacedResources.Processors() {
+      @Override
+      Consumer<V1PodList> getPodListProcessing() {
+        return list -> list.getItems().forEach(p -> listedPods.add(p.getMetadata().getName()));
+      }
+    });
+    return resources.createListSteps();
+  }
+}
@@ -0,0 +1,135 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.watcher.WatchListener;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+
+class WatchEventCoalescerTest {
+
+  private static final String NS = "namespace";
+  private static final int WINDOW_MILLIS = 200;
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final WatchEventCoalescer coalescer = new WatchEventCoalescer();
+  private final List<String> dispatched = new ArrayList<>();
+  private final WatchListener<V1Pod> listener
+        = coalescer.coalescing(r -> dispatched.add(r.type + ":" + r.object.getMetadata().getName()
+              + ":" + r.object.getMetadata().getResourceVersion()));
+
+  @BeforeEach
+  void setUp() {
+    coalescer.configure(WINDOW_MILLIS, testSupport.getEngine().getExecutor());
+  }
+
+  private void receive(String type, String name, String resourceVersion) {
+    V1Pod pod = new V1Pod().metadata(new V1ObjectMeta().namespace(NS).name(name).resourceVersion(resourceVersion));
+    listener.receivedResponse(new Watch.Response<>(type, pod));
+  }
+
+  @Test
+  void whenWindowIsZero_dispatchEventsAtOnce() {
+    coalescer.configure(0, testSupport.getEngine().getExecutor());
+
+    receive("MODIFIED", "pod1", "1");
+    receive("MODIFIED", "pod1", "2");
+
+    assertThat(dispatched, contains("MODIFIED:pod1:1", "MODIFIED:pod1:2"));
+  }
+
+  @Test
+  void beforeWindowCloses_holdModifiedEvent() {
+    receive("MODIFIED", "pod1", "1");
+
+    testSupport.setTime(WINDOW_MILLIS - 1, TimeUnit.MILLISECONDS);
+
+    assertThat(dispatched, empty());
+  }
+
+  @Test
+  void whenWindowCloses_dispatchOnlyLatestEventForResource() {
+    receive("MODIFIED", "pod1", "1");
+    receive("MODIFIED", "pod1", "2");
+    receive("MODIFIED", "pod1", "3");
+
+    testSupport.setTime(WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(dispatched, contains("MODIFIED:pod1:3"));
+  }
+
+  @Test
+  void eventsForDifferentResources_areNotCoalesced() {
+    receive("MODIFIED", "pod1", "1");
+    receive("MODIFIED", "pod2", "2");
+
+    testSupport.setTime(WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(dispatched, contains("MODIFIED:pod1:1", "MODIFIED:pod2:2"));
+  }
+
+  @Test
+  void whenAddedThenModified_dispatchAddedWithLatestState() {
+    receive("ADDED", "pod1", "1");
+    receive("MODIFIED", "pod1", "2");
+
+    testSupport.setTime(WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(dispatched, contains("ADDED:pod1:2"));
+  }
+
+  @Test
+  void laterEvents_doNotExtendWindow() {
+    receive("MODIFIED", "pod1", "1");
+    testSupport.setTime(WINDOW_MILLIS - 10, TimeUnit.MILLISECONDS);
+    receive("MODIFIED", "pod1", "2");
+
+    testSupport.setTime(WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(dispatched, contains("MODIFIED:pod1:2"));
+  }
+
+  @Test
+  void whenDeleted_discardHeldEventAndDispatchAtOnce() {
+    receive("MODIFIED", "pod1", "1");
+    receive("DELETED", "pod1", "2");
+    testSupport.setTime(WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(dispatched, contains("DELETED:pod1:2"));
+  }
+
+  @Test
+  void afterWindowCloses_holdNextEventForNewWindow() {
+    receive("MODIFIED", "pod1", "1");
+    testSupport.setTime(WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    receive("MODIFIED", "pod1", "2");
+    testSupport.setTime(2 * WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(dispatched, contains("MODIFIED:pod1:1", "MODIFIED:pod1:2"));
+  }
+
+  @Test
+  void suppressedEvents_areCounted() {
+    receive("MODIFIED", "pod1", "1");
+    receive("MODIFIED", "pod1", "2");
+
+    assertThat(OperatorMetrics.getInstance().toPrometheusText(),
+          containsString("wko_watch_events_coalesced_total{resource=\"Pod\"}"));
+  }
+}
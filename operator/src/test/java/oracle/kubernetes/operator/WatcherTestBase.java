@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -6,15 +6,20 @@ package oracle.kubernetes.operator;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.builders.WatchTransport;
+import oracle.kubernetes.operator.helpers.ClientFactory;
+import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.work.Step;
@@ -32,6 +37,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
 
 /** Tests behavior of the Watcher class. */
 @SuppressWarnings("SameParameterValue")
@@ -43,9 +49,10 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
   private final RuntimeException hasNextException = new RuntimeException(Watcher.HAS_NEXT_EXCEPTION_MESSAGE);
   private final List<Memento> mementos = new ArrayList<>();
   private final List<Watch.Response<?>> callBacks = new ArrayList<>();
-  private final AtomicBoolean stopping = new AtomicBoolean(false);
+  final AtomicBoolean stopping = new AtomicBoolean(false);
   final WatchTuning tuning = new WatchTuning(30, 0, 5, 24);
   private BigInteger resourceVersion = INITIAL_RESOURCE_VERSION;
+  private WatchTransport transport;
 
   private V1ObjectMeta createMetaData() {
     return createMetaData(getNextResourceVersion());
@@ -92,6 +99,7 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
 
   @AfterEach
   public void tearDown() throws Exception {
+    Optional.ofNullable(transport).ifPresent(WatchTransport::shutdown);
     shutDownThreads();
     mementos.forEach(Memento::revert);
   }
@@ -164,6 +172,62 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     assertThat(callBacks, contains(addEvent(object1), modifyEvent(object2)));
   }
 
+  @Test
+  void whenWatchTransportEnabled_receivedEventsAreSentToListeners() throws NoSuchFieldException {
+    enableWatchTransport();
+    Object object1 = createObjectWithMetaData();
+    Object object2 = createObjectWithMetaData();
+    StubWatchFactory.addCallResponses(createAddResponse(object1), createModifyResponse(object2));
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(callBacks, contains(addEvent(object1), modifyEvent(object2)));
+  }
+
+  @Test
+  void whenWatchTransportEnabled_afterFirstSetOfEvents_nextRequestSendsLastResourceVersion()
+        throws NoSuchFieldException {
+    enableWatchTransport();
+    Object object1 = createObjectWithMetaData();
+    Object object2 = createObjectWithMetaData();
+    StubWatchFactory.addCallResponses(createAddResponse(object1), createModifyResponse(object2));
+    scheduleAddResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(StubWatchFactory.getNumCloseCalls(), equalTo(2));
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(1),
+        hasEntry("resourceVersion", resourceVersion.subtract(BigInteger.TWO).toString()));
+  }
+
+  @Test
+  void whenWatchTransportCannotCarryPooledClients_runWatchOnItsOwnThread() throws NoSuchFieldException {
+    enableWatchTransport();
+    usePooledClient(new ApiClient().setBasePath("https://localhost").setVerifyingSsl(false));
+    AtomicBoolean startedOwnThread = new AtomicBoolean();
+    mementos.add(StaticStubSupport.install(Watcher.class, "starter", (WatcherStarter) (factory, watch) -> {
+      startedOwnThread.set(true);
+      return Watcher.startAsynchronousWatch(factory, watch);
+    }));
+    scheduleAddResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(startedOwnThread.get(), is(true));
+  }
+
+  private void usePooledClient(ApiClient client) throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(ClientPool.class, "factory", (ClientFactory) () -> client));
+    mementos.add(StaticStubSupport.install(ClientPool.class, "singleton", new ClientPool()));
+  }
+
+  private void enableWatchTransport() throws NoSuchFieldException {
+    transport = new WatchTransport();
+    transport.configure(1, this);
+    mementos.add(StaticStubSupport.install(WatchTransport.class, "instance", transport));
+  }
+
   @SuppressWarnings({"rawtypes"})
   @Test
   void afterFirstSetOfEvents_nextRequestSendsLastResourceVersion() {
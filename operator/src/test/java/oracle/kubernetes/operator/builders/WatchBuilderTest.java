@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.builders;
@@ -13,6 +13,7 @@ import java.util.Queue;
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
@@ -121,6 +122,27 @@ class WatchBuilderTest {
     return WatchEvent.createErrorEvent(statusCode).toWatchResponse();
   }
 
+  @Test
+  void whenForAllNamespaces_podWatchRequestsPodsInAllNamespaces() throws Exception {
+    try (Watchable<V1Pod> ignored = new WatchBuilder().forAllNamespaces().createPodWatch(NAMESPACE)) {
+      assertThat(StubWatchFactory.getRequestPaths(), contains("/api/v1/pods"));
+    }
+  }
+
+  @Test
+  void whenForAllNamespaces_jobWatchRequestsJobsInAllNamespaces() throws Exception {
+    try (Watchable<V1Job> ignored = new WatchBuilder().forAllNamespaces().createJobWatch(NAMESPACE)) {
+      assertThat(StubWatchFactory.getRequestPaths(), contains("/apis/batch/v1/jobs"));
+    }
+  }
+
+  @Test
+  void whenNotForAllNamespaces_podWatchRequestsPodsInNamespace() throws Exception {
+    try (Watchable<V1Pod> ignored = new WatchBuilder().createPodWatch(NAMESPACE)) {
+      assertThat(StubWatchFactory.getRequestPaths(), contains("/api/v1/namespaces/" + NAMESPACE + "/pods"));
+    }
+  }
+
   @Test
   void afterWatchClosed_returnClientToPool() throws Exception {
     Domain domain =
@@ -0,0 +1,170 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.builders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import okhttp3.Call;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_OK;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class WatchTransportTest {
+
+  private static final String NS = "namespace";
+  private static final String ADDED_EVENT
+        = "{\"type\":\"ADDED\",\"object\":{\"kind\":\"Pod\",\"metadata\":{\"name\":\"pod1\"}}}";
+  private static final String MODIFIED_EVENT
+        = "{\"type\":\"MODIFIED\",\"object\":{\"kind\":\"Pod\",\"metadata\":{\"name\":\"pod2\"}}}";
+  private static final String GONE_STATUS
+        = "{\"kind\":\"Status\",\"apiVersion\":\"v1\",\"code\":410,\"message\":\"too old resource version: 1 (12)\"}";
+
+  private final WatchTransport transport = new WatchTransport();
+  private final ApiClient client = new ApiClient();
+  private HttpServer server;
+  private int responseStatus = HTTP_OK;
+  private String responseBody = "";
+  private String authorization;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/api/v1/namespaces/" + NS + "/pods", this::respond);
+    server.start();
+    client.setBasePath("http://localhost:" + server.getAddress().getPort());
+    transport.configure(1, Thread::new);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+    transport.shutdown();
+  }
+
+  private void respond(HttpExchange exchange) throws IOException {
+    authorization = exchange.getRequestHeaders().getFirst("Authorization");
+    byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(responseStatus, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  @Test
+  void whenNotConfigured_transportIsDisabled() {
+    assertThat(new WatchTransport().isEnabled(), is(false));
+  }
+
+  @Test
+  void whenServerSendsEvents_watchReceivesThem() throws Exception {
+    responseBody = ADDED_EVENT + "\n" + MODIFIED_EVENT + "\n";
+
+    List<Watch.Response<V1Pod>> events = readAllEvents(openPodWatch());
+
+    assertThat(getTypes(events), contains("ADDED", "MODIFIED"));
+    assertThat(events.get(1).object.getMetadata().getName(), equalTo("pod2"));
+  }
+
+  @Test
+  void whenServerSendsErrorEvent_watchReceivesStatus() throws Exception {
+    responseBody = "{\"type\":\"ERROR\",\"object\":" + GONE_STATUS + "}\n";
+
+    List<Watch.Response<V1Pod>> events = readAllEvents(openPodWatch());
+
+    assertThat(getTypes(events), contains("ERROR"));
+    assertThat(events.get(0).status.getCode(), equalTo(410));
+  }
+
+  @Test
+  void whenServerRejectsWatch_watchReceivesErrorEventWithStatus() throws Exception {
+    responseStatus = 410;
+    responseBody = GONE_STATUS;
+
+    List<Watch.Response<V1Pod>> events = readAllEvents(openPodWatch());
+
+    assertThat(getTypes(events), contains("ERROR"));
+    assertThat(events.get(0).status.getMessage(), equalTo("too old resource version: 1 (12)"));
+  }
+
+  @Test
+  void credentialsAddedByInterceptors_areSentWithWatch() throws Exception {
+    client.setHttpClient(client.getHttpClient().newBuilder()
+          .addInterceptor(chain -> chain.proceed(chain.request().newBuilder()
+                .header("Authorization", "Bearer token").build()))
+          .build());
+
+    readAllEvents(openPodWatch());
+
+    assertThat(authorization, equalTo("Bearer token"));
+  }
+
+  @Test
+  void whenInterceptorAsksForCall_credentialsAreSentWithWatch() throws Exception {
+    client.setHttpClient(client.getHttpClient().newBuilder()
+          .addInterceptor(chain -> chain.proceed(chain.call().request().newBuilder()
+                .header("Authorization", "Bearer token").build()))
+          .build());
+
+    readAllEvents(openPodWatch());
+
+    assertThat(authorization, equalTo("Bearer token"));
+  }
+
+  @Test
+  void whenClientDoesNotVerifyHttpsServer_cannotCarryIt() {
+    client.setBasePath("https://localhost").setVerifyingSsl(false);
+
+    assertThat(transport.canCarry(client), is(false));
+  }
+
+  private StreamingWatch<V1Pod> openPodWatch() throws ApiException, IOException {
+    Call call = new CoreV1Api(client).listNamespacedPodCall(
+          NS, null, true, null, null, null, null, null, null, 30, true, null);
+    return transport.open(client, call, WatchImpl.getType(V1Pod.class));
+  }
+
+  private List<Watch.Response<V1Pod>> readAllEvents(StreamingWatch<V1Pod> watch) throws InterruptedException {
+    List<Watch.Response<V1Pod>> events = new ArrayList<>();
+    CountDownLatch complete = new CountDownLatch(1);
+    watch.notifyWhenReady(() -> {
+      synchronized (events) {
+        while (watch.hasNext()) {
+          events.add(watch.next());
+        }
+        if (watch.isComplete()) {
+          complete.countDown();
+        }
+      }
+    });
+
+    assertThat(complete.await(10, TimeUnit.SECONDS), is(true));
+    return events;
+  }
+
+  private List<String> getTypes(List<Watch.Response<V1Pod>> events) {
+    List<String> types = new ArrayList<>();
+    events.forEach(e -> types.add(e.type));
+    return types;
+  }
+}
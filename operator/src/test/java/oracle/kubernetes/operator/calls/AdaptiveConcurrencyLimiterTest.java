@@ -0,0 +1,177 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import oracle.kubernetes.operator.calls.AdaptiveConcurrencyLimiter.Budget;
+import oracle.kubernetes.operator.calls.AdaptiveConcurrencyLimiter.RequestClass;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_OK;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_TOO_MANY_REQUESTS;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final long MILLIS = 1_000_000L;
+
+  private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 10);
+  private final List<String> started = new ArrayList<>();
+
+  @Test
+  void operationNames_mapToRequestClasses() {
+    assertThat(RequestClass.forOperation("list"), equalTo(RequestClass.LIST));
+    assertThat(RequestClass.forOperation("watch"), equalTo(RequestClass.WATCH));
+    assertThat(RequestClass.forOperation("read"), equalTo(RequestClass.READ));
+    assertThat(RequestClass.forOperation("replaceStatus"), equalTo(RequestClass.MUTATE));
+    assertThat(RequestClass.forOperation("delete"), equalTo(RequestClass.MUTATE));
+  }
+
+  @Test
+  void callsBeyondLimit_areQueued() {
+    startCalls(RequestClass.READ, "a", "b", "c");
+
+    assertThat(started, contains("a", "b"));
+    assertThat(limiter.getNumInFlight(RequestClass.READ), equalTo(2));
+    assertThat(limiter.getNumWaiting(RequestClass.READ), equalTo(1));
+  }
+
+  @Test
+  void whenCallCompletes_startOldestQueuedCall() {
+    startCalls(RequestClass.READ, "a", "b", "c", "d");
+
+    limiter.release(RequestClass.READ, System.nanoTime(), HTTP_OK);
+
+    assertThat(started, contains("a", "b", "c"));
+  }
+
+  @Test
+  void requestClasses_haveSeparateBudgets() {
+    startCalls(RequestClass.MUTATE, "m1", "m2", "m3");
+    startCalls(RequestClass.LIST, "l1");
+
+    assertThat(started, contains("m1", "m2", "l1"));
+  }
+
+  @Test
+  void whenLimitIsZero_neverQueueCalls() {
+    limiter.configure(2, 0);
+
+    startCalls(RequestClass.MUTATE, "a", "b", "c");
+
+    assertThat(started, contains("a", "b", "c"));
+  }
+
+  @Test
+  void whenThrottled_halveLimit() {
+    limiter.configure(8, 10);
+
+    limiter.release(RequestClass.MUTATE, System.nanoTime(), HTTP_TOO_MANY_REQUESTS);
+
+    assertThat(limiter.getLimit(RequestClass.MUTATE), equalTo(4));
+  }
+
+  @Test
+  void whenCallTimesOut_halveLimit() {
+    limiter.configure(8, 10);
+
+    limiter.release(RequestClass.MUTATE, System.nanoTime(), AdaptiveConcurrencyLimiter.TIMED_OUT);
+
+    assertThat(limiter.getLimit(RequestClass.MUTATE), equalTo(4));
+  }
+
+  @Test
+  void whenCallFailsWithoutResponse_dontChangeLimit() {
+    limiter.configure(8, 10);
+
+    limiter.release(RequestClass.MUTATE, System.nanoTime(), AdaptiveConcurrencyLimiter.NO_HTTP_RESPONSE);
+
+    assertThat(limiter.getLimit(RequestClass.MUTATE), equalTo(8));
+  }
+
+  @Test
+  void whenConcurrentCallsAllThrottled_halveLimitOnlyOnce() {
+    Budget budget = createBudget(RequestClass.MUTATE, 8);
+
+    budget.release(0, 10 * MILLIS, HTTP_TOO_MANY_REQUESTS);
+    budget.release(1 * MILLIS, 11 * MILLIS, HTTP_TOO_MANY_REQUESTS);
+    budget.release(2 * MILLIS, 12 * MILLIS, HTTP_TOO_MANY_REQUESTS);
+
+    assertThat(budget.getLimit(), equalTo(4));
+  }
+
+  @Test
+  void whenCallStartedAfterDecreaseIsThrottled_halveLimitAgain() {
+    Budget budget = createBudget(RequestClass.MUTATE, 8);
+
+    budget.release(0, 10 * MILLIS, HTTP_TOO_MANY_REQUESTS);
+    budget.release(11 * MILLIS, 20 * MILLIS, HTTP_TOO_MANY_REQUESTS);
+
+    assertThat(budget.getLimit(), equalTo(2));
+  }
+
+  @Test
+  void whenCallsCompletePromptlyAtLimit_increaseLimit() {
+    Budget budget = createBudget(RequestClass.READ, 2);
+
+    for (int i = 0; i < 10; i++) {
+      budget.acquire(() -> { });
+      budget.acquire(() -> { });
+      budget.release(0, 10 * MILLIS, HTTP_OK);
+      budget.release(0, 10 * MILLIS, HTTP_OK);
+    }
+
+    assertThat(budget.getLimit(), greaterThan(2));
+  }
+
+  @Test
+  void whenLatencyRisesWellAboveBaseline_decreaseLimit() {
+    Budget budget = createBudget(RequestClass.READ, 10);
+    budget.release(0, 10 * MILLIS, HTTP_OK);
+
+    budget.release(20 * MILLIS, 100 * MILLIS, HTTP_OK);
+
+    assertThat(budget.getLimit(), lessThan(10));
+  }
+
+  @Test
+  void whenWatchIsLong_dontDecreaseLimit() {
+    Budget budget = createBudget(RequestClass.WATCH, 10);
+    budget.release(0, 10 * MILLIS, HTTP_OK);
+
+    budget.release(20 * MILLIS, 300_000 * MILLIS, HTTP_OK);
+
+    assertThat(budget.getLimit(), equalTo(10));
+  }
+
+  @Test
+  void whenLimitDecreased_holdQueuedCallsUntilBelowIt() {
+    Budget budget = createBudget(RequestClass.MUTATE, 4);
+    for (String name : List.of("a", "b", "c", "d", "e")) {
+      budget.acquire(() -> started.add(name));
+    }
+
+    budget.release(0, 10 * MILLIS, HTTP_TOO_MANY_REQUESTS);
+
+    assertThat(started, contains("a", "b", "c", "d"));
+  }
+
+  private Budget createBudget(RequestClass requestClass, int limit) {
+    Budget budget = new Budget(requestClass);
+    budget.configure(limit, 100);
+    return budget;
+  }
+
+  private void startCalls(RequestClass requestClass, String... names) {
+    for (String name : names) {
+      limiter.acquire(requestClass, () -> started.add(name));
+    }
+  }
+}
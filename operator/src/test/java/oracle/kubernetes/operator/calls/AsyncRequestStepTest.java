@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.calls;
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.ApiCallback;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
@@ -75,17 +76,7 @@ class AsyncRequestStepTest {
   private final CallFactoryStub callFactory = new CallFactoryStub();
   private final TestStep nextStep = new TestStep();
   private final ClientPool helper = ClientPool.getInstance();
-  private final AsyncRequestStep<DomainList> asyncRequestStep =
-      new AsyncRequestStep<>(
-          nextStep,
-          requestParams,
-          callFactory,
-          helper,
-          TIMEOUT_SECONDS,
-          MAX_RETRY_COUNT,
-          null,
-          null,
-          null);
+  private final AsyncRequestStep<DomainList> asyncRequestStep = createAsyncRequestStep(nextStep);
   private final List<Memento> mementos = new ArrayList<>();
   private final DomainList smallList = generateDomainList(5);
   private final DomainList largeListPartOne
@@ -93,6 +84,19 @@ class AsyncRequestStepTest {
   private final Domain domain = DomainProcessorTestSetup.createTestDomain();
   private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
 
+  private AsyncRequestStep<DomainList> createAsyncRequestStep(TestStep nextStep) {
+    return new AsyncRequestStep<>(
+        nextStep,
+        requestParams,
+        callFactory,
+        helper,
+        TIMEOUT_SECONDS,
+        MAX_RETRY_COUNT,
+        null,
+        null,
+        null);
+  }
+
   private static DomainList generateDomainList(int size) {
     List<Domain> domains = new ArrayList<>();
     for (int i = 0; i < size; i++) {
@@ -106,6 +110,9 @@ class AsyncRequestStepTest {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(ClientFactoryStub.install());
     mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(StaticStubSupport.install(AdaptiveConcurrencyLimiter.class, "instance",
+          new AdaptiveConcurrencyLimiter()));
+    mementos.add(StaticStubSupport.install(RequestCoalescer.class, "instance", new RequestCoalescer()));
 
     testSupport.runSteps(asyncRequestStep);
   }
@@ -136,6 +143,73 @@ class AsyncRequestStepTest {
     assertThat(callFactory.invokedWith(requestParams), is(true));
   }
 
+  @Test
+  void afterTimeout_reduceConcurrencyLimit() {
+    testSupport.setTime(TIMEOUT_SECONDS + 1, TimeUnit.SECONDS);
+
+    assertThat(getReadLimit(), equalTo(AdaptiveConcurrencyLimiter.DEFAULT_INITIAL_LIMIT / 2));
+  }
+
+  private int getReadLimit() {
+    return AdaptiveConcurrencyLimiter.getInstance().getLimit(AdaptiveConcurrencyLimiter.RequestClass.READ);
+  }
+
+  @Test
+  void afterFailureWithoutResponse_dontReduceConcurrencyLimit() {
+    sendFailedCallback(0);
+
+    assertThat(getReadLimit(), equalTo(AdaptiveConcurrencyLimiter.DEFAULT_INITIAL_LIMIT));
+  }
+
+  @Test
+  void whenIdenticalRequestInFlight_dontSendAnother() {
+    callFactory.clearRequest();
+
+    testSupport.runSteps(createAsyncRequestStep(new TestStep()));
+
+    assertThat(callFactory.invokedWith(requestParams), is(false));
+    assertThat(RequestCoalescer.getInstance().getNumCoalesced(), equalTo(1L));
+  }
+
+  @Test
+  void whenWriteCompletedAfterIdenticalRequestSent_sendAnother() {
+    completeWrite();
+    callFactory.clearRequest();
+
+    testSupport.runSteps(createAsyncRequestStep(new TestStep()));
+
+    assertThat(callFactory.invokedWith(requestParams), is(true));
+  }
+
+  private void completeWrite() {
+    CallFactoryStub writeFactory = new CallFactoryStub();
+    testSupport.runSteps(new AsyncRequestStep<>(new TestStep(),
+          new RequestParams("replaceZork", NS, RESOURCE_NAME, "body", callParams), writeFactory, helper,
+          TIMEOUT_SECONDS, MAX_RETRY_COUNT, null, null, null));
+    writeFactory.sendSuccessfulCallback(smallList);
+  }
+
+  @Test
+  void afterSuccessfulCallback_waitingIdenticalRequestReceivesCopyOfValue() {
+    TestStep secondStep = new TestStep();
+    testSupport.runSteps(createAsyncRequestStep(secondStep));
+
+    callFactory.sendSuccessfulCallback(smallList);
+
+    assertThat(secondStep.result, not(sameInstance(smallList)));
+    assertThat(secondStep.result.getItems().get(4).getMetadata().getName(), equalTo("domain4"));
+  }
+
+  @Test
+  void afterFailedCallback_waitingIdenticalRequestIsSent() {
+    testSupport.runSteps(createAsyncRequestStep(new TestStep()));
+    callFactory.clearRequest();
+
+    callFactory.sendFailedCallback(new ApiException(EXPLANATION), HttpURLConnection.HTTP_UNAVAILABLE);
+
+    assertThat(callFactory.invokedWith(requestParams), is(true));
+  }
+
   @Test
   void afterSuccessfulCallback_nextStepAppliedWithValue() {
     callFactory.sendSuccessfulCallback(smallList);
@@ -0,0 +1,140 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_OK;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class RequestCoalescerTest {
+
+  private static final long MAX_AGE = Long.MAX_VALUE;
+  private static final String NS = "ns";
+
+  private final RequestCoalescer coalescer = new RequestCoalescer();
+  private final List<String> received = new ArrayList<>();
+
+  @Test
+  void firstCaller_leadsRequest() {
+    assertThat(coalescer.join("readPod|ns|pod1", NS, MAX_AGE, new RecordingFollower("a")), notNullValue());
+  }
+
+  @Test
+  void whenIdenticalRequestInFlight_joinIt() {
+    coalescer.join("readPod|ns|pod1", NS, MAX_AGE, new RecordingFollower("a"));
+
+    assertThat(coalescer.join("readPod|ns|pod1", NS, MAX_AGE, new RecordingFollower("b")), nullValue());
+  }
+
+  @Test
+  void whenDifferentRequestInFlight_leadNewRequest() {
+    coalescer.join("readPod|ns|pod1", NS, MAX_AGE, new RecordingFollower("a"));
+
+    assertThat(coalescer.join("readPod|ns|pod2", NS, MAX_AGE, new RecordingFollower("b")), notNullValue());
+  }
+
+  @Test
+  void whenInFlightRequestTooOld_leadNewRequest() {
+    coalescer.join("readPod|ns|pod1", NS, MAX_AGE, new RecordingFollower("a"));
+
+    assertThat(coalescer.join("readPod|ns|pod1", NS, -1, new RecordingFollower("b")), notNullValue());
+  }
+
+  @Test
+  void whenWriteToNamespaceCompletedAfterRequestSent_leadNewRequest() {
+    coalescer.join("readPod|ns|pod1", NS, MAX_AGE, new RecordingFollower("a"));
+
+    coalescer.recordWrite(NS);
+
+    assertThat(coalescer.join("readPod|ns|pod1", NS, MAX_AGE, new RecordingFollower("b")), notNullValue());
+  }
+
+  @Test
+  void whenWriteToOtherNamespaceCompletedAfterRequestSent_joinIt() {
+    coalescer.join("readPod|ns|pod1", NS, MAX_AGE, new RecordingFollower("a"));
+
+    coalescer.recordWrite("other");
+
+    assertThat(coalescer.join("readPod|ns|pod1", NS, MAX_AGE, new RecordingFollower("b")), nullValue());
+  }
+
+  @Test
+  void whenWriteCompletedAfterAllNamespaceRequestSent_leadNewRequest() {
+    coalescer.join("listDomain", null, MAX_AGE, new RecordingFollower("a"));
+
+    coalescer.recordWrite(NS);
+
+    assertThat(coalescer.join("listDomain", null, MAX_AGE, new RecordingFollower("b")), notNullValue());
+  }
+
+  @Test
+  void whenRequestSucceeds_followersReceiveCopies() {
+    RequestCoalescer.InFlightRequest request = coalescer.join("listPod|ns", NS, MAX_AGE, new RecordingFollower("a"));
+    coalescer.join("listPod|ns", NS, MAX_AGE, new RecordingFollower("b"));
+    coalescer.join("listPod|ns", NS, MAX_AGE, new RecordingFollower("c"));
+
+    coalescer.succeed(request, () -> "copy", HTTP_OK, Collections.emptyMap());
+
+    assertThat(received, contains("b:copy", "c:copy"));
+  }
+
+  @Test
+  void whenRequestFails_followersAreReleased() {
+    RequestCoalescer.InFlightRequest request = coalescer.join("listPod|ns", NS, MAX_AGE, new RecordingFollower("a"));
+    coalescer.join("listPod|ns", NS, MAX_AGE, new RecordingFollower("b"));
+
+    coalescer.fail(request);
+
+    assertThat(received, contains("b:failed"));
+  }
+
+  @Test
+  void afterRequestCompletes_nextIdenticalRequestIsSent() {
+    RequestCoalescer.InFlightRequest request = coalescer.join("listPod|ns", NS, MAX_AGE, new RecordingFollower("a"));
+    coalescer.succeed(request, () -> "copy", HTTP_OK, Collections.emptyMap());
+
+    assertThat(coalescer.join("listPod|ns", NS, MAX_AGE, new RecordingFollower("b")), notNullValue());
+  }
+
+  @Test
+  void hitRate_isFractionOfRequestsCoalesced() {
+    coalescer.join("listPod|ns", NS, MAX_AGE, new RecordingFollower("a"));
+    coalescer.join("listPod|ns", NS, MAX_AGE, new RecordingFollower("b"));
+    coalescer.join("listPod|ns", NS, MAX_AGE, new RecordingFollower("c"));
+    coalescer.join("readPod|ns|pod1", NS, MAX_AGE, new RecordingFollower("d"));
+
+    assertThat(coalescer.getNumSent(), equalTo(2L));
+    assertThat(coalescer.getNumCoalesced(), equalTo(2L));
+    assertThat(coalescer.getHitRate(), closeTo(0.5, 0.001));
+  }
+
+  private class RecordingFollower implements RequestCoalescer.Follower {
+    private final String name;
+
+    RecordingFollower(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void onSharedSuccess(Object result, int statusCode, Map<String, List<String>> responseHeaders) {
+      received.add(name + ":" + result);
+    }
+
+    @Override
+    public void onSharedFailure() {
+      received.add(name + ":failed");
+    }
+  }
+}
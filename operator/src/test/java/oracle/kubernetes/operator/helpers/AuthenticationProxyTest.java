@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -8,12 +8,16 @@ import java.util.List;
 
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1TokenReview;
+import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
+import io.kubernetes.client.openapi.models.V1UserInfo;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.TOKEN_REVIEW;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -22,6 +26,7 @@ class AuthenticationProxyTest {
   private final List<Memento> mementos = new ArrayList<>();
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private final AuthorizationProxyStub authorizationProxyStub = new AuthorizationProxyStub();
+  private int numTokenReviews;
 
   /**
    * Setup test.
@@ -33,6 +38,17 @@ class AuthenticationProxyTest {
     mementos.add(testSupport.install());
     mementos.add(
         StaticStubSupport.install(AuthenticationProxy.class, "authorizationProxy", authorizationProxyStub));
+    mementos.add(StaticStubSupport.install(AuthenticationProxy.class, "tokenReviews", new ReviewCache<>()));
+    testSupport.doOnCreate(TOKEN_REVIEW, r -> authenticate((V1TokenReview) r));
+  }
+
+  private void authenticate(V1TokenReview tokenReview) {
+    numTokenReviews++;
+    if ("valid".equals(tokenReview.getSpec().getToken())) {
+      tokenReview.setStatus(new V1TokenReviewStatus().authenticated(true).user(new V1UserInfo()));
+    } else {
+      tokenReview.setStatus(new V1TokenReviewStatus().authenticated(false));
+    }
   }
 
   @AfterEach
@@ -54,6 +70,24 @@ class AuthenticationProxyTest {
     assertThat(authorizationProxyStub.scope, equalTo(Scope.namespace));
   }
 
+  @Test
+  void whenTokenAuthenticatedRecently_dontReviewItAgain() {
+    AuthenticationProxy authenticationProxy = new AuthenticationProxy();
+    authenticationProxy.check("", "valid", null);
+    authenticationProxy.check("", "valid", null);
+
+    assertThat(numTokenReviews, equalTo(1));
+  }
+
+  @Test
+  void whenTokenNotAuthenticated_reviewItAgain() {
+    AuthenticationProxy authenticationProxy = new AuthenticationProxy();
+    authenticationProxy.check("", "invalid", null);
+    authenticationProxy.check("", "invalid", null);
+
+    assertThat(numTokenReviews, equalTo(2));
+  }
+
   private static class AuthorizationProxyStub extends AuthorizationProxy {
     Scope scope;
 
@@ -13,6 +13,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -41,6 +43,7 @@ import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.calls.unprocessable.UnrecoverableErrorBuilderImpl;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.rest.ScanCacheStub;
 import oracle.kubernetes.operator.utils.DomainUpgradeUtils;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
@@ -862,6 +865,53 @@ class DomainIntrospectorJobTest {
     assertThat(terminalStep.wasRun(), is(true));
   }
 
+  @Test
+  void whenJobNotFinished_dontRecordIntrospectorJobDuration() {
+    final long numFailedJobs = getNumIntrospectorJobs("failed");
+    ignoreIntrospectorFailureLogs();
+    defineIntrospectionLogForJob(createStartedIntrospectorJob());
+
+    testSupport.runSteps(JobHelper.readDomainIntrospectorPodLog(terminalStep));
+
+    assertThat(getNumIntrospectorJobs("failed"), equalTo(numFailedJobs));
+  }
+
+  @Test
+  void whenFinishedJobLogReadAgain_recordIntrospectorJobDurationOnce() {
+    final long numFailedJobs = getNumIntrospectorJobs("failed");
+    ignoreIntrospectorFailureLogs();
+    defineIntrospectionLogForJob(asFailedJobAtTime(createStartedIntrospectorJob()));
+
+    testSupport.runSteps(JobHelper.readDomainIntrospectorPodLog(terminalStep));
+    testSupport.runSteps(JobHelper.readDomainIntrospectorPodLog(terminalStep));
+
+    assertThat(getNumIntrospectorJobs("failed"), equalTo(numFailedJobs + 1));
+  }
+
+  private V1Job createStartedIntrospectorJob() {
+    V1Job job = createIntrospectorJob("started-job-uid");
+    job.getStatus().startTime(SystemClock.now());
+    return job;
+  }
+
+  private V1Job asFailedJobAtTime(V1Job job) {
+    job.getStatus().addConditionsItem(
+          new V1JobCondition().status("True").type("Failed").lastTransitionTime(SystemClock.now().plusSeconds(3000)));
+    return job;
+  }
+
+  private void defineIntrospectionLogForJob(V1Job job) {
+    testSupport.defineResources(job);
+    IntrospectionTestUtils.defineResources(testSupport, SEVERE_MESSAGE);
+    testSupport.addToPacket(DOMAIN_INTROSPECTOR_JOB, testSupport.getResourceWithName(JOB, getJobName()));
+  }
+
+  private long getNumIntrospectorJobs(String result) {
+    Matcher matcher = Pattern.compile("wko_introspector_job_duration_seconds_count\\{result=\"" + result + "\"} (\\d+)")
+          .matcher(OperatorMetrics.getInstance().toPrometheusText());
+    return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+  }
+
   private int getRecheckIntervalSeconds() {
     return TuningParameters.getInstance().getMainTuning().domainPresenceRecheckIntervalSeconds;
   }
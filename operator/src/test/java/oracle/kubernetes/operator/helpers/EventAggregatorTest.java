@@ -0,0 +1,154 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import oracle.kubernetes.operator.DomainProcessorDelegateStub;
+import oracle.kubernetes.operator.DomainProcessorImpl;
+import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.helpers.EventHelper.EventData;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.EventConstants.DOMAIN_CHANGED_EVENT;
+import static oracle.kubernetes.operator.EventMatcher.hasEvent;
+import static oracle.kubernetes.operator.EventTestUtils.getEvents;
+import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_CHANGED;
+import static oracle.kubernetes.operator.helpers.EventHelper.createEventStep;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class EventAggregatorTest {
+  private static final int FLUSH_INTERVAL_SECONDS = 10;
+  private static final int REPEAT_BUDGET = 3;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final DomainProcessorDelegateStub processorDelegate = DomainProcessorDelegateStub.createDelegate(testSupport);
+  private final DomainProcessorImpl processor = new DomainProcessorImpl(processorDelegate);
+  private final Domain domain = DomainProcessorTestSetup.createTestDomain();
+  private final Map<String, Map<String, DomainPresenceInfo>> presenceInfoMap = new HashMap<>();
+  private final Map<String, Map<String, KubernetesEventObjects>> domainEventObjects = new ConcurrentHashMap<>();
+  private final Map<String, KubernetesEventObjects> nsEventObjects = new ConcurrentHashMap<>();
+  private final EventAggregator aggregator = new EventAggregator();
+  private int secondsElapsed;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "domains", presenceInfoMap));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "domainEventK8SObjects", domainEventObjects));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "namespaceEventK8SObjects", nsEventObjects));
+    mementos.add(StaticStubSupport.install(EventAggregator.class, "instance", aggregator));
+    mementos.add(TuningParametersStub.install());
+    mementos.add(HelmAccessStub.install());
+
+    aggregator.configure(processorDelegate, testSupport.getEngine().getExecutor(),
+          FLUSH_INTERVAL_SECONDS, REPEAT_BUDGET);
+    testSupport.addDomainPresenceInfo(new DomainPresenceInfo(domain));
+    testSupport.defineResources(domain);
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void createEventAndRepeat(int numRepeats) {
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+    dispatchAddedEventWatches();
+    for (int i = 0; i < numRepeats; i++) {
+      testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+    }
+  }
+
+  private void dispatchAddedEventWatches() {
+    for (CoreV1Event event : getEvents(testSupport)) {
+      processor.dispatchEventWatch(WatchEvent.createAddedEvent(event).toWatchResponse());
+    }
+  }
+
+  private void dispatchDeletedEventWatches() {
+    for (CoreV1Event event : getEvents(testSupport)) {
+      processor.dispatchEventWatch(WatchEvent.createDeletedEvent(event).toWatchResponse());
+    }
+  }
+
+  private void waitForFlush() {
+    secondsElapsed += FLUSH_INTERVAL_SECONDS;
+    testSupport.setTime(secondsElapsed, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void whenEventRepeats_dontReplaceEventAtOnce() {
+    createEventAndRepeat(2);
+
+    assertThat(testSupport, hasEvent(DOMAIN_CHANGED_EVENT).inNamespace(NS).withCount(1));
+    assertThat(aggregator.getNumPending(), equalTo(1));
+  }
+
+  @Test
+  void afterFlushInterval_writeRepeatsAsSingleCount() {
+    createEventAndRepeat(2);
+
+    waitForFlush();
+
+    assertThat(testSupport, hasEvent(DOMAIN_CHANGED_EVENT).inNamespace(NS).withCount(3));
+    assertThat(aggregator.getNumPending(), equalTo(0));
+  }
+
+  @Test
+  void whenRepeatBudgetExhausted_dropFurtherRepeats() {
+    createEventAndRepeat(REPEAT_BUDGET + 2);
+
+    waitForFlush();
+
+    assertThat(testSupport, hasEvent(DOMAIN_CHANGED_EVENT).inNamespace(NS).withCount(REPEAT_BUDGET + 1));
+  }
+
+  @Test
+  void afterFlush_restoreRepeatBudget() {
+    createEventAndRepeat(REPEAT_BUDGET + 2);
+    waitForFlush();
+
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+    waitForFlush();
+
+    assertThat(testSupport, hasEvent(DOMAIN_CHANGED_EVENT).inNamespace(NS).withCount(REPEAT_BUDGET + 2));
+  }
+
+  @Test
+  void whenEventDeletedBeforeFlush_dropRepeats() {
+    createEventAndRepeat(2);
+    dispatchDeletedEventWatches();
+
+    waitForFlush();
+
+    assertThat(testSupport, hasEvent(DOMAIN_CHANGED_EVENT).inNamespace(NS).withCount(1));
+  }
+
+  @Test
+  void whenNotConfigured_replaceEventOnEachRepeat() {
+    aggregator.configure(null, null, 0, 0);
+
+    createEventAndRepeat(2);
+
+    assertThat(testSupport, hasEvent(DOMAIN_CHANGED_EVENT).inNamespace(NS).withCount(3));
+  }
+}
@@ -0,0 +1,55 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import oracle.kubernetes.operator.work.ConcurrencyLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ForkJoinLimitsTest {
+
+  private static final String NS = "namespace";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final Map<String, ConcurrencyLimiter> namespaceLimiters = new ConcurrentHashMap<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(StaticStubSupport.install(ForkJoinLimits.class, "namespaceLimiters", namespaceLimiters));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void forkJoinsInSameNamespace_shareLimiter() {
+    assertThat(ForkJoinLimits.forNamespace(NS), sameInstance(ForkJoinLimits.forNamespace(NS)));
+  }
+
+  @Test
+  void whenNamespaceRemoved_discardItsLimiter() {
+    ConcurrencyLimiter limiter = ForkJoinLimits.forNamespace(NS);
+
+    ForkJoinLimits.removeNamespace(NS);
+
+    assertThat(namespaceLimiters, anEmptyMap());
+    assertThat(ForkJoinLimits.forNamespace(NS), not(sameInstance(limiter)));
+  }
+}
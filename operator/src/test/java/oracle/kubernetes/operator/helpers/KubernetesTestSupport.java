@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
@@ -65,6 +66,7 @@ import jakarta.json.JsonStructure;
 import okhttp3.internal.http2.ErrorCode;
 import okhttp3.internal.http2.StreamResetException;
 import oracle.kubernetes.operator.builders.CallParams;
+import oracle.kubernetes.operator.calls.AdaptiveConcurrencyLimiter;
 import oracle.kubernetes.operator.calls.CallFactory;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.calls.RequestParams;
@@ -599,16 +601,29 @@ public class KubernetesTestSupport extends FiberTestSupport {
   }
 
   private class KubernetesTestSupportMemento implements Memento {
+    private final Memento limiterMemento;
 
     public KubernetesTestSupportMemento() {
       CallBuilder.setStepFactory(new AsyncRequestStepFactoryImpl());
       CallBuilder.setCallDispatcher(new CallDispatcherImpl());
+      limiterMemento = installConcurrencyLimiter();
+    }
+
+    // Each test starts with a fresh limiter, so that calls left in flight by one test cannot hold up the next.
+    private Memento installConcurrencyLimiter() {
+      try {
+        return StaticStubSupport.install(AdaptiveConcurrencyLimiter.class, "instance",
+              new AdaptiveConcurrencyLimiter());
+      } catch (NoSuchFieldException e) {
+        throw new IllegalStateException(e);
+      }
     }
 
     @Override
     public void revert() {
       CallBuilder.resetStepFactory();
       CallBuilder.resetCallDispatcher();
+      limiterMemento.revert();
     }
 
     @Override
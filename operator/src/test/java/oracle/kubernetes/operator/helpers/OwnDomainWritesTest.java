@@ -0,0 +1,120 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.DomainProcessorDelegate;
+import oracle.kubernetes.operator.DomainProcessorImpl;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.createTestDomain;
+import static oracle.kubernetes.operator.helpers.OwnDomainWrites.MAX_WRITES_PER_DOMAIN;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+class OwnDomainWritesTest {
+
+  private final OwnDomainWrites writes = new OwnDomainWrites();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(StaticStubSupport.install(OwnDomainWrites.class, "instance", writes));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private Domain domainAtVersion(String resourceVersion) {
+    Domain domain = createTestDomain();
+    domain.getMetadata().setResourceVersion(resourceVersion);
+    return domain;
+  }
+
+  @Test
+  void domainAtWrittenVersion_isEcho() {
+    writes.record(domainAtVersion("10"));
+
+    assertThat(writes.isEcho(domainAtVersion("10")), is(true));
+  }
+
+  @Test
+  void domainAtOtherVersion_isNotEcho() {
+    writes.record(domainAtVersion("10"));
+
+    assertThat(writes.isEcho(domainAtVersion("11")), is(false));
+  }
+
+  @Test
+  void eachWrite_matchesOnlyOnce() {
+    writes.record(domainAtVersion("10"));
+    writes.isEcho(domainAtVersion("10"));
+
+    assertThat(writes.isEcho(domainAtVersion("10")), is(false));
+  }
+
+  @Test
+  void whenSeveralWritesRecorded_eachIsMatched() {
+    writes.record(domainAtVersion("10"));
+    writes.record(domainAtVersion("12"));
+
+    assertThat(writes.isEcho(domainAtVersion("12")), is(true));
+    assertThat(writes.isEcho(domainAtVersion("10")), is(true));
+  }
+
+  @Test
+  void whenTooManyWritesRecorded_forgetOldest() {
+    for (int i = 0; i <= MAX_WRITES_PER_DOMAIN; i++) {
+      writes.record(domainAtVersion(Integer.toString(i)));
+    }
+
+    assertThat(writes.isEcho(domainAtVersion("0")), is(false));
+    assertThat(writes.isEcho(domainAtVersion("1")), is(true));
+  }
+
+  @Test
+  void afterDomainRemoved_itsWritesAreForgotten() {
+    writes.record(domainAtVersion("10"));
+
+    writes.remove(domainAtVersion("10"));
+
+    assertThat(writes.isEcho(domainAtVersion("10")), is(false));
+  }
+
+  @Test
+  void droppedEchoes_areCounted() {
+    writes.record(domainAtVersion("10"));
+
+    writes.isEcho(domainAtVersion("10"));
+
+    assertThat(OperatorMetrics.getInstance().toPrometheusText(),
+          containsString("wko_watch_echo_events_dropped_total{resource=\"Domain\"}"));
+  }
+
+  // The strict stub delegate would throw if a make-right operation were started.
+  @Test
+  void whenModifiedEventEchoesOwnWrite_processorIgnoresIt() {
+    DomainProcessorImpl processor = new DomainProcessorImpl(createStrictStub(DomainProcessorDelegate.class));
+    writes.record(domainAtVersion("10"));
+
+    processor.dispatchDomainWatch(new Watch.Response<>("MODIFIED", domainAtVersion("10")));
+
+    assertThat(writes.isEcho(domainAtVersion("10")), is(false));
+  }
+}
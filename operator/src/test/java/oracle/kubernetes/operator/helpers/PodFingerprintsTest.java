@@ -0,0 +1,79 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+class PodFingerprintsTest {
+
+  private static final String NS = "namespace";
+
+  private final PodFingerprints fingerprints = new PodFingerprints();
+
+  private V1Pod createPod(String namespace, String resourceVersion) {
+    return new V1Pod().metadata(new V1ObjectMeta().namespace(namespace).name("pod1").resourceVersion(resourceVersion));
+  }
+
+  @Test
+  void sameInputs_haveSameFingerprint() {
+    assertThat(PodFingerprints.createFingerprint("a", 1, null),
+          equalTo(PodFingerprints.createFingerprint("a", 1, null)));
+  }
+
+  @Test
+  void differentInputs_haveDifferentFingerprints() {
+    assertThat(PodFingerprints.createFingerprint("a", 1), not(equalTo(PodFingerprints.createFingerprint("a", 2))));
+  }
+
+  @Test
+  void whenNothingRecorded_podIsNotVerified() {
+    assertThat(fingerprints.isVerified(createPod(NS, "1"), "fp"), is(false));
+  }
+
+  @Test
+  void afterPodRecorded_isVerifiedWithSameFingerprint() {
+    fingerprints.recordVerified(createPod(NS, "1"), "fp");
+
+    assertThat(fingerprints.isVerified(createPod(NS, "1"), "fp"), is(true));
+  }
+
+  @Test
+  void afterPodRecorded_isNotVerifiedWithOtherFingerprint() {
+    fingerprints.recordVerified(createPod(NS, "1"), "fp");
+
+    assertThat(fingerprints.isVerified(createPod(NS, "1"), "other"), is(false));
+  }
+
+  @Test
+  void afterPodRecorded_newerVersionIsNotVerified() {
+    fingerprints.recordVerified(createPod(NS, "1"), "fp");
+
+    assertThat(fingerprints.isVerified(createPod(NS, "2"), "fp"), is(false));
+  }
+
+  @Test
+  void podWithoutResourceVersion_isNotRecorded() {
+    fingerprints.recordVerified(createPod(NS, null), "fp");
+
+    assertThat(fingerprints.isVerified(createPod(NS, null), "fp"), is(false));
+  }
+
+  @Test
+  void afterNamespaceRemoved_itsPodsAreNotVerified() {
+    fingerprints.recordVerified(createPod(NS, "1"), "fp");
+    fingerprints.recordVerified(createPod("other", "1"), "fp");
+
+    fingerprints.removeNamespace(NS);
+
+    assertThat(fingerprints.isVerified(createPod(NS, "1"), "fp"), is(false));
+    assertThat(fingerprints.isVerified(createPod("other", "1"), "fp"), is(true));
+  }
+}
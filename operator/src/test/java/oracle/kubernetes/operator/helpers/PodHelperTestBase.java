@@ -26,6 +26,7 @@ import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.custom.Quantity;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.JSON;
 import io.kubernetes.client.openapi.models.CoreV1Event;
 import io.kubernetes.client.openapi.models.V1Affinity;
 import io.kubernetes.client.openapi.models.V1ConfigMapKeySelector;
@@ -333,6 +334,7 @@ public abstract class PodHelperTestBase extends DomainValidationBaseTest {
             .withLogLevel(Level.FINE)
             .ignoringLoggedExceptions(ApiException.class));
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "domainEventK8SObjects", domainEventObjects));
+    mementos.add(StaticStubSupport.install(PodFingerprints.class, "instance", new PodFingerprints()));
 
     WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport(DOMAIN_NAME);
     configSupport.addWlsServer(ADMIN_SERVER, ADMIN_PORT);
@@ -1691,6 +1693,45 @@ public abstract class PodHelperTestBase extends DomainValidationBaseTest {
     return createPod(testSupport.getPacket());
   }
 
+  private V1Pod createVerifiedPod() {
+    V1Pod pod = createPodModel();
+    pod.getMetadata().setResourceVersion("1");
+    initializeExistingPod(pod);
+    testSupport.runSteps(getStepFactory(), terminalStep);
+    logRecords.clear();
+    return pod;
+  }
+
+  @Test
+  void afterPodVerified_whenInputsUnchanged_dontCompareItAgain() {
+    V1Pod pod = createVerifiedPod();
+
+    pod.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, "obsolete");
+
+    verifyPodNotReplaced();
+  }
+
+  @Test
+  void afterPodVerified_whenDomainReplacedWithChangedSpec_replacePod() {
+    createVerifiedPod();
+
+    JSON json = new JSON();
+    Domain changedDomain = json.deserialize(json.serialize(domain), Domain.class);
+    DomainConfiguratorFactory.forDomain(changedDomain).withNodeSelector("key", "value");
+    domainPresenceInfo.setDomain(changedDomain);
+
+    verifyPodReplaced();
+  }
+
+  @Test
+  void afterPodVerified_whenPodVersionChanged_compareItAgain() {
+    V1Pod pod = createVerifiedPod();
+
+    pod.getMetadata().resourceVersion("2").putAnnotationsItem(SHA256_ANNOTATION, "obsolete");
+
+    verifyPodReplaced();
+  }
+
   @Test
   void whenPodHasUnknownCustomerAnnotations_ignoreIt() {
     verifyPodNotReplacedWhen(pod -> pod.getMetadata().putAnnotationsItem("annotation", "value"));
@@ -0,0 +1,85 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+class ReviewCacheTest {
+  private static final int TTL_SECONDS = 30;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final ReviewCache<String, Boolean> cache = new ReviewCache<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    cache.configure(TTL_SECONDS, 2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void whenResultCached_returnIt() {
+    cache.put("a", true);
+
+    assertThat(cache.get("a"), equalTo(true));
+  }
+
+  @Test
+  void countHitsAndMisses() {
+    cache.put("a", true);
+
+    cache.get("a");
+    cache.get("a");
+    cache.get("b");
+
+    assertThat(cache.getNumHits(), equalTo(2L));
+    assertThat(cache.getNumMisses(), equalTo(1L));
+  }
+
+  @Test
+  void afterTtlExpires_dropResult() {
+    cache.put("a", true);
+
+    SystemClockTestSupport.increment(TTL_SECONDS);
+
+    assertThat(cache.get("a"), nullValue());
+    assertThat(cache.size(), equalTo(0));
+  }
+
+  @Test
+  void whenFull_dropLeastRecentlyUsedResult() {
+    cache.put("a", true);
+    cache.put("b", false);
+    cache.get("a");
+
+    cache.put("c", true);
+
+    assertThat(cache.get("b"), nullValue());
+    assertThat(cache.get("a"), equalTo(true));
+  }
+
+  @Test
+  void whenTtlIsZero_dontCacheResults() {
+    cache.configure(0, 2);
+
+    cache.put("a", true);
+
+    assertThat(cache.get("a"), nullValue());
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http;
@@ -17,6 +17,7 @@ import java.util.logging.LogRecord;
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Cancellable;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -52,7 +53,9 @@ class HttpAsyncRequestStepTest {
   private final HttpResponse<String> response = createStub(HttpResponseStub.class, 200);
   private HttpAsyncRequestStep requestStep;
   private final CompletableFuture<HttpResponse<String>> responseFuture = new CompletableFuture<>();
-  private final HttpAsyncRequestStep.FutureFactory futureFactory = r -> responseFuture;
+  private final HttpAsyncRequestStep.FutureFactory futureFactory = this::createFuture;
+  private HttpRequest sentRequest;
+  private Boolean limitedPerHost;
   private final Collection<LogRecord> logRecords = new ArrayList<>();
   private TestUtils.ConsoleHandlerMemento consoleMemento;
 
@@ -72,6 +75,12 @@ class HttpAsyncRequestStepTest {
     mementos.forEach(Memento::revert);
   }
 
+  private CompletableFuture<HttpResponse<String>> createFuture(HttpRequest request, boolean limitedPerHost) {
+    this.sentRequest = request;
+    this.limitedPerHost = limitedPerHost;
+    return responseFuture;
+  }
+
   @Test
   void classImplementsStep() {
     assertThat(HttpAsyncRequestStep.class, typeCompatibleWith(Step.class));
@@ -192,6 +201,57 @@ class HttpAsyncRequestStepTest {
     assertThat(getResponse().body(), equalTo("It works for testing!"));
   }
 
+  @Test
+  void whenResponseAlreadyReceived_cancelTimeout() {
+    fiber.deferTimeouts();
+    responseFuture.complete(response);
+
+    FiberTestSupport.doOnExit(requestStep.apply(packet), fiber);
+
+    assertThat(fiber.wasTimeoutCancelled(), is(true));
+  }
+
+  @Test
+  void whenResponseTimesOut_cancelRequest() {
+    consoleMemento.ignoreMessage(HTTP_REQUEST_TIMED_OUT);
+    NextAction nextAction = requestStep.apply(packet);
+
+    receiveTimeout(nextAction);
+
+    assertThat(responseFuture.isCancelled(), is(true));
+  }
+
+  @Test
+  void whenResponseTimesOut_resumeFiberOnlyOnce() {
+    consoleMemento.ignoreMessage(HTTP_REQUEST_TIMED_OUT);
+    NextAction nextAction = requestStep.apply(packet);
+
+    receiveTimeout(nextAction);
+
+    assertThat(fiber.getNumResumes(), equalTo(1));
+  }
+
+  @Test
+  void getRequest_hasRequestTimeout() {
+    receiveResponseBeforeTimeout(requestStep.apply(packet), response);
+
+    assertThat(sentRequest.timeout().isPresent(), is(true));
+  }
+
+  @Test
+  void byDefault_requestIsLimitedPerHost() {
+    receiveResponseBeforeTimeout(requestStep.apply(packet), response);
+
+    assertThat(limitedPerHost, is(true));
+  }
+
+  @Test
+  void whenStepExemptFromHostLimit_requestIsNotLimited() {
+    receiveResponseBeforeTimeout(requestStep.withoutHostLimit().apply(packet), response);
+
+    assertThat(limitedPerHost, is(false));
+  }
+
   private void receiveTimeout(NextAction nextAction) {
     FiberTestSupport.doOnExit(nextAction, fiber);
   }
@@ -204,6 +264,21 @@ class HttpAsyncRequestStepTest {
   abstract static class TestFiber implements AsyncFiber {
     private Packet packet;
     private Throwable terminationCause;
+    private boolean deferTimeouts;
+    private boolean timeoutCancelled;
+    private int numResumes;
+
+    void deferTimeouts() {
+      deferTimeouts = true;
+    }
+
+    boolean wasTimeoutCancelled() {
+      return timeoutCancelled;
+    }
+
+    int getNumResumes() {
+      return numResumes;
+    }
 
     boolean wasResumed() {
       return terminationCause == null && packet != null;
@@ -212,6 +287,7 @@ class HttpAsyncRequestStepTest {
     @Override
     public void resume(Packet resumePacket) {
       packet = resumePacket;
+      numResumes++;
     }
 
     @Override
@@ -221,8 +297,12 @@ class HttpAsyncRequestStepTest {
     }
 
     @Override
-    public void scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
+    public Cancellable scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
+      if (deferTimeouts) {
+        return () -> timeoutCancelled = true;
+      }
       runnable.run();
+      return () -> false;
     }
   }
 
@@ -44,6 +44,7 @@ public class HttpAsyncTestSupport {
 
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private HttpAsyncRequestStep.FutureFactory futureFactory = this::getFuture;
+  private boolean lastRequestLimited;
   private final Map<URI, List<RequestHandler>> cannedResponses = new HashMap<>();
   private final Stack<HttpRequest> receivedRequests = new Stack<>();
   private final List<Consumer<HttpRequest>> callbacks = new ArrayList<>();
@@ -123,6 +124,18 @@ public class HttpAsyncTestSupport {
     return getHandler(request).future;
   }
 
+  private CompletableFuture<HttpResponse<String>> getFuture(HttpRequest request, boolean limitedPerHost) {
+    lastRequestLimited = limitedPerHost;
+    return getFuture(request);
+  }
+
+  /**
+   * Returns true if the last request sent was to wait for the limit on requests in flight to its host.
+   */
+  public boolean wasLastRequestLimited() {
+    return lastRequestLimited;
+  }
+
   static class RequestHandler {
     private final HttpRequest request;
     private final CompletableFuture<HttpResponse<String>> future;
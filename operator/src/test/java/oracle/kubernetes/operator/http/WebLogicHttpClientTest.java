@@ -0,0 +1,257 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import javax.net.ssl.SSLSession;
+
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class WebLogicHttpClientTest {
+
+  private static final String HOST1 = "https://server1:7002";
+  private static final String HOST2 = "https://server2:7002";
+
+  private final List<PendingRequest> pendingRequests = new ArrayList<>();
+  private final WebLogicHttpClient client = new WebLogicHttpClient(this::createPendingRequest);
+
+  private CompletableFuture<HttpResponse<String>> createPendingRequest(HttpRequest request) {
+    PendingRequest pendingRequest = new PendingRequest(request);
+    pendingRequests.add(pendingRequest);
+    return pendingRequest.future;
+  }
+
+  private HttpRequest createRequest(String url) {
+    return HttpRequest.newBuilder().uri(URI.create(url + "/management/weblogic/latest/serverRuntime/search")).build();
+  }
+
+  private List<String> getSentHosts() {
+    List<String> hosts = new ArrayList<>();
+    pendingRequests.forEach(r -> hosts.add(r.request.uri().getHost()));
+    return hosts;
+  }
+
+  @Test
+  void whenUnderLimit_sendRequestsImmediately() {
+    client.setMaxRequestsPerHost(2);
+
+    client.sendAsync(createRequest(HOST1));
+    client.sendAsync(createRequest(HOST1));
+
+    assertThat(pendingRequests.size(), equalTo(2));
+  }
+
+  @Test
+  void whenAtLimit_holdFurtherRequestsToSameHost() {
+    client.setMaxRequestsPerHost(1);
+
+    client.sendAsync(createRequest(HOST1));
+    client.sendAsync(createRequest(HOST1));
+
+    assertThat(pendingRequests.size(), equalTo(1));
+    assertThat(client.getNumInFlight(), equalTo(1));
+    assertThat(client.getNumWaiting(), equalTo(1));
+  }
+
+  @Test
+  void whenAtLimit_sendRequestsToOtherHosts() {
+    client.setMaxRequestsPerHost(1);
+
+    client.sendAsync(createRequest(HOST1));
+    client.sendAsync(createRequest(HOST1));
+    client.sendAsync(createRequest(HOST2));
+
+    assertThat(getSentHosts(), contains("server1", "server2"));
+  }
+
+  @Test
+  void whenRequestCompletes_sendWaitingRequest() {
+    client.setMaxRequestsPerHost(1);
+    client.sendAsync(createRequest(HOST1));
+    client.sendAsync(createRequest(HOST1));
+
+    pendingRequests.get(0).complete(null);
+
+    assertThat(pendingRequests.size(), equalTo(2));
+    assertThat(client.getNumWaiting(), equalTo(0));
+  }
+
+  @Test
+  void whenRequestFails_sendWaitingRequest() {
+    client.setMaxRequestsPerHost(1);
+    CompletableFuture<HttpResponse<String>> first = client.sendAsync(createRequest(HOST1));
+    client.sendAsync(createRequest(HOST1));
+
+    pendingRequests.get(0).future.completeExceptionally(new RuntimeException("refused"));
+
+    assertThat(first.isCompletedExceptionally(), is(true));
+    assertThat(pendingRequests.size(), equalTo(2));
+  }
+
+  @Test
+  void whenWaitingRequestCancelled_withdrawIt() {
+    client.setMaxRequestsPerHost(1);
+    client.sendAsync(createRequest(HOST1));
+    CompletableFuture<HttpResponse<String>> waiting = client.sendAsync(createRequest(HOST1));
+
+    waiting.cancel(true);
+    pendingRequests.get(0).complete(null);
+
+    assertThat(pendingRequests.size(), equalTo(1));
+    assertThat(client.getNumWaiting(), equalTo(0));
+    assertThat(client.getNumInFlight(), equalTo(0));
+  }
+
+  @Test
+  void whenSentRequestCancelled_cancelItAndSendWaitingRequest() {
+    client.setMaxRequestsPerHost(1);
+    CompletableFuture<HttpResponse<String>> first = client.sendAsync(createRequest(HOST1));
+    client.sendAsync(createRequest(HOST1));
+
+    first.cancel(true);
+
+    assertThat(pendingRequests.get(0).future.isCancelled(), is(true));
+    assertThat(pendingRequests.size(), equalTo(2));
+    assertThat(client.getNumInFlight(), equalTo(1));
+  }
+
+  @Test
+  void whenTooManyRequestsWaiting_failFurtherRequests() {
+    client.setMaxRequestsPerHost(1);
+    client.sendAsync(createRequest(HOST1));
+    for (int i = 0; i < WebLogicHttpClient.MAX_WAITING_PER_HOST; i++) {
+      client.sendAsync(createRequest(HOST1));
+    }
+
+    CompletableFuture<HttpResponse<String>> rejected = client.sendAsync(createRequest(HOST1));
+
+    assertThat(rejected.isCompletedExceptionally(), is(true));
+    assertThat(client.getNumWaiting(), equalTo(WebLogicHttpClient.MAX_WAITING_PER_HOST));
+  }
+
+  @Test
+  void whenSentWithoutLimit_sendImmediately() {
+    client.setMaxRequestsPerHost(1);
+    client.sendAsync(createRequest(HOST1));
+
+    client.sendWithoutLimit(createRequest(HOST1));
+
+    assertThat(pendingRequests.size(), equalTo(2));
+    assertThat(client.getNumInFlight(), equalTo(1));
+  }
+
+  @Test
+  void whenRequestSentWithoutLimitCompletes_dontReleaseLimitedSlot() {
+    client.setMaxRequestsPerHost(1);
+    client.sendAsync(createRequest(HOST1));
+    client.sendAsync(createRequest(HOST1));
+    client.sendWithoutLimit(createRequest(HOST1));
+
+    pendingRequests.get(1).complete(null);
+
+    assertThat(client.getNumWaiting(), equalTo(1));
+    assertThat(client.getNumInFlight(), equalTo(1));
+  }
+
+  @Test
+  void whenLimitIsZero_neverHoldRequests() {
+    client.setMaxRequestsPerHost(0);
+
+    for (int i = 0; i < 10; i++) {
+      client.sendAsync(createRequest(HOST1));
+    }
+
+    assertThat(pendingRequests.size(), equalTo(10));
+  }
+
+  @Test
+  void afterAllRequestsComplete_nothingInFlight() {
+    client.sendAsync(createRequest(HOST1));
+    client.sendAsync(createRequest(HOST2));
+
+    pendingRequests.forEach(r -> r.complete(null));
+
+    assertThat(client.getNumInFlight(), equalTo(0));
+  }
+
+  @Test
+  void responseIsReturnedToCaller() {
+    CompletableFuture<HttpResponse<String>> future = client.sendAsync(createRequest(HOST1));
+    HttpResponse<String> response = createStub(HttpResponseStub.class, 200, "{}");
+
+    pendingRequests.get(0).future.complete(response);
+
+    assertThat(future.join(), is(response));
+  }
+
+  @Test
+  void countNewAndReusedTlsSessions() {
+    client.sendAsync(createRequest(HOST1));
+    client.sendAsync(createRequest(HOST1));
+    client.sendAsync(createRequest(HOST2));
+
+    pendingRequests.get(0).complete(createSession(1));
+    pendingRequests.get(1).complete(createSession(1));
+    pendingRequests.get(2).complete(createSession(2));
+
+    assertThat(client.getNumNewSessions(), equalTo(2L));
+    assertThat(client.getNumReusedSessions(), equalTo(1L));
+  }
+
+  private SSLSession createSession(int id) {
+    return createStub(SslSessionStub.class, new byte[] {(byte) id});
+  }
+
+  private static class PendingRequest {
+    private final HttpRequest request;
+    private final CompletableFuture<HttpResponse<String>> future = new CompletableFuture<>();
+
+    PendingRequest(HttpRequest request) {
+      this.request = request;
+    }
+
+    void complete(SSLSession session) {
+      future.complete(createStub(TlsResponseStub.class, session));
+    }
+  }
+
+  abstract static class TlsResponseStub extends HttpResponseStub {
+    private final SSLSession session;
+
+    TlsResponseStub(SSLSession session) {
+      super(200, "{}");
+      this.session = session;
+    }
+
+    @Override
+    public Optional<SSLSession> sslSession() {
+      return Optional.ofNullable(session);
+    }
+  }
+
+  abstract static class SslSessionStub implements SSLSession {
+    private final byte[] id;
+
+    SslSessionStub(byte[] id) {
+      this.id = id;
+    }
+
+    @Override
+    public byte[] getId() {
+      return id;
+    }
+  }
+}
@@ -0,0 +1,144 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.work.Engine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class OperatorMetricsTest {
+
+  private final OperatorMetrics metrics = OperatorMetrics.getInstance();
+
+  @AfterEach
+  void tearDown() {
+    metrics.setEngine(null);
+  }
+
+  @Test
+  void exportedMetrics_haveHelpAndType() {
+    assertThat(metrics.toPrometheusText(), containsString(
+          "# HELP wko_watch_events_total Watch events received, by watched resource and event type.\n"
+                + "# TYPE wko_watch_events_total counter\n"));
+  }
+
+  @Test
+  void afterApiCalls_exportCountsByCode() {
+    metrics.recordApiCall("read", "ApiCallTest", 200, 1);
+    metrics.recordApiCall("read", "ApiCallTest", 200, 1);
+    metrics.recordApiCall("read", "ApiCallTest", 0, 1);
+
+    assertThat(metrics.toPrometheusText(), containsString(
+          "wko_kubernetes_api_calls_total{verb=\"read\",resource=\"ApiCallTest\",code=\"200\"} 2\n"));
+    assertThat(metrics.toPrometheusText(), containsString(
+          "wko_kubernetes_api_calls_total{verb=\"read\",resource=\"ApiCallTest\",code=\"timeout\"} 1\n"));
+  }
+
+  @Test
+  void afterApiCalls_exportCumulativeLatencyBuckets() {
+    metrics.recordApiCall("list", "LatencyTest", 200, TimeUnit.MILLISECONDS.toNanos(3));
+    metrics.recordApiCall("list", "LatencyTest", 200, TimeUnit.MILLISECONDS.toNanos(200));
+
+    String text = metrics.toPrometheusText();
+    assertThat(text, containsString(
+          "wko_kubernetes_api_call_duration_seconds_bucket{verb=\"list\",resource=\"LatencyTest\",le=\"0.005\"} 1\n"));
+    assertThat(text, containsString(
+          "wko_kubernetes_api_call_duration_seconds_bucket{verb=\"list\",resource=\"LatencyTest\",le=\"0.25\"} 2\n"));
+    assertThat(text, containsString(
+          "wko_kubernetes_api_call_duration_seconds_bucket{verb=\"list\",resource=\"LatencyTest\",le=\"+Inf\"} 2\n"));
+    assertThat(text, containsString(
+          "wko_kubernetes_api_call_duration_seconds_sum{verb=\"list\",resource=\"LatencyTest\"} 0.203\n"));
+  }
+
+  @Test
+  void afterRetry_exportRetryCountAndBackoff() {
+    metrics.recordApiRetry("replace", "RetryTest", "conflict", 1500);
+
+    String text = metrics.toPrometheusText();
+    assertThat(text, containsString(
+          "wko_kubernetes_api_retries_total{verb=\"replace\",resource=\"RetryTest\",reason=\"conflict\"} 1\n"));
+    assertThat(text, containsString(
+          "wko_kubernetes_api_backoff_seconds_total{verb=\"replace\",resource=\"RetryTest\"} 1.5\n"));
+  }
+
+  @Test
+  void afterMakeRight_exportDurationAndFailuresPerDomain() {
+    metrics.recordMakeRight("ns1", "makeRightTest", TimeUnit.SECONDS.toNanos(2), false);
+    metrics.recordMakeRight("ns1", "makeRightTest", TimeUnit.SECONDS.toNanos(3), true);
+
+    String text = metrics.toPrometheusText();
+    assertThat(text, containsString(
+          "wko_make_right_duration_seconds_count{namespace=\"ns1\",domain=\"makeRightTest\"} 2\n"));
+    assertThat(text, containsString(
+          "wko_make_right_duration_seconds_sum{namespace=\"ns1\",domain=\"makeRightTest\"} 5\n"));
+    assertThat(text, containsString(
+          "wko_make_right_failures_total{namespace=\"ns1\",domain=\"makeRightTest\"} 1\n"));
+  }
+
+  @Test
+  void afterDomainRemoved_noLongerExportIt() {
+    metrics.recordMakeRight("ns2", "removedDomain", 1, true);
+
+    metrics.removeDomain("ns2", "removedDomain");
+
+    assertThat(metrics.toPrometheusText(), not(containsString("removedDomain")));
+  }
+
+  @Test
+  void afterNamespaceRemoved_noLongerExportItsDomains() {
+    metrics.recordMakeRight("removedNs", "domain1", 1, false);
+
+    metrics.removeNamespace("removedNs");
+
+    assertThat(metrics.toPrometheusText(), not(containsString("removedNs")));
+  }
+
+  @Test
+  void afterIntrospectorJob_exportDurationByResult() {
+    metrics.recordIntrospectorJob("job-uid-1", 90, false);
+
+    assertThat(metrics.toPrometheusText(), containsString(
+          "wko_introspector_job_duration_seconds_bucket{result=\"failed\",le=\"120\"} 1\n"));
+  }
+
+  @Test
+  void whenIntrospectorJobRecordedTwice_countItOnce() {
+    metrics.recordIntrospectorJob("job-uid-2", 1000, true);
+    metrics.recordIntrospectorJob("job-uid-2", 1000, true);
+
+    assertThat(metrics.toPrometheusText(), containsString(
+          "wko_introspector_job_duration_seconds_bucket{result=\"succeeded\",le=\"1800\"} 1\n"));
+  }
+
+  @Test
+  void labelValues_areEscaped() {
+    metrics.recordWatchEvent("Escape\"Test\\", "ADDED");
+
+    assertThat(metrics.toPrometheusText(), containsString("resource=\"Escape\\\"Test\\\\\""));
+  }
+
+  @Test
+  void whenEngineSet_exportQueueDepthPerLane() {
+    metrics.setEngine(new Engine(createStrictStub(ScheduledExecutorService.class)));
+
+    String text = metrics.toPrometheusText();
+    assertThat(text, containsString("wko_engine_queued_fibers{lane=\"high\"} 0\n"));
+    assertThat(text, containsString("wko_engine_queued_fibers{lane=\"low\"} 0\n"));
+  }
+
+  @Test
+  void exportReviewCacheHitsAndMissesByReviewType() {
+    String text = metrics.toPrometheusText();
+    assertThat(text, containsString("wko_rest_review_cache_hits_total{review=\"token\"} "));
+    assertThat(text, containsString("wko_rest_review_cache_misses_total{review=\"access\"} "));
+  }
+}
@@ -1,13 +1,16 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.rest;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
@@ -23,8 +26,11 @@ import io.kubernetes.client.openapi.models.V1TokenReview;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
 import jakarta.ws.rs.WebApplicationException;
+import oracle.kubernetes.operator.DomainProcessorImpl;
+import oracle.kubernetes.operator.DomainProcessorTestSetup;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.rest.RestBackendImpl.TopologyRetriever;
@@ -55,6 +61,7 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.Assert.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 
 @SuppressWarnings("SameParameterValue")
 class RestBackendImplTest {
@@ -77,6 +84,7 @@ class RestBackendImplTest {
   private Domain updatedDomain;
   private final DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain1);
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final Map<String, Map<String, DomainPresenceInfo>> cachedDomains = new ConcurrentHashMap<>();
   private WlsDomainConfig config;
 
   private static V1Namespace createNamespace(String name) {
@@ -97,8 +105,10 @@ class RestBackendImplTest {
     mementos.add(TuningParametersStub.install());
     mementos.add(
         StaticStubSupport.install(RestBackendImpl.class, "instance", new TopologyRetrieverStub()));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "domains", cachedDomains));
 
     testSupport.defineResources(namespace, domain1, domain2);
+    cacheDomains(domain1, domain2);
     testSupport.doOnCreate(TOKEN_REVIEW, r -> authenticate((V1TokenReview) r));
     testSupport.doOnCreate(SUBJECT_ACCESS_REVIEW, s -> allow((V1SubjectAccessReview) s));
     testSupport.doOnUpdate(DOMAIN, d -> updatedDomain = (Domain) d);
@@ -405,6 +415,84 @@ class RestBackendImplTest {
   }
 
 
+  @Test
+  void whenUsingTokenReview_retrieveDomainIdsFromDomainCache() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    cacheDomains(createDomain(NS, "cached"));
+
+    RestBackendImpl restBackend = new RestBackendImpl("", "", this::getDomainNamespaces);
+
+    assertThat(restBackend.getDomainUids(), containsInAnyOrder(DOMAIN1, DOMAIN2, "cached"));
+  }
+
+  @Test
+  void whenUsingTokenReview_validateUidAgainstDomainCache() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    cacheDomains(createDomain(NS, "cached"));
+
+    RestBackendImpl restBackend = new RestBackendImpl("", "", this::getDomainNamespaces);
+
+    assertThat(restBackend.isDomainUid("cached"), is(true));
+    assertThat(restBackend.isDomainUid("no_such_uid"), is(false));
+  }
+
+  @Test
+  void whenUsingTokenReview_scaleClusterUpdatesDomainInApiServer() throws NoSuchFieldException {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    mementos.add(StaticStubSupport.install(RestBackendImpl.class, "readYourWritesSeconds", 0L));
+    configureCluster("cluster1").withReplicas(1);
+
+    new RestBackendImpl("", "", this::getDomainNamespaces).scaleCluster(DOMAIN1, "cluster1", 3);
+
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(3));
+  }
+
+  @Test
+  void whenUsingTokenReview_scaleClusterNamedInLiveDomain() throws NoSuchFieldException {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    mementos.add(StaticStubSupport.install(RestBackendImpl.class, "readYourWritesSeconds", 0L));
+    configureCluster("cluster1").withReplicas(1);
+    configureCluster("cluster2").withReplicas(1);
+    cacheDomains(createStaleDomainWithClusters("cluster2", "cluster1"));
+
+    new RestBackendImpl("", "", this::getDomainNamespaces).scaleCluster(DOMAIN1, "cluster1", 3);
+
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(3));
+    assertThat(getUpdatedDomain().getReplicaCount("cluster2"), equalTo(1));
+  }
+
+  private Domain createStaleDomainWithClusters(String... clusterNames) {
+    Domain staleDomain = createDomain(NS, DOMAIN1);
+    for (String clusterName : clusterNames) {
+      DomainConfiguratorFactory.forDomain(staleDomain).configureCluster(clusterName).withReplicas(1);
+    }
+    return staleDomain;
+  }
+
+  @Test
+  void whenUsingTokenReview_scaleClusterReturnsOnceCacheReflectsPatch() throws NoSuchFieldException {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    mementos.add(StaticStubSupport.install(RestBackendImpl.class, "readYourWritesSeconds", 60L));
+    testSupport.doOnUpdate(DOMAIN, d -> updateCacheFromAnotherThread((Domain) d));
+    configureCluster("cluster1").withReplicas(1);
+
+    assertTimeout(Duration.ofSeconds(30),
+          () -> new RestBackendImpl("", "", this::getDomainNamespaces).scaleCluster(DOMAIN1, "cluster1", 3));
+  }
+
+  // Simulates the domain watch, which updates the cache after the patch has returned.
+  private void updateCacheFromAnotherThread(Domain patchedDomain) {
+    patchedDomain.getMetadata().generation(2L);
+    new Thread(() -> DomainProcessorTestSetup.updateCachedDomain(patchedDomain)).start();
+  }
+
+  private void cacheDomains(Domain... domains) {
+    for (Domain domain : domains) {
+      cachedDomains.computeIfAbsent(domain.getMetadata().getNamespace(), k -> new ConcurrentHashMap<>())
+            .put(domain.getDomainUid(), new DomainPresenceInfo(domain));
+    }
+  }
+
   private DomainConfigurator configureDomain() {
     return configurator;
   }
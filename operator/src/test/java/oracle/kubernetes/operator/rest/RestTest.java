@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.rest;
@@ -29,6 +29,7 @@ import jakarta.ws.rs.core.Application;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
 import oracle.kubernetes.utils.TestUtils;
@@ -51,13 +52,16 @@ import static oracle.kubernetes.operator.rest.RestTest.JsonArrayMatcher.withValu
 import static oracle.kubernetes.weblogic.domain.model.CrdSchemaGeneratorTest.inputStreamFromClasspath;
 import static oracle.kubernetes.weblogic.domain.model.DomainTestBase.CONVERSION_REVIEW_REQUEST;
 import static oracle.kubernetes.weblogic.domain.model.DomainTestBase.CONVERSION_REVIEW_RESPONSE;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 @SuppressWarnings("SameParameterValue")
 class RestTest extends JerseyTest {
   private static final String V1 = "v1";
   private static final String OPERATOR_HREF = "/operator";
+  private static final String METRICS_HREF = "/metrics";
   private static final String WEBHOOK_HREF = "/webhook";
   private static final String V1_HREF = OPERATOR_HREF + "/" + V1;
   private static final String LATEST_HREF = OPERATOR_HREF + "/latest";
@@ -136,6 +140,17 @@ class RestTest extends JerseyTest {
     assertThat(result, hasJsonPath("$.items[0].links[?(@.rel=='self')].href", withValues(V1_HREF)));
   }
 
+  @Test
+  void metricsEndPoint_returnsPrometheusText() {
+    OperatorMetrics.getInstance().recordWatchEvent("RestTest", "ADDED");
+
+    Response response = createRequest(METRICS_HREF).get();
+
+    assertThat(response.getMediaType().toString(), startsWith("text/plain"));
+    assertThat(response.readEntity(String.class),
+          containsString("wko_watch_events_total{resource=\"RestTest\",type=\"ADDED\"} 1"));
+  }
+
   private Map getJsonResponse(String href) {
     return new Gson().fromJson(createRequest(href).get(String.class), Map.class);
   }
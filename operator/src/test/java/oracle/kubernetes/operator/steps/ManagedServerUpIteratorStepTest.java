@@ -230,7 +230,7 @@ class ManagedServerUpIteratorStepTest extends ThreadFactoryTestBase implements W
 
   @SuppressWarnings("SameParameterValue")
   protected PodWatcher createWatcher(String ns, AtomicBoolean stopping, BigInteger initialResourceVersion) {
-    return PodWatcher.create(this, ns, initialResourceVersion.toString(), tuning, this, stopping);
+    return PodWatcher.create(this, ns, initialResourceVersion.toString(), tuning, this, stopping, null);
   }
 
   @Test
@@ -1,8 +1,9 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
 
+import java.net.URI;
 import java.net.http.HttpRequest;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -17,6 +18,7 @@ import javax.annotation.Nonnull;
 import com.meterware.httpunit.Base64;
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
@@ -74,6 +76,15 @@ class ReadHealthStepTest {
   private static final String DYNAMIC_CLUSTER_NAME = "dyn-cluster-1";
   private static final String DYNAMIC_MANAGED_SERVER1 = "dyn-managed-server1";
   private static final String DYNAMIC_MANAGED_SERVER2 = "dyn-managed-server2";
+  private static final String DOMAIN_HEALTH_RESPONSE =
+      "{ \"serverRuntimes\": { \"items\": [\n"
+          + "  { \"name\": \"" + ADMIN_NAME + "\", \"state\": \"RUNNING\", \"activationTime\": 1556759105378,\n"
+          + "    \"overallHealthState\": { \"state\": \"ok\", \"subsystemName\": null, \"symptoms\": [] } },\n"
+          + "  { \"name\": \"" + MANAGED_SERVER1 + "\", \"state\": \"ADMIN\", \"activationTime\": 1556759105378,\n"
+          + "    \"overallHealthState\": { \"state\": \"warn\", \"subsystemName\": null, \"symptoms\": [] } },\n"
+          + "  { \"name\": \"" + CONFIGURED_MANAGED_SERVER1 + "\", \"state\": \"RUNNING\", \"activationTime\": 1,\n"
+          + "    \"overallHealthState\": { \"state\": \"ok\", \"subsystemName\": null, \"symptoms\": [] } }\n"
+          + "] } }";
 
   private static final ClassCastException CLASSCAST_EXCEPTION = new ClassCastException("");
   static final String MS1_URL = "http://127.0.0.1:7001";
@@ -405,6 +416,70 @@ class ReadHealthStepTest {
     assertThat(info.getWebLogicCredentialsSecret(), is(nullValue()));
   }
 
+  @Test
+  void whenReadDomainHealth_recordStateAndHealthOfServersWithPods() {
+    selectServer(ADMIN_NAME);
+    defineServerPods(ADMIN_NAME, MANAGED_SERVER1);
+    defineDomainHealthResponse(200, DOMAIN_HEALTH_RESPONSE);
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(getServerStateMap(packet).get(ADMIN_NAME), is("RUNNING"));
+    assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("ADMIN"));
+    assertThat(getServerHealthMap(packet).get(MANAGED_SERVER1).getOverallHealth(), equalTo("warn"));
+  }
+
+  private void defineServerPods(String... serverNames) {
+    for (String serverName : serverNames) {
+      info.setServerPod(serverName, new V1Pod().metadata(new V1ObjectMeta().name(serverName)));
+    }
+  }
+
+  private void defineDomainHealthResponse(int status, String body) {
+    httpSupport.defineResponse(
+        HttpRequest.newBuilder()
+            .uri(URI.create("http://127.0.0.1:3456/management/weblogic/latest/domainRuntime/search"))
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build(),
+        createStub(HttpResponseStub.class, status, body));
+  }
+
+  @Test
+  void whenReadDomainHealth_ignoreServersWithoutPods() {
+    selectServer(ADMIN_NAME);
+    defineServerPods(ADMIN_NAME, MANAGED_SERVER1);
+    defineDomainHealthResponse(200, DOMAIN_HEALTH_RESPONSE);
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(getServerStateMap(packet).containsKey(CONFIGURED_MANAGED_SERVER1), is(false));
+    assertThat(getServerHealthMap(packet).containsKey(CONFIGURED_MANAGED_SERVER1), is(false));
+  }
+
+  @Test
+  void whenUnableToReadDomainHealth_recordNothing() {
+    selectServer(ADMIN_NAME);
+    defineServerPods(ADMIN_NAME, MANAGED_SERVER1);
+    defineDomainHealthResponse(500, "");
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(getServerStateMap(packet).isEmpty(), is(true));
+    assertThat(getServerHealthMap(packet).isEmpty(), is(true));
+  }
+
+  @Test
+  void whenReadDomainHealth_sendSingleRequestToAdminServer() {
+    selectServer(ADMIN_NAME);
+    defineServerPods(ADMIN_NAME, MANAGED_SERVER1);
+    defineDomainHealthResponse(200, DOMAIN_HEALTH_RESPONSE);
+
+    testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(httpSupport.getHandledRequests().size(), equalTo(1));
+    assertThat(hasAuthenticationCredentials(httpSupport.getLastRequest()), is(true));
+  }
+
   private void defineExpectedURLInResponse(String protocol, int port) {
     defineResponse(200, OK_RESPONSE, protocol + "://dyn-managed-server2.Test:" + port);
   }
@@ -5,9 +5,11 @@ package oracle.kubernetes.operator.steps;
 
 import java.net.URI;
 import java.net.http.HttpRequest;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -304,6 +306,31 @@ class ShutdownManagedServerStepTest {
     assertThat(logRecords, containsFine(SERVER_SHUTDOWN_REST_SUCCESS));
   }
 
+  @Test
+  void shutdownRequest_isNotHeldByLimitOnRequestsPerHost() {
+    selectServer(MANAGED_SERVER1, standaloneServerService);
+    setForcedShutdownType(MANAGED_SERVER1);
+    defineResponse(false, 200, "http://test-domain-managed-server1.namespace:8001");
+
+    testSupport.runSteps(shutdownStandaloneManagedServer);
+
+    assertThat(httpSupport.wasLastRequestLimited(), is(false));
+    assertThat(logRecords, containsFine(SERVER_SHUTDOWN_REST_SUCCESS));
+  }
+
+  @Test
+  void shutdownRequest_timesOutAfterShutdownTimeout() {
+    selectServer(MANAGED_SERVER1, standaloneServerService);
+    setForcedShutdownType(MANAGED_SERVER1);
+    defineResponse(false, 200, "http://test-domain-managed-server1.namespace:8001");
+
+    testSupport.runSteps(shutdownStandaloneManagedServer);
+
+    assertThat(httpSupport.getLastRequest().timeout(),
+        equalTo(Optional.of(Duration.ofSeconds(Shutdown.DEFAULT_TIMEOUT + PodHelper.DEFAULT_ADDITIONAL_DELETE_TIME))));
+    assertThat(logRecords, containsFine(SERVER_SHUTDOWN_REST_SUCCESS));
+  }
+
   @Test
   void verifyShutdownManagedServerProcessing_requestTimeout() {
     ShutdownManagedServerProcessing processing = new ShutdownManagedServerProcessing(testSupport.getPacket(),
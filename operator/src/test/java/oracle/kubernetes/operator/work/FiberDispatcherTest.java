@@ -0,0 +1,133 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.annotation.Nonnull;
+
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class FiberDispatcherTest {
+
+  private final QueuingExecutor executor = createStrictStub(QueuingExecutor.class);
+  private final Engine engine = new Engine(executor);
+  private final List<String> runOrder = new ArrayList<>();
+
+  @Test
+  void fibersWithSamePriority_runInOrderStarted() {
+    startFiber("a", FiberPriority.LOW);
+    startFiber("b", FiberPriority.LOW);
+    startFiber("c", FiberPriority.LOW);
+
+    executor.runAll();
+
+    assertThat(runOrder, contains("a", "b", "c"));
+  }
+
+  @Test
+  void highPriorityFibers_runBeforeEarlierLowPriorityFibers() {
+    startFiber("status1", FiberPriority.LOW);
+    startFiber("status2", FiberPriority.LOW);
+    startFiber("makeRight", FiberPriority.HIGH);
+
+    executor.runAll();
+
+    assertThat(runOrder, contains("makeRight", "status1", "status2"));
+  }
+
+  @Test
+  void whenPacketNotMarked_fiberHasHighPriority() {
+    startFiber("status", FiberPriority.LOW);
+    engine.createFiber().start(new RecordingStep("unmarked"), new Packet(), null);
+
+    executor.runAll();
+
+    assertThat(runOrder, contains("unmarked", "status"));
+  }
+
+  @Test
+  void childFiber_inheritsParentPriority() {
+    Fiber parent = engine.createFiber();
+    parent.start(new RecordingStep("parent"), new Packet().with(FiberPriority.LOW), null);
+
+    assertThat(parent.createChildFiber().getPriority(), equalTo(FiberPriority.LOW));
+  }
+
+  @Test
+  void whenStarvationLimitReached_runLowPriorityFiber() {
+    engine.setStarvationLimit(2);
+    startFiber("low", FiberPriority.LOW);
+    startFiber("high1", FiberPriority.HIGH);
+    startFiber("high2", FiberPriority.HIGH);
+    startFiber("high3", FiberPriority.HIGH);
+
+    executor.runAll();
+
+    assertThat(runOrder, contains("high1", "high2", "low", "high3"));
+  }
+
+  @Test
+  void laneStatistics_recordDispatchesPerLane() {
+    engine.setStarvationLimit(1);
+    startFiber("low1", FiberPriority.LOW);
+    startFiber("low2", FiberPriority.LOW);
+    startFiber("high1", FiberPriority.HIGH);
+    startFiber("high2", FiberPriority.HIGH);
+
+    executor.runNext();
+    executor.runNext();
+
+    assertThat(engine.getLaneStatistics(FiberPriority.HIGH).getNumDispatched(), equalTo(1L));
+    assertThat(engine.getLaneStatistics(FiberPriority.HIGH).getNumQueued(), equalTo(1));
+    assertThat(engine.getLaneStatistics(FiberPriority.LOW).getNumDispatched(), equalTo(1L));
+    assertThat(engine.getLaneStatistics(FiberPriority.LOW).getNumStarvationDispatches(), equalTo(1L));
+    assertThat(engine.getLaneStatistics(FiberPriority.LOW).getNumQueued(), equalTo(1));
+  }
+
+  private void startFiber(String name, FiberPriority priority) {
+    engine.createFiber().start(new RecordingStep(name), new Packet().with(priority), null);
+  }
+
+  private class RecordingStep extends Step {
+    private final String name;
+
+    RecordingStep(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      runOrder.add(name);
+      return doEnd(packet);
+    }
+  }
+
+  abstract static class QueuingExecutor implements ScheduledExecutorService {
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    @Override
+    public void execute(@Nonnull Runnable command) {
+      tasks.add(command);
+    }
+
+    void runNext() {
+      tasks.remove().run();
+    }
+
+    void runAll() {
+      while (!tasks.isEmpty()) {
+        runNext();
+      }
+    }
+  }
+}
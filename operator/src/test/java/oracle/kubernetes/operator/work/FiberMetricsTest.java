@@ -0,0 +1,128 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class FiberMetricsTest {
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final FiberMetrics metrics = FiberMetrics.getInstance();
+  private final List<AsyncFiber> suspendedFibers = new ArrayList<>();
+  private final FiberGate gate = testSupport.createFiberGate();
+  private final Fiber.CompletionCallback callback = new FiberTestSupport.CompletionCallbackStub();
+
+  @BeforeEach
+  void setUp() {
+    metrics.clear();
+    metrics.registerGate("test", gate);
+    metrics.setEnabled(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    metrics.setEnabled(false);
+    metrics.clear();
+  }
+
+  @Test
+  void whenEnabled_recordExecutionTimePerStepClass() {
+    testSupport.runSteps(new FirstStep(new SecondStep(new SecondStep(null))));
+
+    assertThat(getStatistics(FirstStep.class).getExecutionTime().getCount(), equalTo(1L));
+    assertThat(getStatistics(SecondStep.class).getExecutionTime().getCount(), equalTo(2L));
+  }
+
+  @Test
+  void whenEnabled_recordFiberLatency() {
+    testSupport.runSteps(new FirstStep(null));
+
+    assertThat(metrics.getFiberLatency().getCount(), equalTo(1L));
+  }
+
+  @Test
+  void whenDisabled_recordNothing() {
+    metrics.setEnabled(false);
+
+    testSupport.runSteps(new FirstStep(null));
+
+    assertThat(metrics.getStepStatistics(), anEmptyMap());
+    assertThat(metrics.getFiberLatency().getCount(), equalTo(0L));
+  }
+
+  @Test
+  void whenFiberResumed_recordSuspensionTimeForSuspendingStep() {
+    gate.startFiber("domain1", new SuspendStep(new FirstStep(null)), new Packet(), callback);
+
+    suspendedFibers.forEach(f -> f.resume(new Packet()));
+
+    assertThat(getStatistics(SuspendStep.class).getSuspensionTime().getCount(), equalTo(1L));
+  }
+
+  @Test
+  void whileFiberSuspended_gateReportsItActiveAndSuspended() {
+    gate.startFiber("domain1", new SuspendStep(null), new Packet(), callback);
+
+    GateStatistics statistics = metrics.getGateStatistics().get("test");
+
+    assertThat(statistics.getNumActive(), equalTo(1));
+    assertThat(statistics.getNumSuspended(), equalTo(1));
+    assertThat(statistics.getNumCompleted(), equalTo(0L));
+  }
+
+  @Test
+  void afterFiberCompletes_gateReportsItCompleted() {
+    gate.startFiber("domain1", new SuspendStep(null), new Packet(), callback);
+
+    suspendedFibers.forEach(f -> f.resume(new Packet()));
+
+    GateStatistics statistics = metrics.getGateStatistics().get("test");
+    assertThat(statistics.getNumActive(), equalTo(0));
+    assertThat(statistics.getNumSuspended(), equalTo(0));
+    assertThat(statistics.getNumCompleted(), equalTo(1L));
+  }
+
+  private StepStatistics getStatistics(Class<? extends Step> stepClass) {
+    assertThat(metrics.getStepStatistics(), hasKey(stepClass.getName()));
+    return metrics.getStepStatistics().get(stepClass.getName());
+  }
+
+  static class FirstStep extends Step {
+    FirstStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  static class SecondStep extends FirstStep {
+    SecondStep(Step next) {
+      super(next);
+    }
+  }
+
+  class SuspendStep extends Step {
+    SuspendStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(getNext(), suspendedFibers::add);
+    }
+  }
+}
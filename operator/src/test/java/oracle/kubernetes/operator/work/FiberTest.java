@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2022, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
@@ -14,6 +14,7 @@ import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
@@ -30,6 +31,8 @@ import static org.hamcrest.Matchers.both;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
@@ -177,6 +180,68 @@ class FiberTest {
     assertThat(stepList, containsInRelativeOrder(step2, step3));
   }
 
+  @Test
+  void whenChildFibersLimited_startOnlyUpToLimit() {
+    runSteps(new ChildFiberStep(step3, new ConcurrencyLimiter(2), createSuspendingSteps(3)));
+
+    assertThat(fiberList, hasSize(2));
+  }
+
+  private Step[] createSuspendingSteps(int count) {
+    return IntStream.range(0, count).mapToObj(i -> new SuspendingStep(this::recordFiber)).toArray(Step[]::new);
+  }
+
+  @Test
+  void whenLimitedChildFiberCompletes_startNextChild() {
+    runSteps(new ChildFiberStep(step3, new ConcurrencyLimiter(2), createSuspendingSteps(3)));
+
+    fiberList.get(0).resume(packet);
+
+    assertThat(fiberList, hasSize(3));
+  }
+
+  @Test
+  void whenAllLimitedChildFibersComplete_runSynchronizationStep() {
+    runSteps(new ChildFiberStep(step3, new ConcurrencyLimiter(2), createSuspendingSteps(3)));
+
+    for (int i = 0; i < 3; i++) {
+      fiberList.get(i).resume(packet);
+    }
+
+    assertThat(stepList, hasItem(step3));
+  }
+
+  @Test
+  void whenChildFibersShareLimiter_limitAppliesAcrossForkJoins() {
+    ConcurrencyLimiter sharedLimiter = new ConcurrencyLimiter(2);
+    runSteps(new ChildFiberStep(step3, sharedLimiter, createSuspendingSteps(2)));
+    testSupport.getEngine().createFiber().start(
+          new ChildFiberStep(step3, sharedLimiter, createSuspendingSteps(2)), packet, completionCallback);
+
+    assertThat(fiberList, hasSize(2));
+    assertThat(sharedLimiter.getNumWaiting(), equalTo(2));
+  }
+
+  @Test
+  void whenParentCancelledDuringLimitedForkJoin_releaseAllPermits() {
+    ConcurrencyLimiter namespaceLimiter = new ConcurrencyLimiter(2);
+    runSteps(new ChildFiberStep(step3, namespaceLimiter, createSuspendingSteps(4)));
+
+    fiber.cancelAndExitCallback(true, () -> { });
+
+    assertThat(namespaceLimiter.getNumRunning(), equalTo(0));
+    assertThat(namespaceLimiter.getNumWaiting(), equalTo(0));
+  }
+
+  @Test
+  void whenParentCancelledDuringLimitedForkJoin_dontStartWaitingChildren() {
+    runSteps(new ChildFiberStep(step3, new ConcurrencyLimiter(2), createSuspendingSteps(4)));
+
+    fiber.cancelAndExitCallback(true, () -> { });
+
+    assertThat(fiberList, hasSize(2));
+  }
+
   @Test
   void whenFiberCompletes_breadcrumbsAreCreated() {
     runSteps(step1, step2, step3);
@@ -355,16 +420,22 @@ class FiberTest {
   static class ChildFiberStep extends BasicStep {
 
     private final Step nextStep;
+    private final ConcurrencyLimiter[] limiters;
     private final Step[] childSteps;
 
     ChildFiberStep(Step nextStep, Step... steps) {
+      this(nextStep, null, steps);
+    }
+
+    ChildFiberStep(Step nextStep, ConcurrencyLimiter limiter, Step... steps) {
       this.nextStep = nextStep;
+      this.limiters = limiter == null ? new ConcurrencyLimiter[0] : new ConcurrencyLimiter[] {limiter};
       childSteps = steps;
     }
 
     @Override
     public NextAction apply(Packet packet) {
-      return doForkJoin(nextStep, packet, createStepAndPacketList(packet));
+      return doForkJoin(nextStep, packet, createStepAndPacketList(packet), limiters);
     }
 
     @Nonnull
@@ -0,0 +1,72 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class LatencyHistogramTest {
+
+  private final LatencyHistogram histogram = new LatencyHistogram();
+
+  @Test
+  void eachValue_fallsWithinItsBucketBounds() {
+    for (long value : new long[] {0, 1, 7, 8, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE}) {
+      int index = LatencyHistogram.bucketIndex(value);
+
+      assertThat(LatencyHistogram.lowerBound(index), lessThanOrEqualTo(value));
+      if (value < Long.MAX_VALUE) {
+        assertThat(LatencyHistogram.upperBound(index), both(greaterThanOrEqualTo(value + 1))
+              .and(lessThanOrEqualTo(value + value / 8 + 1)));
+      }
+    }
+  }
+
+  @Test
+  void afterRecordingValues_reportCountTotalAndMax() {
+    histogram.record(100);
+    histogram.record(300);
+    histogram.record(-5);
+
+    assertThat(histogram.getCount(), equalTo(3L));
+    assertThat(histogram.getTotalNanos(), equalTo(400L));
+    assertThat(histogram.getMaxNanos(), equalTo(300L));
+  }
+
+  @Test
+  void percentile_isWithinOneEighthOfRecordedValue() {
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i * 1000L);
+    }
+
+    assertThat(histogram.getPercentileNanos(50), both(greaterThanOrEqualTo(500_000L)).and(lessThanOrEqualTo(562_500L)));
+    assertThat(histogram.getPercentileNanos(100), equalTo(1_000_000L));
+  }
+
+  @Test
+  void whenEmpty_percentileIsZero() {
+    assertThat(histogram.getPercentileNanos(99), equalTo(0L));
+  }
+
+  @Test
+  void forEachBucket_reportsOnlyNonEmptyBucketsInOrder() {
+    histogram.record(3);
+    histogram.record(1000);
+    histogram.record(3);
+    List<String> buckets = new ArrayList<>();
+
+    histogram.forEachBucket((lower, upper, count) -> buckets.add(lower + "-" + upper + ":" + count));
+
+    assertThat(buckets, contains("3-4:2", "960-1024:1"));
+  }
+}
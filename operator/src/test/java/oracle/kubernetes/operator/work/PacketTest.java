@@ -0,0 +1,191 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class PacketTest {
+
+  private static final PacketKey<Integer> COUNT = PacketKey.of("count");
+  private static final PacketKey<PacketTest> TEST_COMPONENT = PacketKey.forComponent(PacketTest.class);
+
+  private final Packet packet = new Packet();
+
+  @Test
+  void afterPut_packetContainsValue() {
+    packet.put("key", "value");
+
+    assertThat(packet, hasEntry("key", "value"));
+  }
+
+  @Test
+  void whenNullValuePut_keyIsRemoved() {
+    packet.put("key", "value");
+
+    packet.put("key", null);
+
+    assertThat(packet.containsKey("key"), equalTo(false));
+  }
+
+  @Test
+  void copyStartsWithSameValuesAndComponents() {
+    packet.put("key", "value");
+    packet.getComponents().put("component", Component.createFor(this));
+
+    Packet copy = packet.copy();
+
+    assertThat(copy, hasEntry("key", "value"));
+    assertThat(copy.getSpi(PacketTest.class), sameInstance(this));
+  }
+
+  @Test
+  void changesToCopy_areNotVisibleInOriginal() {
+    packet.put("shared", "original");
+    Packet copy = packet.copy();
+
+    copy.put("shared", "changed");
+    copy.put("added", "value");
+    copy.getComponents().put("component", Component.createFor(this));
+
+    assertThat(packet, hasEntry("shared", "original"));
+    assertThat(packet, not(hasEntry("added", "value")));
+    assertThat(packet.getSpi(PacketTest.class), nullValue());
+  }
+
+  @Test
+  void changesToOriginal_areNotVisibleInCopy() {
+    packet.put("shared", "original");
+    Packet copy = packet.copy();
+
+    packet.remove("shared");
+    packet.put("added", "value");
+
+    assertThat(copy, hasEntry("shared", "original"));
+    assertThat(copy, aMapWithSize(1));
+  }
+
+  @Test
+  void whenIteratorRemovesEntry_removeFromPacket() {
+    packet.put("first", "1");
+    packet.put("second", "2");
+
+    for (Iterator<Map.Entry<String, Object>> it = packet.entrySet().iterator(); it.hasNext(); ) {
+      if (it.next().getKey().equals("first")) {
+        it.remove();
+      }
+    }
+
+    assertThat(packet, equalTo(Map.of("second", "2")));
+  }
+
+  @Test
+  void packetWithManyEntries_matchesEquivalentHashMap() {
+    Map<String, Object> expected = new HashMap<>();
+    for (int i = 0; i < 2000; i++) {
+      packet.put("key" + i, i);
+      expected.put("key" + i, i);
+    }
+    for (int i = 0; i < 2000; i += 3) {
+      packet.remove("key" + i);
+      expected.remove("key" + i);
+    }
+
+    assertThat(packet, equalTo(expected));
+    assertThat(packet.copy(), equalTo(expected));
+  }
+
+  @Test
+  void keysWithCollidingHashCodes_areKeptDistinct() {
+    // "Aa" and "BB" have the same hash code
+    packet.put("Aa", "first");
+    packet.put("BB", "second");
+    Packet copy = packet.copy();
+    copy.remove("Aa");
+
+    assertThat(packet, equalTo(Map.of("Aa", "first", "BB", "second")));
+    assertThat(copy, equalTo(Map.of("BB", "second")));
+  }
+
+  @Test
+  void valueSetWithKey_isVisibleByName() {
+    packet.putValue(COUNT, 3);
+
+    assertThat(packet, hasEntry("count", 3));
+    assertThat(packet, aMapWithSize(1));
+  }
+
+  @Test
+  void valueSetByName_isVisibleWithKey() {
+    packet.put("count", 4);
+
+    assertThat(packet.getValue(COUNT), equalTo(4));
+  }
+
+  @Test
+  void whenValueSetByNameBeforeKeyCreated_isVisibleWithKey() {
+    packet.put("lateKey", "value");
+
+    assertThat(packet.getValue(PacketKey.<String>of("lateKey")), equalTo("value"));
+  }
+
+  @Test
+  void afterValueRemovedWithKey_noLongerVisibleByName() {
+    packet.put("count", 4);
+
+    packet.removeValue(COUNT);
+
+    assertThat(packet.containsKey("count"), equalTo(false));
+    assertThat(packet.isEmpty(), equalTo(true));
+  }
+
+  @Test
+  void changesToKeyedValuesInCopy_areNotVisibleInOriginal() {
+    packet.putValue(COUNT, 1);
+    Packet copy = packet.copy();
+
+    copy.putValue(COUNT, 2);
+
+    assertThat(packet.getValue(COUNT), equalTo(1));
+    assertThat(copy.getValue(COUNT), equalTo(2));
+  }
+
+  @Test
+  void componentWithKeyedSpi_isFoundWithKey() {
+    packet.getComponents().put("test", Component.createFor(this));
+
+    assertThat(packet.getValue(TEST_COMPONENT), sameInstance(this));
+    assertThat(packet.getSpi(PacketTest.class), sameInstance(this));
+  }
+
+  @Test
+  void whenComponentRemoved_keyedSpiIsNoLongerFound() {
+    packet.getComponents().put("test", Component.createFor(this));
+
+    packet.getComponents().remove("test");
+
+    assertThat(packet.getValue(TEST_COMPONENT), nullValue());
+  }
+
+  @Test
+  void whenComponentReplaced_keyedSpiIsUpdated() {
+    PacketTest other = new PacketTest();
+    packet.getComponents().put("test", Component.createFor(this));
+
+    packet.getComponents().put("test", Component.createFor(other));
+
+    assertThat(packet.getValue(TEST_COMPONENT), sameInstance(other));
+  }
+}
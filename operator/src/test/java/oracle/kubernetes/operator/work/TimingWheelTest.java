@@ -0,0 +1,154 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class TimingWheelTest {
+
+  private static final long TIMEOUT_SECONDS = 10;
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+  private final TimingWheel wheel = new TimingWheel("test", executor, 10, TimeUnit.MILLISECONDS, 8);
+
+  @AfterEach
+  void tearDown() {
+    wheel.stop();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void scheduledTaskRunsAfterDelay() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(1);
+    long start = System.nanoTime();
+
+    wheel.schedule(done::countDown, 50, TimeUnit.MILLISECONDS);
+
+    assertThat(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), is(true));
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), greaterThanOrEqualTo(50L));
+  }
+
+  @Test
+  void whenDelayExceedsOneRevolution_taskWaitsForRemainingRounds() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(1);
+    long start = System.nanoTime();
+
+    wheel.schedule(done::countDown, 250, TimeUnit.MILLISECONDS);
+
+    assertThat(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), is(true));
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), greaterThanOrEqualTo(250L));
+  }
+
+  @Test
+  void whenFirstTasksScheduledConcurrently_allRun() throws InterruptedException {
+    int numTasks = 8;
+    CountDownLatch ready = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(numTasks);
+    for (int i = 0; i < numTasks; i++) {
+      new Thread(() -> scheduleWhenReady(ready, done)).start();
+    }
+
+    ready.countDown();
+
+    assertThat(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), is(true));
+  }
+
+  private void scheduleWhenReady(CountDownLatch ready, CountDownLatch done) {
+    try {
+      ready.await();
+      wheel.schedule(done::countDown, 20, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Test
+  void afterStop_reportStopped() {
+    wheel.stop();
+
+    assertThat(wheel.isStopped(), is(true));
+  }
+
+  @Test
+  void whenTaskCancelled_itDoesNotRun() throws InterruptedException {
+    AtomicInteger count = new AtomicInteger();
+    Cancellable cancellable = wheel.schedule(count::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+
+    assertThat(cancellable.cancel(), is(true));
+    Thread.sleep(150);
+
+    assertThat(count.get(), equalTo(0));
+    assertThat(wheel.getNumCancelled(), equalTo(1L));
+    assertThat(wheel.getNumPending(), equalTo(0));
+  }
+
+  @Test
+  void afterTaskExpires_cancelReturnsFalse() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(1);
+    Cancellable cancellable = wheel.schedule(done::countDown, 10, TimeUnit.MILLISECONDS);
+
+    assertThat(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), is(true));
+
+    assertThat(cancellable.cancel(), is(false));
+    assertThat(wheel.getNumExpired(), equalTo(1L));
+  }
+
+  @Test
+  void whenSomeTasksInBucketCancelled_othersStillRun() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(3);
+    AtomicInteger cancelledRuns = new AtomicInteger();
+
+    wheel.schedule(done::countDown, 30, TimeUnit.MILLISECONDS);
+    Cancellable first = wheel.schedule(cancelledRuns::incrementAndGet, 30, TimeUnit.MILLISECONDS);
+    wheel.schedule(done::countDown, 30, TimeUnit.MILLISECONDS);
+    Cancellable second = wheel.schedule(cancelledRuns::incrementAndGet, 30, TimeUnit.MILLISECONDS);
+    wheel.schedule(done::countDown, 30, TimeUnit.MILLISECONDS);
+    first.cancel();
+    second.cancel();
+
+    assertThat(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), is(true));
+    assertThat(cancelledRuns.get(), equalTo(0));
+  }
+
+  @Test
+  void fiberDelaysUseEngineTimingWheel() throws InterruptedException {
+    Engine engine = new Engine(Executors.newSingleThreadScheduledExecutor(), wheel);
+    CountDownLatch done = new CountDownLatch(1);
+
+    engine.createFiber().start(new DelayStep(), new Packet(), new Fiber.CompletionCallback() {
+      @Override
+      public void onCompletion(Packet packet) {
+        done.countDown();
+      }
+
+      @Override
+      public void onThrowable(Packet packet, Throwable throwable) {
+        // no-op
+      }
+    });
+
+    assertThat(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), is(true));
+    assertThat(wheel.getNumExpired(), equalTo(1L));
+    engine.getExecutor().shutdownNow();
+  }
+
+  private static class DelayStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doDelay(getNext(), packet, 20, TimeUnit.MILLISECONDS);
+    }
+  }
+}
@@ -0,0 +1,160 @@
+// Copyright (c) 2022, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class WorkStealingExecutorServiceTest {
+
+  private static final long TIMEOUT_SECONDS = 10;
+
+  private final WorkStealingExecutorService executor = new WorkStealingExecutorService("test", 2);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void executorUsesSpecifiedParallelism() {
+    assertThat(executor.getParallelism(), equalTo(2));
+  }
+
+  @Test
+  void executeRunsTaskOnWorkerThread() throws InterruptedException {
+    AtomicReference<String> threadName = new AtomicReference<>();
+    CountDownLatch done = new CountDownLatch(1);
+
+    executor.execute(() -> recordThreadName(threadName, done));
+
+    assertThat(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), is(true));
+    assertThat(threadName.get(), startsWith("engine-test-worker-"));
+  }
+
+  private void recordThreadName(AtomicReference<String> threadName, CountDownLatch done) {
+    threadName.set(Thread.currentThread().getName());
+    done.countDown();
+  }
+
+  @Test
+  void scheduledTaskIsHandedToWorkerThread() throws InterruptedException {
+    AtomicReference<String> threadName = new AtomicReference<>();
+    CountDownLatch done = new CountDownLatch(1);
+
+    executor.schedule(() -> recordThreadName(threadName, done), 10, TimeUnit.MILLISECONDS);
+
+    assertThat(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), is(true));
+    assertThat(threadName.get(), startsWith("engine-test-worker-"));
+  }
+
+  @Test
+  void scheduledCallableReturnsResult() throws Exception {
+    ScheduledFuture<String> future = executor.schedule(() -> "result", 10, TimeUnit.MILLISECONDS);
+
+    assertThat(future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), equalTo("result"));
+  }
+
+  @Test
+  void whenScheduledTaskCancelled_itDoesNotRun() throws InterruptedException {
+    AtomicInteger count = new AtomicInteger();
+    ScheduledFuture<?> future = executor.schedule(count::incrementAndGet, 200, TimeUnit.MILLISECONDS);
+
+    future.cancel(false);
+    Thread.sleep(400);
+
+    assertThat(future.isCancelled(), is(true));
+    assertThat(count.get(), equalTo(0));
+  }
+
+  @Test
+  void periodicTaskRunsRepeatedlyOnWorkerThreads() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(3);
+    AtomicReference<String> threadName = new AtomicReference<>();
+
+    executor.scheduleWithFixedDelay(() -> recordThreadName(threadName, done), 0, 10, TimeUnit.MILLISECONDS);
+
+    assertThat(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), is(true));
+    assertThat(threadName.get(), startsWith("engine-test-worker-"));
+  }
+
+  @Test
+  void whenPeriodicTaskStillRunning_skipNextPeriod() throws InterruptedException {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(3);
+
+    executor.scheduleAtFixedRate(() -> runSlowly(running, maxRunning, done), 0, 5, TimeUnit.MILLISECONDS);
+
+    assertThat(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), is(true));
+    assertThat(maxRunning.get(), equalTo(1));
+  }
+
+  private void runSlowly(AtomicInteger running, AtomicInteger maxRunning, CountDownLatch done) {
+    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+    try {
+      Thread.sleep(30);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      running.decrementAndGet();
+      done.countDown();
+    }
+  }
+
+  @Test
+  void whenPeriodicTaskThrows_dontRunItAgain() throws InterruptedException {
+    AtomicInteger count = new AtomicInteger();
+
+    ScheduledFuture<?> future
+          = executor.scheduleAtFixedRate(() -> countAndFail(count), 0, 5, TimeUnit.MILLISECONDS);
+    Thread.sleep(100);
+
+    assertThat(count.get(), equalTo(1));
+    assertThat(future.isCancelled(), is(true));
+  }
+
+  private void countAndFail(AtomicInteger count) {
+    count.incrementAndGet();
+    throw new IllegalStateException("periodic failure");
+  }
+
+  @Test
+  void fibersRunToCompletionOnWorkStealingEngine() throws InterruptedException {
+    Engine engine = new Engine(executor);
+    CountDownLatch done = new CountDownLatch(1);
+
+    engine.createFiber().start(new DelayStep(), new Packet(), new Fiber.CompletionCallback() {
+      @Override
+      public void onCompletion(Packet packet) {
+        done.countDown();
+      }
+
+      @Override
+      public void onThrowable(Packet packet, Throwable throwable) {
+        // no-op
+      }
+    });
+
+    assertThat(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), is(true));
+  }
+
+  private static class DelayStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doDelay(getNext(), packet, 10, TimeUnit.MILLISECONDS);
+    }
+  }
+}